@@ -14,6 +14,9 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.Nonnull;
@@ -21,10 +24,28 @@ import javax.annotation.concurrent.Immutable;
 
 /**
  * An immutable implementation of {@link JsonKey}.
+ * <p>
+ * The well-known keys of Ditto's JSON schemas are allocated only once and mostly compared by identity. Other short
+ * keys are kept in a bounded cache which evicts the least recently used keys, so that recurring keys are reused while
+ * unbounded key spaces like attribute names cannot grow it indefinitely.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    private static final int MAX_CACHED_KEYS = 4096;
+    private static final int MAX_CACHED_KEY_LENGTH = 64;
+
+    private static final String[] WELL_KNOWN_KEYS = {
+            "thingId", "policyId", "attributes", "features", "properties", "desiredProperties", "definition",
+            "_revision", "_modified", "_created", "_namespace", "_metadata", "_policy", "__schemaVersion",
+            "__lifecycle", "acl", "entries", "subjects", "resources", "grant", "revoke", "type", "thing", "policy",
+            "status", "value", "path", "topic", "headers", "payload", "dittoHeaders", "correlation-id", "id"
+    };
+
+    private static final Map<String, ImmutableJsonKey> INTERNED_KEYS = internWellKnownKeys();
+    private static final LruCache<String, ImmutableJsonKey> CACHED_KEYS = LruCache.of(MAX_CACHED_KEYS);
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -48,7 +69,26 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return intern(keyValue.toString());
+    }
+
+    private static Map<String, ImmutableJsonKey> internWellKnownKeys() {
+        final Map<String, ImmutableJsonKey> internedKeys = new HashMap<>();
+        for (final String wellKnownKey : WELL_KNOWN_KEYS) {
+            internedKeys.put(wellKnownKey, new ImmutableJsonKey(wellKnownKey));
+        }
+        return Collections.unmodifiableMap(internedKeys);
+    }
+
+    private static ImmutableJsonKey intern(final String keyValue) {
+        final ImmutableJsonKey internedKey = INTERNED_KEYS.get(keyValue);
+        if (null != internedKey) {
+            return internedKey;
+        }
+        if (keyValue.length() > MAX_CACHED_KEY_LENGTH) {
+            return new ImmutableJsonKey(keyValue);
+        }
+        return CACHED_KEYS.computeIfAbsent(keyValue, ImmutableJsonKey::new);
     }
 
     @Override
@@ -85,7 +125,7 @@ final class ImmutableJsonKey implements JsonKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(keyValue);
+        return keyValue.hashCode();
     }
 
     @Override
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -117,6 +118,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which materializes its fields lazily from the indexed JSON
+     * object string. Until it is modified, the string representation of the returned object is the indexed string.
+     *
+     * @param jsonObjectIndex the index of the JSON object string.
+     * @return a new JSON object which parses the values of its fields on first access.
+     * @throws NullPointerException if {@code jsonObjectIndex} is {@code null}.
+     */
+    static ImmutableJsonObject of(final JsonObjectIndex jsonObjectIndex) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.of(jsonObjectIndex));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -551,6 +564,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private byte[] cborObjectRepresentation;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private final JsonObjectIndex jsonObjectIndex;
+        @Nullable private final Map<String, JsonField> lazilyMaterializedFields;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
@@ -559,6 +574,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
+            jsonObjectIndex = null;
+            lazilyMaterializedFields = null;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
                 if (CborAvailabilityChecker.isCborAvailable()) {
                     try {
@@ -574,6 +591,15 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final JsonObjectIndex jsonObjectIndex) {
+            this.jsonObjectIndex = requireNonNull(jsonObjectIndex, "The JSON object index must not be null!");
+            jsonObjectStringRepresentation = jsonObjectIndex.getJsonObjectString();
+            cborObjectRepresentation = null;
+            fieldsReference = new SoftReference<>(null);
+            lazilyMaterializedFields = new ConcurrentHashMap<>();
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -598,6 +624,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap of(final JsonObjectIndex jsonObjectIndex) {
+            return new SoftReferencedFieldMap(jsonObjectIndex);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -613,22 +643,41 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
+            if (null != jsonObjectIndex) {
+                return jsonObjectIndex.getSize();
+            }
             return fields().size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
+            if (null != jsonObjectIndex) {
+                return jsonObjectIndex.containsKey(key);
+            }
             return fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
+            final Map<String, JsonField> fields = fieldsReference.get();
+            if (null != fields) {
+                return fields.get(key);
+            } else if (null != jsonObjectIndex && null != lazilyMaterializedFields) {
+                // parse only the value of the requested field as long as the whole object was not needed
+                return lazilyMaterializedFields.computeIfAbsent(key, this::parseIndexedField);
+            }
             return fields().get(key);
         }
 
+        @Nullable
+        private JsonField parseIndexedField(final String key) {
+            final JsonValue value = jsonObjectIndex != null ? jsonObjectIndex.parseValue(key) : null;
+            return null != value ? JsonField.newInstance(key, value) : null;
+        }
+
         SoftReferencedFieldMap put(final String key, final JsonField value) {
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.put(key, value);
@@ -706,7 +755,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null) {
                 if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
                     return true;
-                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
+                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length() ||
+                        jsonObjectIndex != null || that.jsonObjectIndex != null) {
+                    // the indexed string of a lazily parsed object may contain whitespace or other escapes
                     return Objects.equals(fields(), that.fields());
                 }
                 return false;
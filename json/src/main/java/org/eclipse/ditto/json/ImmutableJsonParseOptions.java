@@ -23,9 +23,11 @@ import javax.annotation.concurrent.Immutable;
 final class ImmutableJsonParseOptions implements JsonParseOptions {
 
     private final boolean applyUrlDecoding;
+    private final boolean lazyParsing;
 
-    private ImmutableJsonParseOptions(final boolean applyUrlDecoding) {
+    private ImmutableJsonParseOptions(final boolean applyUrlDecoding, final boolean lazyParsing) {
         this.applyUrlDecoding = applyUrlDecoding;
+        this.lazyParsing = lazyParsing;
     }
 
     /**
@@ -35,7 +37,18 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
      * @return the new JsonParseOptions instance.
      */
     public static JsonParseOptions of(final boolean applyUrlDecoding) {
-        return new ImmutableJsonParseOptions(applyUrlDecoding);
+        return of(applyUrlDecoding, false);
+    }
+
+    /**
+     * Returns a new instance of {@code JsonParseOptions} with the specified options.
+     *
+     * @param applyUrlDecoding whether or not url decoding should be applied.
+     * @param lazyParsing whether or not JSON objects should be parsed lazily.
+     * @return the new JsonParseOptions instance.
+     */
+    public static JsonParseOptions of(final boolean applyUrlDecoding, final boolean lazyParsing) {
+        return new ImmutableJsonParseOptions(applyUrlDecoding, lazyParsing);
     }
 
     @Override
@@ -43,6 +56,11 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
         return applyUrlDecoding;
     }
 
+    @Override
+    public boolean isLazyParsing() {
+        return lazyParsing;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -52,17 +70,20 @@ final class ImmutableJsonParseOptions implements JsonParseOptions {
             return false;
         }
         final ImmutableJsonParseOptions that = (ImmutableJsonParseOptions) o;
-        return applyUrlDecoding == that.applyUrlDecoding;
+        return applyUrlDecoding == that.applyUrlDecoding && lazyParsing == that.lazyParsing;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(applyUrlDecoding);
+        return Objects.hash(applyUrlDecoding, lazyParsing);
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + " [" + "applyUrlDecoding=" + applyUrlDecoding + "]";
+        return getClass().getSimpleName() + " [" +
+                "applyUrlDecoding=" + applyUrlDecoding +
+                ", lazyParsing=" + lazyParsing +
+                "]";
     }
 
 }
@@ -21,9 +21,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 final class ImmutableJsonParseOptionsBuilder implements JsonParseOptionsBuilder {
 
     private boolean applyUrlDecoding;
+    private boolean lazyParsing;
 
     private ImmutableJsonParseOptionsBuilder() {
         applyUrlDecoding = false;
+        lazyParsing = false;
     }
 
     public static ImmutableJsonParseOptionsBuilder newInstance() {
@@ -42,8 +44,20 @@ final class ImmutableJsonParseOptionsBuilder implements JsonParseOptionsBuilder
         return this;
     }
 
+    @Override
+    public JsonParseOptionsBuilder withLazyParsing() {
+        lazyParsing = true;
+        return this;
+    }
+
+    @Override
+    public JsonParseOptionsBuilder withoutLazyParsing() {
+        lazyParsing = false;
+        return this;
+    }
+
     @Override
     public JsonParseOptions build() {
-        return ImmutableJsonParseOptions.of(applyUrlDecoding);
+        return ImmutableJsonParseOptions.of(applyUrlDecoding, lazyParsing);
     }
 }
@@ -13,7 +13,6 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,25 +20,28 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * <p>
+ * Parsed pointers are cached by their string form in a bounded cache, because the same few pointers are parsed over
+ * and over again from field selectors, policies and commands. Once the cache is full, the least recently used
+ * pointers are evicted.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
     private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final String ESCAPED_TILDE = "~0";
+    private static final String DECODED_TILDE = "~";
+
+    private static final int MAX_CACHED_POINTERS = 4096;
+    private static final int MAX_CACHED_POINTER_LENGTH = 256;
+    private static final LruCache<String, JsonPointer> PARSED_POINTERS = LruCache.of(MAX_CACHED_POINTERS);
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
@@ -79,25 +81,40 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = parseCached(slashDelimitedCharSequence.toString());
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    private static JsonPointer parseCached(final String slashDelimitedString) {
+        if (slashDelimitedString.length() > MAX_CACHED_POINTER_LENGTH) {
+            return parse(slashDelimitedString);
+        }
+        return PARSED_POINTERS.computeIfAbsent(slashDelimitedString, ImmutableJsonPointer::parse);
+    }
+
+    private static JsonPointer parse(final String slashDelimitedString) {
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i <= slashDelimitedString.length(); ++i) {
+            if (i == slashDelimitedString.length() || '/' == slashDelimitedString.charAt(i)) {
+                if (i > segmentStart) {
+                    jsonKeys.add(JsonFactory.newKey(decodeTilde(slashDelimitedString.substring(segmentStart, i))));
+                } else if (i > 0 && i < slashDelimitedString.length()) {
+                    // an empty segment which is neither the leading nor the trailing one
+                    throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString)
+                            .build();
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return newInstance(jsonKeys);
+    }
+
+    private static String decodeTilde(final String keyString) {
+        return keyString.contains(ESCAPED_TILDE) ? keyString.replace(ESCAPED_TILDE, DECODED_TILDE) : keyString;
     }
 
     private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
@@ -292,7 +309,7 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonKeyHierarchy);
+        return jsonKeyHierarchy.hashCode();
     }
 
     @Override
@@ -336,8 +353,7 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     private static String escapeTilde(final JsonKey jsonKey) {
         final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+        return keyString.contains(DECODED_TILDE) ? keyString.replace(DECODED_TILDE, ESCAPED_TILDE) : keyString;
     }
 
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Package internal util to determine whether jackson-core is available to parse JSON directly from UTF-8 bytes.
+ */
+final class JacksonAvailabilityChecker {
+
+    private static final boolean JACKSON_AVAILABLE = JacksonAvailabilityChecker.calculateJacksonAvailable();
+
+    private JacksonAvailabilityChecker() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Determines whether jackson-core is available (classes can be loaded).
+     *
+     * @return {@code true} when {@link Utf8JsonValueParser} can be used.
+     */
+    static boolean isJacksonAvailable() {
+        return JACKSON_AVAILABLE;
+    }
+
+    private static boolean calculateJacksonAvailable() {
+        try {
+            // used to determine availability of jackson-core at runtime
+            new JsonFactory();
+        } catch (final NoClassDefFoundError e) {
+            return false;
+        }
+        return true;
+    }
+}
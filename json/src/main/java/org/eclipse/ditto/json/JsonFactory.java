@@ -15,6 +15,8 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
@@ -177,6 +179,87 @@ public final class JsonFactory {
         return JsonValueParser.fromString().apply(jsonString);
     }
 
+    /**
+     * Reads the given string applying the given options and creates a JSON value based on the read data.
+     * If lazy parsing is requested and jackson-core is on the classpath, a JSON object is only validated and indexed
+     * at first. Its fields are parsed when they are accessed, and its string representation is {@code jsonString}
+     * as long as it is not modified. This is useful for large JSON objects which are mostly passed on.
+     *
+     * @param jsonString the JSON document to read.
+     * @param parseOptions the options to apply.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is empty or if it is no valid JSON.
+     * @see JsonParseOptions#isLazyParsing()
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final String jsonString, final JsonParseOptions parseOptions) {
+        requireNonNull(jsonString, "The JSON string to read from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new JsonParseException("The JSON string to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromString(parseOptions).apply(jsonString);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer applying the given options and creates a JSON value
+     * based on the read data. The position of the buffer is not changed.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @param parseOptions the options to apply.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if they are no valid JSON.
+     * @see #readFrom(String, JsonParseOptions)
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer, final JsonParseOptions parseOptions) {
+        requireNonNull(parseOptions, "The parse options must not be null!");
+        if (!parseOptions.isLazyParsing() && !parseOptions.isApplyUrlDecoding()) {
+            return readFrom(byteBuffer);
+        }
+        requireNonNull(byteBuffer, "The JSON bytes to read from must not be null!");
+
+        // lazily parsed objects keep their string representation
+        return readFrom(StandardCharsets.UTF_8.decode(byteBuffer.duplicate()).toString(), parseOptions);
+    }
+
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data. If jackson-core is on the
+     * classpath, the bytes are parsed directly without decoding them into a String first.
+     *
+     * @param bytes the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws JsonParseException if {@code bytes} is empty or if it is no valid JSON.
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final byte[] bytes) {
+        requireNonNull(bytes, "The JSON bytes to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The position of the buffer is not changed. If jackson-core is on the classpath, the bytes are parsed directly
+     * without decoding them into a String first.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if they are no valid JSON.
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The JSON bytes to read from must not be null!");
+        if (!byteBuffer.hasRemaining()) {
+            throw new JsonParseException("The JSON bytes to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromBytes().apply(byteBuffer);
+    }
+
     /**
      * Reads the entire input stream from the specified reader and parses it as JSON value. The input stream is expected
      * to contain a valid JSON value with optional whitespace padding.
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The string of a JSON object together with the offsets of the values of its top-level fields within this string.
+ * It is the basis of a lazily parsed JSON object which materializes only the fields that are accessed.
+ */
+@Immutable
+final class JsonObjectIndex {
+
+    private static final JsonParseOptions LAZY_PARSING = JsonFactory.newParseOptionsBuilder().withLazyParsing().build();
+
+    private final String jsonObjectString;
+    private final Map<String, ValueRange> valueRanges;
+
+    private JsonObjectIndex(final String jsonObjectString, final Map<String, ValueRange> valueRanges) {
+        this.jsonObjectString = requireNonNull(jsonObjectString);
+        this.valueRanges = Collections.unmodifiableMap(valueRanges);
+    }
+
+    /**
+     * Returns a new index of a JSON object string.
+     *
+     * @param jsonObjectString the valid JSON object string.
+     * @param valueRanges the ranges of the top-level values within {@code jsonObjectString} by their keys in the order
+     * of their appearance; the map is not copied and must not be modified afterwards.
+     * @return the index.
+     */
+    static JsonObjectIndex of(final String jsonObjectString, final Map<String, ValueRange> valueRanges) {
+        return new JsonObjectIndex(jsonObjectString, valueRanges);
+    }
+
+    /**
+     * @return the indexed JSON object string.
+     */
+    String getJsonObjectString() {
+        return jsonObjectString;
+    }
+
+    /**
+     * @return the number of top-level fields.
+     */
+    int getSize() {
+        return valueRanges.size();
+    }
+
+    /**
+     * Indicates whether the JSON object has a top-level field with the given key.
+     *
+     * @param key the key of the field.
+     * @return whether the field exists.
+     */
+    boolean containsKey(final String key) {
+        return valueRanges.containsKey(key);
+    }
+
+    /**
+     * Parses the value of a top-level field. Objects are again parsed lazily.
+     *
+     * @param key the key of the field.
+     * @return the parsed value or {@code null} if the field does not exist.
+     */
+    @Nullable
+    JsonValue parseValue(final String key) {
+        final ValueRange valueRange = valueRanges.get(key);
+        if (null == valueRange) {
+            return null;
+        }
+        final String valueString = jsonObjectString.substring(valueRange.start, valueRange.end);
+        return JsonValueParser.fromString(LAZY_PARSING).apply(valueString);
+    }
+
+    /**
+     * The start (inclusive) and end (exclusive) offsets of a value within a JSON string.
+     */
+    @Immutable
+    static final class ValueRange {
+
+        private final int start;
+        private final int end;
+
+        private ValueRange(final int start, final int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns a new range of a value.
+         *
+         * @param start offset of the first character of the value.
+         * @param end offset after the last character of the value.
+         * @return the range.
+         */
+        static ValueRange of(final int start, final int end) {
+            return new ValueRange(start, end);
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Creates a {@link JsonObjectIndex} by scanning a JSON object string with the streaming parser of jackson-core.
+ * Nested values are skipped without being materialized, yet the whole string is validated.
+ * <p>
+ * This class can not be loaded by Java unless jackson-core is available on the classpath.
+ * Use {@link JacksonAvailabilityChecker#isJacksonAvailable()} in order to check for its availability.
+ * </p>
+ */
+final class JsonObjectIndexer {
+
+    /**
+     * Causes NoClassDefFoundErrors if loaded without Jackson support. See comment above class definition.
+     */
+    private static final com.fasterxml.jackson.core.JsonFactory JACKSON_JSON_FACTORY =
+            new com.fasterxml.jackson.core.JsonFactory();
+
+    private JsonObjectIndexer() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indexes the top-level fields of a JSON object string.
+     *
+     * @param jsonObjectString the string of a JSON object.
+     * @return the index.
+     * @throws IOException if {@code jsonObjectString} is no valid JSON object.
+     */
+    static JsonObjectIndex index(final String jsonObjectString) throws IOException {
+        try (final JsonParser parser = JACKSON_JSON_FACTORY.createParser(jsonObjectString)) {
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                throw new IOException("Expected a JSON object.");
+            }
+            final Map<String, JsonObjectIndex.ValueRange> valueRanges = new LinkedHashMap<>();
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                final String key = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (null == valueToken) {
+                    throw new IOException("Unexpected end of input while expecting value.");
+                }
+                final int start = (int) parser.getTokenLocation().getCharOffset();
+                if (valueToken.isStructStart()) {
+                    parser.skipChildren();
+                } else {
+                    // make the parser consume the whole value, e.g. the rest of a string
+                    parser.finishToken();
+                }
+                final int end = (int) parser.getCurrentLocation().getCharOffset();
+                valueRanges.put(key, JsonObjectIndex.ValueRange.of(start, end));
+            }
+            final JsonToken trailingToken = parser.nextToken();
+            if (null != trailingToken) {
+                throw new IOException("Unexpected token " + trailingToken + " at position " +
+                        parser.getTokenLocation() + " after the end of the JSON object.");
+            }
+            return JsonObjectIndex.of(jsonObjectString, valueRanges);
+        }
+    }
+
+}
@@ -33,4 +33,14 @@ public interface JsonParseOptions {
      */
     boolean isApplyUrlDecoding();
 
+    /**
+     * Returns whether JSON objects should be parsed lazily. A lazily parsed JSON object keeps the string it was parsed
+     * from and materializes its fields only when they are accessed. As long as it is not modified, its string
+     * representation is the original string.
+     *
+     * @return whether JSON objects should be parsed lazily.
+     * @since 1.2.0
+     */
+    boolean isLazyParsing();
+
 }
@@ -32,6 +32,23 @@ public interface JsonParseOptionsBuilder {
      */
     JsonParseOptionsBuilder withoutUrlDecoding();
 
+    /**
+     * Configures to parse JSON objects lazily.
+     *
+     * @return this builder to allow method chaining.
+     * @see JsonParseOptions#isLazyParsing()
+     * @since 1.2.0
+     */
+    JsonParseOptionsBuilder withLazyParsing();
+
+    /**
+     * Configures NOT to parse JSON objects lazily.
+     *
+     * @return this builder to allow method chaining.
+     * @since 1.2.0
+     */
+    JsonParseOptionsBuilder withoutLazyParsing();
+
     /**
      * Creates new {@link JsonParseOptions} containing all values which were added beforehand.
      *
@@ -16,6 +16,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -69,6 +73,28 @@ final class JsonValueParser {
         return result;
     }
 
+    /**
+     * Returns a Function for parsing a String to an instance of {@link JsonValue} applying the given options.
+     * Lazy parsing of JSON objects falls back to eager parsing if jackson-core is not available.
+     *
+     * @param parseOptions the options to apply.
+     * @return the function.
+     * @throws NullPointerException if {@code parseOptions} is {@code null}.
+     */
+    public static Function<String, JsonValue> fromString(final JsonParseOptions parseOptions) {
+        requireNonNull(parseOptions, "The parse options must not be null!");
+        final Function<String, JsonValue> parser;
+        if (parseOptions.isLazyParsing() && JacksonAvailabilityChecker.isJacksonAvailable()) {
+            parser = JsonValueParser::tryToParseLazily;
+        } else {
+            parser = fromString();
+        }
+        if (parseOptions.isApplyUrlDecoding()) {
+            return jsonString -> parser.apply(tryToDecodeUrl(jsonString));
+        }
+        return parser;
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
@@ -78,6 +104,79 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     * If jackson-core is available, the bytes are parsed directly without decoding them into a String first.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromBytes() {
+        return JsonValueParser::tryToParseJsonValue;
+    }
+
+    private static JsonValue tryToParseJsonValue(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The bytes to be parsed must not be null!");
+        final byte[] bytes;
+        final int offset;
+        final int length = byteBuffer.remaining();
+        if (byteBuffer.hasArray()) {
+            bytes = byteBuffer.array();
+            offset = byteBuffer.arrayOffset() + byteBuffer.position();
+        } else {
+            bytes = new byte[length];
+            byteBuffer.duplicate().get(bytes);
+            offset = 0;
+        }
+        if (!JacksonAvailabilityChecker.isJacksonAvailable()) {
+            return fromString().apply(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        try {
+            return Utf8JsonValueParser.parse(bytes, offset, length, DefaultDittoJsonHandler.newInstance());
+        } catch (final IOException | UnsupportedOperationException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!",
+                            new String(bytes, offset, length, StandardCharsets.UTF_8)))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue tryToParseLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+        if (!isJsonObjectString(jsonString)) {
+            return fromString().apply(jsonString);
+        }
+        try {
+            return ImmutableJsonObject.of(JsonObjectIndexer.index(jsonString));
+        } catch (final IOException | StackOverflowError e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static boolean isJsonObjectString(final String jsonString) {
+        for (int i = 0; i < jsonString.length(); ++i) {
+            final char c = jsonString.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return '{' == c;
+            }
+        }
+        return false;
+    }
+
+    private static String tryToDecodeUrl(final String jsonString) {
+        try {
+            return URLDecoder.decode(jsonString, "UTF-8");
+        } catch (final UnsupportedEncodingException | IllegalArgumentException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to URL decode JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
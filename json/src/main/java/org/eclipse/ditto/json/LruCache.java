@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache which evicts entries that were not used recently once it is full.
+ * <p>
+ * Lookups of cached keys do not lock: they read from a {@link ConcurrentHashMap} and only mark the entry as used.
+ * Eviction follows the CLOCK algorithm, an approximation of least recently used: a hand sweeps over the entries,
+ * clears the mark of used ones and evicts the first unused one. Only one thread at a time sweeps; threads which insert
+ * while another one sweeps do not wait, so the cache may exceed its maximum size by the number of concurrent
+ * insertions until the next sweep.
+ * </p>
+ *
+ * @param <K> type of keys.
+ * @param <V> type of values.
+ */
+@ThreadSafe
+final class LruCache<K, V> {
+
+    private final int maxSize;
+    private final ConcurrentMap<K, Node<V>> entries;
+    private final Lock evictionLock;
+
+    @GuardedBy("evictionLock")
+    @Nullable private Iterator<Map.Entry<K, Node<V>>> hand;
+
+    private LruCache(final int maxSize) {
+        this.maxSize = maxSize;
+        entries = new ConcurrentHashMap<>();
+        evictionLock = new ReentrantLock();
+        hand = null;
+    }
+
+    /**
+     * Returns a new cache holding at most the given number of entries.
+     *
+     * @param maxSize the maximum number of entries.
+     * @param <K> type of keys.
+     * @param <V> type of values.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maxSize} is not positive.
+     */
+    static <K, V> LruCache<K, V> of(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of the cache must be positive!");
+        }
+        return new LruCache<>(maxSize);
+    }
+
+    /**
+     * Returns the value cached for the given key and marks it as recently used. If there is none, computes the value,
+     * caches it and evicts entries which were not used recently if the cache is full. The value is computed without
+     * locking; if another thread cached a value for the key in the meantime, that value wins.
+     *
+     * @param key the key.
+     * @param valueFunction computes the value for the key if it is not cached.
+     * @return the cached or computed value.
+     */
+    V computeIfAbsent(final K key, final Function<K, V> valueFunction) {
+        final Node<V> cachedNode = entries.get(key);
+        if (null != cachedNode) {
+            return cachedNode.use();
+        }
+        final Node<V> newNode = new Node<>(valueFunction.apply(key));
+        final Node<V> concurrentlyCachedNode = entries.putIfAbsent(key, newNode);
+        if (null != concurrentlyCachedNode) {
+            return concurrentlyCachedNode.use();
+        }
+        if (entries.size() > maxSize) {
+            evict();
+        }
+        return newNode.value;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the size of the cache.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // another thread is sweeping already
+            return;
+        }
+        try {
+            while (entries.size() > maxSize) {
+                if (null == hand || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                }
+                if (hand.hasNext()) {
+                    final Map.Entry<K, Node<V>> entry = hand.next();
+                    final Node<V> node = entry.getValue();
+                    if (node.used) {
+                        node.used = false;
+                    } else {
+                        entries.remove(entry.getKey(), node);
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile boolean used;
+
+        private Node(final V value) {
+            this.value = value;
+            used = false;
+        }
+
+        private V use() {
+            // avoid writing the shared flag if it is set already
+            if (!used) {
+                used = true;
+            }
+            return value;
+        }
+
+    }
+
+}
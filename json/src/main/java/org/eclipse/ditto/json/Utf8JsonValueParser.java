@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Parses JSON directly from UTF-8 encoded bytes with the streaming parser of jackson-core and reports the parsed
+ * tokens to a {@link DittoJsonHandler}. Thus the bytes need not be decoded into a String before being parsed.
+ * <p>
+ * Field names are canonicalized by the symbol table of the shared Jackson factory, so that the keys which occur in
+ * every Ditto JSON document are decoded only once and share the same String instance afterwards.
+ * </p>
+ * <p>
+ * This class can not be loaded by Java unless jackson-core is available on the classpath.
+ * Use {@link JacksonAvailabilityChecker#isJacksonAvailable()} in order to check for its availability.
+ * </p>
+ */
+final class Utf8JsonValueParser {
+
+    /**
+     * Causes NoClassDefFoundErrors if loaded without Jackson support. See comment above class definition.
+     */
+    private static final com.fasterxml.jackson.core.JsonFactory JACKSON_JSON_FACTORY =
+            new com.fasterxml.jackson.core.JsonFactory();
+
+    private Utf8JsonValueParser() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON and reports it to the given handler.
+     *
+     * @param bytes the bytes to parse.
+     * @param offset the offset of the JSON value in {@code bytes}.
+     * @param length the length of the JSON value in bytes.
+     * @param jsonHandler receives parser events in order to create the value.
+     * @param <V> the type of the value the handler returns.
+     * @return the value of the handler after the parsing.
+     * @throws IOException if the bytes do not contain exactly one valid JSON value.
+     */
+    static <V> V parse(final byte[] bytes, final int offset, final int length,
+            final DittoJsonHandler<?, ?, V> jsonHandler) throws IOException {
+
+        try (final JsonParser parser = JACKSON_JSON_FACTORY.createParser(bytes, offset, length)) {
+            parseValue(parser, parser.nextToken(), jsonHandler);
+            final JsonToken trailingToken = parser.nextToken();
+            if (null != trailingToken) {
+                throw new IOException("Unexpected token " + trailingToken + " at position " +
+                        parser.getTokenLocation() + " after the end of the JSON value.");
+            }
+        }
+        return jsonHandler.getValue();
+    }
+
+    private static <A, O> void parseValue(final JsonParser parser, @Nullable final JsonToken token,
+            final DittoJsonHandler<A, O, ?> jsonHandler) throws IOException {
+
+        if (null == token) {
+            throw new IOException("Unexpected end of input while expecting value.");
+        }
+        switch (token) {
+            case START_OBJECT:
+                parseObject(parser, jsonHandler);
+                break;
+            case START_ARRAY:
+                parseArray(parser, jsonHandler);
+                break;
+            case VALUE_STRING:
+                jsonHandler.startString();
+                jsonHandler.endString(parser.getText());
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                jsonHandler.startNumber();
+                jsonHandler.endNumber(parser.getText());
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                jsonHandler.startBoolean();
+                jsonHandler.endBoolean(JsonToken.VALUE_TRUE == token);
+                break;
+            case VALUE_NULL:
+                jsonHandler.startNull();
+                jsonHandler.endNull();
+                break;
+            default:
+                throw new IOException("Encountered unexpected token " + token + " at position " +
+                        parser.getTokenLocation() + " while parsing JSON value.");
+        }
+    }
+
+    private static <A, O> void parseObject(final JsonParser parser, final DittoJsonHandler<A, O, ?> jsonHandler)
+            throws IOException {
+
+        final O object = jsonHandler.startObject();
+        while (JsonToken.FIELD_NAME == parser.nextToken()) {
+            final String name = parser.getCurrentName();
+            jsonHandler.startObjectName(object);
+            jsonHandler.endObjectName(object, name);
+            jsonHandler.startObjectValue(object, name);
+            parseValue(parser, parser.nextToken(), jsonHandler);
+            jsonHandler.endObjectValue(object, name);
+        }
+        jsonHandler.endObject(object);
+    }
+
+    private static <A, O> void parseArray(final JsonParser parser, final DittoJsonHandler<A, O, ?> jsonHandler)
+            throws IOException {
+
+        final A array = jsonHandler.startArray();
+        JsonToken token = parser.nextToken();
+        while (JsonToken.END_ARRAY != token) {
+            jsonHandler.startArrayValue(array);
+            parseValue(parser, token, jsonHandler);
+            jsonHandler.endArrayValue(array);
+            token = parser.nextToken();
+        }
+        jsonHandler.endArray(array);
+    }
+
+}
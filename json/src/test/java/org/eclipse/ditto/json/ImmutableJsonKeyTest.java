@@ -50,6 +50,16 @@ public final class ImmutableJsonKeyTest {
         ImmutableJsonKey.of("");
     }
 
+    /** */
+    @Test
+    public void wellKnownKeysAreInterned() {
+        for (int i = 0; i < 10_000; ++i) {
+            ImmutableJsonKey.of("attribute-" + i);
+        }
+
+        assertThat(ImmutableJsonKey.of(new StringBuilder("thingId"))).isSameAs(ImmutableJsonKey.of("thingId"));
+    }
+
     /** */
     @Test
     public void toStringReturnsExpected() {
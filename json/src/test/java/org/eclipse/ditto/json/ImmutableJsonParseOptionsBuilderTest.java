@@ -33,4 +33,17 @@ public class ImmutableJsonParseOptionsBuilderTest {
         final JsonParseOptions optionsFalse2 = JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
         assertThat(optionsFalse2.isApplyUrlDecoding()).isFalse();
     }
+
+    @Test
+    public void buildWithBuilderAndCheckForLazyParsing() {
+        final JsonParseOptions options = JsonFactory.newParseOptionsBuilder().withLazyParsing().build();
+        assertThat(options.isLazyParsing()).isTrue();
+        assertThat(options.isApplyUrlDecoding()).isFalse();
+
+        final JsonParseOptions optionsFalse = JsonFactory.newParseOptionsBuilder().build();
+        assertThat(optionsFalse.isLazyParsing()).isFalse();
+
+        final JsonParseOptions optionsFalse2 = JsonFactory.newParseOptionsBuilder().withoutLazyParsing().build();
+        assertThat(optionsFalse2.isLazyParsing()).isFalse();
+    }
 }
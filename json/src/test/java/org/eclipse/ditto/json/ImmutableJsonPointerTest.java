@@ -132,6 +132,18 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.getLevelCount()).isEqualTo(3);
     }
 
+    /** */
+    @Test
+    public void parsingSamePointerTwiceReturnsCachedInstance() {
+        final JsonPointer expected = ImmutableJsonPointer.of(JsonKey.of("features"), JsonKey.of("lamp"),
+                JsonKey.of("properties"), JsonKey.of("on"));
+
+        final JsonPointer parsed = ImmutableJsonPointer.ofParsed("/features/lamp/properties/on");
+
+        assertThat(parsed).isEqualTo(expected);
+        assertThat(ImmutableJsonPointer.ofParsed(new StringBuilder("/features/lamp/properties/on"))).isSameAs(parsed);
+    }
+
     /** */
     @Test(expected = NullPointerException.class)
     public void tryToParseNullString() {
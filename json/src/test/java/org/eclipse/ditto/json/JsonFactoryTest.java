@@ -21,6 +21,8 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -290,6 +292,55 @@ public final class JsonFactoryTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void readFromJsonObjectBytes() {
+        final JsonValue expected = JsonFactory.newObject().setValue("foo", "bär");
+        final JsonValue actual = JsonFactory.readFrom("{\"foo\":\"bär\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void readFromBytesOfLargeJsonObjectEqualsReadFromString() {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            features.set("sensor-" + i, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", i * 0.5)
+                            .set("unit", "°C")
+                            .set("active", i % 2 == 0)
+                            .set("lastUpdate", 1588000000000L + i)
+                            .set("label", "Überlingen \uD83C\uDF21 " + i)
+                            .set("calibration", JsonFactory.nullLiteral())
+                            .build())
+                    .build());
+        }
+        final String jsonString = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:large")
+                .set("features", features.build())
+                .build()
+                .toString();
+        final byte[] jsonBytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer paddedJsonBytes = ByteBuffer.allocate(jsonBytes.length + 2).put((byte) '[');
+        paddedJsonBytes.put(jsonBytes).flip().position(1).limit(jsonBytes.length + 1);
+
+        final JsonValue expected = JsonFactory.readFrom(jsonString);
+
+        assertThat(JsonFactory.readFrom(jsonBytes)).isEqualTo(expected);
+        assertThat(JsonFactory.readFrom(paddedJsonBytes.slice())).isEqualTo(expected);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadJsonValueFromEmptyBytes() {
+        JsonFactory.readFrom(ByteBuffer.allocate(0));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadJsonValueFromInvalidBytes() {
+        JsonFactory.readFrom("{\"foo\":\"bar\"".getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test(expected = JsonParseException.class)
     public void tryToReadFromNullReader() {
         JsonFactory.readFrom((Reader) null);
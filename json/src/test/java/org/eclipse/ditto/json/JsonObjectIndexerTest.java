@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectIndexer} and the lazily parsed JSON objects based on its index.
+ */
+public final class JsonObjectIndexerTest {
+
+    private static final JsonParseOptions LAZY = JsonFactory.newParseOptionsBuilder().withLazyParsing().build();
+
+    private static final String JSON_OBJECT_STRING = "{ \"thingId\" : \"org.eclipse.ditto:lazy\",\n" +
+            "  \"_revision\": 42, \"attributes\": {\"location\": {\"lat\": 47.68, \"lon\": 9.38}, \"tags\": [1, \"x\"]},\n" +
+            "  \"active\":true, \"none\" :null, \"escaped\": \"\\u00e4\\\"\\n\", \"empty\": {}\t}";
+
+    @Test
+    public void indexTopLevelFields() throws Exception {
+        final JsonObjectIndex index = JsonObjectIndexer.index(JSON_OBJECT_STRING);
+
+        assertThat(index.getSize()).isEqualTo(7);
+        assertThat(index.containsKey("attributes")).isTrue();
+        assertThat(index.containsKey("location")).isFalse();
+        assertThat(index.parseValue("thingId")).isEqualTo(JsonValue.of("org.eclipse.ditto:lazy"));
+        assertThat(index.parseValue("_revision")).isEqualTo(JsonValue.of(42));
+        assertThat(index.parseValue("active")).isEqualTo(JsonValue.of(true));
+        assertThat(index.parseValue("none")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(index.parseValue("escaped")).isEqualTo(JsonValue.of("ä\"\n"));
+        assertThat(index.parseValue("empty")).isEqualTo(JsonObject.empty());
+        assertThat(index.parseValue("location")).isNull();
+    }
+
+    @Test
+    public void lazyObjectEqualsEagerObject() {
+        final JsonValue lazy = JsonFactory.readFrom(JSON_OBJECT_STRING, LAZY);
+        final JsonValue eager = JsonFactory.readFrom(JSON_OBJECT_STRING);
+
+        assertThat(lazy).isEqualTo(eager);
+        assertThat(eager).isEqualTo(lazy);
+        assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+        assertThat(lazy.asObject()).containsExactlyElementsOf(eager.asObject());
+        assertThat(lazy.asObject().getValue("attributes/location/lat")).contains(JsonValue.of(47.68));
+        assertThat(lazy.asObject().getValue("attributes/tags")).isEqualTo(eager.asObject().getValue("attributes/tags"));
+    }
+
+    @Test
+    public void unmodifiedLazyObjectPassesOriginalStringThrough() {
+        final JsonObject lazy = JsonFactory.readFrom(JSON_OBJECT_STRING, LAZY).asObject();
+
+        assertThat(lazy.getValue("thingId")).contains(JsonValue.of("org.eclipse.ditto:lazy"));
+        assertThat(lazy.getSize()).isEqualTo(7);
+        assertThat(lazy.toString()).isEqualTo(JSON_OBJECT_STRING);
+        assertThat(JsonObject.newBuilder().set("thing", lazy).build().toString())
+                .isEqualTo("{\"thing\":" + JSON_OBJECT_STRING + "}");
+
+        final JsonObject modified = lazy.setValue("_revision", 43);
+        assertThat(modified.toString()).isEqualTo(JsonFactory.readFrom(JSON_OBJECT_STRING).asObject()
+                .setValue("_revision", 43)
+                .toString());
+    }
+
+    @Test
+    public void lazyParsingFromBytes() {
+        final ByteBuffer bytes = ByteBuffer.wrap(JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+
+        final JsonValue lazy = JsonFactory.readFrom(bytes, LAZY);
+
+        assertThat(lazy.toString()).isEqualTo(JSON_OBJECT_STRING);
+        assertThat(bytes.position()).isZero();
+    }
+
+    @Test
+    public void lazyParsingOfNonObjectsIsEager() {
+        assertThat(JsonFactory.readFrom(" [1, {\"a\": 2}]", LAZY).toString()).isEqualTo("[1,{\"a\":2}]");
+        assertThat(JsonFactory.readFrom("42", LAZY)).isEqualTo(JsonValue.of(42));
+    }
+
+    @Test
+    public void rejectInvalidJsonDespiteLazyParsing() {
+        for (final String invalidJson : new String[]{"{\"a\": [1, 2}", "{\"a\": \"b\"} {}", "{\"a\": tru}",
+                "{\"a\": \"\\x\"}", "{\"a\" 1}"}) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> JsonFactory.readFrom(invalidJson, LAZY))
+                    .withMessage("Failed to parse JSON string '%s'!", invalidJson);
+        }
+    }
+
+}
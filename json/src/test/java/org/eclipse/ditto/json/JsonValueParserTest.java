@@ -18,6 +18,8 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -149,6 +151,63 @@ public final class JsonValueParserTest {
         assertThat(actual).isEqualTo(jsonNullLiteral);
     }
 
+    @Test
+    public void parseBytesToObject() {
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromBytes();
+
+        final JsonValue parsedJsonObject = underTest.apply(utf8(knownJsonObject.toString()));
+
+        assertThat(parsedJsonObject).isEqualTo(knownJsonObject);
+        assertThat(parsedJsonObject.toString()).isEqualTo(knownJsonObject.toString());
+    }
+
+    @Test
+    public void parseBytesWithMultiByteCharacters() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("wîgandun", "Insprinc haftbandun, infar wîgandun! \u00e4 \"\n \uD83D\uDE00")
+                .build();
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromBytes();
+
+        assertThat(underTest.apply(utf8(jsonObject.toString()))).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void parseBytesOfBufferSlice() {
+        final byte[] bytes = ("xx" + knownJsonArray + "yy").getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer slice = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 4);
+        direct.put(slice.duplicate()).flip();
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromBytes();
+
+        assertThat(underTest.apply(slice)).isEqualTo(knownJsonArray);
+        assertThat(underTest.apply(direct)).isEqualTo(knownJsonArray);
+        assertThat(slice.remaining()).isEqualTo(bytes.length - 4);
+    }
+
+    @Test
+    public void parseBytesToScalars() {
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromBytes();
+
+        assertThat(underTest.apply(utf8(" 42 "))).isEqualTo(JsonValue.of(42));
+        assertThat(underTest.apply(utf8(String.valueOf(Integer.MAX_VALUE + 1L))))
+                .isEqualTo(JsonValue.of(Integer.MAX_VALUE + 1L));
+        assertThat(underTest.apply(utf8("23.42e1"))).isEqualTo(JsonValue.of(234.2));
+        assertThat(underTest.apply(utf8("\"hubbl\""))).isEqualTo(JsonValue.of("hubbl"));
+        assertThat(underTest.apply(utf8("false"))).isEqualTo(JsonValue.of(false));
+        assertThat(underTest.apply(utf8("null"))).isEqualTo(JsonFactory.nullLiteral());
+    }
+
+    @Test
+    public void rejectInvalidBytes() {
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromBytes();
+
+        for (final String invalidJson : new String[]{"{\"foo\":123", "{\"foo\":123}}", "[1,]", "{} []", "nul", " "}) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> underTest.apply(utf8(invalidJson)))
+                    .withMessage("Failed to parse JSON string '%s'!", invalidJson);
+        }
+    }
+
     @Test
     public void wrapsNumberFormatException() {
         final String jsonLong = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.TEN).toPlainString();
@@ -171,4 +230,8 @@ public final class JsonValueParserTest {
                 .withCauseExactlyInstanceOf(java.lang.NullPointerException.class);
     }
 
+    private static ByteBuffer utf8(final String string) {
+        return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LruCache}.
+ */
+public final class LruCacheTest {
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveMaxSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> LruCache.of(0));
+    }
+
+    @Test
+    public void computeValueOnlyIfAbsent() {
+        final AtomicInteger computations = new AtomicInteger();
+        final LruCache<String, Integer> underTest = LruCache.of(16);
+
+        assertThat(underTest.computeIfAbsent("key", key -> computations.incrementAndGet())).isEqualTo(1);
+        assertThat(underTest.computeIfAbsent("key", key -> computations.incrementAndGet())).isEqualTo(1);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedEntry() {
+        final LruCache<Integer, String> underTest = LruCache.of(2);
+        underTest.computeIfAbsent(0, String::valueOf);
+        underTest.computeIfAbsent(1, String::valueOf);
+        underTest.computeIfAbsent(0, key -> "recomputed");
+
+        underTest.computeIfAbsent(2, String::valueOf);
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.computeIfAbsent(0, key -> "recomputed")).isEqualTo("0");
+        assertThat(underTest.computeIfAbsent(1, key -> "recomputed")).isEqualTo("recomputed");
+    }
+
+    @Test
+    public void neverExceedMaxSize() {
+        final LruCache<Integer, Integer> underTest = LruCache.of(64);
+
+        for (int i = 0; i < 10_000; ++i) {
+            underTest.computeIfAbsent(i, Integer::valueOf);
+        }
+
+        assertThat(underTest.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    public void concurrentLookupsReturnCachedValuesAndEvict() throws Exception {
+        final int threads = 8;
+        final LruCache<Integer, Integer> underTest = LruCache.of(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                final int offset = t * 10_000;
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    boolean correctValues = true;
+                    for (int i = 0; i < 10_000; ++i) {
+                        final int hotKey = i % 16;
+                        correctValues &= hotKey == underTest.computeIfAbsent(hotKey, Integer::valueOf);
+                        correctValues &= offset + i == underTest.computeIfAbsent(offset + i, Integer::valueOf);
+                    }
+                    return correctValues;
+                }, executor));
+            }
+            start.countDown();
+            for (final CompletableFuture<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(underTest.size()).isLessThanOrEqualTo(64 + threads);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -189,6 +189,16 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 1.1.0
      */
     WWW_AUTHENTICATE("www-authenticate", String.class, false, true),
+
+    /**
+     * Header definition for the maximum staleness in milliseconds a client accepts for the response to a query, in
+     * exchange for the query being answered without reaching the persistence of the entity.
+     * <p>
+     * Key: {@code "max-staleness"}, Java type: {@code long}.
+     * </p>
+     * @since 1.2.0
+     */
+    MAX_STALENESS("max-staleness", long.class, true, false),
     ;
 
     /**
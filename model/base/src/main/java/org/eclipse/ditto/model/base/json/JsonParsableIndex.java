@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.json;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+
+/**
+ * Index of the classes of one module which are annotated with {@link JsonParsableCommand},
+ * {@link JsonParsableCommandResponse}, {@link JsonParsableEvent} or {@link JsonParsableException}.
+ * Implementations are generated at compile time by the annotation processor of
+ * {@code ditto-utils-jsonparsable-processor} and are registered as {@link java.util.ServiceLoader} services.
+ *
+ * @since 1.1.0
+ */
+public interface JsonParsableIndex {
+
+    /**
+     * Returns the functions which deserialize the indexed classes annotated with the given annotation type.
+     *
+     * @param annotationType the type of the annotation, e. g. {@code JsonParsableCommand.class}.
+     * @return the parse method of each annotated class as function of {@link JsonObject} and {@link DittoHeaders}.
+     */
+    Map<Class<?>, BiFunction<JsonObject, DittoHeaders, Object>> getParseFunctions(
+            Class<? extends Annotation> annotationType);
+
+}
@@ -79,6 +79,7 @@ public final class ImmutableDittoHeadersTest {
     private static final String KNOWN_ORIGINATOR = "known:originator";
     private static final String KNOWN_ENTITY_ID = "known:entityId";
     private static final String KNOWN_WWW_AUTHENTICATION = "known:www-authentication";
+    private static final long KNOWN_MAX_STALENESS = 5000L;
 
     @Test
     public void assertImmutability() {
@@ -116,6 +117,7 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), KNOWN_ORIGINATOR)
                 .putHeader(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO)
                 .putHeader(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION)
+                .putHeader(DittoHeaderDefinition.MAX_STALENESS.getKey(), String.valueOf(KNOWN_MAX_STALENESS))
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -259,6 +261,7 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.ENTITY_ID.getKey(), KNOWN_ENTITY_ID)
                 .set(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO)
                 .set(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION)
+                .set(DittoHeaderDefinition.MAX_STALENESS.getKey(), KNOWN_MAX_STALENESS)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -456,6 +459,7 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.ENTITY_ID.getKey(), KNOWN_ENTITY_ID);
         result.put(DittoHeaderDefinition.REPLY_TO.getKey(), KNOWN_REPLY_TO);
         result.put(DittoHeaderDefinition.WWW_AUTHENTICATE.getKey(), KNOWN_WWW_AUTHENTICATION);
+        result.put(DittoHeaderDefinition.MAX_STALENESS.getKey(), String.valueOf(KNOWN_MAX_STALENESS));
 
         return result;
     }
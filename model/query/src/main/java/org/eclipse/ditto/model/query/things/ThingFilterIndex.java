@@ -0,0 +1,621 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonPointerInvalidException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Evaluates many filters against the same {@link Thing} at once.
+ * <p>
+ * Each filter is indexed by a field it requires: by the values it requires the field to equal, by the bound it
+ * requires the field to exceed or to fall below, or by the mere existence of the field. A Thing is serialized once
+ * and only looks up the filters indexed by the fields it contains, so the cost of matching depends on the size of the
+ * Thing and the number of candidates rather than on the number of filters. Those candidates are verified against the
+ * same serialization with the semantics of {@link ThingPredicateVisitor}, so matching yields exactly the keys whose
+ * filter the Thing satisfies. Filters without any indexable requirement, e.g. {@code ne}, {@code like} or {@code not},
+ * are verified for every Thing.
+ * </p>
+ *
+ * @param <K> the type of the keys which identify the filters.
+ * @since 1.1.0
+ */
+@ThreadSafe
+public final class ThingFilterIndex<K> {
+
+    private final Map<K, IndexedFilter> filters;
+    private final Map<JsonPointer, Map<Object, Set<K>>> equalityIndex;
+    private final Map<JsonPointer, NavigableMap<BigDecimal, Set<K>>> lowerBoundIndex;
+    private final Map<JsonPointer, NavigableMap<BigDecimal, Set<K>>> upperBoundIndex;
+    private final Map<JsonPointer, Set<K>> existenceIndex;
+    private final Set<K> unindexed;
+
+    private ThingFilterIndex() {
+        filters = new ConcurrentHashMap<>();
+        equalityIndex = new ConcurrentHashMap<>();
+        lowerBoundIndex = new ConcurrentHashMap<>();
+        upperBoundIndex = new ConcurrentHashMap<>();
+        existenceIndex = new ConcurrentHashMap<>();
+        unindexed = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns a new empty {@code ThingFilterIndex}.
+     *
+     * @param <K> the type of the keys which identify the filters.
+     * @return the index.
+     */
+    public static <K> ThingFilterIndex<K> newInstance() {
+        return new ThingFilterIndex<>();
+    }
+
+    /**
+     * Adds a filter to this index, replacing any filter added before with the same key.
+     *
+     * @param key the key of the filter.
+     * @param criteria the filter.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public synchronized void put(final K key, final Criteria criteria) {
+        checkNotNull(key, "key");
+        checkNotNull(criteria, "criteria");
+        remove(key);
+        final IndexedFilter filter =
+                new IndexedFilter(criteria.accept(VerificationVisitor.INSTANCE), criteria.accept(AnchorVisitor.INSTANCE));
+        filters.put(key, filter);
+        if (null == filter.anchors) {
+            unindexed.add(key);
+        } else {
+            filter.anchors.forEach(anchor -> anchor.addTo(this, key));
+        }
+    }
+
+    /**
+     * Removes the filter of a key from this index.
+     *
+     * @param key the key of the filter.
+     * @return {@code true} if a filter was added for the key, {@code false} otherwise.
+     */
+    public synchronized boolean remove(final K key) {
+        final IndexedFilter filter = filters.get(key);
+        if (null == filter) {
+            return false;
+        }
+        if (null == filter.anchors) {
+            unindexed.remove(key);
+        } else {
+            filter.anchors.forEach(anchor -> anchor.removeFrom(this, key));
+        }
+        filters.remove(key);
+        return true;
+    }
+
+    /**
+     * Returns the keys of all filters the given Thing satisfies.
+     *
+     * @param thing the Thing.
+     * @return the keys of the matching filters.
+     * @throws NullPointerException if {@code thing} is {@code null}.
+     */
+    public Set<K> match(final Thing thing) {
+        checkNotNull(thing, "thing");
+        final JsonObject thingJson = thing.toJson(field -> true);
+        final Set<K> candidates = new HashSet<>(unindexed);
+        if (!equalityIndex.isEmpty() || !lowerBoundIndex.isEmpty() || !upperBoundIndex.isEmpty() ||
+                !existenceIndex.isEmpty()) {
+            addCandidates(thingJson, JsonPointer.empty(), candidates);
+        }
+
+        final Set<K> result = new HashSet<>();
+        for (final K candidate : candidates) {
+            final IndexedFilter filter = filters.get(candidate);
+            if (null != filter && filter.predicate.test(thing, thingJson)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of filters in this index.
+     *
+     * @return the number of filters.
+     */
+    public int size() {
+        return filters.size();
+    }
+
+    /*
+     * Looks up the filters indexed by each field of the object and of its nested objects.
+     */
+    private void addCandidates(final JsonObject jsonObject, final JsonPointer parentPointer,
+            final Collection<K> candidates) {
+
+        for (final JsonField field : jsonObject) {
+            final JsonPointer pointer = parentPointer.addLeaf(field.getKey());
+            final JsonValue jsonValue = field.getValue();
+            addCandidates(pointer, jsonValue, candidates);
+            if (jsonValue.isObject()) {
+                addCandidates(jsonValue.asObject(), pointer, candidates);
+            }
+        }
+    }
+
+    private void addCandidates(final JsonPointer pointer, final JsonValue jsonValue, final Collection<K> candidates) {
+        final Set<K> filtersOfPointer = existenceIndex.get(pointer);
+        if (null != filtersOfPointer) {
+            candidates.addAll(filtersOfPointer);
+        }
+        final Object value = toIndexValue(jsonValue);
+        if (null != value) {
+            final Map<Object, Set<K>> filtersByValue = equalityIndex.get(pointer);
+            if (null != filtersByValue) {
+                final Set<K> filtersOfValue = filtersByValue.get(value);
+                if (null != filtersOfValue) {
+                    candidates.addAll(filtersOfValue);
+                }
+            }
+            addRangeCandidates(lowerBoundIndex.get(pointer), value, (bounds, v) -> bounds.headMap(v, true),
+                    candidates);
+            addRangeCandidates(upperBoundIndex.get(pointer), value, (bounds, v) -> bounds.tailMap(v, true),
+                    candidates);
+        }
+    }
+
+    private void addRangeCandidates(@Nullable final NavigableMap<BigDecimal, Set<K>> filtersByBound,
+            final Object value,
+            final RangeLookup<K> satisfiedBounds,
+            final Collection<K> candidates) {
+
+        if (null == filtersByBound) {
+            return;
+        }
+        if (value instanceof BigDecimal) {
+            satisfiedBounds.apply(filtersByBound, (BigDecimal) value).values().forEach(candidates::addAll);
+        } else {
+            // non-numeric values are compared by their string representation, which does not follow the order
+            // of the numeric bounds
+            filtersByBound.values().forEach(candidates::addAll);
+        }
+    }
+
+    /*
+     * Maps a JSON value to the key under which filters requiring the value are indexed. Numbers which are equal as
+     * Long and Double are mapped to the same key, so the index may yield too many but never too few candidates.
+     */
+    @Nullable
+    private static Object toIndexValue(final JsonValue jsonValue) {
+        if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            return jsonValue.isLong() ? normalize(jsonValue.asLong()) : normalize(jsonValue.asDouble());
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Object normalize(@Nullable final Object value) {
+        if (value instanceof Double && (((Double) value).isNaN() || ((Double) value).isInfinite())) {
+            return value;
+        } else if (value instanceof Number) {
+            return new BigDecimal(value.toString()).stripTrailingZeros();
+        }
+        return value;
+    }
+
+    private static <K> void addToIndex(final Map<JsonPointer, NavigableMap<BigDecimal, Set<K>>> boundIndex,
+            final JsonPointer pointer, final BigDecimal bound, final K key) {
+
+        boundIndex.computeIfAbsent(pointer, p -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(bound, b -> ConcurrentHashMap.newKeySet())
+                .add(key);
+    }
+
+    private static <T, K> void removeFromIndex(final Map<JsonPointer, ? extends Map<T, Set<K>>> index,
+            final JsonPointer pointer, final T value, final K key) {
+
+        final Map<T, Set<K>> filtersByValue = index.get(pointer);
+        if (null != filtersByValue) {
+            final Set<K> keys = filtersByValue.get(value);
+            if (null != keys) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    filtersByValue.remove(value);
+                }
+            }
+            if (filtersByValue.isEmpty()) {
+                index.remove(pointer);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeLookup<K> {
+
+        NavigableMap<BigDecimal, Set<K>> apply(NavigableMap<BigDecimal, Set<K>> bounds, BigDecimal value);
+
+    }
+
+    private static final class IndexedFilter {
+
+        private final BiPredicate<Thing, JsonObject> predicate;
+
+        /*
+         * Requirements of which the filter satisfies at least one for each matching Thing, or null if the filter has
+         * to be verified for every Thing.
+         */
+        @Nullable private final List<Anchor> anchors;
+
+        private IndexedFilter(final BiPredicate<Thing, JsonObject> predicate, @Nullable final List<Anchor> anchors) {
+            this.predicate = predicate;
+            this.anchors = anchors;
+        }
+
+    }
+
+    /**
+     * A requirement of a filter on a single field of a Thing.
+     */
+    private abstract static class Anchor {
+
+        final JsonPointer pointer;
+
+        private Anchor(final JsonPointer pointer) {
+            this.pointer = pointer;
+        }
+
+        abstract <K> void addTo(ThingFilterIndex<K> index, K key);
+
+        abstract <K> void removeFrom(ThingFilterIndex<K> index, K key);
+
+        /*
+         * Orders anchors by their selectivity: a filter indexed by an equality is a candidate for fewer Things than a
+         * filter indexed by a bound or by existence.
+         */
+        abstract int getSelectivity();
+
+    }
+
+    private static final class EqualityAnchor extends Anchor {
+
+        private final Set<Object> values;
+
+        private EqualityAnchor(final JsonPointer pointer, final Set<Object> values) {
+            super(pointer);
+            this.values = values;
+        }
+
+        @Override
+        <K> void addTo(final ThingFilterIndex<K> index, final K key) {
+            final Map<Object, Set<K>> filtersByValue =
+                    index.equalityIndex.computeIfAbsent(pointer, p -> new ConcurrentHashMap<>());
+            values.forEach(value -> filtersByValue.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(key));
+        }
+
+        @Override
+        <K> void removeFrom(final ThingFilterIndex<K> index, final K key) {
+            values.forEach(value -> removeFromIndex(index.equalityIndex, pointer, value, key));
+        }
+
+        @Override
+        int getSelectivity() {
+            return 3;
+        }
+
+    }
+
+    private static final class BoundAnchor extends Anchor {
+
+        private final BigDecimal bound;
+        private final boolean lower;
+
+        private BoundAnchor(final JsonPointer pointer, final BigDecimal bound, final boolean lower) {
+            super(pointer);
+            this.bound = bound;
+            this.lower = lower;
+        }
+
+        @Override
+        <K> void addTo(final ThingFilterIndex<K> index, final K key) {
+            addToIndex(lower ? index.lowerBoundIndex : index.upperBoundIndex, pointer, bound, key);
+        }
+
+        @Override
+        <K> void removeFrom(final ThingFilterIndex<K> index, final K key) {
+            removeFromIndex(lower ? index.lowerBoundIndex : index.upperBoundIndex, pointer, bound, key);
+        }
+
+        @Override
+        int getSelectivity() {
+            return 2;
+        }
+
+    }
+
+    private static final class ExistenceAnchor extends Anchor {
+
+        private ExistenceAnchor(final JsonPointer pointer) {
+            super(pointer);
+        }
+
+        @Override
+        <K> void addTo(final ThingFilterIndex<K> index, final K key) {
+            index.existenceIndex.computeIfAbsent(pointer, p -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        @Override
+        <K> void removeFrom(final ThingFilterIndex<K> index, final K key) {
+            final Set<K> keys = index.existenceIndex.get(pointer);
+            if (null != keys) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    index.existenceIndex.remove(pointer);
+                }
+            }
+        }
+
+        @Override
+        int getSelectivity() {
+            return 1;
+        }
+
+    }
+
+    /**
+     * Creates the predicate of a filter like {@link ThingPredicateVisitor}, but evaluates field predicates on the
+     * serialized Thing instead of serializing it for each field.
+     */
+    private static final class VerificationVisitor implements CriteriaVisitor<BiPredicate<Thing, JsonObject>> {
+
+        private static final VerificationVisitor INSTANCE = new VerificationVisitor();
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitAnd(final List<BiPredicate<Thing, JsonObject>> conjuncts) {
+            return (thing, thingJson) -> conjuncts.stream().allMatch(p -> p.test(thing, thingJson));
+        }
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitAny() {
+            return (thing, thingJson) -> true;
+        }
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+            final Predicate<Thing> predicate = ExistsThingPredicateVisitor.apply(fieldExpression);
+            return (thing, thingJson) -> predicate.test(thing);
+        }
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+            final Predicate<JsonObject> thingJsonPredicate = ThingJsonPredicatePredicateVisitor.apply(predicate,
+                    fieldExpression.acceptFilterVisitor(PointerVisitor.INSTANCE));
+            return (thing, thingJson) -> thingJsonPredicate.test(thingJson);
+        }
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitNor(final List<BiPredicate<Thing, JsonObject>> negativeDisjoints) {
+            return (thing, thingJson) -> negativeDisjoints.stream().noneMatch(p -> p.test(thing, thingJson));
+        }
+
+        @Override
+        public BiPredicate<Thing, JsonObject> visitOr(final List<BiPredicate<Thing, JsonObject>> disjoints) {
+            return (thing, thingJson) -> disjoints.stream().anyMatch(p -> p.test(thing, thingJson));
+        }
+
+    }
+
+    /**
+     * Computes the anchors of a filter: a conjunction is anchored by its most selective conjunct, a disjunction by the
+     * anchors of all its disjuncts. {@code null} stands for a filter which cannot be anchored.
+     */
+    private static final class AnchorVisitor implements CriteriaVisitor<List<Anchor>> {
+
+        private static final AnchorVisitor INSTANCE = new AnchorVisitor();
+
+        @Override
+        @Nullable
+        public List<Anchor> visitAnd(final List<List<Anchor>> conjuncts) {
+            List<Anchor> result = null;
+            for (final List<Anchor> conjunct : conjuncts) {
+                if (null != conjunct && (null == result || getSelectivity(conjunct) > getSelectivity(result))) {
+                    result = conjunct;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        @Nullable
+        public List<Anchor> visitAny() {
+            return null;
+        }
+
+        @Override
+        @Nullable
+        public List<Anchor> visitExists(final ExistsFieldExpression fieldExpression) {
+            final JsonPointer pointer = toPointer(fieldExpression.acceptExistsVisitor(PointerVisitor.INSTANCE));
+            return null != pointer ? Collections.singletonList(new ExistenceAnchor(pointer)) : null;
+        }
+
+        @Override
+        @Nullable
+        public List<Anchor> visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+            final JsonPointer pointer = toPointer(fieldExpression.acceptFilterVisitor(PointerVisitor.INSTANCE));
+            return null != pointer ? predicate.accept(PredicateAnchorVisitor.INSTANCE).apply(pointer) : null;
+        }
+
+        @Override
+        @Nullable
+        public List<Anchor> visitNor(final List<List<Anchor>> negativeDisjoints) {
+            return null;
+        }
+
+        @Override
+        @Nullable
+        public List<Anchor> visitOr(final List<List<Anchor>> disjoints) {
+            final List<Anchor> result = new ArrayList<>();
+            for (final List<Anchor> disjoint : disjoints) {
+                if (null == disjoint) {
+                    return null;
+                }
+                result.addAll(disjoint);
+            }
+            return result.isEmpty() ? null : result;
+        }
+
+        @Nullable
+        private static JsonPointer toPointer(final String fieldName) {
+            try {
+                return JsonPointer.of(fieldName);
+            } catch (final JsonPointerInvalidException e) {
+                return null;
+            }
+        }
+
+        private static int getSelectivity(final List<Anchor> anchors) {
+            // the more anchors, the more candidates: the least selective anchor determines the selectivity
+            return anchors.stream().mapToInt(Anchor::getSelectivity).min().orElse(0) * 1000 - anchors.size();
+        }
+
+    }
+
+    private static final class PredicateAnchorVisitor implements PredicateVisitor<Function<JsonPointer, List<Anchor>>> {
+
+        private static final PredicateAnchorVisitor INSTANCE = new PredicateAnchorVisitor();
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitEq(@Nullable final Object value) {
+            return visitIn(Collections.singletonList(value));
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitGe(@Nullable final Object value) {
+            return bound(value, true);
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitGt(@Nullable final Object value) {
+            return bound(value, true);
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitIn(final List<?> values) {
+            final Set<Object> indexValues = new HashSet<>();
+            for (final Object value : values) {
+                // null is never equal to the value of a field
+                if (null != value) {
+                    indexValues.add(normalize(value));
+                }
+            }
+            return pointer -> Collections.singletonList(new EqualityAnchor(pointer, indexValues));
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitLe(@Nullable final Object value) {
+            return bound(value, false);
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitLike(final String value) {
+            return pointer -> null;
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitLt(@Nullable final Object value) {
+            return bound(value, false);
+        }
+
+        @Override
+        public Function<JsonPointer, List<Anchor>> visitNe(@Nullable final Object value) {
+            return pointer -> null;
+        }
+
+        private static Function<JsonPointer, List<Anchor>> bound(@Nullable final Object value, final boolean lower) {
+            final Object indexValue = normalize(value);
+            if (indexValue instanceof BigDecimal) {
+                return pointer -> Collections.singletonList(
+                        new BoundAnchor(pointer, (BigDecimal) indexValue, lower));
+            }
+            // bounds of other types are compared by their string representation to numeric fields
+            return pointer -> null;
+        }
+
+    }
+
+    /**
+     * Maps field expressions to the JSON pointers which {@link FilterThingPredicateVisitor} and
+     * {@link ExistsThingPredicateVisitor} evaluate.
+     */
+    private static final class PointerVisitor
+            implements FilterFieldExpressionVisitor<String>, ExistsFieldExpressionVisitor<String> {
+
+        private static final PointerVisitor INSTANCE = new PointerVisitor();
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeature(final String featureId) {
+            return "/features/" + featureId;
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+    }
+
+}
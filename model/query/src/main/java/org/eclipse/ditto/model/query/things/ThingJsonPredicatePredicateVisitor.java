@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonPointerInvalidException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * A Java {@link Predicate} based PredicateVisitor for evaluating whether the JSON representation of a
+ * {@link org.eclipse.ditto.model.things.Thing} including all its fields matches a given filter.
+ */
+final class ThingJsonPredicatePredicateVisitor implements PredicateVisitor<Function<String, Predicate<JsonObject>>> {
+
+    private static final ThingJsonPredicatePredicateVisitor INSTANCE = new ThingJsonPredicatePredicateVisitor();
+
+    private ThingJsonPredicatePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code ThingJsonPredicatePredicateVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static ThingJsonPredicatePredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a Java {@link Predicate} from a Ditto query {@link org.eclipse.ditto.model.query.criteria.Predicate Predicate}
+     * and its field name.
+     *
+     * @param predicate The Ditto Predicate to generate the Predicate from.
+     * @param fieldName Name of the field where the predicate is applied to.
+     * @return The created Predicate.
+     */
+    static Predicate<JsonObject> apply(final org.eclipse.ditto.model.query.criteria.Predicate predicate,
+            final String fieldName) {
+        return predicate.accept(INSTANCE).apply(fieldName);
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitEq(final Object value) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(value::equals)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitNe(final Object value) {
+        return fieldName -> onField(fieldName, field -> !field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(value::equals)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitGe(final Object value) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
+                .map(obj -> (Comparable) obj)
+                .filter(obj -> compare((Comparable) value, obj) >= 0)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitGt(final Object value) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
+                .map(obj -> (Comparable) obj)
+                .filter(obj -> compare((Comparable) value, obj) > 0)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLe(final Object value) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
+                .map(obj -> (Comparable) obj)
+                .filter(obj -> compare((Comparable) value, obj) <= 0)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLt(final Object value) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
+                .map(obj -> (Comparable) obj)
+                .filter(obj -> compare((Comparable) value, obj) < 0)
+                .isPresent());
+    }
+
+    private static int compare(final Comparable value, final Comparable obj) {
+        final Comparable comparableObj = asNumber(obj);
+        final Comparable comparableValue = asNumber(value);
+        // best effort try to convert both values to a BigDecimal in order to compare them:
+        if (comparableValue instanceof String && comparableObj instanceof BigDecimal) {
+            try {
+                return comparableObj.compareTo(new BigDecimal((String) comparableValue));
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        } else if (comparableValue instanceof BigDecimal && comparableObj instanceof String) {
+            try {
+                return new BigDecimal((String) comparableObj).compareTo((BigDecimal) comparableValue);
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        }
+
+        if (comparableValue.getClass().equals(comparableObj.getClass())) {
+            // only compare same classes:
+            return comparableObj.compareTo(comparableValue);
+        } else {
+            // as a fallback, for different types, compare by their string representation:
+            final String comparableObjString = comparableObj.toString();
+            final String comparableValueString = comparableValue.toString();
+            return comparableObjString.compareTo(comparableValueString);
+        }
+    }
+
+    private static Comparable asNumber(final Comparable comparable) {
+        return comparable instanceof Number ? new BigDecimal(comparable.toString()) : comparable;
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitIn(final List<?> values) {
+        return fieldName -> onField(fieldName, field -> field
+                .map(ThingJsonPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(values::contains)
+                .isPresent());
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLike(final String value) {
+        return fieldName -> onField(fieldName, field -> field
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .filter(str -> Pattern.compile(value).matcher(str).matches())
+                .isPresent());
+    }
+
+    private static Predicate<JsonObject> onField(final String fieldName,
+            final Predicate<Optional<JsonValue>> fieldPredicate) {
+
+        final JsonPointer pointer;
+        try {
+            pointer = JsonPointer.of(fieldName);
+        } catch (final JsonPointerInvalidException e) {
+            // invalid field names only fail when the predicate is evaluated
+            return thingJson -> fieldPredicate.test(thingJson.getValue(fieldName));
+        }
+        return thingJson -> fieldPredicate.test(thingJson.getValue(pointer));
+    }
+
+    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+        final Object result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNull()) {
+            result = null;
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = jsonValue.asLong();
+            } else {
+                result = jsonValue.asDouble();
+            }
+        } else if (jsonValue.isArray()) {
+            result = null; // filtering arrays is not supported
+        } else if (jsonValue.isObject()) {
+            result = null; // filtering objects is not supported
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+}
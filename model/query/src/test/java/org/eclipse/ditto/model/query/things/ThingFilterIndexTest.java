@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingFilterIndex}.
+ */
+public final class ThingFilterIndexTest {
+
+    private static final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "index"))
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+            .setAttribute(JsonPointer.of("counter"), JsonValue.of(42))
+            .setAttribute(JsonPointer.of("ratio"), JsonValue.of(0.5))
+            .setAttribute(JsonPointer.of("label"), JsonValue.of("7"))
+            .setFeatureProperty("lamp", JsonPointer.of("on"), JsonValue.of(true))
+            .build();
+
+    private final ThingFilterIndex<String> underTest = ThingFilterIndex.newInstance();
+
+    @Test
+    public void matchesEqualityAndMembership() {
+        put("eqString", "eq(attributes/location,\"kitchen\")");
+        put("eqOtherString", "eq(attributes/location,\"garden\")");
+        put("eqNumber", "eq(attributes/counter,42)");
+        put("eqBoolean", "eq(features/lamp/properties/on,true)");
+        put("in", "in(attributes/location,\"garden\",\"kitchen\")");
+        put("eqNull", "eq(attributes/location,null)");
+
+        assertThat(underTest.match(THING)).containsExactlyInAnyOrder("eqString", "eqNumber", "eqBoolean", "in");
+    }
+
+    @Test
+    public void matchesNumericBounds() {
+        put("gt", "gt(attributes/counter,41)");
+        put("gtEqual", "gt(attributes/counter,42)");
+        put("ge", "ge(attributes/counter,42)");
+        put("lt", "lt(attributes/counter,42.5)");
+        put("le", "le(attributes/counter,41)");
+        put("ltRatio", "lt(attributes/ratio,1)");
+
+        assertThat(underTest.match(THING)).containsExactlyInAnyOrder("gt", "ge", "lt", "ltRatio");
+    }
+
+    @Test
+    public void comparesNumericBoundsToNumericStrings() {
+        put("gt", "gt(attributes/label,6)");
+        put("lt", "lt(attributes/label,6)");
+
+        assertThat(underTest.match(THING)).containsExactly("gt");
+    }
+
+    @Test
+    public void matchesExistenceAndUnindexedFilters() {
+        put("existsAttribute", "exists(attributes/counter)");
+        put("existsFeature", "exists(features/lamp)");
+        put("existsMissing", "exists(features/heater)");
+        put("ne", "ne(attributes/location,\"garden\")");
+        put("like", "like(attributes/location,\"kit*\")");
+        put("not", "not(eq(attributes/counter,42))");
+
+        assertThat(underTest.match(THING))
+                .containsExactlyInAnyOrder("existsAttribute", "existsFeature", "ne", "like");
+    }
+
+    @Test
+    public void matchesCompositeFilters() {
+        put("and", "and(eq(attributes/location,\"kitchen\"),gt(attributes/counter,40))");
+        put("andFailing", "and(eq(attributes/location,\"kitchen\"),gt(attributes/counter,50))");
+        put("or", "or(eq(attributes/location,\"garden\"),lt(attributes/counter,50))");
+        put("orUnindexed", "or(eq(attributes/location,\"garden\"),ne(attributes/counter,50))");
+        put("orFailing", "or(eq(attributes/location,\"garden\"),exists(attributes/missing))");
+
+        assertThat(underTest.match(THING)).containsExactlyInAnyOrder("and", "or", "orUnindexed");
+    }
+
+    @Test
+    public void replacesAndRemovesFilters() {
+        put("filter", "eq(attributes/location,\"garden\")");
+        assertThat(underTest.match(THING)).isEmpty();
+
+        put("filter", "eq(attributes/location,\"kitchen\")");
+        assertThat(underTest.match(THING)).containsExactly("filter");
+        assertThat(underTest.size()).isEqualTo(1);
+
+        assertThat(underTest.remove("filter")).isTrue();
+        assertThat(underTest.remove("filter")).isFalse();
+        assertThat(underTest.match(THING)).isEmpty();
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void yieldsSameResultAsEvaluatingEachFilter() {
+        final List<String> fields = Arrays.asList("attributes/location", "attributes/counter", "attributes/ratio",
+                "attributes/label", "features/lamp/properties/on", "attributes/missing");
+        final List<String> values = Arrays.asList("\"kitchen\"", "42", "42.0", "0.5", "7", "\"7\"", "true", "false");
+        final List<String> operators = Arrays.asList("eq", "ne", "gt", "ge", "lt", "le");
+        final Map<String, Criteria> filters = new LinkedHashMap<>();
+        for (final String field : fields) {
+            for (final String value : values) {
+                for (final String operator : operators) {
+                    final String filter = operator + "(" + field + "," + value + ")";
+                    filters.put(filter, criteria(filter));
+                    final String conjunction = "and(" + filter + ",exists(" + field + "))";
+                    filters.put(conjunction, criteria(conjunction));
+                }
+            }
+        }
+        filters.forEach(underTest::put);
+
+        final Set<String> expected = filters.entrySet()
+                .stream()
+                .filter(entry -> ThingPredicateVisitor.apply(entry.getValue()).test(THING))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        assertThat(expected).isNotEmpty();
+        assertThat(underTest.match(THING)).isEqualTo(expected);
+    }
+
+    @Test
+    public void matchesFewOfManySubscriptionsAndForgetsRemovedOnes() {
+        for (int i = 0; i < 1000; ++i) {
+            put("location-" + i, "eq(attributes/location,\"room-" + i + "\")");
+            put("counter-" + i, "and(gt(attributes/counter," + i + "),exists(features/lamp-" + i + "))");
+            put("lamp-" + i, "exists(features/lamp-" + i + "/properties/on)");
+        }
+        put("kitchen", "eq(attributes/location,\"kitchen\")");
+        put("lamp", "and(exists(features/lamp/properties/on),gt(attributes/counter,41))");
+
+        assertThat(underTest.size()).isEqualTo(3002);
+        assertThat(underTest.match(THING)).containsExactlyInAnyOrder("kitchen", "lamp");
+
+        assertThat(underTest.remove("kitchen")).isTrue();
+        assertThat(underTest.match(THING)).containsExactly("lamp");
+    }
+
+    private void put(final String key, final String filter) {
+        underTest.put(key, criteria(filter));
+    }
+
+    private static Criteria criteria(final String filter) {
+        return queryFilterCriteriaFactory.filterCriteria(filter, DittoHeaders.empty());
+    }
+
+}
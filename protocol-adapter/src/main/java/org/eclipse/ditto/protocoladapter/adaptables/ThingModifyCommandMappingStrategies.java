@@ -13,12 +13,17 @@
 package org.eclipse.ditto.protocoladapter.adaptables;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.Thing;
@@ -49,6 +54,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 
 /**
@@ -79,6 +85,7 @@ final class ThingModifyCommandMappingStrategies extends AbstractThingMappingStra
         mappingStrategies.put(DeleteThing.TYPE,
                 adaptable -> DeleteThing.of(thingIdFrom(adaptable), dittoHeadersFrom(adaptable)));
         mappingStrategies.put(ModifyPolicyId.TYPE, ThingModifyCommandMappingStrategies::modifyPolicyIdFrom);
+        mappingStrategies.put(ModifyThings.TYPE, ThingModifyCommandMappingStrategies::modifyThingsFrom);
     }
 
     private static void addDefinitionMappingStrategies(
@@ -189,6 +196,26 @@ final class ThingModifyCommandMappingStrategies extends AbstractThingMappingStra
         return ModifyPolicyId.of(thingId, policyId, dittoHeadersFrom(adaptable));
     }
 
+    private static ModifyThings modifyThingsFrom(final Adaptable adaptable) {
+        final JsonObject idsAndValue = adaptable.getPayload()
+                .getValue()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElseThrow(() -> new JsonParseException("Adaptable payload was non existing or no JsonObject"));
+        final JsonArray thingIdsArray = idsAndValue.getValue(ModifyThings.JSON_THING_IDS)
+                .orElseThrow(() -> new JsonParseException("Could not map 'thingIds' value to expected JsonArray"));
+        final List<ThingId> thingIds = thingIdsArray.stream()
+                .map(JsonValue::asString)
+                .map(ThingId::of)
+                .collect(Collectors.toList());
+        final JsonValue value = idsAndValue.getValue(ModifyThings.JSON_VALUE)
+                .orElseThrow(() -> new JsonParseException("Adaptable payload did not contain the 'value' to modify"));
+
+        // the payload path is a MessagePath, which is never equal to the JsonPointer of a deserialized command
+        final JsonPointer path = JsonPointer.of(adaptable.getPayload().getPath().toString());
+        return ModifyThings.of(thingIds, path, value, dittoHeadersFrom(adaptable));
+    }
+
     @Nullable
     private static JsonObject initialPolicyForCreateThingFrom(final Adaptable adaptable) {
         return adaptable.getPayload()
@@ -15,6 +15,8 @@ package org.eclipse.ditto.protocoladapter.adaptables;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.JsonifiableMapper;
@@ -41,6 +43,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyFeaturesResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyIdResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinitionResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommandResponse;
 
 /**
@@ -84,6 +87,12 @@ final class ThingModifyCommandResponseMappingStrategies
                 adaptable -> DeleteThingResponse.of(thingIdFrom(adaptable), dittoHeadersFrom(adaptable)));
         mappingStrategies.put(ModifyPolicyIdResponse.TYPE,
                 ThingModifyCommandResponseMappingStrategies::modifyPolicyIdResponseFrom);
+        mappingStrategies.put(ModifyThingsResponse.TYPE,
+                adaptable -> ModifyThingsResponse.of(adaptable.getPayload()
+                        .getValue()
+                        .filter(JsonValue::isArray)
+                        .map(JsonValue::asArray)
+                        .orElseThrow(() -> JsonParseException.newBuilder().build()), dittoHeadersFrom(adaptable)));
     }
 
     private static ModifyPolicyIdResponse modifyPolicyIdResponseFrom(final Adaptable adaptable) {
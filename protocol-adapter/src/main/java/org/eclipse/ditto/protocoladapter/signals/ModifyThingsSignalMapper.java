@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocoladapter.signals;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocoladapter.PayloadBuilder;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TopicPathBuilder;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+
+final class ModifyThingsSignalMapper extends AbstractModifySignalMapper<ModifyThings> {
+
+    @Override
+    TopicPathBuilder getTopicPathBuilder(final ModifyThings command) {
+        return ProtocolFactory.newTopicPathBuilderFromNamespace(TopicPath.ID_PLACEHOLDER);
+    }
+
+    @Override
+    void enhancePayloadBuilder(final ModifyThings command, final PayloadBuilder payloadBuilder) {
+        payloadBuilder.withValue(createIdsAndValuePayload(command));
+    }
+
+    private static JsonValue createIdsAndValuePayload(final ModifyThings command) {
+        final JsonArray thingIdsArray = command.getThingEntityIds()
+                .stream()
+                .map(String::valueOf)
+                .map(JsonFactory::newValue)
+                .collect(JsonCollectors.valuesToArray());
+        return JsonFactory.newObjectBuilder()
+                .set(ModifyThings.JSON_THING_IDS, thingIdsArray)
+                .set(ModifyThings.JSON_VALUE, command.getValue())
+                .build();
+    }
+
+}
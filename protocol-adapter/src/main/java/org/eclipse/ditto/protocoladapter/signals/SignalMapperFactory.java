@@ -18,6 +18,8 @@ import org.eclipse.ditto.signals.commands.policies.modify.PolicyModifyCommand;
 import org.eclipse.ditto.signals.commands.policies.modify.PolicyModifyCommandResponse;
 import org.eclipse.ditto.signals.commands.policies.query.PolicyQueryCommand;
 import org.eclipse.ditto.signals.commands.policies.query.PolicyQueryCommandResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommandResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -40,6 +42,14 @@ public final class SignalMapperFactory {
         return new ThingModifyResponseSignalMapper();
     }
 
+    public static SignalMapper<ModifyThings> newModifyThingsSignalMapper() {
+        return new ModifyThingsSignalMapper();
+    }
+
+    public static SignalMapper<ModifyThingsResponse> newModifyThingsResponseSignalMapper() {
+        return new ModifyThingsResponseSignalMapper();
+    }
+
     public static SignalMapper<ThingQueryCommand<?>> newThingQuerySignalMapper() {
         return new ThingQuerySignalMapper();
     }
@@ -21,6 +21,7 @@ import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.protocoladapter.adaptables.MappingStrategiesFactory;
 import org.eclipse.ditto.protocoladapter.signals.SignalMapper;
 import org.eclipse.ditto.protocoladapter.signals.SignalMapperFactory;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 
 /**
@@ -31,6 +32,8 @@ final class ThingModifyCommandAdapter extends AbstractThingAdapter<ThingModifyCo
 
     private final SignalMapper<ThingModifyCommand<?>> signalMapper =
             SignalMapperFactory.newThingModifySignalMapper();
+    private final SignalMapper<ModifyThings> modifyThingsSignalMapper =
+            SignalMapperFactory.newModifyThingsSignalMapper();
 
     private ThingModifyCommandAdapter(
             final HeaderTranslator headerTranslator) {
@@ -47,8 +50,23 @@ final class ThingModifyCommandAdapter extends AbstractThingAdapter<ThingModifyCo
         return new ThingModifyCommandAdapter(requireNonNull(headerTranslator));
     }
 
+    @Override
+    protected String getType(final Adaptable adaptable) {
+        final TopicPath topicPath = adaptable.getTopicPath();
+        if (topicPath.isWildcardTopic()) {
+            return ModifyThings.TYPE;
+        } else {
+            // use default for none wildcard topics
+            return super.getType(adaptable);
+        }
+    }
+
     @Override
     public Adaptable mapSignalToAdaptable(final ThingModifyCommand<?> command, final TopicPath.Channel channel) {
-        return signalMapper.mapSignalToAdaptable(command, channel);
+        if (command instanceof ModifyThings) {
+            return modifyThingsSignalMapper.mapSignalToAdaptable((ModifyThings) command, channel);
+        } else {
+            return signalMapper.mapSignalToAdaptable(command, channel);
+        }
     }
 }
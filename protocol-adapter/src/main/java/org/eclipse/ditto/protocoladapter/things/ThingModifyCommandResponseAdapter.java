@@ -21,6 +21,7 @@ import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.protocoladapter.adaptables.MappingStrategiesFactory;
 import org.eclipse.ditto.protocoladapter.signals.SignalMapper;
 import org.eclipse.ditto.protocoladapter.signals.SignalMapperFactory;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommandResponse;
 
 /**
@@ -31,6 +32,8 @@ final class ThingModifyCommandResponseAdapter extends AbstractThingAdapter<Thing
 
     private final SignalMapper<ThingModifyCommandResponse<?>>
             signalMapper = SignalMapperFactory.newThingModifyResponseSignalMapper();
+    private final SignalMapper<ModifyThingsResponse>
+            modifyThingsSignalMapper = SignalMapperFactory.newModifyThingsResponseSignalMapper();
 
     private ThingModifyCommandResponseAdapter(final HeaderTranslator headerTranslator) {
         super(MappingStrategiesFactory.getThingModifyCommandResponseMappingStrategies(), headerTranslator);
@@ -46,6 +49,17 @@ final class ThingModifyCommandResponseAdapter extends AbstractThingAdapter<Thing
         return new ThingModifyCommandResponseAdapter(requireNonNull(headerTranslator));
     }
 
+    @Override
+    protected String getType(final Adaptable adaptable) {
+        final TopicPath topicPath = adaptable.getTopicPath();
+        if (topicPath.isWildcardTopic()) {
+            return ModifyThingsResponse.TYPE;
+        } else {
+            // use default for none wildcard topics
+            return super.getType(adaptable);
+        }
+    }
+
     @Override
     protected String getTypeCriterionAsString(final TopicPath topicPath) {
         return RESPONSES_CRITERION;
@@ -54,6 +68,10 @@ final class ThingModifyCommandResponseAdapter extends AbstractThingAdapter<Thing
     @Override
     protected Adaptable mapSignalToAdaptable(final ThingModifyCommandResponse<?> signal,
             final TopicPath.Channel channel) {
-        return signalMapper.mapSignalToAdaptable(signal, channel);
+        if (signal instanceof ModifyThingsResponse) {
+            return modifyThingsSignalMapper.mapSignalToAdaptable((ModifyThingsResponse) signal, channel);
+        } else {
+            return signalMapper.mapSignalToAdaptable(signal, channel);
+        }
     }
 }
\ No newline at end of file
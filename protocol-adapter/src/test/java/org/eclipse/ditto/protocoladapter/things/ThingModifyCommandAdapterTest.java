@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.protocoladapter.things;
 
+import java.util.Arrays;
 import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
 
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -30,6 +32,7 @@ import org.eclipse.ditto.protocoladapter.Payload;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapterTest;
 import org.eclipse.ditto.protocoladapter.TestConstants;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TopicPathBuilder;
 import org.eclipse.ditto.protocoladapter.UnknownCommandException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteAclEntry;
@@ -54,6 +57,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import org.junit.Before;
 import org.junit.Test;
@@ -63,6 +67,8 @@ import org.junit.Test;
  */
 public final class ThingModifyCommandAdapterTest extends LiveTwinTest implements ProtocolAdapterTest {
 
+    private static final ThingId THING_ID_2 = ThingId.of(TestConstants.NAMESPACE, "id2");
+
     private ThingModifyCommandAdapter underTest;
 
     @Before
@@ -539,6 +545,57 @@ public final class ThingModifyCommandAdapterTest extends LiveTwinTest implements
         assertWithExternalHeadersThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void modifyThingsFromAdaptable() {
+        final ModifyThings expected = ModifyThings.of(Arrays.asList(TestConstants.THING_ID, THING_ID_2),
+                JsonPointer.of("/attributes" + TestConstants.ATTRIBUTE_POINTER), TestConstants.ATTRIBUTE_VALUE,
+                TestConstants.DITTO_HEADERS_V_2);
+
+        final Adaptable adaptable = Adaptable.newBuilder(wildcardTopicPath(TopicPath.Channel.TWIN))
+                .withPayload(Payload.newBuilder(JsonPointer.of("/attributes" + TestConstants.ATTRIBUTE_POINTER))
+                        .withValue(modifyThingsValue())
+                        .build())
+                .withHeaders(TestConstants.HEADERS_V_2)
+                .build();
+        final ThingModifyCommand<?> actual = underTest.fromAdaptable(adaptable);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void modifyThingsToAdaptable() {
+        final Adaptable expected = Adaptable.newBuilder(wildcardTopicPath(channel))
+                .withPayload(Payload.newBuilder(JsonPointer.of("/attributes" + TestConstants.ATTRIBUTE_POINTER))
+                        .withValue(modifyThingsValue())
+                        .build())
+                .withHeaders(TestConstants.HEADERS_V_2)
+                .build();
+
+        final ModifyThings modifyThings = ModifyThings.of(Arrays.asList(TestConstants.THING_ID, THING_ID_2),
+                JsonPointer.of("/attributes" + TestConstants.ATTRIBUTE_POINTER), TestConstants.ATTRIBUTE_VALUE,
+                TestConstants.HEADERS_V_2_NO_CONTENT_TYPE);
+        final Adaptable actual = underTest.toAdaptable(modifyThings, channel);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
+    private static TopicPath wildcardTopicPath(final TopicPath.Channel channel) {
+        final TopicPathBuilder topicPathBuilder = TopicPath.fromNamespace(TopicPath.ID_PLACEHOLDER);
+        return (channel == TopicPath.Channel.LIVE ? topicPathBuilder.live() : topicPathBuilder.twin())
+                .commands()
+                .modify()
+                .build();
+    }
+
+    private static JsonObject modifyThingsValue() {
+        return JsonObject.newBuilder()
+                .set("thingIds", JsonArray.newBuilder()
+                        .add(TestConstants.THING_ID.toString(), THING_ID_2.toString())
+                        .build())
+                .set("value", TestConstants.ATTRIBUTE_VALUE)
+                .build();
+    }
+
     @Test
     public void deleteAttributeFromAdaptable() {
         final DeleteAttribute expected =
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.protocoladapter.things;
 
+import java.util.Collections;
 import java.util.function.Predicate;
 
 import javax.annotation.Nonnull;
@@ -32,6 +33,7 @@ import org.eclipse.ditto.protocoladapter.Payload;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapterTest;
 import org.eclipse.ditto.protocoladapter.TestConstants;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TopicPathBuilder;
 import org.eclipse.ditto.protocoladapter.UnknownCommandResponseException;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
@@ -57,6 +59,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyFeaturesResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyIdResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinitionResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommandResponse;
 import org.junit.Before;
 import org.junit.Test;
@@ -230,6 +233,50 @@ public final class ThingModifyCommandResponseAdapterTest extends LiveTwinTest im
         assertWithExternalHeadersThat(actualModified).isEqualTo(expectedModified);
     }
 
+    @Test
+    public void modifyThingsResponseFromAdaptable() {
+        final ModifyThingsResponse expected = ModifyThingsResponse.of(Collections.singletonList(
+                ModifyAttributeResponse.modified(TestConstants.THING_ID, TestConstants.ATTRIBUTE_POINTER,
+                        TestConstants.DITTO_HEADERS_V_2)), TestConstants.DITTO_HEADERS_V_2);
+
+        final Adaptable adaptable = Adaptable.newBuilder(wildcardTopicPath(TopicPath.Channel.TWIN))
+                .withPayload(Payload.newBuilder(JsonPointer.empty())
+                        .withStatus(HttpStatusCode.OK)
+                        .withValue(expected.getResults())
+                        .build())
+                .withHeaders(TestConstants.HEADERS_V_2)
+                .build();
+        final ThingModifyCommandResponse<?> actual = underTest.fromAdaptable(adaptable);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void modifyThingsResponseToAdaptable() {
+        final ModifyThingsResponse modifyThingsResponse = ModifyThingsResponse.of(Collections.singletonList(
+                ModifyAttributeResponse.modified(TestConstants.THING_ID, TestConstants.ATTRIBUTE_POINTER,
+                        TestConstants.DITTO_HEADERS_V_2)), TestConstants.HEADERS_V_2_NO_CONTENT_TYPE);
+
+        final Adaptable expected = Adaptable.newBuilder(wildcardTopicPath(channel))
+                .withPayload(Payload.newBuilder(JsonPointer.empty())
+                        .withStatus(HttpStatusCode.OK)
+                        .withValue(modifyThingsResponse.getResults())
+                        .build())
+                .withHeaders(TestConstants.HEADERS_V_2)
+                .build();
+        final Adaptable actual = underTest.toAdaptable(modifyThingsResponse, channel);
+
+        assertWithExternalHeadersThat(actual).isEqualTo(expected);
+    }
+
+    private static TopicPath wildcardTopicPath(final TopicPath.Channel channel) {
+        final TopicPathBuilder topicPathBuilder = TopicPath.fromNamespace(TopicPath.ID_PLACEHOLDER);
+        return (channel == TopicPath.Channel.LIVE ? topicPathBuilder.live() : topicPathBuilder.twin())
+                .commands()
+                .modify()
+                .build();
+    }
+
     @Test
     public void deleteThingResponseFromAdaptable() {
         final DeleteThingResponse expected =
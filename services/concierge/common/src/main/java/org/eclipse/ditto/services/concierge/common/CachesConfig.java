@@ -18,12 +18,14 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithWarmUpConfig;
 
 /**
  * Provides configuration settings of the caches of Concierge.
+ * The warm-up config determines whether the enforcers of the most accessed entities are loaded after a restart.
  */
 @Immutable
-public interface CachesConfig {
+public interface CachesConfig extends WithWarmUpConfig {
 
     /**
      * Returns the duration to wait for entity shard regions.
@@ -46,6 +48,30 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the number of bytes of direct memory in which the serialized policies of evicted policy-enforcers are
+     * kept in order to rebuild the enforcers without retrieving their policies again.
+     *
+     * @return the capacity of the off-heap policy store or {@code 0} if it is disabled.
+     * @since 1.1.0
+     */
+    long getEnforcerOffHeapCapacity();
+
+    /**
+     * Indicates whether enforcer-filtered views of retrieved Things are cached and served without asking the things
+     * shard region.
+     *
+     * @return {@code true} if the thing view cache is enabled, {@code false} else.
+     */
+    boolean isThingViewCacheEnabled();
+
+    /**
+     * Returns the config of the cache of enforcer-filtered views of retrieved Things.
+     *
+     * @return the config.
+     */
+    CacheConfig getThingViewCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +81,17 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The capacity of the off-heap store of serialized policies in bytes; 0 to disable it.
+         */
+        ENFORCER_OFF_HEAP_CAPACITY("enforcer-off-heap-capacity", 0L),
+
+        /**
+         * Whether enforcer-filtered views of retrieved Things are cached.
+         */
+        THING_VIEW_CACHE_ENABLED("thing-view-enabled", false);
 
         private final String path;
         private final Object defaultValue;
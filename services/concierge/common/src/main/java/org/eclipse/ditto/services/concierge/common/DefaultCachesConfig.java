@@ -21,6 +21,8 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
 
 import com.typesafe.config.Config;
 
@@ -35,11 +37,19 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final long enforcerOffHeapCapacity;
+    private final boolean thingViewCacheEnabled;
+    private final CacheConfig thingViewCacheConfig;
+    private final WarmUpConfig warmUpConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerOffHeapCapacity = config.getBytes(CachesConfigValue.ENFORCER_OFF_HEAP_CAPACITY.getConfigPath());
+        thingViewCacheEnabled = config.getBoolean(CachesConfigValue.THING_VIEW_CACHE_ENABLED.getConfigPath());
+        thingViewCacheConfig = DefaultCacheConfig.of(config, "thing-view");
+        warmUpConfig = DefaultWarmUpConfig.of(config);
     }
 
     /**
@@ -68,6 +78,26 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public long getEnforcerOffHeapCapacity() {
+        return enforcerOffHeapCapacity;
+    }
+
+    @Override
+    public boolean isThingViewCacheEnabled() {
+        return thingViewCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getThingViewCacheConfig() {
+        return thingViewCacheConfig;
+    }
+
+    @Override
+    public WarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +109,17 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerOffHeapCapacity == that.enforcerOffHeapCapacity &&
+                thingViewCacheEnabled == that.thingViewCacheEnabled &&
+                thingViewCacheConfig.equals(that.thingViewCacheConfig) &&
+                warmUpConfig.equals(that.warmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerOffHeapCapacity,
+                thingViewCacheEnabled, thingViewCacheConfig, warmUpConfig);
     }
 
     @Override
@@ -93,6 +128,10 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerOffHeapCapacity=" + enforcerOffHeapCapacity +
+                ", thingViewCacheEnabled=" + thingViewCacheEnabled +
+                ", thingViewCacheConfig=" + thingViewCacheConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 "]";
     }
 
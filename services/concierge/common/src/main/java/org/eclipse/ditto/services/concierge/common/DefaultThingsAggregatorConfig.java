@@ -32,11 +32,17 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
 
     private final Duration singleRetrieveThingTimeout;
     private final int maxParallelism;
+    private final Duration singleModifyThingTimeout;
+    private final int maxParallelismPerShard;
 
     private DefaultThingsAggregatorConfig(final ScopedConfig config) {
         singleRetrieveThingTimeout =
                 config.getDuration(ThingsAggregatorConfigValue.SINGLE_RETRIEVE_THING_TIMEOUT.getConfigPath());
         maxParallelism = config.getInt(ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath());
+        singleModifyThingTimeout =
+                config.getDuration(ThingsAggregatorConfigValue.SINGLE_MODIFY_THING_TIMEOUT.getConfigPath());
+        maxParallelismPerShard =
+                config.getInt(ThingsAggregatorConfigValue.MAX_PARALLELISM_PER_SHARD.getConfigPath());
     }
 
     /**
@@ -61,6 +67,16 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return maxParallelism;
     }
 
+    @Override
+    public Duration getSingleModifyThingTimeout() {
+        return singleModifyThingTimeout;
+    }
+
+    @Override
+    public int getMaxParallelismPerShard() {
+        return maxParallelismPerShard;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +87,15 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         }
         final DefaultThingsAggregatorConfig that = (DefaultThingsAggregatorConfig) o;
         return maxParallelism == that.maxParallelism &&
-                singleRetrieveThingTimeout.equals(that.singleRetrieveThingTimeout);
+                maxParallelismPerShard == that.maxParallelismPerShard &&
+                singleRetrieveThingTimeout.equals(that.singleRetrieveThingTimeout) &&
+                singleModifyThingTimeout.equals(that.singleModifyThingTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(singleRetrieveThingTimeout, maxParallelism);
+        return Objects.hash(singleRetrieveThingTimeout, maxParallelism, singleModifyThingTimeout,
+                maxParallelismPerShard);
     }
 
     @Override
@@ -84,6 +103,8 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return getClass().getSimpleName() + " [" +
                 "singleRetrieveThingTimeout=" + singleRetrieveThingTimeout +
                 ", maxParallelism=" + maxParallelism +
+                ", singleModifyThingTimeout=" + singleModifyThingTimeout +
+                ", maxParallelismPerShard=" + maxParallelismPerShard +
                 "]";
     }
 
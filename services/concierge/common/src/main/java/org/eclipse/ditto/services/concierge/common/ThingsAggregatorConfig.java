@@ -39,6 +39,22 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Returns the timeout how long the {@code ThingsAggregatorActor} should wait for a single modification of a
+     * thing which is part of a {@code ModifyThings} command.
+     *
+     * @return the timeout.
+     */
+    Duration getSingleModifyThingTimeout();
+
+    /**
+     * Returns how many modifications of a {@code ModifyThings} command can be "in flight" at the same time towards
+     * a single shard of the "things" service.
+     *
+     * @return the maximum parallelism per shard.
+     */
+    int getMaxParallelismPerShard();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +69,17 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * The timeout how long the {@code ThingsAggregatorActor} should wait for a single modification of a thing.
+         */
+        SINGLE_MODIFY_THING_TIMEOUT("single-modify-thing-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum parallelism of modifications per shard.
+         */
+        MAX_PARALLELISM_PER_SHARD("max-parallelism-per-shard", 4);
 
         private final String path;
         private final Object defaultValue;
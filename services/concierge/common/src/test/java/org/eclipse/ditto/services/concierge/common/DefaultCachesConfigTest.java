@@ -19,6 +19,7 @@ import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,6 +63,12 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getEnforcerOffHeapCapacity())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_OFF_HEAP_CAPACITY.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_OFF_HEAP_CAPACITY.getDefaultValue());
+        softly.assertThat(underTest.isThingViewCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.THING_VIEW_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(CachesConfig.CachesConfigValue.THING_VIEW_CACHE_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -78,6 +85,9 @@ public final class DefaultCachesConfigTest {
                     softly.assertThat(enforcerCacheConfig.getMaximumSize())
                             .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                             .isEqualTo(20000);
+                    softly.assertThat(enforcerCacheConfig.getMaximumWeight())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                            .isEqualTo(64L * 1024 * 1024);
                     softly.assertThat(enforcerCacheConfig.getExpireAfterWrite())
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
@@ -93,5 +103,35 @@ public final class DefaultCachesConfigTest {
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
+
+        softly.assertThat(underTest.getEnforcerOffHeapCapacity())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_OFF_HEAP_CAPACITY.getConfigPath())
+                .isEqualTo(128L * 1024 * 1024);
+
+        softly.assertThat(underTest.isThingViewCacheEnabled())
+                .as(CachesConfig.CachesConfigValue.THING_VIEW_CACHE_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getThingViewCacheConfig())
+                .as("thingViewCacheConfig")
+                .satisfies(thingViewCacheConfig -> {
+                    softly.assertThat(thingViewCacheConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(5000);
+                    softly.assertThat(thingViewCacheConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(1L));
+                });
+
+        softly.assertThat(underTest.getWarmUpConfig())
+                .as("warmUpConfig")
+                .satisfies(warmUpConfig -> {
+                    softly.assertThat(warmUpConfig.isEnabled())
+                            .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(warmUpConfig.getTopK())
+                            .as(WarmUpConfig.WarmUpConfigValue.TOP_K.getConfigPath())
+                            .isEqualTo(500);
+                });
     }
 }
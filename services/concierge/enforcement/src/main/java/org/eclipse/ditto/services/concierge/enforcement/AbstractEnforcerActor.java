@@ -16,6 +16,8 @@ import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
@@ -31,7 +33,9 @@ import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.metrics.topk.HeavyHitters;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
 import org.eclipse.ditto.signals.commands.base.Command;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -124,9 +128,26 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
     @Override
     protected Contextual<WithDittoHeaders> beforeProcessMessage(final Contextual<WithDittoHeaders> contextual) {
+        recordHeavyHitter(contextual.getMessage());
         return contextual.withTimer(createTimer(contextual.getMessage()));
     }
 
+    private static void recordHeavyHitter(final WithDittoHeaders withDittoHeaders) {
+        if (withDittoHeaders instanceof Signal) {
+            final Signal<?> signal = (Signal<?>) withDittoHeaders;
+            final EntityId entityId = signal.getEntityId();
+            if (!entityId.isDummy()) {
+                // JSON objects and arrays keep their serialized form, so estimating their size does not traverse them
+                final long bytes = signal instanceof WithOptionalEntity
+                        ? ((WithOptionalEntity) signal).getEntity()
+                        .map(JsonValue::getUpperBoundForStringSize)
+                        .orElse(0L)
+                        : 0L;
+                HeavyHitters.forResourceType(signal.getResourceType()).recordMessage(entityId, bytes);
+            }
+        }
+    }
+
     private StartedTimer createTimer(final WithDittoHeaders withDittoHeaders) {
         final ExpiringTimerBuilder timerBuilder = DittoMetrics.expiringTimer(TIMER_NAME);
 
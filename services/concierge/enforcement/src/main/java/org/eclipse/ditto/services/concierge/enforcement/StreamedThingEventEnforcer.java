@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.streaming.StreamedEvent;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
+
+/**
+ * Restricts thing events streamed from the event journal to the view of an authorization context.
+ * <p>
+ * Like the thing events streamed via SSE, each event is converted to the partial thing it changed, which is then
+ * limited by {@link Enforcer#buildJsonView} to the parts the authorization context may read. Events on resources
+ * without any readable part are dropped. As the enforcers are looked up in the caches of concierge, the current
+ * policy or ACL of a thing decides about the visibility of its past events.
+ * </p>
+ */
+public final class StreamedThingEventEnforcer {
+
+    private static final JsonFieldSelector THING_VIEW_WHITELIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
+
+    private StreamedThingEventEnforcer(
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache) {
+
+        this.thingIdCache = requireNonNull(thingIdCache);
+        this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
+        this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
+    }
+
+    /**
+     * Create an enforcer of streamed thing events.
+     *
+     * @param thingIdCache the thing-id-cache.
+     * @param policyEnforcerCache the policy-enforcer-cache.
+     * @param aclEnforcerCache the acl-enforcer-cache.
+     * @return the enforcer of streamed thing events.
+     */
+    public static StreamedThingEventEnforcer of(
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache) {
+
+        return new StreamedThingEventEnforcer(thingIdCache, policyEnforcerCache, aclEnforcerCache);
+    }
+
+    /**
+     * Restrict a streamed thing event to the view of an authorization context.
+     *
+     * @param streamedEvent the streamed thing event.
+     * @param authorizationContext the authorization context.
+     * @return future of the streamed event with the readable part of the changed thing, or an empty optional if
+     * nothing of the event is readable.
+     */
+    public CompletionStage<Optional<StreamedEvent>> enforce(final StreamedEvent streamedEvent,
+            final AuthorizationContext authorizationContext) {
+
+        final EntityIdWithResourceType thingKey = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE,
+                ThingId.of(streamedEvent.getEntityId()));
+        return thingIdCache.get(thingKey).thenCompose(enforcerKeyEntry -> {
+            if (enforcerKeyEntry.isPresent() && enforcerKeyEntry.get().exists()) {
+                final EntityIdWithResourceType enforcerKey = enforcerKeyEntry.get().getValueOrThrow();
+                return getEnforcerCache(enforcerKey).get(enforcerKey).thenApply(enforcerEntry ->
+                        enforcerEntry.filter(Entry::exists)
+                                .flatMap(entry -> buildView(streamedEvent, entry.getValueOrThrow(),
+                                        authorizationContext)));
+            } else {
+                // thing or its policy no longer exist, or the namespace is blocked
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+        });
+    }
+
+    private Cache<EntityIdWithResourceType, Entry<Enforcer>> getEnforcerCache(
+            final EntityIdWithResourceType enforcerKey) {
+
+        return PolicyCommand.RESOURCE_TYPE.equals(enforcerKey.getResourceType())
+                ? policyEnforcerCache
+                : aclEnforcerCache;
+    }
+
+    private static Optional<StreamedEvent> buildView(final StreamedEvent streamedEvent, final Enforcer enforcer,
+            final AuthorizationContext authorizationContext) {
+
+        final Event<?> event = GlobalEventRegistry.getInstance().parse(streamedEvent.getEvent(), DittoHeaders.empty());
+        if (!(event instanceof ThingEvent)) {
+            return Optional.empty();
+        }
+        final ThingEvent<?> thingEvent = (ThingEvent<?>) event;
+        final Permissions read = Permissions.newInstance(Permission.READ);
+        final ResourceKey eventResource =
+                ResourceKey.newInstance(ThingCommand.RESOURCE_TYPE, thingEvent.getResourcePath());
+        if (!enforcer.hasPartialPermissions(eventResource, authorizationContext, read)) {
+            return Optional.empty();
+        }
+        return ThingEventToThingConverter.thingEventToThing(thingEvent).map(thing -> {
+            final JsonObject thingView = enforcer.buildJsonView(
+                    ResourceKey.newInstance(ThingCommand.RESOURCE_TYPE, JsonPointer.empty()),
+                    thing.toJson(JsonSchemaVersion.LATEST), authorizationContext, THING_VIEW_WHITELIST, read);
+            return streamedEvent.setEvent(thingView.toBuilder()
+                    .set(Thing.JsonFields.REVISION, thingEvent.getRevision())
+                    .build());
+        });
+    }
+
+}
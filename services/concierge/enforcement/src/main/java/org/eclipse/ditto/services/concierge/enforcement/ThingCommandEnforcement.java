@@ -141,6 +141,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    @Nullable private final ThingViewCache thingViewCache;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand> data,
             final ActorRef thingsShardRegion,
@@ -149,7 +150,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            @Nullable final ThingViewCache thingViewCache) {
 
         super(data);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -160,6 +162,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
         this.preEnforcer = preEnforcer;
+        this.thingViewCache = thingViewCache;
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -194,7 +197,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 final EntityId policyId = enforcerKeyEntry.getValueOrThrow().getId();
                 enforcementResult = enforceThingCommandByPolicyEnforcer(signal(),
                         PolicyId.of(policyId),
-                        enforcerEntry.getValueOrThrow());
+                        enforcerEntry.getValueOrThrow(),
+                        enforcerEntry.getRevision());
             }
             return CompletableFuture.completedFuture(enforcementResult);
         }
@@ -314,10 +318,12 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      *
      * @param policyId Id of the thing's policy.
      * @param enforcer the policy enforcer.
+     * @param policyRevision revision of the policy enforcer.
      * @return the contextual including message and receiver
      */
     private Contextual<WithDittoHeaders> enforceThingCommandByPolicyEnforcer(
-            final ThingCommand<?> thingCommand, final PolicyId policyId, final Enforcer enforcer) {
+            final ThingCommand<?> thingCommand, final PolicyId policyId, final Enforcer enforcer,
+            final long policyRevision) {
 
         return authorizeByPolicy(enforcer, thingCommand)
                 .map(commandWithReadSubjects -> {
@@ -329,6 +335,11 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                             final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
                             return withMessageToReceiverViaAskFuture(retrieveThing, sender(),
                                     () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer));
+                        } else if (thingQueryCommand instanceof RetrieveThing && thingViewCache != null) {
+                            final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
+                            return withMessageToReceiverViaAskFuture(retrieveThing, sender(),
+                                    () -> retrieveThingViaViewCache(retrieveThing, enforcer, policyRevision,
+                                            thingViewCache));
                         } else {
                             return withMessageToReceiverViaAskFuture(thingQueryCommand, sender(),
                                     () -> askThingsShardRegionAndBuildJsonView(thingQueryCommand, enforcer));
@@ -370,6 +381,32 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 });
     }
 
+    /**
+     * Answer a {@code RetrieveThing} from the thing view cache if the cached view is up to date, otherwise retrieve
+     * the thing and cache its view.
+     *
+     * @param retrieveThing the command with read subjects.
+     * @param enforcer enforcer to build JsonView with.
+     * @param policyRevision revision of the enforcer.
+     * @param viewCache the thing view cache.
+     * @return future response.
+     */
+    private CompletionStage<WithDittoHeaders> retrieveThingViaViewCache(final RetrieveThing retrieveThing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final ThingViewCache viewCache) {
+
+        final Optional<WithDittoHeaders> cachedResponse = viewCache.lookup(retrieveThing, policyRevision);
+        if (cachedResponse.isPresent()) {
+            return CompletableFuture.completedFuture(cachedResponse.get());
+        }
+        return askThingsShardRegionAndBuildJsonView(retrieveThing, enforcer)
+                .thenApply(response -> {
+                    viewCache.store(retrieveThing, policyRevision, response);
+                    return response;
+                });
+    }
+
     /**
      * Retrieve a thing and its policy and combine them into a response.
      *
@@ -555,7 +592,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         return policyEnforcerRetriever.retrieve(policyEntityId, (policyIdEntry, policyEnforcerEntry) -> {
             if (policyEnforcerEntry.exists()) {
                 final Contextual<WithDittoHeaders> enforcementResult =
-                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getValueOrThrow());
+                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getValueOrThrow(),
+                                policyEnforcerEntry.getRevision());
                 return CompletableFuture.completedFuture(enforcementResult);
             } else {
                 throw errorForExistingThingWithDeletedPolicy(command, command.getThingEntityId(), policyId);
@@ -1217,6 +1255,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        @Nullable private final ThingViewCache thingViewCache;
 
         /**
          * Constructor.
@@ -1235,7 +1274,30 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
                 @Nullable final PreEnforcer preEnforcer) {
             this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
-                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION);
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param thingViewCache cache of authorized thing views, or {@code null} to always ask the Things shard
+         * region.
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                @Nullable final ThingViewCache thingViewCache) {
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, thingViewCache);
         }
 
         /**
@@ -1259,6 +1321,19 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, null);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                @Nullable final ThingViewCache thingViewCache) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1266,6 +1341,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.thingViewCache = thingViewCache;
         }
 
         @Override
@@ -1288,7 +1364,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         @Override
         public AbstractEnforcement<ThingCommand> createEnforcement(final Contextual<ThingCommand> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration,
+                    thingViewCache);
         }
 
     }
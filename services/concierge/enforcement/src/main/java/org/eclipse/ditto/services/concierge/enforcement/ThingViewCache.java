@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.headers.conditional.ConditionalHeadersValidator;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionFailedException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Caches the authorized views of {@code RetrieveThing} responses so that repeated reads of unchanged things are
+ * answered by concierge without asking the things shard region.
+ * <p>
+ * A view is keyed by the thing ID, the schema version, the authorization subjects and the selected fields of the
+ * command. It is valid as long as the revision of the thing it was rendered from is the latest revision known from
+ * thing events and the revision of the policy enforcer it was filtered with is the current one. Conditional headers
+ * are evaluated against the cached entity tag, so that {@code If-None-Match} results in {@code 304 Not Modified}
+ * without a round trip.
+ * </p>
+ * <p>
+ * Commands with the header {@code max-staleness} opt in to bounded-staleness reads: they are also answered by views
+ * which were superseded by newer thing events, as long as the views were rendered no longer ago than the given
+ * number of milliseconds. As every view was current when it was rendered, the answer reflects a state of the thing
+ * within the bound. The rate of such reads and the staleness of their answers are reported as metrics.
+ * </p>
+ */
+@ThreadSafe
+public final class ThingViewCache {
+
+    private static final String REVISION_ETAG_PREFIX = "rev:";
+
+    private static final String METRIC_NAME = "concierge_thing_view_cache";
+    private static final String OUTCOME = "outcome";
+
+    private static final ConditionalHeadersValidator VALIDATOR =
+            ConditionalHeadersValidator.of(new ThingViewValidationSettings());
+
+    private final Cache<ThingId, Long> latestRevisions;
+    private final Cache<ViewKey, View> views;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+    private final Counter preconditionFailed;
+    private final Counter bytesSaved;
+    private final Counter staleHits;
+    private final Histogram stalenessMillis;
+    private final LongSupplier nanoClock;
+
+    private ThingViewCache(final Cache<ThingId, Long> latestRevisions, final Cache<ViewKey, View> views,
+            final LongSupplier nanoClock) {
+        this.latestRevisions = latestRevisions;
+        this.views = views;
+        this.nanoClock = nanoClock;
+        hits = DittoMetrics.counter(METRIC_NAME).tag(OUTCOME, "hit");
+        staleHits = DittoMetrics.counter(METRIC_NAME).tag(OUTCOME, "stale_hit");
+        misses = DittoMetrics.counter(METRIC_NAME).tag(OUTCOME, "miss");
+        notModified = DittoMetrics.counter(METRIC_NAME).tag(OUTCOME, "not_modified");
+        preconditionFailed = DittoMetrics.counter(METRIC_NAME).tag(OUTCOME, "precondition_failed");
+        bytesSaved = DittoMetrics.counter(METRIC_NAME + "_bytes_saved");
+        stalenessMillis = DittoMetrics.histogram(METRIC_NAME + "_staleness_millis");
+    }
+
+    /**
+     * Create a thing view cache.
+     *
+     * @param cacheConfig the config of the cache; the same limits apply to views and to known revisions.
+     * @param executor the executor of cache maintenance.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingViewCache of(final CacheConfig cacheConfig, final Executor executor) {
+        return of(cacheConfig, executor, System::nanoTime);
+    }
+
+    static ThingViewCache of(final CacheConfig cacheConfig, final Executor executor, final LongSupplier nanoClock) {
+        requireNonNull(cacheConfig, "cacheConfig");
+        requireNonNull(executor, "executor");
+        return new ThingViewCache(CacheFactory.createCache(cacheConfig, METRIC_NAME + "_revisions", executor),
+                CacheFactory.createCache(cacheConfig, METRIC_NAME + "_views", executor), nanoClock);
+    }
+
+    /**
+     * Record the revision of a thing event. Views rendered from older revisions are no longer served.
+     *
+     * @param thingEvent the thing event.
+     */
+    public void updateRevision(final ThingEvent<?> thingEvent) {
+        updateRevision(thingEvent.getThingEntityId(), thingEvent.getRevision());
+    }
+
+    /**
+     * Record a revision of a thing. Lower revisions than the latest known one are ignored.
+     *
+     * @param thingId the thing ID.
+     * @param revision the revision.
+     */
+    public void updateRevision(final ThingId thingId, final long revision) {
+        latestRevisions.asMap().merge(thingId, revision, Math::max);
+    }
+
+    /**
+     * Look up the response to a {@code RetrieveThing} command with read subjects.
+     *
+     * @param retrieveThing the command.
+     * @param policyRevision revision of the policy enforcer which authorized the command.
+     * @return the cached response, or a {@code DittoRuntimeException} if a conditional header of the command failed,
+     * or an empty optional if no valid view is cached.
+     */
+    public Optional<WithDittoHeaders> lookup(final RetrieveThing retrieveThing, final long policyRevision) {
+        final Optional<View> cachedView = isCacheable(retrieveThing)
+                ? views.getBlocking(ViewKey.of(retrieveThing)).filter(view -> view.policyRevision == policyRevision)
+                : Optional.empty();
+        final Optional<Long> maxStalenessMillis = getMaxStalenessMillis(retrieveThing);
+        final boolean isCurrent = cachedView.filter(this::isCurrent).isPresent();
+        final Optional<View> validView = isCurrent
+                ? cachedView
+                : cachedView.filter(view -> maxStalenessMillis.filter(max -> getAgeMillis(view) <= max).isPresent());
+        if (!validView.isPresent()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        final View view = validView.get();
+        if (maxStalenessMillis.isPresent()) {
+            // a current view has no staleness; for a superseded one, its age is an upper bound of its staleness
+            stalenessMillis.record(isCurrent ? 0L : getAgeMillis(view));
+        }
+        try {
+            VALIDATOR.checkConditionalHeaders(retrieveThing, view.entityTag);
+        } catch (final DittoRuntimeException e) {
+            if (e instanceof ThingPreconditionNotModifiedException) {
+                notModified.increment();
+                bytesSaved.increment(view.sizeInBytes);
+            } else {
+                preconditionFailed.increment();
+            }
+            return Optional.of(e);
+        }
+        if (isCurrent) {
+            hits.increment();
+        } else {
+            staleHits.increment();
+        }
+        final DittoHeaders responseHeaders = retrieveThing.getDittoHeaders().toBuilder().eTag(view.entityTag).build();
+        return Optional.of(RetrieveThingResponse.of(retrieveThing.getThingEntityId(), view.entity, responseHeaders));
+    }
+
+    /**
+     * Store the authorized view of a {@code RetrieveThing} response. Responses without a revision entity tag,
+     * error responses and responses to commands with a snapshot revision are not stored.
+     *
+     * @param retrieveThing the command with read subjects.
+     * @param policyRevision revision of the policy enforcer which filtered the response.
+     * @param response the filtered response.
+     */
+    public void store(final RetrieveThing retrieveThing, final long policyRevision, final WithDittoHeaders response) {
+        if (isCacheable(retrieveThing) && response instanceof RetrieveThingResponse) {
+            final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) response;
+            retrieveThingResponse.getDittoHeaders().getETag().ifPresent(entityTag ->
+                    parseRevision(entityTag).ifPresent(thingRevision -> {
+                        final JsonValue entity =
+                                retrieveThingResponse.getEntity(retrieveThing.getImplementedSchemaVersion());
+                        if (entity.isObject()) {
+                            updateRevision(retrieveThing.getThingEntityId(), thingRevision);
+                            views.put(ViewKey.of(retrieveThing),
+                                    new View(retrieveThing.getThingEntityId(), thingRevision, policyRevision,
+                                            entity.asObject(), entityTag, nanoClock.getAsLong()));
+                        }
+                    }));
+        }
+    }
+
+    private boolean isCurrent(final View view) {
+        return latestRevisions.getBlocking(view.thingId)
+                .filter(revision -> revision == view.thingRevision)
+                .isPresent();
+    }
+
+    private long getAgeMillis(final View view) {
+        return TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - view.renderedAtNanos);
+    }
+
+    private static Optional<Long> getMaxStalenessMillis(final RetrieveThing retrieveThing) {
+        return Optional.ofNullable(retrieveThing.getDittoHeaders().get(DittoHeaderDefinition.MAX_STALENESS.getKey()))
+                .map(Long::valueOf)
+                .filter(maxStaleness -> maxStaleness > 0L);
+    }
+
+    private static boolean isCacheable(final RetrieveThing retrieveThing) {
+        return !retrieveThing.getSnapshotRevision().isPresent();
+    }
+
+    /**
+     * Parse the thing revision from a top-level entity tag of the form {@code "rev:<revision>"}.
+     *
+     * @param entityTag the entity tag.
+     * @return the revision, or an empty optional if the entity tag does not have the expected form.
+     */
+    static Optional<Long> parseRevision(final EntityTag entityTag) {
+        if (entityTag.isWeak()) {
+            return Optional.empty();
+        }
+        final String opaqueTag = entityTag.getOpaqueTag();
+        final String unquoted = opaqueTag.length() >= 2 ? opaqueTag.substring(1, opaqueTag.length() - 1) : "";
+        if (!unquoted.startsWith(REVISION_ETAG_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(unquoted.substring(REVISION_ETAG_PREFIX.length())));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Immutable
+    private static final class ViewKey {
+
+        private final ThingId thingId;
+        private final JsonSchemaVersion schemaVersion;
+        private final List<String> authorizationSubjectIds;
+        @Nullable private final String selectedFields;
+
+        private ViewKey(final ThingId thingId, final JsonSchemaVersion schemaVersion,
+                final List<String> authorizationSubjectIds, @Nullable final String selectedFields) {
+            this.thingId = thingId;
+            this.schemaVersion = schemaVersion;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+            this.selectedFields = selectedFields;
+        }
+
+        private static ViewKey of(final RetrieveThing retrieveThing) {
+            final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+            return new ViewKey(retrieveThing.getThingEntityId(), retrieveThing.getImplementedSchemaVersion(),
+                    dittoHeaders.getAuthorizationContext().getAuthorizationSubjectIds(),
+                    retrieveThing.getSelectedFields().map(JsonFieldSelector::toString).orElse(null));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ViewKey that = (ViewKey) o;
+            return Objects.equals(thingId, that.thingId) &&
+                    schemaVersion == that.schemaVersion &&
+                    Objects.equals(authorizationSubjectIds, that.authorizationSubjectIds) &&
+                    Objects.equals(selectedFields, that.selectedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, schemaVersion, authorizationSubjectIds, selectedFields);
+        }
+
+    }
+
+    @Immutable
+    private static final class View {
+
+        private final ThingId thingId;
+        private final long thingRevision;
+        private final long policyRevision;
+        private final JsonObject entity;
+        private final EntityTag entityTag;
+        private final long sizeInBytes;
+        private final long renderedAtNanos;
+
+        private View(final ThingId thingId, final long thingRevision, final long policyRevision,
+                final JsonObject entity, final EntityTag entityTag, final long renderedAtNanos) {
+            this.thingId = thingId;
+            this.thingRevision = thingRevision;
+            this.policyRevision = policyRevision;
+            this.entity = entity;
+            this.entityTag = entityTag;
+            sizeInBytes = entity.toString().getBytes(StandardCharsets.UTF_8).length;
+            this.renderedAtNanos = renderedAtNanos;
+        }
+
+    }
+
+    private static final class ThingViewValidationSettings implements ConditionalHeadersValidator.ValidationSettings {
+
+        @Override
+        public DittoRuntimeExceptionBuilder createPreconditionFailedExceptionBuilder(final String conditionalHeaderName,
+                final String expected, final String actual) {
+            return ThingPreconditionFailedException.newBuilder(conditionalHeaderName, expected, actual);
+        }
+
+        @Override
+        public DittoRuntimeExceptionBuilder createPreconditionNotModifiedExceptionBuilder(
+                final String expectedNotToMatch, final String matched) {
+            return ThingPreconditionNotModifiedException.newBuilder(expectedNotToMatch, matched);
+        }
+
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ThingViewCache}.
+ */
+public final class ThingViewCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("thing", "view");
+    private static final JsonObject THING = JsonFactory.newObjectBuilder()
+            .set("thingId", THING_ID.toString())
+            .set("attributes", JsonFactory.newObjectBuilder().set("x", 1).build())
+            .build();
+    private static final long POLICY_REVISION = 3L;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ThingViewCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = ThingViewCache.of(DefaultCacheConfig.of(ConfigFactory.empty(), "thing-view"), Runnable::run,
+                nanoTime::get);
+    }
+
+    @Test
+    public void answerFromCacheWhileRevisionIsCurrent() {
+        final RetrieveThing retrieveThing = retrieveThing("test:subject", DittoHeaders.newBuilder());
+        underTest.store(retrieveThing, POLICY_REVISION, response(5L));
+
+        final Optional<WithDittoHeaders> cached = underTest.lookup(retrieveThing, POLICY_REVISION);
+
+        assertThat(cached).containsInstanceOf(RetrieveThingResponse.class);
+        final RetrieveThingResponse response = (RetrieveThingResponse) cached.get();
+        assertThat(response.getEntity(retrieveThing.getImplementedSchemaVersion())).isEqualTo(THING);
+        assertThat(response.getDittoHeaders().getETag()).contains(eTag(5L));
+    }
+
+    @Test
+    public void doNotAnswerFromCacheAfterNewerEvent() {
+        final RetrieveThing retrieveThing = retrieveThing("test:subject", DittoHeaders.newBuilder());
+        underTest.store(retrieveThing, POLICY_REVISION, response(5L));
+        underTest.updateRevision(THING_ID, 6L);
+
+        assertThat(underTest.lookup(retrieveThing, POLICY_REVISION)).isEmpty();
+    }
+
+    @Test
+    public void ignoreOutdatedEvent() {
+        final RetrieveThing retrieveThing = retrieveThing("test:subject", DittoHeaders.newBuilder());
+        underTest.store(retrieveThing, POLICY_REVISION, response(5L));
+        underTest.updateRevision(THING_ID, 4L);
+
+        assertThat(underTest.lookup(retrieveThing, POLICY_REVISION)).isNotEmpty();
+    }
+
+    @Test
+    public void answerFromSupersededViewWithinMaxStaleness() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+        underTest.updateRevision(THING_ID, 6L);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(4L));
+
+        final Optional<WithDittoHeaders> cached =
+                underTest.lookup(retrieveThingWithMaxStaleness(5000L), POLICY_REVISION);
+
+        assertThat(cached).containsInstanceOf(RetrieveThingResponse.class);
+        assertThat(cached.get().getDittoHeaders().getETag()).contains(eTag(5L));
+    }
+
+    @Test
+    public void doNotAnswerFromSupersededViewBeyondMaxStaleness() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+        underTest.updateRevision(THING_ID, 6L);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(6L));
+
+        assertThat(underTest.lookup(retrieveThingWithMaxStaleness(5000L), POLICY_REVISION)).isEmpty();
+    }
+
+    @Test
+    public void answerFromCurrentViewRegardlessOfMaxStaleness() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+        nanoTime.addAndGet(TimeUnit.HOURS.toNanos(1L));
+
+        assertThat(underTest.lookup(retrieveThingWithMaxStaleness(5000L), POLICY_REVISION))
+                .containsInstanceOf(RetrieveThingResponse.class);
+    }
+
+    @Test
+    public void doNotAnswerFromSupersededViewAfterPolicyChange() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+        underTest.updateRevision(THING_ID, 6L);
+
+        assertThat(underTest.lookup(retrieveThingWithMaxStaleness(5000L), POLICY_REVISION + 1)).isEmpty();
+    }
+
+    @Test
+    public void doNotAnswerFromCacheAfterPolicyChange() {
+        final RetrieveThing retrieveThing = retrieveThing("test:subject", DittoHeaders.newBuilder());
+        underTest.store(retrieveThing, POLICY_REVISION, response(5L));
+
+        assertThat(underTest.lookup(retrieveThing, POLICY_REVISION + 1)).isEmpty();
+    }
+
+    @Test
+    public void doNotShareViewsBetweenSubjects() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+
+        assertThat(underTest.lookup(retrieveThing("test:other", DittoHeaders.newBuilder()), POLICY_REVISION)).isEmpty();
+    }
+
+    @Test
+    public void answerNotModifiedForMatchingIfNoneMatch() {
+        underTest.store(retrieveThing("test:subject", DittoHeaders.newBuilder()), POLICY_REVISION, response(5L));
+        final RetrieveThing conditionalRetrieveThing = retrieveThing("test:subject",
+                DittoHeaders.newBuilder().ifNoneMatch(EntityTagMatchers.fromStrings(eTag(5L).toString())));
+
+        assertThat(underTest.lookup(conditionalRetrieveThing, POLICY_REVISION))
+                .containsInstanceOf(ThingPreconditionNotModifiedException.class);
+    }
+
+    @Test
+    public void parseRevisionFromEntityTag() {
+        assertThat(ThingViewCache.parseRevision(eTag(42L))).contains(42L);
+        assertThat(ThingViewCache.parseRevision(EntityTag.strong("\"hash:42\""))).isEmpty();
+        assertThat(ThingViewCache.parseRevision(EntityTag.weak("\"rev:42\""))).isEmpty();
+    }
+
+    private static RetrieveThing retrieveThing(final String subject, final DittoHeadersBuilder<?, ?> headersBuilder) {
+        final AuthorizationContext authorizationContext =
+                AuthorizationModelFactory.newAuthContext(AuthorizationModelFactory.newAuthSubject(subject));
+        return RetrieveThing.of(THING_ID, headersBuilder.authorizationContext(authorizationContext).build());
+    }
+
+    private static RetrieveThing retrieveThingWithMaxStaleness(final long maxStalenessMillis) {
+        return retrieveThing("test:subject", DittoHeaders.newBuilder()
+                .putHeader(DittoHeaderDefinition.MAX_STALENESS.getKey(), String.valueOf(maxStalenessMillis)));
+    }
+
+    private static RetrieveThingResponse response(final long revision) {
+        return RetrieveThingResponse.of(THING_ID, THING, DittoHeaders.newBuilder().eTag(eTag(revision)).build());
+    }
+
+    private static EntityTag eTag(final long revision) {
+        return EntityTag.strong("\"rev:" + revision + "\"");
+    }
+
+}
@@ -12,16 +12,27 @@
  */
 package org.eclipse.ditto.services.concierge.starter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.ditto.services.base.DittoService;
+import org.eclipse.ditto.services.base.config.DittoServiceConfig;
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.common.DefaultCachesConfig;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.starter.actors.ConciergeRootActor;
 import org.eclipse.ditto.services.concierge.starter.proxy.DefaultEnforcerActorFactory;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.stream.ActorMaterializer;
 
@@ -37,6 +48,9 @@ public final class ConciergeService extends DittoService<ConciergeConfig> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ConciergeService.class);
 
+    private static final String CLUSTER_ROLES_PATH = "akka.cluster.roles";
+    private static final String THING_EVENT_AWARE_ROLE = "thing-event-aware";
+
     private ConciergeService() {
         super(LOGGER, SERVICE_NAME, ConciergeRootActor.ACTOR_NAME);
     }
@@ -56,6 +70,29 @@ public final class ConciergeService extends DittoService<ConciergeConfig> {
         return DittoConciergeConfig.of(dittoConfig);
     }
 
+    @Override
+    protected ActorSystem createActorSystem(final Config config) {
+        return super.createActorSystem(withThingEventAwareRoleIfRequired(config));
+    }
+
+    /**
+     * Adds the cluster role which receives thing events if the thing view cache is enabled, as the cache is the only
+     * consumer of thing events in concierge.
+     *
+     * @param config the configuration settings of this service.
+     * @return the configuration settings with the required cluster roles.
+     */
+    static Config withThingEventAwareRoleIfRequired(final Config config) {
+        final CachesConfig cachesConfig =
+                DefaultCachesConfig.of(DittoServiceConfig.of(DefaultScopedConfig.dittoScoped(config), SERVICE_NAME));
+        final List<String> roles = new ArrayList<>(config.getStringList(CLUSTER_ROLES_PATH));
+        if (!cachesConfig.isThingViewCacheEnabled() || roles.contains(THING_EVENT_AWARE_ROLE)) {
+            return config;
+        }
+        roles.add(THING_EVENT_AWARE_ROLE);
+        return config.withValue(CLUSTER_ROLES_PATH, ConfigValueFactory.fromIterable(roles));
+    }
+
     @Override
     protected Props getMainRootActorProps(final ConciergeConfig serviceSpecificConfig, final ActorRef pubSubMediator,
             final ActorMaterializer materializer) {
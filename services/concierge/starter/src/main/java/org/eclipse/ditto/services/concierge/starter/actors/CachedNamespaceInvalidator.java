@@ -14,7 +14,6 @@ package org.eclipse.ditto.services.concierge.starter.actors;
 
 import java.time.Duration;
 import java.util.Collection;
-import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -117,13 +116,8 @@ public final class CachedNamespaceInvalidator extends AbstractActorWithTimers {
 
     private void invalidateNamespaces(final Cache<EntityIdWithResourceType, ?> cache, final ORSet<String> namespaces) {
         if (!namespaces.isEmpty()) {
-            final Collection<EntityIdWithResourceType> keysToInvalidate = cache.asMap()
-                    .keySet()
-                    .stream()
-                    .filter(entityId -> containsNamespaceOfEntityId(namespaces, entityId))
-                    .collect(Collectors.toList());
-
-            cache.invalidateAll(keysToInvalidate);
+            // also invalidates entries which the cache keeps outside of the heap
+            cache.invalidateIf(entityId -> containsNamespaceOfEntityId(namespaces, entityId));
         }
     }
 
@@ -33,12 +33,14 @@ import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
+import org.eclipse.ditto.services.utils.health.ActorStatusReporter;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.PersistenceConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
+import org.eclipse.ditto.services.utils.persistentactors.warmup.WarmUpActor;
 
 import akka.Done;
 import akka.actor.ActorRef;
@@ -138,12 +140,18 @@ public final class ConciergeRootActor extends DittoRootActor {
         final ActorRef cleanupCoordinatorProxy = ClusterUtil.startSingletonProxy(getContext(),
                 ConciergeMessagingConstants.CLUSTER_ROLE, cleanupCoordinator);
 
-        return startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME,
-                DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
-                        MongoHealthChecker.props(),
-                        SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE,
-                                cleanupCoordinatorProxy))
-        );
+        final Props singletonStatusReporterProps =
+                SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE, cleanupCoordinatorProxy);
+
+        // report healthy only after the warm-up of the enforcer caches finished
+        final Props healthCheckingActorProps = getContext().findChild(WarmUpActor.ACTOR_NAME)
+                .map(warmUpActor -> DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
+                        MongoHealthChecker.props(), singletonStatusReporterProps,
+                        ActorStatusReporter.props(warmUpActor)))
+                .orElseGet(() -> DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
+                        MongoHealthChecker.props(), singletonStatusReporterProps));
+
+        return startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME, healthCheckingActorProps);
     }
 
     private static Route createRoute(final ActorSystem actorSystem, final ActorRef healthCheckingActor) {
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.concierge.starter.actors;
 
 import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.DISPATCHER_ACTOR_PATH;
+import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.THING_EVENT_HISTORY_ACTOR_PATH;
 import static org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants.SEARCH_ACTOR_PATH;
 
 import java.util.Arrays;
@@ -27,6 +28,7 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEvents;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
@@ -34,6 +36,7 @@ import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 
@@ -138,7 +141,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     }
 
     /**
-     * Create a stream to dispatch search and things commands.
+     * Create a stream to dispatch search and things commands, commands modifying multiple things as well as requests
+     * to stream the history of thing events.
      *
      * @param pubSubMediator Akka pub-sub-mediator.
      * @return stream to dispatch search and thing commands.
@@ -151,18 +155,26 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexSearch =
                     builder.add(multiplexBy(ThingSearchCommand.class, ThingSearchSudoCommand.class));
 
+            final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexEventHistory =
+                    builder.add(multiplexBy(SudoStreamEvents.class));
+
             final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexRetrieveThings =
-                    builder.add(multiplexBy(RetrieveThings.class, SudoRetrieveThings.class));
+                    builder.add(multiplexBy(RetrieveThings.class, SudoRetrieveThings.class, ModifyThings.class));
 
             final SinkShape<ImmutableDispatch> forwardToSearchActor =
                     builder.add(searchActorSink(pubSubMediator, preEnforcer));
 
+            final SinkShape<ImmutableDispatch> forwardToEventHistoryActor =
+                    builder.add(eventHistoryActorSink(pubSubMediator, preEnforcer));
+
             final SinkShape<ImmutableDispatch> forwardToThingsAggregator =
                     builder.add(thingsAggregatorSink(preEnforcer));
 
             builder.from(multiplexSearch.out0()).to(forwardToSearchActor);
+            builder.from(multiplexEventHistory.out0()).to(forwardToEventHistoryActor);
             builder.from(multiplexRetrieveThings.out0()).to(forwardToThingsAggregator);
-            builder.from(multiplexSearch.out1()).toInlet(multiplexRetrieveThings.in());
+            builder.from(multiplexSearch.out1()).toInlet(multiplexEventHistory.in());
+            builder.from(multiplexEventHistory.out1()).toInlet(multiplexRetrieveThings.in());
 
             return FlowShape.of(multiplexSearch.in(), multiplexRetrieveThings.out1());
         });
@@ -188,6 +200,17 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
         );
     }
 
+    private static Sink<ImmutableDispatch, ?> eventHistoryActorSink(final ActorRef pubSubMediator,
+            final PreEnforcer preEnforcer) {
+        return Sink.foreach(dispatchToPreEnforce ->
+                preEnforce(dispatchToPreEnforce, preEnforcer, dispatch ->
+                        pubSubMediator.tell(
+                                DistPubSubAccess.send(THING_EVENT_HISTORY_ACTOR_PATH, dispatch.getMessage()),
+                                dispatch.getSender())
+                )
+        );
+    }
+
     private static Sink<ImmutableDispatch, ?> thingsAggregatorSink(final PreEnforcer preEnforcer) {
         return Sink.foreach(dispatchToPreEnforce ->
                 preEnforce(dispatchToPreEnforce, preEnforcer, dispatch ->
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.THINGS_JOURNAL_STREAMING_ACTOR_PATH;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.services.concierge.enforcement.StreamedThingEventEnforcer;
+import org.eclipse.ditto.services.models.streaming.StreamedEvent;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEvents;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.StreamRefs;
+
+/**
+ * Actor that streams the history of thing events from the event journal of the things service and restricts each
+ * event to the view of the authorization context of the requesting {@link SudoStreamEvents} command.
+ */
+public final class ThingEventHistoryActor extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "thingEventHistoryActor";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
+
+    private final ActorRef pubSubMediator;
+    private final StreamedThingEventEnforcer enforcer;
+
+    @SuppressWarnings("unused")
+    private ThingEventHistoryActor(final ActorRef pubSubMediator, final StreamedThingEventEnforcer enforcer) {
+        this.pubSubMediator = pubSubMediator;
+        this.enforcer = enforcer;
+    }
+
+    /**
+     * Create Props of an actor to stream the enforced history of thing events.
+     *
+     * @param pubSubMediator Akka pub-sub mediator to reach the journal streaming actors of the things service.
+     * @param enforcer the enforcer of streamed thing events.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final StreamedThingEventEnforcer enforcer) {
+        return Props.create(ThingEventHistoryActor.class, pubSubMediator, enforcer);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoStreamEvents.class, this::streamEvents)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void streamEvents(final SudoStreamEvents command) {
+        LogUtil.enhanceLogWithCorrelationId(log, command);
+        log.info("Streaming thing events for <{}>", command);
+        final AuthorizationContext authorizationContext = command.getDittoHeaders().getAuthorizationContext();
+        final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
+        final CompletionStage<SourceRef<StreamedEvent>> enforcedSourceRef =
+                Patterns.ask(pubSubMediator, DistPubSubAccess.send(THINGS_JOURNAL_STREAMING_ACTOR_PATH, command),
+                        timeout)
+                        .thenCompose(response -> {
+                            if (response instanceof SourceRef) {
+                                return enforce((SourceRef<?>) response, authorizationContext, command.getBurst());
+                            } else {
+                                final String message = String.format("Expect <SourceRef>, got <%s>", response);
+                                return CompletableFuture.failedFuture(new ClassCastException(message));
+                            }
+                        });
+        Patterns.pipe(enforcedSourceRef, getContext().getDispatcher()).to(getSender());
+    }
+
+    private CompletionStage<SourceRef<StreamedEvent>> enforce(final SourceRef<?> sourceRef,
+            final AuthorizationContext authorizationContext, final int parallelism) {
+
+        // events of one batch of journal entries are enforced concurrently, but stay in the order of the journal
+        return sourceRef.getSource()
+                .filter(StreamedEvent.class::isInstance)
+                .map(StreamedEvent.class::cast)
+                .mapAsync(Math.max(1, parallelism), event -> enforcer.enforce(event, authorizationContext))
+                .mapConcat(ThingEventHistoryActor::toList)
+                .runWith(StreamRefs.sourceRef(), materializer);
+    }
+
+    private static List<StreamedEvent> toList(final Optional<StreamedEvent> enforcedEvent) {
+        return enforcedEvent.map(Collections::singletonList).orElseGet(Collections::emptyList);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.services.concierge.enforcement.ThingViewCache;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor that feeds the revisions of all thing events into the {@link ThingViewCache} so that views of modified things
+ * are no longer served.
+ */
+public final class ThingViewCacheUpdater extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "thingViewCacheUpdater";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ThingViewCache thingViewCache;
+    private final DistributedSub thingEventSub;
+
+    @SuppressWarnings("unused")
+    private ThingViewCacheUpdater(final ThingViewCache thingViewCache, final DistributedSub thingEventSub) {
+        this.thingViewCache = thingViewCache;
+        this.thingEventSub = thingEventSub;
+    }
+
+    /**
+     * Create Props of an actor to update the thing view cache.
+     *
+     * @param thingViewCache the cache to update.
+     * @param thingEventSub distributed subscription access for thing events.
+     * @return the Props object.
+     */
+    public static Props props(final ThingViewCache thingViewCache, final DistributedSub thingEventSub) {
+        return Props.create(ThingViewCacheUpdater.class, thingViewCache, thingEventSub);
+    }
+
+    @Override
+    public void preStart() {
+        thingEventSub.subscribeWithAck(Collections.singleton(ThingEvent.TYPE_PREFIX), getSelf())
+                .whenComplete((ack, error) -> {
+                    if (null != error) {
+                        log.error(error, "Failed to subscribe for thing events");
+                    } else {
+                        log.info("Subscribed for thing events");
+                    }
+                });
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ThingEvent.class, thingViewCache::updateRevision)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+}
@@ -15,12 +15,14 @@ package org.eclipse.ditto.services.concierge.starter.actors;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.ThingId;
@@ -30,14 +32,21 @@ import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
@@ -48,7 +57,7 @@ import akka.util.Timeout;
 import scala.concurrent.ExecutionContext;
 
 /**
- * Actor to aggregate the retrieved Things from persistence.
+ * Actor to aggregate the retrieved Things from persistence and the responses to the modifications of multiple Things.
  */
 public final class ThingsAggregatorActor extends AbstractActor {
 
@@ -64,17 +73,26 @@ public final class ThingsAggregatorActor extends AbstractActor {
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
+    private final java.time.Duration singleModifyThingTimeout;
+    private final int maxParallelismPerShard;
+    private final int numberOfShards;
+    private final ShardRegionExtractor thingsShardRegionExtractor;
     private final ActorMaterializer actorMaterializer;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor) {
         this.targetActor = targetActor;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
-        final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
+        final DittoConciergeConfig conciergeConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getThingsAggregatorConfig();
+        );
+        final ThingsAggregatorConfig aggregatorConfig = conciergeConfig.getThingsAggregatorConfig();
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        singleModifyThingTimeout = aggregatorConfig.getSingleModifyThingTimeout();
+        maxParallelismPerShard = aggregatorConfig.getMaxParallelismPerShard();
+        numberOfShards = conciergeConfig.getClusterConfig().getNumberOfShards();
+        thingsShardRegionExtractor = ShardRegionExtractor.of(numberOfShards, getContext().getSystem());
         actorMaterializer = ActorMaterializer.create(getContext());
     }
 
@@ -110,6 +128,15 @@ public final class ThingsAggregatorActor extends AbstractActor {
                     retrieveThings(rt, getSender());
                 })
 
+                // # handle "ModifyThings" command
+                .match(ModifyThings.class, mt -> {
+                    LogUtil.enhanceLogWithCorrelationId(log, mt.getDittoHeaders().getCorrelationId());
+                    log.info("Got '{}' message. Modifying requested '{}' Things..",
+                            ModifyThings.class.getSimpleName(),
+                            mt.getThingEntityIds().size());
+                    modifyThings(mt, getSender());
+                })
+
                 // # handle unknown message
                 .matchAny(m -> {
                     log.warning("Got unknown message: {}", m);
@@ -163,6 +190,57 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .to(resultReceiver);
     }
 
+    /**
+     * Applies the modification of a {@code ModifyThings} command to each of its Things. The Things are grouped by the
+     * shard they live in so that a single shard never has more than {@code maxParallelismPerShard} modifications in
+     * flight, while the modifications of different shards are processed concurrently. Each modification responds with
+     * its own response; failed modifications are answered with a {@link ThingErrorResponse} instead of failing the
+     * whole stream.
+     */
+    private void modifyThings(final ModifyThings modifyThings, final ActorRef resultReceiver) {
+        final CompletionStage<?> commandResponseSource = Source.from(modifyThings.getThingEntityIds())
+                .groupBy(numberOfShards, this::getShardOf)
+                .mapAsyncUnordered(maxParallelismPerShard, thingId -> modifyThing(modifyThings, thingId))
+                .mergeSubstreams()
+                .log("command-response", log)
+                .runWith(StreamRefs.sourceRef(), actorMaterializer);
+
+        Patterns.pipe(commandResponseSource, aggregatorDispatcher)
+                .to(resultReceiver);
+    }
+
+    private CompletionStage<ThingCommandResponse<?>> modifyThing(final ModifyThings modifyThings,
+            final ThingId thingId) {
+
+        final ThingModifyCommand<?> command = modifyThings.toThingModifyCommand(thingId);
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        return Patterns.ask(targetActor, ConciergeWrapper.wrapForEnforcerRouter(command), singleModifyThingTimeout)
+                .handle((response, error) -> {
+                    if (response instanceof ThingCommandResponse) {
+                        return (ThingCommandResponse<?>) response;
+                    }
+                    final Object cause = error instanceof CompletionException ? error.getCause() : error;
+                    final DittoRuntimeException dittoRuntimeException;
+                    if (response instanceof DittoRuntimeException) {
+                        dittoRuntimeException = (DittoRuntimeException) response;
+                    } else if (cause instanceof DittoRuntimeException) {
+                        dittoRuntimeException = (DittoRuntimeException) cause;
+                    } else {
+                        log.warning("Modification of Thing <{}> failed with unexpected response <{}> or error <{}>",
+                                thingId, response, cause);
+                        dittoRuntimeException = ThingUnavailableException.newBuilder(thingId)
+                                .dittoHeaders(dittoHeaders)
+                                .build();
+                    }
+                    return ThingErrorResponse.of(thingId, dittoRuntimeException, dittoHeaders);
+                });
+    }
+
+    private String getShardOf(final ThingId thingId) {
+        // same distribution as the things shard region with the same number of shards
+        return thingsShardRegionExtractor.shardId(new ShardRegion.StartEntity(thingId.toString()));
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
@@ -18,14 +18,20 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
@@ -36,27 +42,41 @@ import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.StreamedThingEventEnforcer;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.ThingViewCache;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingEventHistoryActor;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingViewCacheUpdater;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.LiveSignalPub;
+import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.OffHeapBackedCache;
+import org.eclipse.ditto.services.utils.cache.OffHeapStore;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cache.entry.EntryWeigher;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespacesUpdater;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistentactors.warmup.WarmUpActor;
+import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 
@@ -79,6 +99,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String ENFORCER_CACHE_WARM_UP_COLLECTION = "enforcer_cache_warm_up";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context, final ConciergeConfig conciergeConfig,
@@ -99,19 +120,30 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
+        final boolean weighEnforcers = 0 < cachesConfig.getEnforcerCacheConfig().getMaximumWeight();
+        @Nullable final OffHeapStore<EntityIdWithResourceType> policyStore =
+                0 < cachesConfig.getEnforcerOffHeapCapacity()
+                        ? OffHeapStore.of(cachesConfig.getEnforcerOffHeapCapacity(),
+                        cachesConfig.getEnforcerCacheConfig().getExpireAfterWrite())
+                        : null;
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
-        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy, policyStore, weighEnforcers);
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerHeapCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        EntryWeigher.getInstance());
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache = null != policyStore
+                ? OffHeapBackedCache.of(policyEnforcerHeapCache, policyStore)
+                : policyEnforcerHeapCache;
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
-                new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
+                new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy, weighEnforcers);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
-                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        EntryWeigher.getInstance());
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
@@ -119,9 +151,22 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context);
 
+        @Nullable final ThingViewCache thingViewCache;
+        if (cachesConfig.isThingViewCacheEnabled()) {
+            thingViewCache = ThingViewCache.of(cachesConfig.getThingViewCacheConfig(),
+                    actorSystem.dispatchers().lookup("thing-view-cache-dispatcher"));
+            final DistributedSub thingEventSub =
+                    ThingEventPubSubFactory.readSubjectsOnly(context).startDistributedSub();
+            context.actorOf(ThingViewCacheUpdater.props(thingViewCache, thingEventSub),
+                    ThingViewCacheUpdater.ACTOR_NAME);
+        } else {
+            thingViewCache = null;
+        }
+
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
+                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer,
+                thingViewCache));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
@@ -138,6 +183,13 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ConciergeForwarderActor.ACTOR_NAME);
         pubSubMediator.tell(DistPubSubAccess.put(conciergeForwarder), ActorRef.noSender());
 
+        final StreamedThingEventEnforcer streamedThingEventEnforcer =
+                StreamedThingEventEnforcer.of(thingIdCache, policyEnforcerCache, aclEnforcerCache);
+        final ActorRef thingEventHistoryActor =
+                context.actorOf(ThingEventHistoryActor.props(pubSubMediator, streamedThingEventEnforcer),
+                        ThingEventHistoryActor.ACTOR_NAME);
+        pubSubMediator.tell(DistPubSubAccess.put(thingEventHistoryActor), ActorRef.noSender());
+
         // start cache invalidator
         final Props cachedNamespaceInvalidatorProps =
                 CachedNamespaceInvalidator.props(blockedNamespaces,
@@ -150,9 +202,22 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 ConciergeMessagingConstants.BLOCKED_NAMESPACES_UPDATER_NAME,
                 blockedNamespacesUpdaterProps);
 
+        // record the most used enforcers and load them after a restart
+        final WarmUpConfig warmUpConfig = cachesConfig.getWarmUpConfig();
+        final PreEnforcer enforcerPreEnforcer;
+        if (warmUpConfig.isEnabled()) {
+            final TopKCounter<String> accessCounter = WarmUpActor.newAccessCounter(warmUpConfig);
+            enforcerPreEnforcer = countEnforcerAccesses(preEnforcer, accessCounter);
+            context.actorOf(WarmUpActor.props(warmUpConfig,
+                    key -> loadEnforcer(key, thingIdCache, policyEnforcerCache, aclEnforcerCache), accessCounter,
+                    conciergeConfig.getMongoDbConfig(), ENFORCER_CACHE_WARM_UP_COLLECTION), WarmUpActor.ACTOR_NAME);
+        } else {
+            enforcerPreEnforcer = preEnforcer;
+        }
+
         final Props enforcerProps =
                 EnforcerActor.props(pubSubMediator, enforcementProviders, conciergeForwarder,
-                        preEnforcer, thingIdCache, aclEnforcerCache,
+                        enforcerPreEnforcer, thingIdCache, aclEnforcerCache,
                         policyEnforcerCache); // passes in the caches to be able to invalidate cache entries
 
         return context.actorOf(enforcerProps, EnforcerActor.ACTOR_NAME);
@@ -189,6 +254,56 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         .thenCompose(placeholderSubstitution);
     }
 
+    private static PreEnforcer countEnforcerAccesses(final PreEnforcer preEnforcer,
+            final TopKCounter<String> accessCounter) {
+
+        return withDittoHeaders -> {
+            getEntityKey(withDittoHeaders).ifPresent(entityKey -> accessCounter.increment(entityKey.toString()));
+            return preEnforcer.apply(withDittoHeaders);
+        };
+    }
+
+    private static Optional<EntityIdWithResourceType> getEntityKey(final WithDittoHeaders withDittoHeaders) {
+        if (withDittoHeaders instanceof Signal) {
+            final EntityId entityId = ((Signal<?>) withDittoHeaders).getEntityId();
+            if (entityId instanceof ThingId) {
+                return Optional.of(EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, entityId));
+            } else if (entityId instanceof PolicyId) {
+                return Optional.of(EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, entityId));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Load the enforcer of a recorded entity key into the caches. Deserialized keys carry untyped entity IDs which
+     * are not equal to the typed IDs of the cache keys of signals, hence the typed IDs are restored first.
+     */
+    private static CompletionStage<Optional<Entry<Enforcer>>> loadEnforcer(final String serializedEntityKey,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache) {
+
+        final EntityIdWithResourceType entityKey = EntityIdWithResourceType.readFrom(serializedEntityKey);
+        final String resourceType = entityKey.getResourceType();
+        if (PolicyCommand.RESOURCE_TYPE.equals(resourceType)) {
+            return policyEnforcerCache.get(
+                    EntityIdWithResourceType.of(resourceType, PolicyId.of(entityKey.getId())));
+        } else if (ThingCommand.RESOURCE_TYPE.equals(resourceType)) {
+            return thingIdCache.get(EntityIdWithResourceType.of(resourceType, ThingId.of(entityKey.getId())))
+                    .thenCompose(enforcerKeyEntry -> enforcerKeyEntry
+                            .filter(Entry::exists)
+                            .map(Entry::getValueOrThrow)
+                            .map(enforcerKey ->
+                                    PolicyCommand.RESOURCE_TYPE.equals(enforcerKey.getResourceType())
+                                            ? policyEnforcerCache.get(enforcerKey)
+                                            : aclEnforcerCache.get(enforcerKey))
+                            .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty())));
+        } else {
+            throw new IllegalArgumentException("Unexpected resource type: " + resourceType);
+        }
+    }
+
     private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders signal) {
         if (signal instanceof CreateThing) {
             final CreateThing createThing = (CreateThing) signal;
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ConciergeService}.
+ */
+public final class ConciergeServiceTest {
+
+    private static final String ROLES = "akka.cluster.roles";
+
+    @Test
+    public void joinThingEventAwareRoleIfThingViewCacheIsEnabled() {
+        final Config config = ConfigFactory.parseString("akka.cluster.roles = [\"concierge\"]\n" +
+                "ditto.concierge.caches.thing-view-enabled = true");
+
+        assertThat(ConciergeService.withThingEventAwareRoleIfRequired(config).getStringList(ROLES))
+                .containsExactly("concierge", "thing-event-aware");
+    }
+
+    @Test
+    public void doNotJoinThingEventAwareRoleIfThingViewCacheIsDisabled() {
+        final Config config = ConfigFactory.parseString("akka.cluster.roles = [\"concierge\"]\n" +
+                "ditto.concierge.caches.thing-view-enabled = false");
+
+        assertThat(ConciergeService.withThingEventAwareRoleIfRequired(config).getStringList(ROLES))
+                .containsExactly("concierge");
+    }
+
+}
@@ -534,10 +534,13 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     private FSM.State<BaseClientState, BaseClientData> publishMappedMessage(final PublishMappedMessage message,
             final BaseClientData data) {
 
-        if (getPublisherActor() != null) {
-            getPublisherActor().forward(message.getOutboundSignal(), getContext());
+        // the publisher actor is only running while connected; acknowledge right away otherwise so that the mapping
+        // stream does not wait for the publisher acknowledgement timeout
+        if (CONNECTED == stateName() && getPublisherActor() != null) {
+            getPublisherActor().forward(message, getContext());
         } else {
-            log.error("No publisher actor available, dropping message: {}", message);
+            log.warning("No publisher actor available in state <{}>, dropping message: {}", stateName(), message);
+            getSender().tell(Done.getInstance(), getSelf());
         }
         return stay();
     }
@@ -1399,24 +1402,45 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     }
 
     /**
-     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor.
+     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor. The publisher
+     * acknowledges it to the sender of this message with {@link Done} as soon as it may receive the next message;
+     * replies concerning the signal itself go to the {@link #getOrigin() origin} of the signal.
      */
-    static final class PublishMappedMessage {
+    public static final class PublishMappedMessage {
 
         private final OutboundSignal.Mapped outboundSignal;
+        private final ActorRef origin;
 
-        PublishMappedMessage(final OutboundSignal.Mapped outboundSignal) {
+        /**
+         * Creates a new {@code PublishMappedMessage}.
+         *
+         * @param outboundSignal the mapped signal to publish.
+         * @param origin the sender of the signal.
+         */
+        public PublishMappedMessage(final OutboundSignal.Mapped outboundSignal, final ActorRef origin) {
             this.outboundSignal = outboundSignal;
+            this.origin = origin;
         }
 
-        OutboundSignal.Mapped getOutboundSignal() {
+        /**
+         * @return the mapped signal to publish.
+         */
+        public OutboundSignal.Mapped getOutboundSignal() {
             return outboundSignal;
         }
 
+        /**
+         * @return the sender of the signal.
+         */
+        public ActorRef getOrigin() {
+            return origin;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() + " [" +
                     "outboundSignal=" + outboundSignal +
+                    ", origin=" + origin +
                     "]";
         }
 
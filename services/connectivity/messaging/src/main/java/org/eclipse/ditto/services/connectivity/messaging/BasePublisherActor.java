@@ -17,11 +17,17 @@ import static org.eclipse.ditto.model.base.headers.DittoHeaderDefinition.CORRELA
 
 import java.time.Instant;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,8 +45,10 @@ import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.PublisherConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
@@ -55,20 +63,39 @@ import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.thingsearch.SubscriptionEvent;
 
+import akka.Done;
 import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Base class for publisher actors. Holds the map of configured targets.
+ * <p>
+ * Publishers of protocols with asynchronous sends may limit the number of in-flight messages of each target by
+ * {@link #publishWithinWindow(Target, Supplier)}.
+ * </p>
+ * <p>
+ * Mapped signals wrapped in a {@link PublishMappedMessage} are acknowledged to their sender with {@link Done} as soon
+ * as no queue of a target is full, so that the outbound mapping stream waits for the publisher.
+ * </p>
  *
  * @param <T> the type of targets for this actor
  */
 public abstract class BasePublisherActor<T extends PublishTarget> extends AbstractActor {
 
+    private static final String IN_FLIGHT_GAUGE_NAME = "connectivity_publisher_in_flight";
+    private static final String LATENCY_TIMER_NAME = "connectivity_publisher_latency";
+    private static final String TARGET_TAG_NAME = "target";
+    private static final String REPLY_TARGET_WINDOW = "reply-target";
+
     protected final ConnectionId connectionId;
     protected final List<Target> targets;
     protected final Map<Target, ResourceStatus> resourceStatusMap;
@@ -78,6 +105,10 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     protected final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
     private final List<Optional<ReplyTarget>> replyTargets;
+    private final PublisherConfig publisherConfig;
+    private final Map<String, PublishWindow> publishWindows;
+    private final Deque<WithheldAck> withheldAcks;
+    @Nullable private ActorRef origin;
 
     protected BasePublisherActor(final Connection connection) {
         checkNotNull(connection, "connection");
@@ -90,9 +121,13 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         ConnectivityModelFactory.newTargetStatus(getInstanceIdentifier(), ConnectivityStatus.OPEN,
                                 target.getAddress(), "Started at " + now)));
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        final DittoConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+        final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
+        publisherConfig = connectivityConfig.getConnectionConfig().getPublisherConfig();
+        publishWindows = new HashMap<>();
+        withheldAcks = new ArrayDeque<>();
+        origin = null;
         connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(this.connectionId);
         responsePublishedMonitor = connectionMonitorRegistry.forResponsePublished(this.connectionId);
@@ -105,6 +140,14 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return InstanceIdentifierSupplier.getInstance().get();
     }
 
+    @Override
+    public void postStop() throws Exception {
+        publishWindows.values().forEach(PublishWindow::removeGauge);
+        // queued messages are not published after stopping or restarting; do not keep the mapping stream waiting
+        releaseWithheldAcks();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         final ReceiveBuilder receiveBuilder = receiveBuilder();
@@ -176,13 +219,48 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                 })
                 .match(RetrieveAddressStatus.class, ram -> getCurrentTargetStatus().forEach(rs ->
                         getSender().tell(rs, getSelf())))
+                .match(PublishCompleted.class, this::publishCompleted)
                 .matchAny(m -> {
                     log().warning("Unknown message: {}", m);
                     unhandled(m);
                 });
 
         postEnhancement(receiveBuilder);
-        return receiveBuilder.build();
+        final Receive receive = receiveBuilder.build();
+        return receiveBuilder()
+                .match(PublishMappedMessage.class, message -> publishAndAcknowledge(message, receive))
+                .build()
+                .orElse(receive);
+    }
+
+    private void publishAndAcknowledge(final PublishMappedMessage message, final Receive receive) {
+        final ActorRef ackRecipient = getSender();
+        origin = message.getOrigin();
+        try {
+            receive.onMessage().apply(message.getOutboundSignal());
+        } finally {
+            origin = null;
+        }
+        if (isAnyQueueFull()) {
+            final long now = System.nanoTime();
+            // the mapping stream stopped waiting for acknowledgements older than the ack timeout
+            while (!withheldAcks.isEmpty() && withheldAcks.peekFirst().isExpired(now)) {
+                withheldAcks.pollFirst();
+            }
+            withheldAcks.addLast(new WithheldAck(ackRecipient, now + publisherConfig.getAckTimeout().toNanos()));
+        } else {
+            ackRecipient.tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    /**
+     * Returns the sender of the signal currently being published. This is the origin of a signal wrapped in a
+     * {@link PublishMappedMessage} and the sender of any other message.
+     *
+     * @return the sender of the signal.
+     */
+    protected final ActorRef getOrigin() {
+        return null != origin ? origin : getSender();
     }
 
     private void catchHeaderMappingException(final ConnectionMonitor publishedMonitor, final Signal<?> outboundSource,
@@ -206,6 +284,91 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         publishMessage(null, address, response, responsePublishedMonitor);
     }
 
+    /**
+     * Publishes a message asynchronously within the in-flight window of its target. If the number of messages sent to
+     * the target and not yet completed reaches the configured maximum, the send is queued until an earlier one
+     * completes. While the queue of the target holds the configured maximum of sends or more, acknowledgements of
+     * {@link PublishMappedMessage}s are withheld; the queue thus exceeds its maximum by at most the number of
+     * messages the mapping stream sends without waiting for an acknowledgement.
+     * <p>
+     * Sends are started in the thread of this actor; queued sends must therefore not rely on {@code getSender()} or
+     * {@link #getOrigin()}.
+     * </p>
+     *
+     * @param target the configured target, or null for responses published to a reply-target.
+     * @param send starts the asynchronous send and returns a future that completes when the external system has
+     * confirmed or rejected the message. Success and failure are reported to the monitor by the send itself.
+     */
+    protected final void publishWithinWindow(@Nullable final Target target,
+            final Supplier<CompletionStage<?>> send) {
+
+        final String windowKey = null != target ? target.getOriginalAddress() : REPLY_TARGET_WINDOW;
+        final PublishWindow window = publishWindows.computeIfAbsent(windowKey, this::newPublishWindow);
+        final int maxInFlight = publisherConfig.getMaxInFlight();
+        if (maxInFlight <= 0 || window.inFlight < maxInFlight) {
+            startPublish(windowKey, window, send);
+        } else {
+            window.queuedSends.add(send);
+        }
+    }
+
+    private boolean isAnyQueueFull() {
+        final int maxQueueSize = publisherConfig.getMaxQueueSize();
+        return publishWindows.values().stream()
+                .anyMatch(window -> !window.queuedSends.isEmpty() && window.queuedSends.size() >= maxQueueSize);
+    }
+
+    private PublishWindow newPublishWindow(final String windowKey) {
+        final Gauge inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE_NAME)
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString())
+                .tag(TARGET_TAG_NAME, windowKey);
+        final PreparedTimer latencyTimer = DittoMetrics.timer(LATENCY_TIMER_NAME)
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString())
+                .tag(TARGET_TAG_NAME, windowKey);
+        return new PublishWindow(inFlightGauge, latencyTimer);
+    }
+
+    private void startPublish(final String windowKey, final PublishWindow window,
+            final Supplier<CompletionStage<?>> send) {
+
+        window.inFlight++;
+        window.inFlightGauge.set((long) window.inFlight);
+        final ActorRef self = getSelf();
+        final long startNanos = System.nanoTime();
+        CompletionStage<?> sent;
+        try {
+            sent = send.get();
+        } catch (final RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, error) -> self.tell(new PublishCompleted(windowKey, startNanos),
+                ActorRef.noSender()));
+    }
+
+    private void publishCompleted(final PublishCompleted publishCompleted) {
+        final PublishWindow window = publishWindows.get(publishCompleted.windowKey);
+        if (null != window) {
+            window.inFlight--;
+            window.inFlightGauge.set((long) window.inFlight);
+            window.latencyTimer.record(System.nanoTime() - publishCompleted.startNanos, TimeUnit.NANOSECONDS);
+            final Supplier<CompletionStage<?>> nextSend = window.queuedSends.poll();
+            if (null != nextSend) {
+                startPublish(publishCompleted.windowKey, window, nextSend);
+            }
+            if (!isAnyQueueFull()) {
+                releaseWithheldAcks();
+            }
+        }
+    }
+
+    private void releaseWithheldAcks() {
+        final long now = System.nanoTime();
+        withheldAcks.stream()
+                .filter(withheldAck -> !withheldAck.isExpired(now))
+                .forEach(withheldAck -> withheldAck.recipient.tell(Done.getInstance(), getSelf()));
+        withheldAcks.clear();
+    }
+
     private Optional<ReplyTarget> getReplyTargetByIndex(final int replyTargetIndex) {
         return 0 <= replyTargetIndex && replyTargetIndex < replyTargets.size()
                 ? replyTargets.get(replyTargetIndex)
@@ -323,4 +486,61 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return resolver.resolve(value).toOptional();
     }
 
+    /**
+     * Messages sent to and not yet completed by one target, and the sends waiting for the window to open.
+     */
+    private static final class PublishWindow {
+
+        private final Gauge inFlightGauge;
+        private final PreparedTimer latencyTimer;
+        private final Deque<Supplier<CompletionStage<?>>> queuedSends;
+        private int inFlight;
+
+        private PublishWindow(final Gauge inFlightGauge, final PreparedTimer latencyTimer) {
+            this.inFlightGauge = inFlightGauge;
+            this.latencyTimer = latencyTimer;
+            queuedSends = new ArrayDeque<>();
+            inFlight = 0;
+        }
+
+        private void removeGauge() {
+            inFlightGauge.remove();
+        }
+
+    }
+
+    /**
+     * Self-message signaling the completion of a send started by {@link #publishWithinWindow}.
+     */
+    private static final class PublishCompleted {
+
+        private final String windowKey;
+        private final long startNanos;
+
+        private PublishCompleted(final String windowKey, final long startNanos) {
+            this.windowKey = windowKey;
+            this.startNanos = startNanos;
+        }
+
+    }
+
+    /**
+     * Acknowledgement of a mapped message which is withheld while a queue of the publisher is full.
+     */
+    private static final class WithheldAck {
+
+        private final ActorRef recipient;
+        private final long deadlineNanos;
+
+        private WithheldAck(final ActorRef recipient, final long deadlineNanos) {
+            this.recipient = recipient;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private boolean isExpired(final long nowNanos) {
+            return nowNanos - deadlineNanos >= 0;
+        }
+
+    }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import java.util.function.Supplier;
 
 import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.messaging.placement.NodeLoadSampler;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.tracing.TracingTags;
@@ -77,7 +78,7 @@ final class MappingTimer {
      * @return the result of the supplier
      */
     <T> T payload(final String mapper, final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PAYLOAD_SEGMENT_NAME).tag(MAPPER_TAG_NAME, mapper), supplier);
+        return segment(timer.startNewSegment(PAYLOAD_SEGMENT_NAME).tag(MAPPER_TAG_NAME, mapper), supplier);
     }
 
     /**
@@ -88,7 +89,17 @@ final class MappingTimer {
      * @return the result of the supplier
      */
     <T> T protocol(final Supplier<T> supplier) {
-        return timed(timer.startNewSegment(PROTOCOL_SEGMENT_NAME), supplier);
+        return segment(timer.startNewSegment(PROTOCOL_SEGMENT_NAME), supplier);
+    }
+
+    // segments do not overlap; their durations add up to the mapping time of this node
+    private <T> T segment(final StartedTimer segmentTimer, final Supplier<T> supplier) {
+        final long startNanos = System.nanoTime();
+        try {
+            return timed(segmentTimer, supplier);
+        } finally {
+            NodeLoadSampler.recordMappingTime(System.nanoTime() - startNanos);
+        }
     }
 
     private <T> T timed(final StartedTimer startedTimer, final Supplier<T> supplier) {
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -98,6 +99,7 @@ import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.stream.OverflowStrategy;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
@@ -136,6 +138,7 @@ public final class MessageMappingProcessorActor
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
+    private final Duration publisherAckTimeout;
     private final SourceQueue<ExternalMessage> inboundSourceQueue;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
 
@@ -170,6 +173,7 @@ public final class MessageMappingProcessorActor
         signalEnrichmentFacade =
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(connectionId);
         this.processorPoolSize = processorPoolSize;
+        publisherAckTimeout = connectivityConfig.getConnectionConfig().getPublisherConfig().getAckTimeout();
         inboundSourceQueue = materializeInboundStream(processorPoolSize);
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
     }
@@ -312,7 +316,8 @@ public final class MessageMappingProcessorActor
                         getContext().getDispatcher()
                 ))
                 .flatMapConcat(mappedOutboundSignalSource -> mappedOutboundSignalSource)
-                .to(Sink.foreach(this::forwardToPublisherActor));
+                .mapAsync(processorPoolSize, this::forwardToPublisherActor)
+                .to(Sink.ignore());
     }
 
     // Called inside stream; must be thread-safe
@@ -573,9 +578,18 @@ public final class MessageMappingProcessorActor
         return mapToExternalMessage(outbound);
     }
 
-    private void forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
+    // Called inside stream; the returned future completes when the publisher is ready for the next message
+    private CompletionStage<Object> forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
         final OutboundSignal.Mapped mappedOutboundSignal = (OutboundSignal.Mapped) mappedEnvelop.delegate;
-        clientActor.tell(new PublishMappedMessage(mappedOutboundSignal), mappedEnvelop.sender);
+        final PublishMappedMessage publishMappedMessage =
+                new PublishMappedMessage(mappedOutboundSignal, mappedEnvelop.sender);
+        return Patterns.ask(clientActor, publishMappedMessage, publisherAckTimeout)
+                .exceptionally(error -> {
+                    logger.withCorrelationId(mappedOutboundSignal.getSource())
+                            .warning("Publisher did not acknowledge mapped signal within <{}>: {}",
+                                    publisherAckTimeout, error.getMessage());
+                    return error;
+                });
     }
 
     /**
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -169,32 +171,38 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     @Override
     protected void publishMessage(@Nullable final Target target, final AmqpTarget publishTarget,
             final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
-        if (!this.isInBackOffMode) {
-            this.tryToPublishMessage(publishTarget, message, publishedMonitor);
-        } else {
-            this.handleMessageInBackOffMode(message, publishedMonitor, publishTarget.getJmsDestination());
-        }
+        final ActorRef origin = getOrigin();
+        publishWithinWindow(target, () -> {
+            if (!this.isInBackOffMode) {
+                return this.tryToPublishMessage(publishTarget, message, publishedMonitor, origin);
+            } else {
+                this.handleMessageInBackOffMode(message, publishedMonitor, publishTarget.getJmsDestination(), origin);
+                return CompletableFuture.completedFuture(null);
+            }
+        });
     }
 
-    private void tryToPublishMessage(final AmqpTarget publishTarget,
-            final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+    private CompletionStage<Void> tryToPublishMessage(final AmqpTarget publishTarget,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor, final ActorRef origin) {
+        final CompletableFuture<Void> sent = new CompletableFuture<>();
         try {
             final MessageProducer producer = getProducer(publishTarget.getJmsDestination());
             if (producer != null) {
                 final Message jmsMessage = toJmsMessage(message);
 
-                final ActorRef origin = getSender();
                 log.debug("Attempt to send message {} with producer {}.", message, producer);
                 producer.send(jmsMessage, new CompletionListener() {
                     @Override
                     public void onCompletion(final Message jmsMessage) {
                         publishedMonitor.success(message);
                         log.debug("Message {} sent successfully.", jmsMessage);
+                        sent.complete(null);
                     }
 
                     @Override
                     public void onException(final Message messageFailedToSend, final Exception exception) {
                         handleSendException(message, exception, origin, publishedMonitor);
+                        sent.completeExceptionally(exception);
                     }
                 });
             } else {
@@ -208,15 +216,18 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
                         .description("Is the target or reply-to address correct?")
                         .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
                         .build();
-                getSender().tell(sendFailedException, getSelf());
+                origin.tell(sendFailedException, getSelf());
+                sent.complete(null);
             }
         } catch (final JMSException e) {
-            handleSendException(message, e, getSender(), publishedMonitor);
+            handleSendException(message, e, origin, publishedMonitor);
+            sent.completeExceptionally(e);
         }
+        return sent;
     }
 
     private void handleMessageInBackOffMode(final ExternalMessage message, final ConnectionMonitor publishedMonitor,
-            final Destination destination) {
+            final Destination destination, final ActorRef origin) {
         final String errorMessage = String.format("Producer for target address '%s' is in back off mode, as the " +
                 "target configuration seems to contain errors. The message will be dropped.", destination);
         publishedMonitor.exception(message, errorMessage);
@@ -226,7 +237,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
                 .description("Check if the target or the reply-to configuration is correct.")
                 .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
                 .build();
-        getSender().tell(sendFailedException, getSelf());
+        origin.tell(sendFailedException, getSelf());
     }
 
     private void handleSendException(final ExternalMessage message, final Exception e, final ActorRef sender,
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the placement of client actors on the nodes of the connectivity cluster.
+ */
+@Immutable
+public interface ClientPlacementConfig {
+
+    /**
+     * Indicates whether client actors are placed according to the load of the connectivity nodes. If disabled, client
+     * actors are deployed by a cluster router pool without regard to load.
+     *
+     * @return whether load-aware placement is enabled.
+     */
+    boolean isLoadAware();
+
+    /**
+     * Returns the interval at which each connectivity node publishes its load.
+     *
+     * @return the report interval.
+     */
+    Duration getReportInterval();
+
+    /**
+     * Returns the interval at which each connection checks whether one of its client actors should be moved.
+     * The actual interval is randomized by up to half of its length so that connections do not move in lock-step.
+     *
+     * @return the rebalance interval.
+     */
+    Duration getRebalanceInterval();
+
+    /**
+     * Returns by how much the load of a node must exceed the load of the least loaded node for a client actor to be
+     * moved, relative to the load of the least loaded node.
+     *
+     * @return the imbalance threshold.
+     */
+    double getImbalanceThreshold();
+
+    /**
+     * Returns how many messages per second one millisecond of message mapping per second is worth in the load score
+     * of a node.
+     *
+     * @return the weight of the mapping time.
+     */
+    double getMappingTimeWeight();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ClientPlacementConfig}.
+     */
+    enum ClientPlacementConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether client actors are placed according to the load of the connectivity nodes.
+         */
+        LOAD_AWARE("load-aware", false),
+
+        /**
+         * The interval at which each connectivity node publishes its load.
+         */
+        REPORT_INTERVAL("report-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * The interval at which each connection checks whether one of its client actors should be moved.
+         */
+        REBALANCE_INTERVAL("rebalance-interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The relative load difference between nodes above which a client actor is moved.
+         */
+        IMBALANCE_THRESHOLD("imbalance-threshold", 0.5),
+
+        /**
+         * The weight of one millisecond of mapping per second in terms of messages per second.
+         */
+        MAPPING_TIME_WEIGHT("mapping-time-weight", 1.0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ClientPlacementConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
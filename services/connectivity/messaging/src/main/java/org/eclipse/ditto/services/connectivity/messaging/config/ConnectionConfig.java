@@ -79,6 +79,20 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     HttpPushConfig getHttpPushConfig();
 
+    /**
+     * Returns the config for the placement of client actors on the connectivity nodes.
+     *
+     * @return the config.
+     */
+    ClientPlacementConfig getClientPlacementConfig();
+
+    /**
+     * Returns the config for publishing messages asynchronously to the targets of a connection.
+     *
+     * @return the config.
+     */
+    PublisherConfig getPublisherConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ConnectionConfig}.
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ClientPlacementConfig}.
+ */
+@Immutable
+public final class DefaultClientPlacementConfig implements ClientPlacementConfig {
+
+    private static final String CONFIG_PATH = "client-placement";
+
+    private final boolean loadAware;
+    private final Duration reportInterval;
+    private final Duration rebalanceInterval;
+    private final double imbalanceThreshold;
+    private final double mappingTimeWeight;
+
+    private DefaultClientPlacementConfig(final ScopedConfig config) {
+        loadAware = config.getBoolean(ClientPlacementConfigValue.LOAD_AWARE.getConfigPath());
+        reportInterval = config.getDuration(ClientPlacementConfigValue.REPORT_INTERVAL.getConfigPath());
+        rebalanceInterval = config.getDuration(ClientPlacementConfigValue.REBALANCE_INTERVAL.getConfigPath());
+        imbalanceThreshold = config.getDouble(ClientPlacementConfigValue.IMBALANCE_THRESHOLD.getConfigPath());
+        mappingTimeWeight = config.getDouble(ClientPlacementConfigValue.MAPPING_TIME_WEIGHT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultClientPlacementConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the client placement config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultClientPlacementConfig of(final Config config) {
+        return new DefaultClientPlacementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ClientPlacementConfigValue.values()));
+    }
+
+    @Override
+    public boolean isLoadAware() {
+        return loadAware;
+    }
+
+    @Override
+    public Duration getReportInterval() {
+        return reportInterval;
+    }
+
+    @Override
+    public Duration getRebalanceInterval() {
+        return rebalanceInterval;
+    }
+
+    @Override
+    public double getImbalanceThreshold() {
+        return imbalanceThreshold;
+    }
+
+    @Override
+    public double getMappingTimeWeight() {
+        return mappingTimeWeight;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultClientPlacementConfig that = (DefaultClientPlacementConfig) o;
+        return loadAware == that.loadAware &&
+                Double.compare(that.imbalanceThreshold, imbalanceThreshold) == 0 &&
+                Double.compare(that.mappingTimeWeight, mappingTimeWeight) == 0 &&
+                Objects.equals(reportInterval, that.reportInterval) &&
+                Objects.equals(rebalanceInterval, that.rebalanceInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadAware, reportInterval, rebalanceInterval, imbalanceThreshold, mappingTimeWeight);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "loadAware=" + loadAware +
+                ", reportInterval=" + reportInterval +
+                ", rebalanceInterval=" + rebalanceInterval +
+                ", imbalanceThreshold=" + imbalanceThreshold +
+                ", mappingTimeWeight=" + mappingTimeWeight +
+                "]";
+    }
+
+}
@@ -46,6 +46,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
     private final HttpPushConfig httpPushConfig;
+    private final ClientPlacementConfig clientPlacementConfig;
+    private final PublisherConfig publisherConfig;
     private final ActivityCheckConfig activityCheckConfig;
 
     private DefaultConnectionConfig(final ConfigWithFallback config) {
@@ -59,6 +61,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
+        clientPlacementConfig = DefaultClientPlacementConfig.of(config);
+        publisherConfig = DefaultPublisherConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
     }
 
@@ -114,6 +118,16 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return httpPushConfig;
     }
 
+    @Override
+    public ClientPlacementConfig getClientPlacementConfig() {
+        return clientPlacementConfig;
+    }
+
+    @Override
+    public PublisherConfig getPublisherConfig() {
+        return publisherConfig;
+    }
+
     @Override
     public ActivityCheckConfig getActivityCheckConfig() {
         return activityCheckConfig;
@@ -136,13 +150,16 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
-                Objects.equals(httpPushConfig, that.httpPushConfig);
+                Objects.equals(httpPushConfig, that.httpPushConfig) &&
+                Objects.equals(clientPlacementConfig, that.clientPlacementConfig) &&
+                Objects.equals(publisherConfig, that.publisherConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig,
-                activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig);
+                activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig, clientPlacementConfig,
+                publisherConfig);
     }
 
     @Override
@@ -156,6 +173,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
                 ", httpPushConfig=" + httpPushConfig +
+                ", clientPlacementConfig=" + clientPlacementConfig +
+                ", publisherConfig=" + publisherConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 "]";
     }
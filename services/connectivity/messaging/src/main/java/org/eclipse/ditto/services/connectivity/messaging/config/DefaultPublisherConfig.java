@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link PublisherConfig}.
+ */
+@Immutable
+public final class DefaultPublisherConfig implements PublisherConfig {
+
+    private static final String CONFIG_PATH = "publisher";
+
+    private final int maxInFlight;
+    private final int maxQueueSize;
+    private final Duration ackTimeout;
+
+    private DefaultPublisherConfig(final ScopedConfig config) {
+        maxInFlight = config.getInt(PublisherConfigValue.MAX_IN_FLIGHT.getConfigPath());
+        maxQueueSize = config.getInt(PublisherConfigValue.MAX_QUEUE_SIZE.getConfigPath());
+        ackTimeout = config.getDuration(PublisherConfigValue.ACK_TIMEOUT.getConfigPath());
+        if (ackTimeout.isNegative() || ackTimeout.isZero()) {
+            throw new DittoConfigError(
+                    "The value for <" + PublisherConfigValue.ACK_TIMEOUT.getConfigPath() + "> must be positive!");
+        }
+    }
+
+    /**
+     * Returns an instance of {@code DefaultPublisherConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the publisher config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultPublisherConfig of(final Config config) {
+        return new DefaultPublisherConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, PublisherConfigValue.values()));
+    }
+
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    @Override
+    public Duration getAckTimeout() {
+        return ackTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultPublisherConfig that = (DefaultPublisherConfig) o;
+        return maxInFlight == that.maxInFlight &&
+                maxQueueSize == that.maxQueueSize &&
+                Objects.equals(ackTimeout, that.ackTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxInFlight, maxQueueSize, ackTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxInFlight=" + maxInFlight +
+                ", maxQueueSize=" + maxQueueSize +
+                ", ackTimeout=" + ackTimeout +
+                "]";
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.connectivity.messaging.config;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +32,42 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns how many messages the Kafka publisher buffers for the producer before it waits for the producer.
+     *
+     * @return the size of the producer queue.
+     */
+    int getProducerQueueSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * How many messages the Kafka publisher buffers for the producer.
+         */
+        PRODUCER_QUEUE_SIZE("producer.queue-size", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
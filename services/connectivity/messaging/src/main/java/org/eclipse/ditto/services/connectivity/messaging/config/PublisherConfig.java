@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for publishing messages asynchronously to the targets of a connection.
+ */
+@Immutable
+public interface PublisherConfig {
+
+    /**
+     * Returns how many messages may be sent to one target without their completion being confirmed by the external
+     * system. Zero or a negative number means that the number of in-flight messages is not limited.
+     *
+     * @return the maximum number of in-flight messages per target.
+     */
+    int getMaxInFlight();
+
+    /**
+     * Returns how many messages per target to queue in the publisher actor while the in-flight window of the target
+     * is full. While a queue is full, the publisher withholds the acknowledgement of mapped messages so that the
+     * mapping stream stops sending further messages.
+     *
+     * @return the maximum number of queued messages per target.
+     */
+    int getMaxQueueSize();
+
+    /**
+     * Returns how long the mapping stream waits for the publisher to acknowledge a mapped message before it logs a
+     * warning and sends the next message regardless.
+     *
+     * @return the timeout of acknowledgements of the publisher.
+     */
+    Duration getAckTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PublisherConfig}.
+     */
+    enum PublisherConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of in-flight messages per target.
+         */
+        MAX_IN_FLIGHT("max-in-flight", 100),
+
+        /**
+         * The maximum number of queued messages per target.
+         */
+        MAX_QUEUE_SIZE("max-queue-size", 1000),
+
+        /**
+         * The timeout of acknowledgements of the publisher.
+         */
+        ACK_TIMEOUT("ack-timeout", Duration.ofSeconds(60));
+
+        private final String path;
+        private final Object defaultValue;
+
+        PublisherConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
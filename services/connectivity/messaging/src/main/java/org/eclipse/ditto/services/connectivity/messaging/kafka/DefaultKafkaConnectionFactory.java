@@ -27,10 +27,10 @@ import akka.stream.javadsl.Flow;
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private final Connection connection;
-    private final ProducerSettings<String, String> settings;
+    private final ProducerSettings<String, byte[]> settings;
 
     private DefaultKafkaConnectionFactory(final Connection connection,
-            final ProducerSettings<String, String> producerSettings) {
+            final ProducerSettings<String, byte[]> producerSettings) {
 
         this.connection = connection;
         settings = producerSettings;
@@ -55,7 +55,7 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     }
 
     @Override
-    public <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, akka.NotUsed> newFlow() {
+    public <T> Flow<ProducerMessage.Envelope<String, byte[], T>, ProducerMessage.Results<String, byte[], T>, akka.NotUsed> newFlow() {
         return Producer.flexiFlow(settings);
     }
 
@@ -88,7 +88,7 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
     }
 
     @Override
-    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+    public ProducerSettings<String, byte[]> apply(final ProducerSettings<String, byte[]> producerSettings,
             final Connection connection) {
 
         final Optional<String> username = connection.getUsername();
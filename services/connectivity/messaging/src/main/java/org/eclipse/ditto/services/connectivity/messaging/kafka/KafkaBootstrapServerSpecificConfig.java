@@ -80,7 +80,7 @@ final class KafkaBootstrapServerSpecificConfig implements KafkaSpecificConfig {
     }
 
     @Override
-    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+    public ProducerSettings<String, byte[]> apply(final ProducerSettings<String, byte[]> producerSettings,
             final Connection connection) {
 
         final String mergedBootstrapServers;
@@ -36,6 +36,6 @@ interface KafkaConnectionFactory {
      * @param <T> type of the pass through object.
      * @return Akka stream flow that publishes Kafka messages to the broker.
      */
-    <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
+    <T> Flow<ProducerMessage.Envelope<String, byte[], T>, ProducerMessage.Results<String, byte[], T>, NotUsed> newFlow();
 
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.record.CompressionType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+import akka.kafka.ProducerSettings;
+
+/**
+ * Handles the batching and compression settings of the Kafka producer. The specific config of a connection may contain
+ * <ul>
+ * <li>{@code batchSize}: the maximum number of bytes per batch of records sent to one partition,</li>
+ * <li>{@code lingerMs}: how many milliseconds the producer waits for further records to fill a batch, and</li>
+ * <li>{@code compressionType}: the compression of the batches, one of {@code none}, {@code gzip}, {@code snappy},
+ * {@code lz4} or {@code zstd}.</li>
+ * </ul>
+ * Settings absent from the specific config keep the values of the internal producer config.
+ */
+final class KafkaProducerTuningSpecificConfig implements KafkaSpecificConfig {
+
+    private static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+    private static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    private static final String SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY = "compressionType";
+
+    private static final Map<String, String> PRODUCER_PROPERTIES_BY_KEY = new LinkedHashMap<>();
+    private static final Map<String, Predicate<String>> VALIDATORS_BY_KEY = new LinkedHashMap<>();
+
+    static {
+        PRODUCER_PROPERTIES_BY_KEY.put(SPECIFIC_CONFIG_BATCH_SIZE_KEY, ProducerConfig.BATCH_SIZE_CONFIG);
+        PRODUCER_PROPERTIES_BY_KEY.put(SPECIFIC_CONFIG_LINGER_MS_KEY, ProducerConfig.LINGER_MS_CONFIG);
+        PRODUCER_PROPERTIES_BY_KEY.put(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY, ProducerConfig.COMPRESSION_TYPE_CONFIG);
+        VALIDATORS_BY_KEY.put(SPECIFIC_CONFIG_BATCH_SIZE_KEY, KafkaProducerTuningSpecificConfig::isNonNegativeInteger);
+        VALIDATORS_BY_KEY.put(SPECIFIC_CONFIG_LINGER_MS_KEY, KafkaProducerTuningSpecificConfig::isNonNegativeInteger);
+        VALIDATORS_BY_KEY.put(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY,
+                KafkaProducerTuningSpecificConfig::isCompressionType);
+    }
+
+    @Nullable private static KafkaProducerTuningSpecificConfig instance;
+
+    private KafkaProducerTuningSpecificConfig() {
+        // no-op
+    }
+
+    static KafkaProducerTuningSpecificConfig getInstance() {
+        KafkaProducerTuningSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerTuningSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        return PRODUCER_PROPERTIES_BY_KEY.keySet().stream().anyMatch(connection.getSpecificConfig()::containsKey);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        final Optional<String> invalidKey = findInvalidKey(connection);
+        if (invalidKey.isPresent()) {
+            final String key = invalidKey.get();
+            final String message = MessageFormat.format(
+                    "The connection configuration contains an invalid value for <{0}>: <{1}>. {2}", key,
+                    connection.getSpecificConfig().get(key), getDescription(key));
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        return findInvalidKey(connection).isEmpty();
+    }
+
+    @Override
+    public ProducerSettings<String, byte[]> apply(final ProducerSettings<String, byte[]> producerSettings,
+            final Connection connection) {
+
+        ProducerSettings<String, byte[]> currentSettings = producerSettings;
+        if (isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            for (final Map.Entry<String, String> entry : PRODUCER_PROPERTIES_BY_KEY.entrySet()) {
+                final String value = specificConfig.get(entry.getKey());
+                if (null != value) {
+                    currentSettings = currentSettings.withProperty(entry.getValue(), value.trim().toLowerCase());
+                }
+            }
+        }
+        return currentSettings;
+    }
+
+    private static Optional<String> findInvalidKey(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return VALIDATORS_BY_KEY.entrySet()
+                .stream()
+                .filter(entry -> specificConfig.containsKey(entry.getKey()))
+                .filter(entry -> !entry.getValue().test(specificConfig.get(entry.getKey()).trim()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    private static String getDescription(final String key) {
+        if (SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY.equals(key)) {
+            return "Allowed compression types are: " + Arrays.stream(CompressionType.values())
+                    .map(compressionType -> compressionType.name)
+                    .collect(Collectors.toList());
+        }
+        return "The value must be a non-negative integer.";
+    }
+
+    private static boolean isNonNegativeInteger(final String value) {
+        try {
+            return Integer.parseInt(value) >= 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isCompressionType(final String value) {
+        try {
+            CompressionType.forName(value.toLowerCase());
+            return true;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
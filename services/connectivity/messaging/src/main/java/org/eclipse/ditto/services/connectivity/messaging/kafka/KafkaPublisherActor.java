@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -27,14 +32,18 @@ import org.apache.kafka.common.errors.AuthorizationException;
 import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 
 import akka.Done;
 import akka.actor.ActorRef;
@@ -46,26 +55,40 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.kafka.ProducerMessage;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
-import akka.util.ByteString;
+import akka.stream.javadsl.SourceQueueWithComplete;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
  * broker.
+ * <p>
+ * Payloads are published as bytes: binary payloads unchanged and text payloads in the charset of their content-type.
+ * Records to targets without key and partition are keyed by the ID of the entity they concern so that the messages of
+ * one entity are kept in order by the partition they are assigned to. Sends are limited by the in-flight window of
+ * their target and buffered in a bounded queue which backpressures: a send offers its message only after the previous
+ * offer was accepted and completes only after the producer confirmed the message, so that a busy producer fills the
+ * in-flight windows and thereby pauses the outbound mapping stream.
+ * </p>
  */
 final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final int queueSize;
+    private final Set<CompletableFuture<Void>> pendingSends;
 
     private boolean shuttingDown = false;
-    private ActorRef sourceActor;
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> sourceQueue;
+    private CompletionStage<?> lastOffer = CompletableFuture.completedFuture(null);
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -74,6 +97,12 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        queueSize = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getKafkaConfig()
+                .getProducerQueueSize();
+        pendingSends = ConcurrentHashMap.newKeySet();
 
         startInternalKafkaProducer();
         reportInitialConnectionState();
@@ -92,13 +121,13 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return Props.create(KafkaPublisherActor.class, connection, factory, dryRun);
     }
 
-    private static Sink<ProducerMessage.Results<String, String, PassThrough>, CompletionStage<Done>> publishSuccessSink() {
+    private static Sink<ProducerMessage.Results<String, byte[], PassThrough>, CompletionStage<Done>> publishSuccessSink() {
 
-        // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
-        // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
+        // failed sends fail the whole stream, whose completion handler then fails the pending sends
         return Sink.foreach(results -> {
             final ConnectionMonitor connectionMonitor = results.passThrough().connectionMonitor;
             connectionMonitor.success(results.passThrough().externalMessage);
+            results.passThrough().sent.complete(null);
         });
     }
 
@@ -125,36 +154,74 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             final ExternalMessage message,
             final ConnectionMonitor publishedMonitor) {
 
-        publishMessage(publishTarget, message, new PassThrough(publishedMonitor, message));
+        publishWithinWindow(target, () -> publishMessage(publishTarget, message, publishedMonitor));
     }
 
-    private void publishMessage(final KafkaPublishTarget publishTarget, final ExternalMessage message,
-            final PassThrough passThrough) {
+    private CompletionStage<Void> publishMessage(final KafkaPublishTarget publishTarget,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
 
-        final ProducerMessage.Envelope<String, String, PassThrough> kafkaMessage =
+        final PassThrough passThrough = new PassThrough(publishedMonitor, message);
+        pendingSends.add(passThrough.sent);
+        passThrough.sent.whenComplete((unused, error) -> pendingSends.remove(passThrough.sent));
+        final ProducerMessage.Envelope<String, byte[], PassThrough> kafkaMessage =
                 mapExternalMessageToKafkaMessage(publishTarget, message, passThrough);
-        sourceActor.tell(kafkaMessage, getSelf());
+        // a queue which backpressures accepts only one pending offer at a time
+        final SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> queue = sourceQueue;
+        final CompletionStage<QueueOfferResult> offer =
+                lastOffer.handle((result, error) -> null).thenCompose(unused -> queue.offer(kafkaMessage));
+        lastOffer = offer;
+        offer.whenComplete((result, error) -> {
+            if (null != error) {
+                publishedMonitor.exception(message, "Failed to enqueue message for Kafka producer: {0}",
+                        error.getMessage());
+                passThrough.sent.completeExceptionally(error);
+            } else if (!QueueOfferResult.enqueued().equals(result)) {
+                publishedMonitor.failure(message, "Message dropped since the queue of the Kafka producer is " +
+                        "closed: {0}", result);
+                passThrough.sent.complete(null);
+            }
+        });
+        return passThrough.sent;
     }
 
     private boolean isDryRun() {
         return dryRun;
     }
 
-    private static ProducerMessage.Envelope<String, String, PassThrough> mapExternalMessageToKafkaMessage(
+    private static ProducerMessage.Envelope<String, byte[], PassThrough> mapExternalMessageToKafkaMessage(
             final KafkaPublishTarget publishTarget, final ExternalMessage externalMessage,
             final PassThrough passThrough) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final byte[] payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
-        final ProducerRecord<String, String> record =
+        final ProducerRecord<String, byte[]> record =
                 new ProducerRecord<>(publishTarget.getTopic(),
                         publishTarget.getPartition().orElse(null),
-                        publishTarget.getKey().orElse(null),
+                        getKey(publishTarget, externalMessage),
                         payload, headers);
         return ProducerMessage.single(record, passThrough);
     }
 
+    /**
+     * Records to a target without explicit key and partition are keyed by the entity ID of their topic path so that
+     * the default partitioner assigns all messages of an entity to the same partition.
+     */
+    @Nullable
+    private static String getKey(final KafkaPublishTarget publishTarget, final ExternalMessage externalMessage) {
+        if (publishTarget.getKey().isPresent() || publishTarget.getPartition().isPresent()) {
+            return publishTarget.getKey().orElse(null);
+        }
+        return externalMessage.getTopicPath()
+                .filter(topicPath -> !topicPath.isWildcardTopic())
+                .map(KafkaPublisherActor::getEntityId)
+                .orElse(null);
+    }
+
+    private static String getEntityId(final TopicPath topicPath) {
+        return topicPath.getNamespace() + ":" + topicPath.getId();
+    }
+
     private static Iterable<Header> mapExternalMessageHeaders(final ExternalMessage externalMessage) {
         return externalMessage.getHeaders()
                 .entrySet()
@@ -163,17 +230,30 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 .collect(Collectors.toList());
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static byte[] mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> text.getBytes(getCharsetFromMessage(externalMessage)))
+                    .orElse(EMPTY_PAYLOAD);
         } else if (externalMessage.isBytesMessage()) {
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
-
+                    .map(KafkaPublisherActor::toByteArray)
+                    .orElse(EMPTY_PAYLOAD);
         }
-        return "";
+        return EMPTY_PAYLOAD;
+    }
+
+    private static byte[] toByteArray(final ByteBuffer byteBuffer) {
+        final ByteBuffer readOnlyBuffer = byteBuffer.asReadOnlyBuffer();
+        final byte[] bytes = new byte[readOnlyBuffer.remaining()];
+        readOnlyBuffer.get(bytes);
+        return bytes;
+    }
+
+    private static Charset getCharsetFromMessage(final ExternalMessage message) {
+        return message.findContentType()
+                .map(contentType -> CharsetDeterminer.getInstance().apply(contentType))
+                .orElse(StandardCharsets.UTF_8);
     }
 
     private Done handleCompletionOrFailure(final Done done, @Nullable final Throwable throwable) {
@@ -181,6 +261,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         // the stream (it is built upon) is finished. Since the stream is never expected to finish, we will try to
         // restart the producer most of the times. Only when it was intentionally stopped (#shuttingDown), we will not
         // restart it.
+        failPendingSends(throwable);
         if (null == throwable) {
             logWithConnectionId().info("Internal kafka publisher completed.");
             restartInternalKafkaProducer();
@@ -223,23 +304,33 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return done;
     }
 
+    private void failPendingSends(@Nullable final Throwable throwable) {
+        final Throwable cause = null != throwable
+                ? throwable
+                : new IllegalStateException("Internal Kafka publisher completed.");
+        pendingSends.forEach(sent -> sent.completeExceptionally(cause));
+    }
+
     private void startInternalKafkaProducer() {
         logWithConnectionId().info("Starting internal Kafka producer.");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
     private void restartInternalKafkaProducer() {
         logWithConnectionId().info("Restarting internal Kafka producer");
-        sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        sourceQueue = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
     }
 
-    private ActorRef createInternalKafkaProducer(final KafkaConnectionFactory factory,
-            final BiFunction<Done, Throwable, Done> completionOrFailureHandler) {
+    private SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>> createInternalKafkaProducer(
+            final KafkaConnectionFactory factory, final BiFunction<Done, Throwable, Done> completionOrFailureHandler) {
 
-        final Pair<ActorRef, CompletionStage<Done>> materializedFlowedValues =
-                Source.<ProducerMessage.Envelope<String, String, PassThrough>>actorRef(100,
-                        OverflowStrategy.dropHead())
-                        .via(factory.newFlow())
+        // the queue backpressures offers while it is full instead of dropping messages
+        final Source<ProducerMessage.Envelope<String, byte[], PassThrough>,
+                SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>>> source =
+                Source.queue(queueSize, OverflowStrategy.backpressure());
+        final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, byte[], PassThrough>>,
+                CompletionStage<Done>> materializedFlowedValues =
+                source.via(factory.<PassThrough>newFlow())
                         .toMat(KafkaPublisherActor.publishSuccessSink(), Keep.both())
                         .run(ActorMaterializer.create(getContext()));
         materializedFlowedValues.second().handleAsync(completionOrFailureHandler);
@@ -248,8 +339,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     private void stopInternalKafkaProducer() {
         logWithConnectionId().info("Stopping internal Kafka producer.");
-        if (null != sourceActor) {
-            sourceActor.tell(new Status.Success("stopped"), ActorRef.noSender());
+        if (null != sourceQueue) {
+            sourceQueue.complete();
         }
     }
 
@@ -296,10 +387,12 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
         private final ConnectionMonitor connectionMonitor;
         private final ExternalMessage externalMessage;
+        private final CompletableFuture<Void> sent;
 
         private PassThrough(final ConnectionMonitor connectionMonitor, final ExternalMessage message) {
             this.connectionMonitor = connectionMonitor;
             this.externalMessage = message;
+            sent = new CompletableFuture<>();
         }
 
     }
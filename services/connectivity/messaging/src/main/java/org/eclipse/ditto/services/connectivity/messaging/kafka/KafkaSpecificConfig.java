@@ -59,6 +59,6 @@ interface KafkaSpecificConfig {
      * @param connection the connection which contains the specific config.
      * @return the {@code producerSettings} enhanced with new configuration provided by the Kafka config.
      */
-    ProducerSettings<String, String> apply(ProducerSettings<String, String> producerSettings, Connection connection);
+    ProducerSettings<String, byte[]> apply(ProducerSettings<String, byte[]> producerSettings, Connection connection);
 
 }
@@ -53,7 +53,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS = Collections.unmodifiableList(
             Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerTuningSpecificConfig.getInstance()));
 
     /**
      * Returns an instance of the Kafka validator.
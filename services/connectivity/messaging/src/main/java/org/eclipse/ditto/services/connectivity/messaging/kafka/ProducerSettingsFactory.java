@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.connectivity.Connection;
@@ -35,10 +36,11 @@ final class ProducerSettingsFactory {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerTuningSpecificConfig.getInstance()));
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
-    private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Serializer<byte[]> VALUE_SERIALIZER = new ByteArraySerializer();
 
     private final Connection connection;
     private final KafkaConfig kafkaConfig;
@@ -60,8 +62,8 @@ final class ProducerSettingsFactory {
         return new ProducerSettingsFactory(connection, kafkaConfig);
     }
 
-    ProducerSettings<String, String> getProducerSettings() {
-        ProducerSettings<String, String> settings =
+    ProducerSettings<String, byte[]> getProducerSettings() {
+        ProducerSettings<String, byte[]> settings =
                 ProducerSettings.create(kafkaConfig.getInternalProducerConfig(), KEY_SERIALIZER, VALUE_SERIALIZER);
 
         settings = addMetadata(settings);
@@ -71,7 +73,7 @@ final class ProducerSettingsFactory {
         return settings;
     }
 
-    private ProducerSettings<String, String> addMetadata(final ProducerSettings<String, String> settings) {
+    private ProducerSettings<String, byte[]> addMetadata(final ProducerSettings<String, byte[]> settings) {
         // identify the connected Kafka client by the connectionId followed by the instance index
         // (in order to be able to differentiate if a clientCount >1 was configured):
         final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
@@ -80,15 +82,15 @@ final class ProducerSettingsFactory {
                 connection.getId() + "-" + instanceIdentifierSupplier.get());
     }
 
-    private ProducerSettings<String, String> addSpecificConfigs(final ProducerSettings<String, String> settings) {
-        ProducerSettings<String, String> currentSettings = settings;
+    private ProducerSettings<String, byte[]> addSpecificConfigs(final ProducerSettings<String, byte[]> settings) {
+        ProducerSettings<String, byte[]> currentSettings = settings;
         for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
             currentSettings = specificConfig.apply(currentSettings, connection);
         }
         return currentSettings;
     }
 
-    private ProducerSettings<String, String> addSecurityProtocol(final ProducerSettings<String, String> settings) {
+    private ProducerSettings<String, byte[]> addSecurityProtocol(final ProducerSettings<String, byte[]> settings) {
         if (isConnectionAuthenticated()) {
             return addAuthenticatedSecurityProtocol(settings);
         }
@@ -100,8 +102,8 @@ final class ProducerSettingsFactory {
         return authenticationSpecificConfig.isApplicable(connection);
     }
 
-    private ProducerSettings<String, String> addAuthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
+    private ProducerSettings<String, byte[]> addAuthenticatedSecurityProtocol(
+            final ProducerSettings<String, byte[]> settings) {
 
         if (isConnectionSecure()) {
             return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
@@ -109,8 +111,8 @@ final class ProducerSettingsFactory {
         return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
     }
 
-    private ProducerSettings<String, String> addUnauthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
+    private ProducerSettings<String, byte[]> addUnauthenticatedSecurityProtocol(
+            final ProducerSettings<String, byte[]> settings) {
 
         if (isConnectionSecure()) {
             return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
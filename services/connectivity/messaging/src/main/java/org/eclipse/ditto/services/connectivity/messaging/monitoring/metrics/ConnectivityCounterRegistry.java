@@ -293,6 +293,25 @@ public final class ConnectivityCounterRegistry implements ConnectionMonitorRegis
         return getCounter(connectionId, MetricType.PUBLISHED, MetricDirection.OUTBOUND, RESPONSES_ADDRESS);
     }
 
+    /**
+     * Counts the messages consumed from sources and dispatched to targets by all connections within the last minute
+     * on this instance. The count serves as the message rate part of the load of a connectivity node.
+     *
+     * @return the number of consumed and dispatched messages within the last minute.
+     */
+    public static long getMessageCountOfLastMinute() {
+        return counters.values()
+                .stream()
+                .filter(counter -> isConsumedOrDispatched(counter.getMetricType(), counter.getMetricDirection()))
+                .mapToLong(counter -> counter.getCount(ONE_MINUTE))
+                .sum();
+    }
+
+    private static boolean isConsumedOrDispatched(final MetricType metricType, final MetricDirection metricDirection) {
+        return (metricType == MetricType.CONSUMED && metricDirection == MetricDirection.INBOUND) ||
+                (metricType == MetricType.DISPATCHED && metricDirection == MetricDirection.OUTBOUND);
+    }
+
     private static Stream<DefaultConnectionMetricsCounter> streamFor(final ConnectionId connectionId,
             final MetricDirection metricDirection) {
 
@@ -85,6 +85,18 @@ public final class DefaultConnectionMetricsCounter implements ConnectionMetricsC
         return address;
     }
 
+    /**
+     * Counts successful and failed operations within a measurement window.
+     *
+     * @param window the measurement window; must be one of the windows of this counter.
+     * @return the number of operations within the window.
+     */
+    long getCount(final MeasurementWindow window) {
+        final Duration duration = window.getWindow();
+        return counter.getCounts(true).getOrDefault(duration, 0L) +
+                counter.getCounts(false).getOrDefault(duration, 0L);
+    }
+
     /**
      * Produces a {@link Measurement} for reporting.
      *
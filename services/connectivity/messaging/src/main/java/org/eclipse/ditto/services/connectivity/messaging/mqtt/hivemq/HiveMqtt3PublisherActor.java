@@ -19,6 +19,8 @@ import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
@@ -101,7 +103,7 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
             final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
 
         final MqttQos targetQoS = determineQos(target);
-        publishMessage(publishTarget, targetQoS, message, publishedMonitor);
+        publishWithinWindow(target, () -> publishMessage(publishTarget, targetQoS, message, publishedMonitor));
     }
 
     private MqttQos determineQos(@Nullable final Target target) {
@@ -113,8 +115,8 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
         }
     }
 
-    private void publishMessage(final MqttPublishTarget publishTarget, final MqttQos qos, final ExternalMessage message,
-            final ConnectionMonitor publishedMonitor) {
+    private CompletionStage<?> publishMessage(final MqttPublishTarget publishTarget, final MqttQos qos,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
         try {
             final Mqtt3Publish mqttMessage = mapExternalMessageToMqttMessage(publishTarget, qos, message);
             if (log().isDebugEnabled()) {
@@ -124,7 +126,7 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
                 log().debug("Publishing MQTT message to topic <{}>: {}", mqttMessage.getTopic(),
                         humanReadablePayload);
             }
-            client.publish(mqttMessage).whenComplete((mqtt3Publish, throwable) -> {
+            return client.publish(mqttMessage).whenComplete((mqtt3Publish, throwable) -> {
                 if (null == throwable) {
                     log().debug("Successfully published to message of type <{}> to target address <{}>",
                             mqttMessage.getType(), publishTarget.getTopic());
@@ -139,6 +141,7 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
         } catch (final Exception e) {
             log().info("Won't publish message, since currently in disconnected state.");
             publishedMonitor.failure(message, "Won't publish message since currently not connected.");
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -20,6 +20,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
@@ -115,7 +117,7 @@ public final class HiveMqtt5PublisherActor extends BasePublisherActor<MqttPublis
             final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
 
         final MqttQos targetQoS = determineQos(target);
-        publishMessage(publishTarget, targetQoS, message, publishedMonitor);
+        publishWithinWindow(target, () -> publishMessage(publishTarget, targetQoS, message, publishedMonitor));
     }
 
     private MqttQos determineQos(@Nullable final Target target) {
@@ -127,8 +129,8 @@ public final class HiveMqtt5PublisherActor extends BasePublisherActor<MqttPublis
         }
     }
 
-    private void publishMessage(final MqttPublishTarget publishTarget, final MqttQos qos, final ExternalMessage message,
-            final ConnectionMonitor publishedMonitor) {
+    private CompletionStage<?> publishMessage(final MqttPublishTarget publishTarget, final MqttQos qos,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
         try {
             final Mqtt5Publish mqttMessage = mapExternalMessageToMqttMessage(publishTarget, qos, message);
             if (log().isDebugEnabled()) {
@@ -138,7 +140,7 @@ public final class HiveMqtt5PublisherActor extends BasePublisherActor<MqttPublis
                 log().debug("Publishing MQTT message to topic <{}>: {}", mqttMessage.getTopic(),
                         humanReadablePayload);
             }
-            client.publish(mqttMessage).whenComplete((mqtt5Publish, throwable) -> {
+            return client.publish(mqttMessage).whenComplete((mqtt5Publish, throwable) -> {
                 if (null == throwable) {
                     log().debug("Successfully published to message of type <{}> to target address <{}>",
                             mqttMessage.getType(), publishTarget.getTopic());
@@ -153,6 +155,7 @@ public final class HiveMqtt5PublisherActor extends BasePublisherActor<MqttPublis
         } catch (final Exception e) {
             log().info("Won't publish message, since currently in disconnected state.");
             publishedMonitor.failure(message, "Won't publish message since currently not connected.");
+            return CompletableFuture.completedFuture(null);
         }
     }
 
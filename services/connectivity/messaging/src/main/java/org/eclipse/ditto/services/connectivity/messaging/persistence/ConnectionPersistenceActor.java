@@ -20,7 +20,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +30,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -41,6 +44,7 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.ConnectionLifecycle;
 import org.eclipse.ditto.model.connectivity.ConnectionMetrics;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -49,6 +53,7 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.ClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.amqp.AmqpValidator;
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
@@ -66,6 +71,8 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.Retr
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.Mqtt3Validator;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.Mqtt5Validator;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.stages.ConnectionState;
+import org.eclipse.ditto.services.connectivity.messaging.placement.ClientActorPlacement;
+import org.eclipse.ditto.services.connectivity.messaging.placement.NodeLoads;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.stages.StagedCommand;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.commands.ConnectionCreatedStrategies;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.strategies.commands.ConnectionDeletedStrategies;
@@ -111,13 +118,22 @@ import org.eclipse.ditto.signals.events.connectivity.ConnectivityEvent;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.Deploy;
+import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.cluster.Cluster;
+import akka.cluster.Member;
+import akka.cluster.MemberStatus;
 import akka.cluster.routing.ClusterRouterPool;
 import akka.cluster.routing.ClusterRouterPoolSettings;
 import akka.pattern.Patterns;
 import akka.persistence.RecoveryCompleted;
+import akka.remote.RemoteScope;
 import akka.routing.Broadcast;
+import akka.routing.ConsistentHashingGroup;
 import akka.routing.ConsistentHashingPool;
 import akka.routing.ConsistentHashingRouter;
 import akka.routing.Pool;
@@ -159,6 +175,12 @@ public final class ConnectionPersistenceActor
 
     @Nullable private ActorRef clientActorRouter;
 
+    // client actors and their nodes if they are placed according to load
+    private final Map<ActorRef, Address> clientActors = new HashMap<>();
+    @Nullable private ActorRef outgoingClientActor;
+    @Nullable private ActorRef incomingClientActor;
+    @Nullable private Props clientActorProps;
+
     private final Duration clientActorAskTimeout;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
 
@@ -168,6 +190,7 @@ public final class ConnectionPersistenceActor
     @Nullable private Instant loggingEnabledUntil;
     private final Duration loggingEnabledDuration;
     private final ConnectionConfig config;
+    private final ClientPlacementConfig placementConfig;
     private final MonitoringConfig monitoringConfig;
 
     private int subscriptionCounter = 0;
@@ -190,6 +213,7 @@ public final class ConnectionPersistenceActor
                 DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
         );
         config = connectivityConfig.getConnectionConfig();
+        placementConfig = config.getClientPlacementConfig();
 
         final ConnectionValidator connectionValidator =
                 ConnectionValidator.of(
@@ -462,6 +486,14 @@ public final class ConnectionPersistenceActor
             forwardSignalToClientActors((Signal<?>) message);
         } else if (message == CheckLoggingActive.INSTANCE) {
             checkLoggingEnabled();
+        } else if (message == RebalanceClientActors.INSTANCE) {
+            rebalanceClientActors();
+        } else if (message instanceof OutgoingClientActorClosed) {
+            outgoingClientActorClosed((OutgoingClientActorClosed) message);
+        } else if (message instanceof ClientActorMoved) {
+            clientActorMoved((ClientActorMoved) message);
+        } else if (message instanceof Terminated) {
+            clientActorTerminated((Terminated) message);
         } else {
             log.warning("Unknown message: {}", message);
         }
@@ -872,15 +904,19 @@ public final class ConnectionPersistenceActor
         if (entity != null && clientActorRouter == null && clientCount > 0) {
             log.info("Starting ClientActor for connection <{}> with <{}> clients.", entityId, clientCount);
             final Props props = propsFactory.getActorPropsForType(entity, conciergeForwarder, getSelf());
-            final ClusterRouterPoolSettings clusterRouterPoolSettings =
-                    new ClusterRouterPoolSettings(clientCount, clientActorsPerNode, true,
-                            Collections.singleton(CLUSTER_ROLE));
-            final Pool pool = new ConsistentHashingPool(clientCount);
-            final Props clusterRouterPoolProps =
-                    new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
-
-            // start client actor without name so it does not conflict with its previous incarnation
-            clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            if (placementConfig.isLoadAware()) {
+                startClientActorsByLoad(props, clientCount);
+            } else {
+                final ClusterRouterPoolSettings clusterRouterPoolSettings =
+                        new ClusterRouterPoolSettings(clientCount, clientActorsPerNode, true,
+                                Collections.singleton(CLUSTER_ROLE));
+                final Pool pool = new ConsistentHashingPool(clientCount);
+                final Props clusterRouterPoolProps =
+                        new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
+
+                // start client actor without name so it does not conflict with its previous incarnation
+                clientActorRouter = getContext().actorOf(clusterRouterPoolProps);
+            }
         } else if (clientActorRouter != null) {
             log.debug("ClientActor already started.");
         } else {
@@ -899,6 +935,214 @@ public final class ConnectionPersistenceActor
             stopChildActor(clientActorRouter);
             clientActorRouter = null;
         }
+        // client actors placed by load are not owned by the router
+        clientActors.keySet().forEach(this::stopClientActor);
+        clientActors.clear();
+        if (incomingClientActor != null) {
+            stopClientActor(incomingClientActor);
+            incomingClientActor = null;
+        }
+        outgoingClientActor = null;
+        clientActorProps = null;
+        timers().cancel(RebalanceClientActors.INSTANCE);
+    }
+
+    /**
+     * Start client actors on the least loaded connectivity nodes and route to them by a consistent hashing group.
+     * Unlike the client actors of a cluster router pool, they are moved to other nodes if the load of the nodes
+     * becomes imbalanced.
+     */
+    private void startClientActorsByLoad(final Props props, final int clientCount) {
+        clientActorProps = props;
+        final List<Address> nodes = getClientActorPlacement()
+                .selectNodes(entityId.toString(), clientCount, clientActorsPerNode, Collections.emptyList());
+        nodes.forEach(node -> clientActors.put(deployClientActor(props, node), node));
+        log.info("Placed client actors of connection <{}> on nodes <{}>.", entityId, nodes);
+        connectionLogger.success("Placed client actors on nodes {0}.", nodes);
+        updateClientActorRouter();
+        scheduleRebalanceClientActors();
+    }
+
+    private ClientActorPlacement getClientActorPlacement() {
+        final ActorSystem actorSystem = getContext().getSystem();
+        final Cluster cluster = Cluster.get(actorSystem);
+        final List<Address> connectivityNodes = StreamSupport.stream(cluster.state().getMembers().spliterator(), false)
+                .filter(member -> member.status() == MemberStatus.up() && member.hasRole(CLUSTER_ROLE))
+                .map(Member::address)
+                .collect(Collectors.toList());
+        final List<Address> candidates = connectivityNodes.isEmpty()
+                ? Collections.singletonList(cluster.selfAddress())
+                : connectivityNodes;
+        return ClientActorPlacement.of(candidates, NodeLoads.of(actorSystem).getSnapshot(), placementConfig);
+    }
+
+    private ActorRef deployClientActor(final Props props, final Address node) {
+        final Props deployedProps = node.equals(Cluster.get(getContext().getSystem()).selfAddress())
+                ? props
+                : props.withDeploy(new Deploy(new RemoteScope(node)));
+        return getContext().watch(getContext().actorOf(deployedProps));
+    }
+
+    private void stopClientActor(final ActorRef clientActor) {
+        getContext().unwatch(clientActor);
+        stopChildActor(clientActor);
+    }
+
+    private void updateClientActorRouter() {
+        @Nullable final ActorRef previousRouter = clientActorRouter;
+        final List<String> paths = clientActors.keySet()
+                .stream()
+                .map(clientActor -> clientActor.path().toString())
+                .collect(Collectors.toList());
+        clientActorRouter = getContext().actorOf(new ConsistentHashingGroup(paths).props());
+        if (previousRouter != null) {
+            // stop the previous router after the messages sent to it before; a group router does not stop its routees
+            previousRouter.tell(PoisonPill.getInstance(), getSelf());
+        }
+    }
+
+    private void scheduleRebalanceClientActors() {
+        final Duration interval = placementConfig.getRebalanceInterval();
+        final long jitterMillis = (long) (interval.toMillis() * (Math.random() - 0.5));
+        timers().startSingleTimer(RebalanceClientActors.INSTANCE, RebalanceClientActors.INSTANCE,
+                interval.plusMillis(jitterMillis));
+    }
+
+    private void rebalanceClientActors() {
+        if (clientActorRouter == null || clientActorProps == null) {
+            return;
+        }
+        if (outgoingClientActor == null && isDesiredStateOpen()) {
+            final List<Address> occupied = List.copyOf(clientActors.values());
+            getClientActorPlacement().findMove(entityId.toString(), clientActorsPerNode, occupied)
+                    .ifPresent(this::moveClientActor);
+        }
+        scheduleRebalanceClientActors();
+    }
+
+    /**
+     * Move a client actor: the client actor on the target node has to open the connection before it replaces the
+     * client actor on the source node in the router, which then closes the connection after processing all messages
+     * routed to it before. Protocols which identify the client by a fixed ID, e.g. MQTT, do not allow two connections
+     * of the same client, hence the client actor on the source node closes its connection before the client actor on
+     * the target node opens it; signals published in between are not delivered.
+     */
+    private void moveClientActor(final ClientActorPlacement.Move move) {
+        clientActors.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().equals(move.getFrom()))
+                .map(Map.Entry::getKey)
+                .findAny()
+                .ifPresent(outgoing -> {
+                    log.info("Moving client actor of connection <{}> due to <{}>.", entityId, move);
+                    connectionLogger.success("Moving client actor from node {0} with load {1} to node {2} " +
+                            "with load {3}.", move.getFrom(), move.getFromScore(), move.getTo(), move.getToScore());
+                    outgoingClientActor = outgoing;
+                    if (hasFixedClientId()) {
+                        final CloseConnection closeConnection = CloseConnection.of(entityId, DittoHeaders.empty());
+                        final ActorRef self = getSelf();
+                        processClientAskResult(Patterns.ask(outgoing, closeConnection, clientActorAskTimeout))
+                                .whenComplete((response, error) -> self.tell(
+                                        new OutgoingClientActorClosed(move, outgoing, error), ActorRef.noSender()));
+                    } else {
+                        openIncomingClientActor(move, outgoing);
+                    }
+                });
+    }
+
+    private boolean hasFixedClientId() {
+        return entity != null &&
+                (entity.getConnectionType() == ConnectionType.MQTT ||
+                        entity.getConnectionType() == ConnectionType.MQTT_5);
+    }
+
+    private void outgoingClientActorClosed(final OutgoingClientActorClosed closed) {
+        if (!closed.outgoing.equals(outgoingClientActor) || !clientActors.containsKey(closed.outgoing)) {
+            // the client actors were stopped or replaced in the meantime
+            return;
+        }
+        if (closed.error == null && isDesiredStateOpen()) {
+            openIncomingClientActor(closed.move, closed.outgoing);
+        } else {
+            outgoingClientActor = null;
+            reopenClientActor(closed.outgoing);
+            final String reason = closed.error == null ? "connection is not open" : closed.error.getMessage();
+            log.warning("Failed to close client actor of connection <{}> on <{}> for moving it: {}", entityId,
+                    closed.move.getFrom(), reason);
+            connectionLogger.failure("Failed to move client actor to node {0}: {1}", closed.move.getTo(), reason);
+        }
+    }
+
+    /**
+     * Start the client actor on the target node closed, so that it does not open the connection on its own, and open
+     * the connection once.
+     */
+    private void openIncomingClientActor(final ClientActorPlacement.Move move, final ActorRef outgoing) {
+        final Connection connection = checkNotNull(entity, "entity");
+        final Props closedProps = propsFactory.getActorPropsForType(
+                connection.toBuilder().connectionStatus(ConnectivityStatus.CLOSED).build(), conciergeForwarder,
+                getSelf());
+        final ActorRef incoming = deployClientActor(closedProps, move.getTo());
+        incomingClientActor = incoming;
+        final OpenConnection openConnection = OpenConnection.of(entityId, DittoHeaders.empty());
+        final ActorRef self = getSelf();
+        processClientAskResult(Patterns.ask(incoming, openConnection, clientActorAskTimeout))
+                .whenComplete((response, error) -> self.tell(
+                        new ClientActorMoved(incoming, move.getTo(), outgoing, error), ActorRef.noSender()));
+    }
+
+    private void clientActorMoved(final ClientActorMoved moved) {
+        if (!moved.incoming.equals(incomingClientActor) || !clientActors.containsKey(moved.outgoing)) {
+            // the client actors were stopped or replaced in the meantime
+            stopClientActor(moved.incoming);
+            return;
+        }
+        incomingClientActor = null;
+        outgoingClientActor = null;
+        if (moved.error == null) {
+            clientActors.remove(moved.outgoing);
+            clientActors.put(moved.incoming, moved.node);
+            // the client actor on the target node is connected, so it may replace the one on the source node
+            updateClientActorRouter();
+            drainClientActor(moved.outgoing);
+            connectionLogger.success("Moved client actor to node {0}.", moved.node);
+        } else {
+            stopClientActor(moved.incoming);
+            if (hasFixedClientId()) {
+                reopenClientActor(moved.outgoing);
+            }
+            log.warning("Failed to move client actor of connection <{}> to <{}>: {}", entityId, moved.node,
+                    moved.error.getMessage());
+            connectionLogger.failure("Failed to move client actor to node {0}: {1}", moved.node,
+                    moved.error.getMessage());
+        }
+    }
+
+    private void reopenClientActor(final ActorRef clientActor) {
+        if (isDesiredStateOpen()) {
+            clientActor.tell(OpenConnection.of(entityId, DittoHeaders.empty()), ActorRef.noSender());
+        }
+    }
+
+    private void drainClientActor(final ActorRef clientActor) {
+        getContext().unwatch(clientActor);
+        final CloseConnection closeConnection = CloseConnection.of(entityId, DittoHeaders.empty());
+        Patterns.ask(clientActor, closeConnection, clientActorAskTimeout)
+                .whenComplete((response, error) -> clientActor.tell(PoisonPill.getInstance(), ActorRef.noSender()));
+    }
+
+    private void clientActorTerminated(final Terminated terminated) {
+        final Address node = clientActors.remove(terminated.getActor());
+        if (node != null && clientActorRouter != null && clientActorProps != null) {
+            final List<Address> replacement = getClientActorPlacement()
+                    .selectNodes(entityId.toString(), 1, clientActorsPerNode, List.copyOf(clientActors.values()));
+            log.warning("Client actor of connection <{}> on <{}> terminated, replacing it on <{}>.", entityId, node,
+                    replacement);
+            connectionLogger.failure("Client actor on node {0} terminated, replacing it on nodes {1}.", node,
+                    replacement);
+            replacement.forEach(target -> clientActors.put(deployClientActor(clientActorProps, target), target));
+            updateClientActorRouter();
+        }
     }
 
     private void stopChildActor(final ActorRef actor) {
@@ -973,4 +1217,47 @@ public final class ConnectionPersistenceActor
         INSTANCE
     }
 
+    /**
+     * Message that will be sent by scheduler and triggers a check whether a client actor should move to another node.
+     */
+    enum RebalanceClientActors {
+        INSTANCE
+    }
+
+    /**
+     * Self message that reports the outcome of closing the connection in a client actor before moving it.
+     */
+    private static final class OutgoingClientActorClosed {
+
+        private final ClientActorPlacement.Move move;
+        private final ActorRef outgoing;
+        @Nullable private final Throwable error;
+
+        private OutgoingClientActorClosed(final ClientActorPlacement.Move move, final ActorRef outgoing,
+                @Nullable final Throwable error) {
+            this.move = move;
+            this.outgoing = outgoing;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Self message that reports the outcome of opening the connection in a client actor on its new node.
+     */
+    private static final class ClientActorMoved {
+
+        private final ActorRef incoming;
+        private final Address node;
+        private final ActorRef outgoing;
+        @Nullable private final Throwable error;
+
+        private ClientActorMoved(final ActorRef incoming, final Address node, final ActorRef outgoing,
+                @Nullable final Throwable error) {
+            this.incoming = incoming;
+            this.node = node;
+            this.outgoing = outgoing;
+            this.error = error;
+        }
+    }
+
 }
@@ -15,18 +15,23 @@ package org.eclipse.ditto.services.connectivity.messaging.persistence;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -35,6 +40,7 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -55,11 +61,18 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
  * <li>removing those targets that do not want to receive a signal</li>
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
+ * <p>
+ * The filtered topics of all targets are indexed by topic and namespace and their RQL filters are parsed once when
+ * the filter is created, so that filtering a signal only evaluates the filters of targets subscribed for its topic and
+ * namespace.
+ * </p>
  */
 final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final List<Target> targets;
+    private final Map<Topic, TopicIndex> topicIndex;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
@@ -70,6 +83,8 @@ final class SignalFilter {
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        targets = connection.getTargets();
+        topicIndex = buildTopicIndex(targets);
     }
 
     /**
@@ -81,41 +96,50 @@ final class SignalFilter {
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the optional filter string of a
      * Target cannot be mapped to a valid criterion
      */
-    @SuppressWarnings("squid:S3864")
     List<Target> filter(final Signal<?> signal) {
-        return connection.getTargets().stream()
-                .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
+        final BitSet authorizedTargets = new BitSet(targets.size());
+        for (int i = 0; i < targets.size(); ++i) {
+            final Target target = targets.get(i);
+            if (isTargetAuthorized(target, signal)) { // this is cheaper, so check this first
+                authorizedTargets.set(i);
                 // count authorized targets
-                .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(),
-                        authorizedTarget.getAddress())
-                        .success(signal))
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
-                // count authorized + filtered targets
-                .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(),
-                        filteredTarget.getAddress())
-                        .success(signal))
-                .collect(Collectors.toList());
-    }
+                connectionMonitorRegistry.forOutboundDispatched(connection.getId(), target.getAddress())
+                        .success(signal);
+            }
+        }
+        if (authorizedTargets.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
-        final AuthorizationContext authorizationContext = target.getAuthorizationContext();
-        final DittoHeaders headers = signal.getDittoHeaders();
-        return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(), headers.getReadRevokedSubjects());
-    }
+        final BitSet subscribedTargets = new BitSet(targets.size());
+        final ThingOfSignal thingOfSignal = new ThingOfSignal(signal);
+        for (final CompiledTopic candidate : lookUpCandidates(signal)) {
+            final int targetIndex = candidate.targetIndex;
+            if (authorizedTargets.get(targetIndex) && !subscribedTargets.get(targetIndex) &&
+                    candidate.matchesFilterBeforeEnrichment(thingOfSignal, signal)) {
+                subscribedTargets.set(targetIndex);
+            }
+        }
 
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
-        return target.getTopics().stream()
-                .filter(applyTopicFilter(signal))
-                .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+        final List<Target> result = new ArrayList<>(subscribedTargets.cardinality());
+        subscribedTargets.stream().mapToObj(targets::get).forEach(filteredTarget -> {
+            // count authorized + filtered targets
+            connectionMonitorRegistry.forOutboundFiltered(connection.getId(), filteredTarget.getAddress())
+                    .success(signal);
+            result.add(filteredTarget);
+        });
+        return result;
     }
 
-    private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
+    private List<CompiledTopic> lookUpCandidates(final Signal<?> signal) {
+        final TopicIndex index = topicFromSignal(signal).map(topicIndex::get).orElse(null);
+        return null != index ? index.lookUp(namespaceFromId(signal)) : Collections.emptyList();
     }
 
-    private static Predicate<FilteredTopic> applyNamespaceFilter(final WithId signal) {
-        return t -> t.getNamespaces().isEmpty() || t.getNamespaces().contains(namespaceFromId(signal));
+    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
+        final AuthorizationContext authorizationContext = target.getAuthorizationContext();
+        final DittoHeaders headers = signal.getDittoHeaders();
+        return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(), headers.getReadRevokedSubjects());
     }
 
     @Nullable
@@ -123,29 +147,22 @@ final class SignalFilter {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
-        final Optional<String> filterOptional = filteredTopic.getFilter();
-        if (filterOptional.isPresent() && signal instanceof ThingEvent) {
-            // match filter ignoring "extraFields"
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                    .filter(thing -> {
-                        final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders());
-                        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                                .map(JsonFieldSelector::getPointers)
-                                .orElse(Collections.emptySet());
-                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing);
-                    })
-                    .isPresent();
-        } else {
-            return true;
+    private static Map<Topic, TopicIndex> buildTopicIndex(final List<Target> targets) {
+        final Map<Topic, TopicIndex> index = new EnumMap<>(Topic.class);
+        for (int i = 0; i < targets.size(); ++i) {
+            for (final FilteredTopic filteredTopic : targets.get(i).getTopics()) {
+                index.computeIfAbsent(filteredTopic.getTopic(), topic -> new TopicIndex())
+                        .add(new CompiledTopic(i, filteredTopic), filteredTopic.getNamespaces());
+            }
         }
+        return index;
     }
 
     /**
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
         return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
     }
 
@@ -195,4 +212,110 @@ final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * Filtered topics of one topic indexed by namespace.
+     */
+    private static final class TopicIndex {
+
+        private final Map<String, List<CompiledTopic>> byNamespace = new HashMap<>();
+        private final List<CompiledTopic> forAllNamespaces = new ArrayList<>();
+
+        private void add(final CompiledTopic compiledTopic, final Collection<String> namespaces) {
+            if (namespaces.isEmpty()) {
+                forAllNamespaces.add(compiledTopic);
+            } else {
+                namespaces.forEach(namespace ->
+                        byNamespace.computeIfAbsent(namespace, ns -> new ArrayList<>()).add(compiledTopic));
+            }
+        }
+
+        private List<CompiledTopic> lookUp(@Nullable final String namespace) {
+            final List<CompiledTopic> forNamespace =
+                    null != namespace ? byNamespace.getOrDefault(namespace, Collections.emptyList())
+                            : Collections.emptyList();
+            if (forNamespace.isEmpty()) {
+                return forAllNamespaces;
+            } else if (forAllNamespaces.isEmpty()) {
+                return forNamespace;
+            } else {
+                final List<CompiledTopic> candidates = new ArrayList<>(forNamespace.size() + forAllNamespaces.size());
+                candidates.addAll(forNamespace);
+                candidates.addAll(forAllNamespaces);
+                return candidates;
+            }
+        }
+
+    }
+
+    /**
+     * A filtered topic of a target with its RQL filter parsed in advance.
+     */
+    private static final class CompiledTopic {
+
+        private final int targetIndex;
+        @Nullable private final String filter;
+        @Nullable private final Criteria criteria;
+        private final Set<JsonPointer> extraFields;
+
+        private CompiledTopic(final int targetIndex, final FilteredTopic filteredTopic) {
+            this.targetIndex = targetIndex;
+            filter = filteredTopic.getFilter().orElse(null);
+            criteria = null != filter ? tryToParseCriteria(filter) : null;
+            extraFields = filteredTopic.getExtraFields()
+                    .map(JsonFieldSelector::getPointers)
+                    .orElse(Collections.emptySet());
+        }
+
+        private boolean matchesFilterBeforeEnrichment(final ThingOfSignal thingOfSignal, final Signal<?> signal) {
+            if (null != filter && signal instanceof ThingEvent) {
+                // match filter ignoring "extraFields"
+                return thingOfSignal.get()
+                        .filter(thing -> {
+                            // invalid filters are parsed again to report the error with the headers of the signal
+                            final Criteria theCriteria =
+                                    null != criteria ? criteria : parseCriteria(filter, signal.getDittoHeaders());
+                            return Thing3ValuePredicateVisitor.couldBeTrue(theCriteria, extraFields, thing);
+                        })
+                        .isPresent();
+            } else {
+                return true;
+            }
+        }
+
+        @Nullable
+        private static Criteria tryToParseCriteria(final String filter) {
+            try {
+                return parseCriteria(filter, DittoHeaders.empty());
+            } catch (final DittoRuntimeException e) {
+                return null;
+            }
+        }
+
+    }
+
+    /**
+     * The thing of a thing event, converted at most once per signal.
+     */
+    private static final class ThingOfSignal {
+
+        private final Signal<?> signal;
+        private boolean converted;
+        @Nullable private Thing thing;
+
+        private ThingOfSignal(final Signal<?> signal) {
+            this.signal = signal;
+            converted = false;
+            thing = null;
+        }
+
+        private Optional<Thing> get() {
+            if (!converted) {
+                thing = ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal).orElse(null);
+                converted = true;
+            }
+            return Optional.ofNullable(thing);
+        }
+
+    }
+
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
+
+import akka.actor.Address;
+
+/**
+ * Decides on which connectivity nodes the client actors of a connection run.
+ * <p>
+ * New client actors go to the nodes with the lowest load score, spread over as many nodes as possible. Ties between
+ * nodes of equal load, e. g. of idle nodes, are broken by rendezvous hashing of connection ID and node address so that
+ * the client actors of different connections do not pile up on the same node. A client actor is moved only if the
+ * load of its node exceeds the load of the best free node by more than the configured imbalance threshold, which
+ * keeps client actors from oscillating between nodes of similar load.
+ * </p>
+ */
+@Immutable
+public final class ClientActorPlacement {
+
+    private final Map<Address, Double> scores;
+    private final double imbalanceThreshold;
+
+    private ClientActorPlacement(final Map<Address, Double> scores, final double imbalanceThreshold) {
+        this.scores = Collections.unmodifiableMap(scores);
+        this.imbalanceThreshold = imbalanceThreshold;
+    }
+
+    /**
+     * Create a placement among candidate nodes.
+     *
+     * @param candidates addresses of the connectivity nodes able to run client actors.
+     * @param nodeLoads the last known loads of the connectivity nodes; nodes without load are considered idle.
+     * @param config the client placement config.
+     * @return the placement.
+     */
+    public static ClientActorPlacement of(final Collection<Address> candidates, final Map<Address, NodeLoad> nodeLoads,
+            final ClientPlacementConfig config) {
+
+        final Map<Address, Double> scores = candidates.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), address ->
+                        nodeLoads.getOrDefault(address, NodeLoad.IDLE).getScore(config.getMappingTimeWeight())));
+        return new ClientActorPlacement(scores, config.getImbalanceThreshold());
+    }
+
+    /**
+     * Select the nodes for new client actors of a connection.
+     *
+     * @param connectionId ID of the connection.
+     * @param count how many client actors to place.
+     * @param clientsPerNode how many client actors of the connection may run on one node.
+     * @param occupied nodes of the running client actors of the connection, one entry per client actor.
+     * @return the selected nodes, one entry per client actor; fewer than {@code count} if the candidate nodes have no
+     * capacity left.
+     */
+    public List<Address> selectNodes(final String connectionId, final int count, final int clientsPerNode,
+            final Collection<Address> occupied) {
+
+        final Map<Address, Integer> usage = countUsage(occupied);
+        final List<Address> selected = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            final Optional<Address> next = scores.keySet()
+                    .stream()
+                    .filter(address -> usage.getOrDefault(address, 0) < clientsPerNode)
+                    .min(Comparator.<Address>comparingInt(address -> usage.getOrDefault(address, 0))
+                            .thenComparing(scores::get)
+                            .thenComparingInt(address -> rendezvousHash(connectionId, address)));
+            if (next.isPresent()) {
+                selected.add(next.get());
+                usage.merge(next.get(), 1, Integer::sum);
+            } else {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Find a client actor of a connection worth moving to another node.
+     *
+     * @param connectionId ID of the connection.
+     * @param clientsPerNode how many client actors of the connection may run on one node.
+     * @param occupied nodes of the running client actors of the connection, one entry per client actor.
+     * @return the move of a client actor from its node to a less loaded node, or an empty optional if the load is
+     * balanced within the imbalance threshold.
+     */
+    public Optional<Move> findMove(final String connectionId, final int clientsPerNode,
+            final Collection<Address> occupied) {
+
+        final Optional<Address> mostLoaded = occupied.stream()
+                .filter(scores::containsKey)
+                .max(Comparator.comparing(scores::get));
+        final Optional<Address> leastLoaded = selectNodes(connectionId, 1, clientsPerNode, occupied).stream()
+                .findFirst();
+        if (mostLoaded.isPresent() && leastLoaded.isPresent()) {
+            final double fromScore = scores.get(mostLoaded.get());
+            final double toScore = scores.get(leastLoaded.get());
+            if (fromScore > (1.0 + imbalanceThreshold) * toScore) {
+                return Optional.of(new Move(mostLoaded.get(), fromScore, leastLoaded.get(), toScore));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<Address, Integer> countUsage(final Collection<Address> occupied) {
+        final Map<Address, Integer> usage = new HashMap<>();
+        occupied.forEach(address -> usage.merge(address, 1, Integer::sum));
+        return usage;
+    }
+
+    private static int rendezvousHash(final String connectionId, final Address address) {
+        // finalizer of MurmurHash3 so that similar connection IDs do not prefer the same node
+        int hash = (connectionId + address).hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "scores=" + scores +
+                ", imbalanceThreshold=" + imbalanceThreshold +
+                "]";
+    }
+
+    /**
+     * Move of a client actor from one node to another.
+     */
+    @Immutable
+    public static final class Move {
+
+        private final Address from;
+        private final double fromScore;
+        private final Address to;
+        private final double toScore;
+
+        private Move(final Address from, final double fromScore, final Address to, final double toScore) {
+            this.from = from;
+            this.fromScore = fromScore;
+            this.to = to;
+            this.toScore = toScore;
+        }
+
+        /**
+         * @return the node to move a client actor away from.
+         */
+        public Address getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the load score of the node to move a client actor away from.
+         */
+        public double getFromScore() {
+            return fromScore;
+        }
+
+        /**
+         * @return the node to move a client actor to.
+         */
+        public Address getTo() {
+            return to;
+        }
+
+        /**
+         * @return the load score of the node to move a client actor to.
+         */
+        public double getToScore() {
+            return toScore;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Move that = (Move) o;
+            return Double.compare(that.fromScore, fromScore) == 0 &&
+                    Double.compare(that.toScore, toScore) == 0 &&
+                    Objects.equals(from, that.from) &&
+                    Objects.equals(to, that.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, fromScore, to, toScore);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "from=" + from +
+                    ", fromScore=" + fromScore +
+                    ", to=" + to +
+                    ", toScore=" + toScore +
+                    "]";
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Load of a connectivity node: the rate of messages its client actors consume and dispatch and the time it spends on
+ * message mapping.
+ */
+@Immutable
+public final class NodeLoad {
+
+    /**
+     * Load of a node without any traffic.
+     */
+    public static final NodeLoad IDLE = new NodeLoad(0.0, 0.0);
+
+    private static final JsonFieldDefinition<Double> MESSAGES_PER_SECOND =
+            JsonFactory.newDoubleFieldDefinition("messagesPerSecond");
+
+    private static final JsonFieldDefinition<Double> MAPPING_MILLIS_PER_SECOND =
+            JsonFactory.newDoubleFieldDefinition("mappingMillisPerSecond");
+
+    private final double messagesPerSecond;
+    private final double mappingMillisPerSecond;
+
+    private NodeLoad(final double messagesPerSecond, final double mappingMillisPerSecond) {
+        this.messagesPerSecond = messagesPerSecond;
+        this.mappingMillisPerSecond = mappingMillisPerSecond;
+    }
+
+    /**
+     * Create the load of a node.
+     *
+     * @param messagesPerSecond how many messages per second the client actors of the node consume and dispatch.
+     * @param mappingMillisPerSecond how many milliseconds per second the node spends on message mapping.
+     * @return the load.
+     */
+    public static NodeLoad of(final double messagesPerSecond, final double mappingMillisPerSecond) {
+        return new NodeLoad(messagesPerSecond, mappingMillisPerSecond);
+    }
+
+    /**
+     * Deserialize the load of a node from JSON.
+     *
+     * @param jsonObject the JSON representation.
+     * @return the load.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if a field is missing.
+     */
+    public static NodeLoad fromJson(final JsonObject jsonObject) {
+        return new NodeLoad(jsonObject.getValueOrThrow(MESSAGES_PER_SECOND),
+                jsonObject.getValueOrThrow(MAPPING_MILLIS_PER_SECOND));
+    }
+
+    /**
+     * @return how many messages per second the client actors of the node consume and dispatch.
+     */
+    public double getMessagesPerSecond() {
+        return messagesPerSecond;
+    }
+
+    /**
+     * @return how many milliseconds per second the node spends on message mapping.
+     */
+    public double getMappingMillisPerSecond() {
+        return mappingMillisPerSecond;
+    }
+
+    /**
+     * Compute the load score by which nodes are compared.
+     *
+     * @param mappingTimeWeight how many messages per second one millisecond of mapping per second is worth.
+     * @return the load score.
+     */
+    public double getScore(final double mappingTimeWeight) {
+        return messagesPerSecond + mappingTimeWeight * mappingMillisPerSecond;
+    }
+
+    /**
+     * @return the JSON representation of this load.
+     */
+    public JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set(MESSAGES_PER_SECOND, messagesPerSecond)
+                .set(MAPPING_MILLIS_PER_SECOND, mappingMillisPerSecond)
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final NodeLoad that = (NodeLoad) o;
+        return Double.compare(that.messagesPerSecond, messagesPerSecond) == 0 &&
+                Double.compare(that.mappingMillisPerSecond, mappingMillisPerSecond) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(messagesPerSecond, mappingMillisPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "messagesPerSecond=" + messagesPerSecond +
+                ", mappingMillisPerSecond=" + mappingMillisPerSecond +
+                "]";
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.Replicator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor that periodically publishes the load of this connectivity node and keeps the snapshot of the loads of all
+ * connectivity nodes in {@link NodeLoads} up to date.
+ */
+public final class NodeLoadReporter extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "nodeLoadReporter";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final NodeLoads nodeLoads;
+    private final NodeLoadSampler sampler;
+
+    @SuppressWarnings("unused")
+    private NodeLoadReporter(final Duration reportInterval) {
+        nodeLoads = NodeLoads.of(getContext().getSystem());
+        sampler = NodeLoadSampler.create();
+        timers().startPeriodicTimer(Control.REPORT, Control.REPORT, reportInterval);
+    }
+
+    /**
+     * Create Props of the node load reporter.
+     *
+     * @param reportInterval how often to publish the load of this node.
+     * @return the Props object.
+     */
+    public static Props props(final Duration reportInterval) {
+        return Props.create(NodeLoadReporter.class, reportInterval);
+    }
+
+    @Override
+    public void preStart() {
+        nodeLoads.subscribeForChanges(getSelf());
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.REPORT, this::report)
+                .match(Replicator.Changed.class, this::nodeLoadsChanged)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void report(final Control report) {
+        final NodeLoad nodeLoad = sampler.sample();
+        log.debug("Publishing load of this node: <{}>", nodeLoad);
+        nodeLoads.publish(nodeLoad).exceptionally(error -> {
+            log.error(error, "Failed to publish load of this node");
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void nodeLoadsChanged(final Replicator.Changed<?> changed) {
+        nodeLoads.updateSnapshot((LWWMap<String, String>) changed.dataValue());
+    }
+
+    private enum Control {
+        REPORT
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectivityCounterRegistry;
+
+/**
+ * Samples the load of this connectivity node. The message rate is taken from the connection metrics of
+ * {@link ConnectivityCounterRegistry}; the mapping time is accumulated by {@link #recordMappingTime(long)}.
+ */
+@NotThreadSafe
+public final class NodeLoadSampler {
+
+    private static final LongAdder MAPPING_NANOS = new LongAdder();
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double SECONDS_PER_MINUTE = 60.0;
+
+    private long lastSampleNanos;
+
+    private NodeLoadSampler() {
+        lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Create a sampler whose first sample covers the time since its creation.
+     *
+     * @return the sampler.
+     */
+    public static NodeLoadSampler create() {
+        return new NodeLoadSampler();
+    }
+
+    /**
+     * Record time spent on message mapping on this node. Thread-safe.
+     *
+     * @param nanos the mapping time in nanoseconds.
+     */
+    public static void recordMappingTime(final long nanos) {
+        MAPPING_NANOS.add(nanos);
+    }
+
+    /**
+     * Sample the load of this node since the previous sample.
+     *
+     * @return the load.
+     */
+    public NodeLoad sample() {
+        final long now = System.nanoTime();
+        final double elapsedSeconds = Math.max(1L, now - lastSampleNanos) / NANOS_PER_SECOND;
+        lastSampleNanos = now;
+        final double mappingMillis = MAPPING_NANOS.sumThenReset() / NANOS_PER_MILLI;
+        final double messagesPerSecond =
+                ConnectivityCounterRegistry.getMessageCountOfLastMinute() / SECONDS_PER_MINUTE;
+        return NodeLoad.of(messagesPerSecond, mappingMillis / elapsedSeconds);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.models.connectivity.ConnectivityMessagingConstants;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+
+/**
+ * Distributed data of the loads of all connectivity nodes, keyed by the addresses of the nodes.
+ * <p>
+ * Each node writes its own load to the local replica; the replicator gossips it to the other connectivity nodes.
+ * A snapshot of all loads is kept in memory by {@link NodeLoadReporter} so that client actors can be placed without
+ * waiting for the replicator.
+ * </p>
+ */
+public final class NodeLoads extends DistributedData<LWWMap<String, String>> {
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "connectivityNodeLoadsReplicator";
+
+    /**
+     * Key of the distributed data. Should be unique among LWWMaps.
+     */
+    private static final Key<LWWMap<String, String>> KEY = LWWMapKey.create("ConnectivityNodeLoads");
+
+    private final SelfUniqueAddress selfUniqueAddress;
+    private final String selfAddress;
+
+    private volatile Map<Address, NodeLoad> snapshot = Collections.emptyMap();
+
+    private NodeLoads(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatcher());
+        final Cluster cluster = Cluster.get(system);
+        selfUniqueAddress = SelfUniqueAddress.apply(cluster.selfUniqueAddress());
+        selfAddress = cluster.selfAddress().toString();
+    }
+
+    /**
+     * Get the instance of this distributed data of an actor system. The actor system must be a cluster member with
+     * the connectivity role.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return the instance of the distributed data.
+     */
+    public static NodeLoads of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Write the load of this node to the local replica.
+     *
+     * @param nodeLoad the load of this node.
+     * @return future that completes after the local replica is updated.
+     */
+    public CompletionStage<Void> publish(final NodeLoad nodeLoad) {
+        final String value = nodeLoad.toJson().toString();
+        return update(Replicator.writeLocal(), lwwMap -> lwwMap.put(selfUniqueAddress, selfAddress, value));
+    }
+
+    /**
+     * @return the last known loads of the connectivity nodes by their addresses.
+     */
+    public Map<Address, NodeLoad> getSnapshot() {
+        return snapshot;
+    }
+
+    void updateSnapshot(final LWWMap<String, String> lwwMap) {
+        final Map<Address, NodeLoad> newSnapshot = new HashMap<>();
+        lwwMap.getEntries().forEach((address, load) ->
+                newSnapshot.put(AddressFromURIString.parse(address), NodeLoad.fromJson(JsonObject.of(load))));
+        snapshot = Collections.unmodifiableMap(newSnapshot);
+    }
+
+    @Override
+    protected Key<LWWMap<String, String>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, String> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, String>, NodeLoads> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public NodeLoads createExtension(final ExtendedActorSystem system) {
+            return new NodeLoads(DistributedData.createConfig(system, ACTOR_NAME,
+                    ConnectivityMessagingConstants.CLUSTER_ROLE), system);
+        }
+    }
+
+}
@@ -22,7 +22,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.CompletionListener;
 import javax.jms.Destination;
@@ -42,6 +44,7 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.amqp.status.ProducerClosedStatusReport;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
@@ -59,7 +62,11 @@ import org.mockito.stubbing.Answer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -245,6 +252,56 @@ public class AmqpPublisherActorTest extends AbstractPublisherActorTest {
 
     }
 
+    @Test
+    public void sendsOfOneTargetAreLimitedToInFlightWindow() throws Exception {
+        final ActorSystem windowedActorSystem = ActorSystem.create("AkkaTestSystemWithPublishWindow",
+                ConfigFactory.parseString("ditto.connectivity.connection.publisher {\n" +
+                        "  max-in-flight = 1\n" +
+                        "  max-queue-size = 1\n" +
+                        "}").withFallback(CONFIG));
+        try {
+            new TestKit(windowedActorSystem) {{
+                setupMocks(new TestProbe(windowedActorSystem));
+                final PublishMappedMessage publishMappedMessage =
+                        new PublishMappedMessage(getMockOutboundSignal(), getRef());
+                final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+                publisherCreated(this, publisherActor);
+
+                // GIVEN: 3 messages are published to one target whose window admits 1 message and queues 1 more
+                publisherActor.tell(publishMappedMessage, getRef());
+                publisherActor.tell(publishMappedMessage, getRef());
+                publisherActor.tell(publishMappedMessage, getRef());
+
+                // THEN: only the first message is sent and acknowledged until the broker confirms it
+                final ArgumentCaptor<CompletionListener> listenerCaptor =
+                        ArgumentCaptor.forClass(CompletionListener.class);
+                expectMsg(Done.getInstance());
+                verify(messageProducer, after(500).times(1)).send(any(Message.class), listenerCaptor.capture());
+                expectNoMessage();
+
+                // WHEN: the broker confirms the first message
+                listenerCaptor.getValue().onCompletion(mock(Message.class));
+
+                // THEN: the second message is sent while the third one still fills the queue
+                verify(messageProducer, timeout(1_000).times(2)).send(any(Message.class), listenerCaptor.capture());
+                expectNoMessage();
+
+                // WHEN: the broker confirms the second message
+                final List<CompletionListener> listeners = listenerCaptor.getAllValues();
+                listeners.get(listeners.size() - 1).onCompletion(mock(Message.class));
+
+                // THEN: the third message is sent instead of being dropped and the withheld acknowledgements follow
+                verify(messageProducer, timeout(1_000).times(3))
+                        .send(any(Message.class), any(CompletionListener.class));
+                expectMsg(Done.getInstance());
+                expectMsg(Done.getInstance());
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(windowedActorSystem,
+                    scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS), false);
+        }
+    }
+
     @Override
     protected Props getPublisherActorProps() {
         return AmqpPublisherActor.props(TestConstants.createConnection(), session, loadConnectionConfig());
@@ -59,7 +59,9 @@ public final class DefaultConnectionConfigTest {
                         DefaultSignalEnrichmentConfig.class,
                         DefaultMqttConfig.class,
                         DefaultKafkaConfig.class,
-                        DefaultAmqp10Config.class
+                        DefaultAmqp10Config.class,
+                        DefaultClientPlacementConfig.class,
+                        DefaultPublisherConfig.class
                 ).areAlsoImmutable()
         );
     }
@@ -116,6 +118,37 @@ public final class DefaultConnectionConfigTest {
                 .satisfies(httpPushConfig -> softly.assertThat(httpPushConfig.getMaxQueueSize())
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
+
+        softly.assertThat(underTest.getClientPlacementConfig())
+                .as("clientPlacementConfig")
+                .satisfies(clientPlacementConfig -> {
+                    softly.assertThat(clientPlacementConfig.isLoadAware())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.LOAD_AWARE.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(clientPlacementConfig.getImbalanceThreshold())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.IMBALANCE_THRESHOLD.getConfigPath())
+                            .isEqualTo(0.25);
+                    softly.assertThat(clientPlacementConfig.getRebalanceInterval())
+                            .as(ClientPlacementConfig.ClientPlacementConfigValue.REBALANCE_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(1L));
+                });
+
+        softly.assertThat(underTest.getKafkaConfig().getProducerQueueSize())
+                .as(KafkaConfig.KafkaConfigValue.PRODUCER_QUEUE_SIZE.getConfigPath())
+                .isEqualTo(10);
+        softly.assertThat(underTest.getPublisherConfig())
+                .as("publisherConfig")
+                .satisfies(publisherConfig -> {
+                    softly.assertThat(publisherConfig.getMaxInFlight())
+                            .as(PublisherConfig.PublisherConfigValue.MAX_IN_FLIGHT.getConfigPath())
+                            .isEqualTo(2);
+                    softly.assertThat(publisherConfig.getMaxQueueSize())
+                            .as(PublisherConfig.PublisherConfigValue.MAX_QUEUE_SIZE.getConfigPath())
+                            .isEqualTo(1000);
+                    softly.assertThat(publisherConfig.getAckTimeout())
+                            .as(PublisherConfig.PublisherConfigValue.ACK_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(60L));
+                });
     }
 
 }
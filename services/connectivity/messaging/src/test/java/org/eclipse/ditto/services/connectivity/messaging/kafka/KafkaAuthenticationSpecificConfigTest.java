@@ -23,6 +23,7 @@ import java.util.Map;
 import javax.annotation.Nullable;
 
 import org.apache.kafka.common.config.SaslConfigs;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -61,7 +62,7 @@ public final class KafkaAuthenticationSpecificConfigTest {
     private static final String KNOWN_PASSWORD = "knownPassword";
 
     private static Map<String, String> defaultSpecificConfig;
-    private static ProducerSettings<String, String> defaultProducerSettings;
+    private static ProducerSettings<String, byte[]> defaultProducerSettings;
 
     private KafkaAuthenticationSpecificConfig underTest;
 
@@ -73,7 +74,8 @@ public final class KafkaAuthenticationSpecificConfigTest {
         final KafkaConfig kafkaConfig = TestConstants.CONNECTION_CONFIG.getKafkaConfig();
         final Config internalProducerConfig = kafkaConfig.getInternalProducerConfig();
         final Serializer<String> stringSerializer = new StringSerializer();
-        defaultProducerSettings = ProducerSettings.create(internalProducerConfig, stringSerializer, stringSerializer);
+        defaultProducerSettings =
+                ProducerSettings.create(internalProducerConfig, stringSerializer, new ByteArraySerializer());
     }
 
     @Before
@@ -168,14 +170,14 @@ public final class KafkaAuthenticationSpecificConfigTest {
     }
 
     private void shouldNotContainSaslMechanism(final Connection connection) {
-        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+        final ProducerSettings<String, byte[]> settings = underTest.apply(defaultProducerSettings, connection);
 
         assertThat(settings.properties().get(SaslConfigs.SASL_MECHANISM).isDefined()).isFalse();
         assertThat(settings.properties().get(SaslConfigs.SASL_JAAS_CONFIG).isDefined()).isFalse();
     }
 
     private void shouldContainPlainSaslMechanism(final Connection connection) {
-        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+        final ProducerSettings<String, byte[]> settings = underTest.apply(defaultProducerSettings, connection);
 
         assertThat(settings.properties().get(SaslConfigs.SASL_MECHANISM).get()).isEqualTo(KNOWN_PLAIN_SASL_MECHANISM);
         assertThat(settings.properties().get(SaslConfigs.SASL_JAAS_CONFIG).get()).isEqualTo(
@@ -185,7 +187,7 @@ public final class KafkaAuthenticationSpecificConfigTest {
     }
 
     private void shouldContainScramSaslMechanism(final Connection connection, final String mechanism) {
-        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+        final ProducerSettings<String, byte[]> settings = underTest.apply(defaultProducerSettings, connection);
 
         assertThat(settings.properties().get(SaslConfigs.SASL_MECHANISM).get()).isEqualTo(mechanism);
         assertThat(settings.properties().get(SaslConfigs.SASL_JAAS_CONFIG).get()).isEqualTo(
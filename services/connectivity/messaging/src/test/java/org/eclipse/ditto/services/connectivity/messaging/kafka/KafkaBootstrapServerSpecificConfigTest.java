@@ -28,6 +28,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
@@ -52,8 +53,8 @@ public final class KafkaBootstrapServerSpecificConfigTest {
 
     private static final DittoHeaders HEADERS = DittoHeaders.empty();
     private static final Config CONFIG = TestConstants.CONNECTION_CONFIG.getKafkaConfig().getInternalProducerConfig();
-    private static final ProducerSettings<String, String>
-            DEFAULT_PRODUCER_SETTINGS = ProducerSettings.create(CONFIG, new StringSerializer(), new StringSerializer());
+    private static final ProducerSettings<String, byte[]>
+            DEFAULT_PRODUCER_SETTINGS = ProducerSettings.create(CONFIG, new StringSerializer(), new ByteArraySerializer());
 
     private static final String DEFAULT_SERVER = "s1.org.apache.kafka:9092";
     private static final String DEFAULT_SERVER_2 = "s2.org.apache.kafka:9092";
@@ -178,20 +179,20 @@ public final class KafkaBootstrapServerSpecificConfigTest {
     }
 
     private void shouldOnlyContainDefaultBootstrapServer(final Connection connection) {
-        final ProducerSettings<String, String> settings =
+        final ProducerSettings<String, byte[]> settings =
                 bootstrapServerSpecificConfig.apply(DEFAULT_PRODUCER_SETTINGS, connection);
         final List<String> servers = getBootstrapServers(settings);
         assertThat(servers).isEqualTo(Collections.singletonList(DEFAULT_SERVER));
     }
 
     private void shouldContainBootstrapServers(final Connection connection) {
-        final ProducerSettings<String, String> settings =
+        final ProducerSettings<String, byte[]> settings =
                 bootstrapServerSpecificConfig.apply(DEFAULT_PRODUCER_SETTINGS, connection);
         final List<String> servers = getBootstrapServers(settings);
         assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS_ARRAY);
     }
 
-    private static List<String> getBootstrapServers(final ProducerSettings<String, String> settings) {
+    private static List<String> getBootstrapServers(final ProducerSettings<String, byte[]> settings) {
         return Arrays.asList(settings.properties().get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG).get().split(","));
     }
 
@@ -33,6 +33,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractBaseClientActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -176,7 +177,7 @@ public final class KafkaClientActorTest extends AbstractBaseClientActorTest {
             kafkaClientActor.tell(mappedSignal, getRef());
 
             final OutboundSignal.Mapped message =
-                    probe.expectMsgClass(OutboundSignal.Mapped.class);
+                    probe.expectMsgClass(PublishMappedMessage.class).getOutboundSignal();
             assertThat(message.getExternalMessage().getTextPayload()).contains(expectedJson);
 
             kafkaClientActor.tell(CloseConnection.of(connectionId, DittoHeaders.empty()), getRef());
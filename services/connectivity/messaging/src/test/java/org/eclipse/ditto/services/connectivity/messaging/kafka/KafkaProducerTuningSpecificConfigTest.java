@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+
+import akka.kafka.ProducerSettings;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaProducerTuningSpecificConfig}.
+ */
+public final class KafkaProducerTuningSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+    private static final Config CONFIG = TestConstants.CONNECTION_CONFIG.getKafkaConfig().getInternalProducerConfig();
+    private static final ProducerSettings<String, byte[]> DEFAULT_PRODUCER_SETTINGS =
+            ProducerSettings.create(CONFIG, new StringSerializer(), new ByteArraySerializer());
+
+    private final KafkaProducerTuningSpecificConfig underTest = KafkaProducerTuningSpecificConfig.getInstance();
+
+    @Test
+    public void shouldNotBeApplicableWithoutTuningSettings() {
+        final Connection connection = connectionWithSpecificConfig(Map.of("bootstrapServers", "foo:123"));
+        assertThat(underTest.isApplicable(connection)).isFalse();
+        assertThat(underTest.apply(DEFAULT_PRODUCER_SETTINGS, connection).properties())
+                .isEqualTo(DEFAULT_PRODUCER_SETTINGS.properties());
+    }
+
+    @Test
+    public void shouldApplyBatchingAndCompressionSettings() {
+        final Connection connection = connectionWithSpecificConfig(
+                Map.of("batchSize", "65536", "lingerMs", "5", "compressionType", "LZ4"));
+        assertThat(underTest.isApplicable(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+
+        final ProducerSettings<String, byte[]> settings = underTest.apply(DEFAULT_PRODUCER_SETTINGS, connection);
+        assertThat(settings.properties().get(ProducerConfig.BATCH_SIZE_CONFIG).get()).isEqualTo("65536");
+        assertThat(settings.properties().get(ProducerConfig.LINGER_MS_CONFIG).get()).isEqualTo("5");
+        assertThat(settings.properties().get(ProducerConfig.COMPRESSION_TYPE_CONFIG).get()).isEqualTo("lz4");
+    }
+
+    @Test
+    public void shouldNotValidateInvalidSettings() {
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("batchSize", "-1")));
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("lingerMs", "soon")));
+        shouldNotValidate(connectionWithSpecificConfig(Map.of("compressionType", "zip")));
+    }
+
+    @Test
+    public void shouldNotApplyInvalidSettings() {
+        final Connection connection = connectionWithSpecificConfig(Map.of("batchSize", "1", "lingerMs", "-5"));
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThat(underTest.apply(DEFAULT_PRODUCER_SETTINGS, connection).properties())
+                .isEqualTo(DEFAULT_PRODUCER_SETTINGS.properties());
+    }
+
+    private void shouldNotValidate(final Connection connection) {
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+    }
+
+    private static Connection connectionWithSpecificConfig(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createRandomConnectionId(),
+                ConnectionType.KAFKA, ConnectivityStatus.OPEN, "tcp://foo:123")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("target")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(new HashMap<>(specificConfig))
+                .build();
+    }
+
+}
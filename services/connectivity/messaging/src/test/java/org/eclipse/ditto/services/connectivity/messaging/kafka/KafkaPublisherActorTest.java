@@ -16,20 +16,40 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.kafka.ProducerMessage;
@@ -44,7 +64,8 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
 
     private static final String OUTBOUND_ADDRESS = "anyTopic/keyA";
 
-    private final List<ProducerMessage.Message<String, String, Object>> received = new LinkedList<>();
+    private final List<ProducerMessage.Message<String, byte[], Object>> received =
+            Collections.synchronizedList(new LinkedList<>());
     private KafkaConnectionFactory connectionFactory;
 
     @Override
@@ -53,21 +74,125 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         when(connectionFactory.newFlow())
                 .thenReturn(
                         Flow.fromFunction(envelope -> {
-                            final ProducerMessage.Message<String, String, Object> message =
-                                    (ProducerMessage.Message<String, String, Object>) envelope;
+                            final ProducerMessage.Message<String, byte[], Object> message =
+                                    (ProducerMessage.Message<String, byte[], Object>) envelope;
                             received.add(message);
                             return createResult(message);
                         }));
     }
 
     @SuppressWarnings("unchecked")
-    private static ProducerMessage.Results<String, String, Object> createResult(
-            final ProducerMessage.Message<String, String, Object> message) {
-        final ProducerMessage.Results<String, String, Object> resultMock = Mockito.mock(ProducerMessage.Results.class);
+    private static ProducerMessage.Results<String, byte[], Object> createResult(
+            final ProducerMessage.Message<String, byte[], Object> message) {
+        final ProducerMessage.Results<String, byte[], Object> resultMock = Mockito.mock(ProducerMessage.Results.class);
         when(resultMock.passThrough()).thenReturn(message.passThrough());
         return resultMock;
     }
 
+    @Test
+    public void publishBinaryPayloadKeyedByThingId() {
+        new TestKit(actorSystem) {{
+            setupMocks(new TestProbe(actorSystem));
+            final byte[] binaryPayload = {(byte) 0xa1, 0x00, (byte) 0xff};
+            final Target target = ConnectivityModelFactory.newTargetBuilder(createTestTarget())
+                    .address("anyTopic")
+                    .build();
+            final ThingDeleted source = ThingDeleted.of(TestConstants.Things.THING_ID, 99L,
+                    DittoHeaders.newBuilder().correlationId(TestConstants.CORRELATION_ID).build());
+            final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                            .withBytes(ByteBuffer.wrap(binaryPayload))
+                            .withTopicPath(adaptable.getTopicPath())
+                            .build();
+            final OutboundSignal.Mapped mappedOutboundSignal = OutboundSignalFactory.newMappedOutboundSignal(
+                    OutboundSignalFactory.newOutboundSignal(source, Collections.singletonList(target)),
+                    adaptable, externalMessage);
+
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+            publisherActor.tell(mappedOutboundSignal, getRef());
+
+            Awaitility.await().until(() -> !received.isEmpty());
+            final ProducerMessage.Message<String, byte[], Object> message = received.get(0);
+            assertThat(message.record().topic()).isEqualTo("anyTopic");
+            assertThat(message.record().key()).isEqualTo(TestConstants.Things.THING_ID.toString());
+            assertThat(message.record().value()).containsExactly(binaryPayload);
+        }};
+    }
+
+    @Test
+    public void publishToBusyProducerWithoutDroppingMessages() {
+        final ActorSystem busyProducerActorSystem = ActorSystem.create("AkkaTestSystemWithBusyProducer",
+                ConfigFactory.parseString("ditto.connectivity.connection.kafka.producer.queue-size = 1")
+                        .withFallback(CONFIG));
+        try {
+            new TestKit(busyProducerActorSystem) {{
+                // GIVEN: a producer which does not confirm any message until it is released
+                final CompletableFuture<Void> producerReleased = new CompletableFuture<>();
+                connectionFactory = mock(KafkaConnectionFactory.class);
+                when(connectionFactory.newFlow())
+                        .thenReturn(Flow.<ProducerMessage.Envelope<String, byte[], Object>>create()
+                                .map(KafkaPublisherActorTest::toMessage)
+                                .mapAsync(1, message -> producerReleased.thenApply(unused -> {
+                                    received.add(message);
+                                    return createResult(message);
+                                })));
+                final Target target = ConnectivityModelFactory.newTargetBuilder(createTestTarget())
+                        .address("anyTopic")
+                        .build();
+                final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+                publisherCreated(this, publisherActor);
+
+                // WHEN: far more messages of several Things are published than fit in the queue of the producer
+                final int messageCount = 50;
+                for (int i = 0; i < messageCount; i++) {
+                    final ThingId thingId = ThingId.of("thing", "id-" + i % 3);
+                    publisherActor.tell(getBinaryOutboundSignal(target, thingId, new byte[]{(byte) i}), getRef());
+                }
+                publisherActor.tell(RetrieveAddressStatus.getInstance(), getRef());
+                expectMsgClass(ResourceStatus.class);
+                producerReleased.complete(null);
+
+                // THEN: every message reaches the producer in order with the Thing as key and the bytes as value
+                Awaitility.await().until(() -> received.size() >= messageCount);
+                assertThat(received).hasSize(messageCount);
+                for (int i = 0; i < messageCount; i++) {
+                    final ProducerMessage.Message<String, byte[], Object> message = received.get(i);
+                    assertThat(message.record().topic()).isEqualTo("anyTopic");
+                    assertThat(message.record().key()).isEqualTo("thing:id-" + i % 3);
+                    assertThat(message.record().value()).containsExactly((byte) i);
+                }
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(busyProducerActorSystem,
+                    scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS), false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProducerMessage.Message<String, byte[], Object> toMessage(
+            final ProducerMessage.Envelope<String, byte[], Object> envelope) {
+
+        return (ProducerMessage.Message<String, byte[], Object>) envelope;
+    }
+
+    private static OutboundSignal.Mapped getBinaryOutboundSignal(final Target target, final ThingId thingId,
+            final byte[] payload) {
+
+        final ThingDeleted source = ThingDeleted.of(thingId, 1L,
+                DittoHeaders.newBuilder().correlationId(TestConstants.CORRELATION_ID).build());
+        final Adaptable adaptable = DittoProtocolAdapter.newInstance().toAdaptable(source);
+        final ExternalMessage externalMessage =
+                ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                        .withBytes(ByteBuffer.wrap(payload))
+                        .withTopicPath(adaptable.getTopicPath())
+                        .build();
+        return OutboundSignalFactory.newMappedOutboundSignal(
+                OutboundSignalFactory.newOutboundSignal(source, Collections.singletonList(target)),
+                adaptable, externalMessage);
+    }
+
     @Override
     protected Props getPublisherActorProps() {
         return KafkaPublisherActor.props(TestConstants.createConnection(), connectionFactory, false);
@@ -77,10 +202,10 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     protected void verifyPublishedMessage() {
         Awaitility.await().until(() -> !received.isEmpty());
         assertThat(received).hasSize(1);
-        final ProducerMessage.Message<String, String, Object> message = received.get(0);
+        final ProducerMessage.Message<String, byte[], Object> message = received.get(0);
         assertThat(message.record().topic()).isEqualTo("anyTopic");
         assertThat(message.record().key()).isEqualTo("keyA");
-        assertThat(message.record().value()).isEqualTo("payload");
+        assertThat(new String(message.record().value(), StandardCharsets.UTF_8)).isEqualTo("payload");
         final List<Header> headers = Arrays.asList(message.record().headers().toArray());
         shouldContainHeader(headers, "thing_id", TestConstants.Things.THING_ID.toString());
         shouldContainHeader(headers, "suffixed_thing_id", TestConstants.Things.THING_ID + ".some.suffix");
@@ -93,7 +218,7 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
     protected void verifyPublishedMessageToReplyTarget() {
         Awaitility.await().until(() -> !received.isEmpty());
         assertThat(received).hasSize(1);
-        final ProducerMessage.Message<String, String, Object> message = received.get(0);
+        final ProducerMessage.Message<String, byte[], Object> message = received.get(0);
         assertThat(message.record().topic()).isEqualTo("replyTarget");
         assertThat(message.record().key()).isEqualTo("thing:id");
         final List<Header> headers = Arrays.asList(message.record().headers().toArray());
@@ -88,7 +88,7 @@ public final class ProducerSettingsFactoryTest {
 
     @Test
     public void addsBootstrapServers() {
-        final ProducerSettings<String, String> settings = underTest.getProducerSettings();
+        final ProducerSettings<String, byte[]> settings = underTest.getProducerSettings();
 
         final scala.collection.immutable.Map<String, String> properties = settings.properties();
         final List<String> servers = properties.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG)
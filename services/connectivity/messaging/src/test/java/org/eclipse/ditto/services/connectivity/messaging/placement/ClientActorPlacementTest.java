@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.DefaultClientPlacementConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.Address;
+
+/**
+ * Tests {@link ClientActorPlacement}.
+ */
+public final class ClientActorPlacementTest {
+
+    private static final ClientPlacementConfig CONFIG = DefaultClientPlacementConfig.of(ConfigFactory.empty());
+
+    private static final Address NODE_1 = new Address("akka", "ditto-cluster", "node1", 2551);
+    private static final Address NODE_2 = new Address("akka", "ditto-cluster", "node2", 2551);
+    private static final Address NODE_3 = new Address("akka", "ditto-cluster", "node3", 2551);
+
+    private static final List<Address> NODES = List.of(NODE_1, NODE_2, NODE_3);
+
+    @Test
+    public void placeOnLeastLoadedNodes() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(NODES, Map.of(
+                NODE_1, NodeLoad.of(100.0, 10.0),
+                NODE_2, NodeLoad.of(5.0, 0.0),
+                NODE_3, NodeLoad.of(20.0, 1.0)), CONFIG);
+
+        assertThat(underTest.selectNodes("connection", 2, 1, Collections.emptyList()))
+                .containsExactly(NODE_2, NODE_3);
+    }
+
+    @Test
+    public void nodesWithoutLoadAreIdle() {
+        final ClientActorPlacement underTest =
+                ClientActorPlacement.of(NODES, Map.of(NODE_1, NodeLoad.of(1.0, 0.0), NODE_2, NodeLoad.of(1.0, 0.0)),
+                        CONFIG);
+
+        assertThat(underTest.selectNodes("connection", 1, 1, Collections.emptyList())).containsExactly(NODE_3);
+    }
+
+    @Test
+    public void spreadOverNodesBeforeStackingThem() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(NODES, Map.of(
+                NODE_1, NodeLoad.of(1.0, 0.0),
+                NODE_2, NodeLoad.of(2.0, 0.0),
+                NODE_3, NodeLoad.of(3.0, 0.0)), CONFIG);
+
+        assertThat(underTest.selectNodes("connection", 5, 2, Collections.emptyList()))
+                .containsExactly(NODE_1, NODE_2, NODE_3, NODE_1, NODE_2);
+        assertThat(underTest.selectNodes("connection", 5, 1, List.of(NODE_1))).containsExactly(NODE_2, NODE_3);
+    }
+
+    @Test
+    public void breakTiesByConnectionId() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(NODES, Collections.emptyMap(), CONFIG);
+
+        final long distinctNodes = List.of("a", "b", "c", "d", "e", "f", "g", "h").stream()
+                .map(connectionId -> underTest.selectNodes(connectionId, 1, 1, Collections.emptyList()).get(0))
+                .distinct()
+                .count();
+        assertThat(distinctNodes).isGreaterThan(1L);
+    }
+
+    @Test
+    public void moveClientActorIfImbalanced() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(NODES, Map.of(
+                NODE_1, NodeLoad.of(100.0, 0.0),
+                NODE_2, NodeLoad.of(60.0, 0.0),
+                NODE_3, NodeLoad.of(40.0, 0.0)), CONFIG);
+
+        final Optional<ClientActorPlacement.Move> move = underTest.findMove("connection", 1, List.of(NODE_1, NODE_2));
+
+        assertThat(move).isPresent();
+        assertThat(move.get().getFrom()).isEqualTo(NODE_1);
+        assertThat(move.get().getTo()).isEqualTo(NODE_3);
+    }
+
+    @Test
+    public void keepClientActorsWithinImbalanceThreshold() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(NODES, Map.of(
+                NODE_1, NodeLoad.of(55.0, 0.0),
+                NODE_2, NodeLoad.of(60.0, 0.0),
+                NODE_3, NodeLoad.of(40.0, 0.0)), CONFIG);
+
+        assertThat(underTest.findMove("connection", 1, List.of(NODE_1, NODE_2))).isEmpty();
+        assertThat(underTest.findMove("connection", 1, NODES)).isEmpty();
+    }
+
+    @Test
+    public void mappingTimeCountsTowardsLoad() {
+        final ClientActorPlacement underTest = ClientActorPlacement.of(List.of(NODE_1, NODE_2), Map.of(
+                NODE_1, NodeLoad.of(10.0, 100.0),
+                NODE_2, NodeLoad.of(50.0, 0.0)), CONFIG);
+
+        assertThat(underTest.findMove("connection", 1, List.of(NODE_1)).map(ClientActorPlacement.Move::getTo))
+                .contains(NODE_2);
+    }
+
+    @Test
+    public void nodeLoadJsonRoundTrip() {
+        final NodeLoad nodeLoad = NodeLoad.of(12.5, 3.25);
+        assertThat(NodeLoad.fromJson(nodeLoad.toJson())).isEqualTo(nodeLoad);
+    }
+
+}
@@ -28,10 +28,12 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.connectivity.messaging.ClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.DefaultClientActorPropsFactory;
 import org.eclipse.ditto.services.connectivity.messaging.ReconnectActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.ClientPlacementConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceOperationsActor;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionSupervisorActor;
+import org.eclipse.ditto.services.connectivity.messaging.placement.NodeLoadReporter;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
@@ -115,6 +117,13 @@ public final class ConnectivityRootActor extends DittoRootActor {
                         MongoReadJournal.newInstance(actorSystem)),
                 ReconnectActor.ACTOR_NAME);
 
+        final ClientPlacementConfig clientPlacementConfig =
+                connectivityConfig.getConnectionConfig().getClientPlacementConfig();
+        if (clientPlacementConfig.isLoadAware()) {
+            startChildActor(NodeLoadReporter.ACTOR_NAME,
+                    NodeLoadReporter.props(clientPlacementConfig.getReportInterval()));
+        }
+
         startChildActor(ConnectionPersistenceOperationsActor.ACTOR_NAME,
                 ConnectionPersistenceOperationsActor.props(pubSubMediator, connectivityConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), connectivityConfig.getPersistenceOperationsConfig()));
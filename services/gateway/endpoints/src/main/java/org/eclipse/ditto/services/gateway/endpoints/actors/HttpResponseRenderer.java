@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
+import org.eclipse.ditto.signals.commands.messages.SendMessageAcceptedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.Status;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.headers.Location;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.scaladsl.model.ContentType$;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import akka.util.ByteString;
+import scala.util.Either;
+
+/**
+ * Renders command responses, message responses and exceptions into HTTP responses. Instances are stateless and may be
+ * shared by all requests of a route; they are used both by {@link AbstractHttpRequestActor} and by routes which handle
+ * requests without creating a request actor.
+ */
+@Immutable
+public final class HttpResponseRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseRenderer.class);
+
+    private static final ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+    private static final ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
+
+    private final HeaderTranslator headerTranslator;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator) {
+        this.headerTranslator = checkNotNull(headerTranslator, "headerTranslator");
+    }
+
+    /**
+     * Returns an instance of {@code HttpResponseRenderer}.
+     *
+     * @param headerTranslator translates the headers of command responses and exceptions to external headers.
+     * @return the instance.
+     * @throws NullPointerException if {@code headerTranslator} is {@code null}.
+     */
+    public static HttpResponseRenderer of(final HeaderTranslator headerTranslator) {
+        return new HttpResponseRenderer(headerTranslator);
+    }
+
+    /**
+     * Renders the reply to a command into an HTTP response the same way {@link AbstractHttpRequestActor} does with
+     * its default behavior.
+     *
+     * @param request the HTTP request the command was created from.
+     * @param reply the reply to the command.
+     * @return the HTTP response.
+     */
+    public HttpResponse render(final HttpRequest request, final Object reply) {
+        if (reply instanceof HttpResponse) {
+            return (HttpResponse) reply;
+        } else if (reply instanceof SendMessageAcceptedResponse) {
+            return HttpResponse.create().withStatus(HttpStatusCode.ACCEPTED.toInt());
+        } else if (reply instanceof MessageCommandResponse) {
+            return renderMessageCommandResponse((MessageCommandResponse<?, ?>) reply);
+        } else if (reply instanceof CommandResponse && reply instanceof WithEntity) {
+            return renderCommandResponseWithEntity((CommandResponse<?>) reply);
+        } else if (reply instanceof CommandResponse && reply instanceof WithOptionalEntity) {
+            final CommandResponse<?> commandResponse = (CommandResponse<?>) reply;
+            return renderCommandResponseWithOptionalEntity(commandResponse,
+                    response -> addLocationHeaderIfCreated(request, commandResponse, response));
+        } else if (reply instanceof ErrorResponse) {
+            return renderDittoRuntimeException(((ErrorResponse<?>) reply).getDittoRuntimeException());
+        } else if (reply instanceof CommandResponse) {
+            LogUtil.logWithCorrelationId(LOGGER, (CommandResponse<?>) reply, logger -> logger.error(
+                    "Got 'CommandResponse' message which did neither implement 'WithEntity' nor " +
+                            "'WithOptionalEntity': <{}>!", reply));
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        } else if (reply instanceof Status.Failure) {
+            return renderFailure(((Status.Failure) reply).cause());
+        } else if (reply instanceof Throwable) {
+            return renderFailure((Throwable) reply);
+        }
+        LOGGER.warn("Got unknown message when a command response was expected: <{}>!", reply);
+        return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+    }
+
+    /**
+     * Renders a failure which occurred while creating or handling a command into an HTTP response.
+     *
+     * @param failure the failure.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderFailure(final Throwable failure) {
+        if (failure instanceof JsonRuntimeException) {
+            return renderDittoRuntimeException(new DittoJsonException((RuntimeException) failure));
+        } else if (failure instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) failure);
+        } else if (failure instanceof EntityStreamSizeException) {
+            LOGGER.warn("Got EntityStreamSizeException when a 'Command' was expected which means that the max. " +
+                    "allowed http payload size configured in Akka was overstepped in this request.");
+            return HttpResponse.create().withStatus(HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.toInt());
+        }
+        LOGGER.error("Got unknown failure when a command response was expected: <{}>!", failure.getMessage(), failure);
+        return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+    }
+
+    /**
+     * Renders a command response with a mandatory entity into an HTTP response.
+     *
+     * @param commandResponse the command response which has to implement {@link WithEntity}.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
+        final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
+        final DittoHeaders dittoHeaders = commandResponse.getDittoHeaders();
+        final HttpResponse responseWithoutBody = addExternalDittoHeaders(
+                HttpResponse.create().withStatus(commandResponse.getStatusCode().toInt()), dittoHeaders);
+
+        final Optional<String> entityPlainString = withEntity.getEntityPlainString();
+        if (entityPlainString.isPresent()) {
+            return addEntityAccordingToContentType(responseWithoutBody, entityPlainString.get(), dittoHeaders);
+        }
+        return addEntityAccordingToContentType(responseWithoutBody,
+                withEntity.getEntity(commandResponse.getImplementedSchemaVersion()), dittoHeaders);
+    }
+
+    /**
+     * Renders a command response with an optional entity into an HTTP response.
+     *
+     * @param commandResponse the command response which has to implement {@link WithOptionalEntity}.
+     * @param modifyResponse modifies the HTTP response after the external headers were added and before the entity
+     * is added, e. g. to add a {@code Location} header.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderCommandResponseWithOptionalEntity(final CommandResponse<?> commandResponse,
+            final UnaryOperator<HttpResponse> modifyResponse) {
+
+        final HttpResponse responseWithHeaders = modifyResponse.apply(addExternalDittoHeaders(
+                HttpResponse.create().withStatus(commandResponse.getStatusCodeValue()),
+                commandResponse.getDittoHeaders()));
+
+        if (StatusCodes.NO_CONTENT.equals(responseWithHeaders.status())) {
+            return responseWithHeaders;
+        }
+        return ((WithOptionalEntity) commandResponse).getEntity(commandResponse.getImplementedSchemaVersion())
+                .map(entity -> addEntityAccordingToContentType(responseWithHeaders, entity,
+                        commandResponse.getDittoHeaders()))
+                .orElse(responseWithHeaders);
+    }
+
+    /**
+     * Renders the response to a message command into an HTTP response.
+     *
+     * @param messageCommandResponse the message command response.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderMessageCommandResponse(final MessageCommandResponse<?, ?> messageCommandResponse) {
+        HttpResponse httpResponse;
+
+        final Message<?> message = messageCommandResponse.getMessage();
+        final Optional<?> optionalPayload = message.getPayload();
+        final Optional<ByteBuffer> optionalRawPayload = message.getRawPayload();
+        final Optional<HttpStatusCode> responseStatusCode = Optional.of(messageCommandResponse.getStatusCode())
+                .filter(code -> StatusCodes.lookup(code.toInt()).isPresent())
+                // only allow status code which are known to akka-http
+                .filter(code -> !HttpStatusCode.BAD_GATEWAY.equals(code));
+        // filter "bad gateway" 502 from being used as this is used Ditto internally for graceful HTTP shutdown
+
+        // if statusCode is != NO_CONTENT
+        if (responseStatusCode.map(status -> status != HttpStatusCode.NO_CONTENT).orElse(true)) {
+            final Optional<ContentType> optionalContentType = message.getContentType().map(ContentType$.MODULE$::parse)
+                    .filter(Either::isRight)
+                    .map(Either::right)
+                    .map(Either.RightProjection::get);
+
+            httpResponse = HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.OK).toInt());
+
+            if (optionalPayload.isPresent()) {
+                final Object payload = optionalPayload.get();
+
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(),
+                                    ByteString.ByteStrings.fromString(payload.toString())));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(payload.toString()));
+                }
+            } else if (optionalRawPayload.isPresent()) {
+
+                final ByteBuffer rawPayload = optionalRawPayload.get();
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(), rawPayload.array()));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(rawPayload.array()));
+                }
+            }
+        } else {
+            // if payload was missing OR statusCode was NO_CONTENT:
+            optionalRawPayload.ifPresent(byteBuffer -> LogUtil.logWithCorrelationId(LOGGER, messageCommandResponse,
+                    logger -> logger.info("Response payload was set but response status code was also set to " +
+                                    "<{}>. Ignoring the response payload. Command=<{}>", responseStatusCode,
+                            messageCommandResponse)));
+            httpResponse =
+                    HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.NO_CONTENT).toInt());
+        }
+
+        return addExternalDittoHeaders(httpResponse, messageCommandResponse.getDittoHeaders());
+    }
+
+    /**
+     * Renders a DittoRuntimeException into an HTTP response.
+     *
+     * @param exception the exception.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
+        final HttpResponse responseWithoutBody =
+                addExternalDittoHeaders(responseWithoutHeaders, exception.getDittoHeaders());
+        if (HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())) {
+            return responseWithoutBody;
+        }
+        return responseWithoutBody.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
+    }
+
+    /**
+     * Sets the headers of an HTTP response to the external representation of the specified Ditto headers.
+     *
+     * @param response the HTTP response.
+     * @param allDittoHeaders the Ditto headers to translate.
+     * @return the HTTP response with the external headers or {@code response} if there are none.
+     */
+    public HttpResponse addExternalDittoHeaders(final HttpResponse response, final DittoHeaders allDittoHeaders) {
+        final Map<String, String> externalHeaders = headerTranslator.toFilteredExternalHeaders(allDittoHeaders);
+        if (externalHeaders.isEmpty()) {
+            return response;
+        }
+        final List<HttpHeader> externalHttpHeaders = new ArrayList<>(externalHeaders.size());
+        externalHeaders.forEach((k, v) -> externalHttpHeaders.add(RawHeader.create(k, v)));
+
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+    /**
+     * Adds a {@code Location} header to an HTTP response if the command response indicates that an entity was
+     * created.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response to the HTTP request.
+     * @param response the candidate HTTP response.
+     * @return the HTTP response with the {@code Location} header if the status is {@code 201 Created}.
+     */
+    public static HttpResponse addLocationHeaderIfCreated(final HttpRequest request,
+            final CommandResponse<?> commandResponse, final HttpResponse response) {
+
+        if (HttpStatusCode.CREATED == commandResponse.getStatusCode()) {
+            return response.addHeader(Location.create(getUriForLocationHeader(request, commandResponse)));
+        } else {
+            return response;
+        }
+    }
+
+    /**
+     * Determines the URI of a created entity for the {@code Location} header.
+     *
+     * @param request the HTTP request which created the entity.
+     * @param commandResponse the command response to the HTTP request.
+     * @return the URI of the created entity.
+     */
+    public static Uri getUriForLocationHeader(final HttpRequest request, final CommandResponse<?> commandResponse) {
+        if (!request.method().isIdempotent()) {
+            // only for not idempotent requests (e.g.: POST), add the "createdId" to the path:
+            final String uriStr = request.getUri().toString();
+            String createdLocation;
+            final int uriIdIndex = uriStr.indexOf(commandResponse.getEntityId().toString());
+
+            // if the URI contains the ID, but *not* at the beginning
+            if (uriIdIndex > 0) {
+                createdLocation = uriStr.substring(0, uriIdIndex) + commandResponse.getEntityId() +
+                        commandResponse.getResourcePath();
+            } else {
+                createdLocation = uriStr + "/" + commandResponse.getEntityId() + commandResponse.getResourcePath();
+            }
+
+            if (createdLocation.endsWith("/")) {
+                createdLocation = createdLocation.substring(0, createdLocation.length() - 1);
+            }
+
+            return Uri.create(createdLocation);
+        } else {
+            return request.getUri();
+        }
+    }
+
+    private static boolean hasPlainTextContentType(final DittoHeaders dittoHeaders) {
+        final String contentTypeHeader = DittoHeaderDefinition.CONTENT_TYPE.name();
+        return dittoHeaders.containsKey(contentTypeHeader) &&
+                "text/plain".equalsIgnoreCase(dittoHeaders.get(contentTypeHeader));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final DittoHeaders dittoHeaders) {
+
+        if (hasPlainTextContentType(dittoHeaders)) {
+            return response.withEntity(CONTENT_TYPE_TEXT, ByteString.fromString(entity.asString()));
+        }
+        return response.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(entity.toString()));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final DittoHeaders dittoHeaders) {
+
+        final ContentType contentType = hasPlainTextContentType(dittoHeaders) ? CONTENT_TYPE_TEXT : CONTENT_TYPE_JSON;
+        return response.withEntity(contentType, ByteString.fromString(entityPlain));
+    }
+
+}
@@ -13,14 +13,18 @@
 package org.eclipse.ditto.services.gateway.endpoints.routes;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.gateway.util.FireAndForgetMessageUtil.isFireAndForgetMessage;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonParseException;
@@ -29,15 +33,23 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.messages.MessageTimeoutException;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
+import org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
+import org.eclipse.ditto.services.gateway.endpoints.actors.HttpResponseRenderer;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.utils.akka.AkkaClassLoader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandNotSupportedException;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceUnavailableException;
+import org.eclipse.ditto.signals.commands.messages.MessageCommand;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,11 +58,19 @@ import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.server.AllDirectives;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
+import akka.japi.function.Creator;
 import akka.japi.function.Function;
+import akka.japi.pf.PFBuilder;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
 import akka.stream.ActorMaterializer;
 import akka.stream.ActorMaterializerSettings;
 import akka.stream.Supervision;
@@ -59,6 +79,7 @@ import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamConverters;
 import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
 
 /**
  * Base class for Akka HTTP routes.
@@ -82,6 +103,8 @@ public abstract class AbstractRoute extends AllDirectives {
     private final HttpConfig httpConfig;
     private final HeaderTranslator headerTranslator;
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    private final HttpResponseRenderer httpResponseRenderer;
+    private final boolean lightweightRequestHandling;
 
     /**
      * Constructs the abstract route builder.
@@ -120,6 +143,11 @@ public abstract class AbstractRoute extends AllDirectives {
         httpRequestActorPropsFactory =
                 AkkaClassLoader.instantiate(actorSystem, HttpRequestActorPropsFactory.class,
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
+        httpResponseRenderer = HttpResponseRenderer.of(headerTranslator);
+
+        // a custom props factory exists to customize the request actor, thus it is always used if configured
+        lightweightRequestHandling = httpConfig.isLightweightRequestHandling() &&
+                httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory;
     }
 
     /**
@@ -152,12 +180,21 @@ public abstract class AbstractRoute extends AllDirectives {
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command command) {
+        if (lightweightRequestHandling) {
+            return completeWithFuture(preprocessResponse(
+                    askProxyActor(ctx, () -> checkSchemaVersion(command, command.getDittoHeaders()), null)));
+        }
         return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(), emptyRequestBody -> command);
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command command,
             final Function<JsonValue, JsonValue> responseTransformFunction) {
 
+        if (lightweightRequestHandling) {
+            return completeWithFuture(preprocessResponse(
+                    askProxyActor(ctx, () -> checkSchemaVersion(command, command.getDittoHeaders()),
+                            responseTransformFunction)));
+        }
         return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(),
                 emptyRequestBody -> command, responseTransformFunction);
     }
@@ -176,6 +213,13 @@ public abstract class AbstractRoute extends AllDirectives {
             final Function<String, Command> requestJsonToCommandFunction,
             final Function<JsonValue, JsonValue> responseTransformFunction) {
 
+        if (lightweightRequestHandling) {
+            return completeWithFuture(preprocessResponse(askProxyActorWithRequestBody(ctx, payloadSource,
+                    requestBody -> checkSchemaVersion(requestJsonToCommandFunction.apply(requestBody.utf8String()),
+                            dittoHeaders),
+                    responseTransformFunction)));
+        }
+
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
 
         payloadSource
@@ -207,15 +251,7 @@ public abstract class AbstractRoute extends AllDirectives {
                             .fold(ByteString.empty(), ByteString::concat)
                             .runWith(StreamConverters.asInputStream(), materializer);
                     final JsonValue jsonValue = JsonFactory.readFrom(new InputStreamReader(inputStream));
-                    try {
-                        final JsonValue transformed = responseTransformFunction.apply(jsonValue);
-                        return response.withEntity(ContentTypes.APPLICATION_JSON, transformed.toString());
-                    } catch (final Exception e) {
-                        throw JsonParseException.newBuilder()
-                                .message("Could not transform JSON: " + e.getMessage())
-                                .cause(e)
-                                .build();
-                    }
+                    return transformResponseEntity(response, jsonValue, responseTransformFunction);
                 } else {
                     // for non-successful and empty responses, don't transform the response body
                     return response;
@@ -227,6 +263,241 @@ public abstract class AbstractRoute extends AllDirectives {
         }
     }
 
+    /**
+     * Indicates whether requests are handled by asking the proxy actor directly instead of creating a request actor
+     * per request.
+     *
+     * @return {@code true} if no request actors are created, {@code false} else.
+     */
+    protected boolean isLightweightRequestHandling() {
+        return lightweightRequestHandling;
+    }
+
+    /**
+     * Reads the request body, creates a command of it and asks the proxy actor for the response without creating a
+     * request actor. The response is rendered the same way the request actor renders it.
+     *
+     * @param ctx the request context.
+     * @param payloadSource the data bytes of the request entity.
+     * @param requestBodyToCommandFunction creates the command of the request body.
+     * @param responseTransformFunction optionally transforms the entity of successful responses, may be {@code null}.
+     * @return the future HTTP response.
+     */
+    protected CompletionStage<HttpResponse> askProxyActorWithRequestBody(final RequestContext ctx,
+            final Source<ByteString, ?> payloadSource,
+            final Function<ByteString, Command> requestBodyToCommandFunction,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
+        return readRequestBody(ctx, payloadSource)
+                .handle((requestBody, error) -> null == error
+                        ? askProxyActor(ctx, () -> requestBodyToCommandFunction.apply(requestBody),
+                        responseTransformFunction)
+                        : CompletableFuture.completedFuture(httpResponseRenderer.renderFailure(unwrap(error))))
+                .thenCompose(httpResponse -> httpResponse);
+    }
+
+    /**
+     * Reads the request body, creates a command of it and asks the proxy actor for a stream of the JSON values of the
+     * response. The values are rendered as chunked JSON array while they arrive, so they are never held in memory as
+     * a whole. Replies other than a stream, e.g. errors, are rendered the same way the request actor renders them.
+     *
+     * @param ctx the request context.
+     * @param payloadSource the data bytes of the request entity.
+     * @param requestBodyToCommandFunction creates the command of the request body.
+     * @param commandToStreamRequestFunction creates the request for the stream of JSON values of the command.
+     * @return the future HTTP response.
+     */
+    protected CompletionStage<HttpResponse> askProxyActorForJsonArray(final RequestContext ctx,
+            final Source<ByteString, ?> payloadSource,
+            final Function<ByteString, Command> requestBodyToCommandFunction,
+            final Function<Command<?>, Object> commandToStreamRequestFunction) {
+
+        final HttpRequest request = ctx.getRequest();
+        return readRequestBody(ctx, payloadSource)
+                .thenCompose(requestBody -> {
+                    final Command<?> command;
+                    final Object streamRequest;
+                    try {
+                        command = requestBodyToCommandFunction.apply(requestBody);
+                        checkSchemaVersion(command, command.getDittoHeaders());
+                        streamRequest = commandToStreamRequestFunction.apply(command);
+                    } catch (final Exception e) {
+                        return CompletableFuture.completedFuture(httpResponseRenderer.renderFailure(e));
+                    }
+                    if (!command.getDittoHeaders().isResponseRequired()) {
+                        proxyActor.tell(command, ActorRef.noSender());
+                        return CompletableFuture.completedFuture(
+                                HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+                    }
+                    final Duration askTimeout = httpConfig.getRequestTimeout();
+                    return Patterns.ask(proxyActor, streamRequest, askTimeout)
+                            .handle((reply, error) -> {
+                                if (null != error) {
+                                    final Throwable cause = unwrap(error);
+                                    return cause instanceof AskTimeoutException
+                                            ? renderAskTimeout(command, askTimeout, false)
+                                            : httpResponseRenderer.renderFailure(cause);
+                                }
+                                if (reply instanceof Source) {
+                                    return renderJsonArray(command, (Source<?, ?>) reply);
+                                }
+                                return httpResponseRenderer.render(request, reply);
+                            });
+                })
+                .exceptionally(error -> httpResponseRenderer.renderFailure(unwrap(error)));
+    }
+
+    /**
+     * Renders the JSON values as chunked JSON array. The status of the response is sent before the first value, hence
+     * a failure of the stream is rendered as error as last element of a complete array.
+     */
+    private HttpResponse renderJsonArray(final Command<?> command, final Source<?, ?> jsonValues) {
+        final Source<ByteString, ?> jsonArray = jsonValues
+                .map(jsonValue -> ByteString.fromString(jsonValue.toString()))
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<ByteString, NotUsed>>()
+                        .matchAny(error -> Source.single(renderStreamFailure(command, error)))
+                        .build())
+                .intersperse(ByteString.fromString("["), ByteString.fromString(","), ByteString.fromString("]"));
+        return httpResponseRenderer.addExternalDittoHeaders(HttpResponse.create().withStatus(StatusCodes.OK),
+                command.getDittoHeaders())
+                .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, jsonArray));
+    }
+
+    private static ByteString renderStreamFailure(final Command<?> command, final Throwable error) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final DittoRuntimeException dittoRuntimeException = DittoRuntimeException.asDittoRuntimeException(error,
+                cause -> GatewayInternalErrorException.newBuilder()
+                        .dittoHeaders(dittoHeaders)
+                        .cause(cause)
+                        .build());
+        LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                logger.warn("Stream of JSON array failed after the response started: {}", error.getMessage()));
+        return ByteString.fromString(dittoRuntimeException.toJson().toString());
+    }
+
+    private CompletionStage<ByteString> readRequestBody(final RequestContext ctx,
+            final Source<ByteString, ?> payloadSource) {
+
+        // the payload source is the data bytes of the request entity, strict entities are already in memory
+        final HttpEntity requestEntity = ctx.getRequest().entity();
+        if (requestEntity instanceof HttpEntity.Strict) {
+            return CompletableFuture.completedFuture(((HttpEntity.Strict) requestEntity).getData());
+        }
+        return payloadSource.runFold(ByteString.createBuilder(), ByteStringBuilder::append, materializer)
+                .thenApply(ByteStringBuilder::result);
+    }
+
+    private CompletionStage<HttpResponse> askProxyActor(final RequestContext ctx,
+            final Creator<Command> commandCreator,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
+        final Command<?> command;
+        try {
+            command = commandCreator.create();
+        } catch (final Exception e) {
+            return CompletableFuture.completedFuture(httpResponseRenderer.renderFailure(e));
+        }
+
+        final Duration askTimeout;
+        final boolean isMessageTimeout;
+        if (command instanceof MessageCommand) {
+            final Duration messageTimeout = ((MessageCommand<?, ?>) command).getMessage().getTimeout().orElse(null);
+            isMessageTimeout = messageTimeout != null && !isFireAndForgetMessage((MessageCommand<?, ?>) command);
+            askTimeout = isMessageTimeout ? Duration.ofSeconds(messageTimeout.getSeconds()) :
+                    httpConfig.getRequestTimeout();
+        } else if (!command.getDittoHeaders().isResponseRequired()) {
+            proxyActor.tell(command, ActorRef.noSender());
+            return CompletableFuture.completedFuture(HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+        } else {
+            isMessageTimeout = false;
+            askTimeout = httpConfig.getRequestTimeout();
+        }
+
+        final HttpRequest request = ctx.getRequest();
+        return Patterns.ask(proxyActor, command, askTimeout)
+                .handle((reply, error) -> {
+                    if (null == error) {
+                        return renderReply(request, reply, responseTransformFunction);
+                    }
+                    final Throwable cause = unwrap(error);
+                    if (cause instanceof AskTimeoutException) {
+                        return renderAskTimeout(command, askTimeout, isMessageTimeout);
+                    }
+                    return httpResponseRenderer.renderFailure(cause);
+                });
+    }
+
+    private HttpResponse renderReply(final HttpRequest request, final Object reply,
+            @Nullable final Function<JsonValue, JsonValue> responseTransformFunction) {
+
+        final HttpResponse response = httpResponseRenderer.render(request, reply);
+        // for non-successful and empty responses, don't transform the response body
+        if (responseTransformFunction == null || !response.status().isSuccess() ||
+                response.entity().isKnownEmpty()) {
+            return response;
+        }
+        // transform the entity of the command response, no need to parse the rendered HTTP entity again
+        if (reply instanceof CommandResponse && reply instanceof WithEntity &&
+                !((WithEntity<?>) reply).getEntityPlainString().isPresent()) {
+            final JsonValue entity =
+                    ((WithEntity<?>) reply).getEntity(((CommandResponse<?>) reply).getImplementedSchemaVersion());
+            return transformResponseEntity(response, entity, responseTransformFunction);
+        } else if (response.entity() instanceof HttpEntity.Strict) {
+            final ByteString data = ((HttpEntity.Strict) response.entity()).getData();
+            return transformResponseEntity(response, JsonFactory.readFrom(data.asByteBuffer()),
+                    responseTransformFunction);
+        }
+        return response;
+    }
+
+    private HttpResponse renderAskTimeout(final Command<?> command, final Duration askTimeout,
+            final boolean isMessageTimeout) {
+
+        if (isMessageTimeout) {
+            LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                    logger.info("Got no message response within the timeout <{}>.", askTimeout));
+            return httpResponseRenderer.renderDittoRuntimeException(
+                    MessageTimeoutException.newBuilder(askTimeout.getSeconds())
+                            .dittoHeaders(command.getDittoHeaders())
+                            .build());
+        }
+        // the RequestTimeoutHandlingDirective usually answered the request already
+        LogUtil.logWithCorrelationId(LOGGER, command, logger ->
+                logger.warn("No response within server request timeout (<{}>).", askTimeout));
+        return httpResponseRenderer.renderDittoRuntimeException(GatewayServiceUnavailableException.newBuilder()
+                .dittoHeaders(command.getDittoHeaders())
+                .build());
+    }
+
+    private static HttpResponse transformResponseEntity(final HttpResponse response, final JsonValue entity,
+            final Function<JsonValue, JsonValue> responseTransformFunction) {
+
+        try {
+            final JsonValue transformed = responseTransformFunction.apply(entity);
+            return response.withEntity(ContentTypes.APPLICATION_JSON, transformed.toString());
+        } catch (final Exception e) {
+            throw JsonParseException.newBuilder()
+                    .message("Could not transform JSON: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static Command checkSchemaVersion(final Command command, final DittoHeaders dittoHeaders) {
+        final JsonSchemaVersion schemaVersion =
+                dittoHeaders.getSchemaVersion().orElse(command.getImplementedSchemaVersion());
+        if (!command.implementsSchemaVersion(schemaVersion)) {
+            throw CommandNotSupportedException.newBuilder(schemaVersion.toInt())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        return command;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && null != error.getCause() ? error.getCause() : error;
+    }
+
     /**
      * Processes the {@link HttpResponse} by consuming the CompletionStage and returning another (or the same)
      * CompletionStage. May be used to modify the HttpResponse before it is sent back to client.
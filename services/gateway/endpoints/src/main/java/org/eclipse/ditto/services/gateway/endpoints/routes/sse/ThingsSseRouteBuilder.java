@@ -56,6 +56,8 @@ import org.eclipse.ditto.services.gateway.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.services.models.streaming.StreamedEvent;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEvents;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.search.SearchSource;
@@ -75,18 +77,22 @@ import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
 import akka.http.javadsl.server.directives.RouteDirectives;
 import akka.japi.pf.PFBuilder;
+import akka.pattern.Patterns;
+import akka.stream.SourceRef;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
 
 /**
- * Builder for creating Akka HTTP routes for SSE (Server Sent Events) {@code /things} and {@code /search} routes.
+ * Builder for creating Akka HTTP routes for SSE (Server Sent Events) {@code /things}, {@code /search} and
+ * {@code /history} routes.
  */
 @NotThreadSafe
 public final class ThingsSseRouteBuilder extends RouteDirectives implements SseRouteBuilder {
 
     private static final String PATH_SEARCH = "search";
     private static final String PATH_THINGS = "things";
+    private static final String PATH_HISTORY = "history";
 
     private static final String STREAMING_TYPE_SSE = "SSE";
     private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
@@ -98,8 +104,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private static final String PARAM_EXTRA_FIELDS = "extraFields";
     private static final PartialFunction<HttpHeader, Accept> ACCEPT_HEADER_EXTRACTOR = newAcceptHeaderExtractor();
 
+    private static final int HISTORY_BURST = 100;
+    private static final Duration HISTORY_TIMEOUT = Duration.ofMinutes(1L);
+
     private static final Counter THINGS_SSE_COUNTER = getCounterFor(PATH_THINGS);
     private static final Counter SEARCH_SSE_COUNTER = getCounterFor(PATH_SEARCH);
+    private static final Counter HISTORY_SSE_COUNTER = getCounterFor(PATH_HISTORY);
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
@@ -192,7 +202,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                                     .thenApply(ThingsSseRouteBuilder::getDittoHeadersWithCorrelationId);
                                     return buildThingsSseRoute(ctx, dittoHeadersCompletionStage);
                                 })))),
-                buildSearchSseRoute(ctx, dittoHeadersSupplier)
+                buildSearchSseRoute(ctx, dittoHeadersSupplier),
+                buildHistorySseRoute(ctx, dittoHeadersSupplier)
         );
     }
 
@@ -209,6 +220,19 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         );
     }
 
+    private Route buildHistorySseRoute(final RequestContext ctx,
+            final Supplier<CompletionStage<DittoHeaders>> dittoHeadersSupplier) {
+
+        return rawPathPrefix(PathMatchers.slash().concat(PATH_HISTORY).slash().concat(PATH_THINGS),
+                () -> pathEndOrSingleSlash(() -> get(() -> headerValuePF(ACCEPT_HEADER_EXTRACTOR,
+                        accept -> {
+                            final CompletionStage<DittoHeaders> dittoHeaders = dittoHeadersSupplier.get()
+                                    .thenApply(ThingsSseRouteBuilder::getDittoHeadersWithCorrelationId);
+                            return parameterMap(parameters -> createHistorySseRoute(ctx, dittoHeaders, parameters));
+                        })))
+        );
+    }
+
     private static DittoHeaders getDittoHeadersWithCorrelationId(final DittoHeaders dittoHeaders) {
         final Optional<String> correlationIdOptional = dittoHeaders.getCorrelationId();
         if (correlationIdOptional.isPresent()) {
@@ -334,6 +358,65 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
     }
 
+    private Route createHistorySseRoute(final RequestContext ctx,
+            final CompletionStage<DittoHeaders> dittoHeadersStage,
+            final Map<String, String> parameters) {
+
+        if (proxyActor == null) {
+            return complete(StatusCodes.NOT_IMPLEMENTED);
+        }
+
+        final List<String> namespaces = getNamespaces(parameters.get(PARAM_NAMESPACES));
+        final CompletionStage<Source<ServerSentEvent, NotUsed>> sseSourceStage =
+                dittoHeadersStage.thenApply(dittoHeaders -> {
+                    sseAuthorizationEnforcer.checkAuthorization(ctx, dittoHeaders);
+
+                    final SudoStreamEvents sudoStreamEvents =
+                            SudoStreamEvents.of(HISTORY_BURST, HISTORY_TIMEOUT.toMillis(), namespaces, dittoHeaders);
+
+                    // the offset of the last event received by the client is the exclusive lower bound of the stream
+                    final SudoStreamEvents command = ctx.getRequest()
+                            .getHeader(LAST_EVENT_ID_HEADER)
+                            .map(lastEventId -> sudoStreamEvents.withLowerBound(lastEventId.value()))
+                            .orElse(sudoStreamEvents);
+
+                    return Source.single(command)
+                            .mapAsync(1, cmd -> Patterns.ask(proxyActor, cmd, HISTORY_TIMEOUT))
+                            .flatMapConcat(ThingsSseRouteBuilder::toStreamedEvents)
+                            .via(AbstractRoute.throttleByConfig(streamingConfig.getSseConfig().getThrottlingConfig()))
+                            .map(streamedEvent -> {
+                                HISTORY_SSE_COUNTER.increment();
+                                return ServerSentEvent.create(streamedEvent.getEvent().toString(),
+                                        Optional.empty(),
+                                        Optional.of(streamedEvent.getOffset()),
+                                        OptionalInt.empty()
+                                );
+                            })
+                            .recoverWithRetries(1, new PFBuilder<Throwable, Source<ServerSentEvent, NotUsed>>()
+                                    .match(DittoRuntimeException.class, dittoRuntimeException -> Source.single(
+                                            ServerSentEvent.create(dittoRuntimeException.toJsonString())
+                                    ))
+                                    .build())
+                            .log("SSE " + PATH_HISTORY)
+                            .via(eventSniffer.toAsyncFlow(ctx.getRequest()));
+                });
+
+        return completeOKWithFuture(sseSourceStage, EventStreamMarshalling.toEventStream());
+    }
+
+    private static Source<StreamedEvent, NotUsed> toStreamedEvents(final Object response) {
+        if (response instanceof SourceRef) {
+            return ((SourceRef<?>) response).getSource()
+                    .filter(StreamedEvent.class::isInstance)
+                    .map(StreamedEvent.class::cast);
+        } else if (response instanceof Throwable) {
+            return Source.failed((Throwable) response);
+        } else {
+            final String message = String.format("Expect <SourceRef>, got <%s>", response);
+            return Source.failed(new ClassCastException(message));
+        }
+    }
+
     private CompletionStage<Collection<JsonObject>> postprocess(final SessionedJsonifiable jsonifiable,
             @Nullable final SignalEnrichmentFacade facade,
             final Collection<ThingId> targetThingIds,
@@ -351,7 +434,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
-                                                .filter(session::matchesFilter)
+                                                .filter(thing -> session.matchesFilter(event, thing))
                                                 .map(thing -> toNonemptyThingJson(thing, event, fields))
                                                 .orElseGet(Collections::emptyList)
                                 )
@@ -14,9 +14,13 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.stats;
 
 import static org.eclipse.ditto.services.gateway.endpoints.directives.DevOpsBasicAuthenticationDirective.REALM_DEVOPS;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -28,7 +32,9 @@ import org.eclipse.ditto.services.gateway.endpoints.directives.DevOpsBasicAuthen
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
+import org.eclipse.ditto.services.utils.metrics.topk.HeavyHitters;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHeavyHitters;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatistics;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
@@ -40,6 +46,7 @@ import akka.http.javadsl.server.Directives;
 import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
+import akka.http.javadsl.unmarshalling.Unmarshaller;
 import akka.japi.function.Function;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -53,10 +60,15 @@ public final class StatsRoute extends AbstractRoute {
     static final String STATISTICS_PATH_PREFIX = "stats";
     static final String THINGS_PATH = "things";
     static final String SEARCH_PATH = "search";
+    static final String HEAVY_HITTERS_PATH = "heavyHitters";
     private static final String DETAILS_PATH = "details";
 
     private static final String ENTITY_PARAM = "entity";
     private static final String NAMESPACE_PARAM = "namespace";
+    private static final String LIMIT_PARAM = "limit";
+
+    private static final JsonFieldDefinition<JsonObject> HEAVY_HITTERS_FIELD =
+            JsonFactory.newJsonObjectFieldDefinition("heavyHitters");
 
     private final DevOpsConfig devOpsConfig;
 
@@ -113,10 +125,22 @@ public final class StatsRoute extends AbstractRoute {
                         handleSudoCountThingsPerRequest(ctx,
                                 SudoCountThings.of(
                                         buildDevOpsDittoHeaders(correlationId)))
-                )
+                ),
+                path(HEAVY_HITTERS_PATH, () -> buildHeavyHittersRoute(ctx, correlationId)) // /stats/heavyHitters
         );
     }
 
+    private Route buildHeavyHittersRoute(final RequestContext ctx, final CharSequence correlationId) {
+        final DevOpsBasicAuthenticationDirective devOpsBasicAuthenticationDirective =
+                DevOpsBasicAuthenticationDirective.getInstance(devOpsConfig);
+        return devOpsBasicAuthenticationDirective.authenticateDevOpsBasic(REALM_DEVOPS,
+                parameterOptional(Unmarshaller.sync(Integer::parseInt), LIMIT_PARAM, limit ->
+                        handleHeavyHittersPerRequest(ctx, RetrieveHeavyHitters.of(
+                                limit.orElse(RetrieveHeavyHitters.DEFAULT_LIMIT),
+                                buildDevOpsDittoHeaders(correlationId)))
+                ));
+    }
+
     private Route buildDetailsRoute(final RequestContext ctx, final CharSequence correlationId) {
         final DevOpsBasicAuthenticationDirective devOpsBasicAuthenticationDirective =
                 DevOpsBasicAuthenticationDirective.getInstance(devOpsConfig);
@@ -171,6 +195,49 @@ public final class StatsRoute extends AbstractRoute {
         return completeWithFuture(allThingsCountHttpResponse);
     }
 
+    private Route handleHeavyHittersPerRequest(final RequestContext ctx, final RetrieveHeavyHitters command) {
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+
+        Source.single(command)
+                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
+                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
+                .run(materializer);
+
+        // the response aggregates the heavy hitters of all service instances, merge them into one report
+        final CompletionStage<HttpResponse> mergedHttpResponse = httpResponseFuture.thenCompose(httpResponse -> {
+            if (!httpResponse.status().isSuccess()) {
+                return CompletableFuture.completedFuture(httpResponse);
+            }
+            return httpResponse.entity()
+                    .getDataBytes()
+                    .fold(ByteString.empty(), ByteString::concat)
+                    .map(ByteString::utf8String)
+                    .map(JsonFactory::newObject)
+                    .map(aggregatedResponses -> HeavyHitters.merge(
+                            collectHeavyHitters(aggregatedResponses), command.getLimit()))
+                    .map(jsonObject -> HttpResponse.create()
+                            .withEntity(ContentTypes.APPLICATION_JSON, ByteString.fromString(jsonObject.toString()))
+                            .withStatus(HttpStatusCode.OK.toInt()))
+                    .runWith(Sink.head(), materializer);
+        });
+
+        return completeWithFuture(mergedHttpResponse);
+    }
+
+    private static List<JsonObject> collectHeavyHitters(final JsonObject aggregatedResponses) {
+        final List<JsonObject> heavyHitters = new ArrayList<>();
+        aggregatedResponses.forEach(serviceField -> {
+            if (serviceField.getValue().isObject()) {
+                serviceField.getValue().asObject().forEach(instanceField -> {
+                    if (instanceField.getValue().isObject()) {
+                        instanceField.getValue().asObject().getValue(HEAVY_HITTERS_FIELD).ifPresent(heavyHitters::add);
+                    }
+                });
+            }
+        });
+        return heavyHitters;
+    }
+
     private static DittoHeaders buildDevOpsDittoHeaders(final CharSequence correlationId) {
         return DittoHeaders.newBuilder()
                 .schemaVersion(JsonSchemaVersion.V_2)
@@ -384,6 +384,12 @@ final class MessagesRoute extends AbstractRoute {
     private Route handleMessage(final RequestContext ctx, final Source<ByteString, Object> payloadSource,
             final Function<ByteBuffer, MessageCommand<?, ?>> requestPayloadToCommandFunction) {
 
+        if (isLightweightRequestHandling()) {
+            return completeWithFuture(preprocessResponse(askProxyActorWithRequestBody(ctx, payloadSource,
+                    requestBody -> requestPayloadToCommandFunction.apply(ByteBuffer.wrap(requestBody.toArray())),
+                    null)));
+        }
+
         final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
         payloadSource.fold(ByteString.empty(), ByteString::concat)
                 .map(ByteString::toArray)
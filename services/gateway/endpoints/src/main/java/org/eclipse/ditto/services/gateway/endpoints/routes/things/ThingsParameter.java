@@ -24,7 +24,12 @@ public enum ThingsParameter {
     /**
      * Request parameter for including only the selected fields in the Thing JSON document(s).
      */
-    FIELDS("fields");
+    FIELDS("fields"),
+
+    /**
+     * Request parameter for the path of the resource to modify in each of the Things with the specified IDs.
+     */
+    PATH("path");
 
     private final String parameterValue;
 
@@ -41,6 +41,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.MessageConfig;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.services.gateway.endpoints.utils.UriEncoding;
+import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingIdNotExplicitlySettableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteAclEntry;
@@ -55,6 +56,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAcl;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAclEntry;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
@@ -203,6 +205,9 @@ public final class ThingsRoute extends AbstractRoute {
                         get(() -> // GET /things?ids=<idsString>&fields=<fieldsString>
                                 buildRetrieveThingsRoute(ctx, dittoHeaders)
                         ),
+                        put(() -> // PUT /things?ids=<idsString>&path=<pathString>
+                                buildModifyThingsRoute(ctx, dittoHeaders)
+                        ),
                         post(() -> // POST /things
                                 extractDataBytes(payloadSource ->
                                         handlePerRequest(ctx, dittoHeaders, payloadSource,
@@ -229,6 +234,25 @@ public final class ThingsRoute extends AbstractRoute {
         );
     }
 
+    private Route buildModifyThingsRoute(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        // the results of the single Things are streamed as they arrive instead of being assembled to one response
+        return parameter(ThingsParameter.IDS.toString(), idsString ->
+                parameter(ThingsParameter.PATH.toString(), pathString ->
+                        extractDataBytes(payloadSource ->
+                                completeWithFuture(preprocessResponse(askProxyActorForJsonArray(ctx, payloadSource,
+                                        valueJson -> ModifyThings.of(
+                                                idsString.isEmpty() ? Collections.emptyList() :
+                                                        splitThingIdString(idsString),
+                                                JsonFactory.newPointer(pathString),
+                                                JsonFactory.readFrom(valueJson.utf8String()),
+                                                dittoHeaders),
+                                        command -> ThingsAggregatorProxyActor.StreamModifyThingsResults.of(
+                                                (ModifyThings) command))))
+                        )
+                )
+        );
+    }
+
     private List<ThingId> splitThingIdString(final String thingIdString) {
         return Arrays.stream(thingIdString.split(","))
                 .map(ThingId::of)
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.junit.Test;
+
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpMethods;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.headers.Location;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import scala.Option;
+
+/**
+ * Tests {@link HttpResponseRenderer}.
+ */
+public final class HttpResponseRendererTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing");
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("cid").build();
+
+    private final HttpResponseRenderer underTest =
+            HttpResponseRenderer.of(HeaderTranslator.of(DittoHeaderDefinition.values()));
+
+    @Test
+    public void renderResponseWithEntityAndExternalHeaders() {
+        final RetrieveAttributeResponse response = RetrieveAttributeResponse.of(THING_ID, JsonPointer.of("a"),
+                JsonValue.of(42), DITTO_HEADERS);
+
+        final HttpResponse httpResponse = underTest.render(HttpRequest.GET("/api/2/things"), response);
+
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.OK);
+        assertThat(httpResponse.entity().getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+        assertThat(httpResponse.getHeader(DittoHeaderDefinition.CORRELATION_ID.getKey())
+                .map(header -> header.value()))
+                .contains("cid");
+    }
+
+    @Test
+    public void renderCreatedResponseWithLocationHeader() {
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final CreateThingResponse response = CreateThingResponse.of(thing, DITTO_HEADERS);
+        final HttpRequest request = HttpRequest.create("http://localhost:8080/api/2/things")
+                .withMethod(HttpMethods.POST);
+
+        final HttpResponse httpResponse = underTest.render(request, response);
+
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.CREATED);
+        assertThat(httpResponse.getHeader(Location.class).map(location -> location.getUri().toString()))
+                .contains("http://localhost:8080/api/2/things/" + THING_ID);
+    }
+
+    @Test
+    public void renderFailures() {
+        assertThat(underTest.renderFailure(JsonParseException.newBuilder().build()).status())
+                .isEqualTo(StatusCodes.BAD_REQUEST);
+        assertThat(underTest.renderFailure(new EntityStreamSizeException(10L, Option.empty())).status())
+                .isEqualTo(StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+        assertThat(underTest.renderFailure(new IllegalStateException("unexpected")).status())
+                .isEqualTo(StatusCodes.INTERNAL_SERVER_ERROR);
+    }
+
+}
@@ -84,6 +84,13 @@ public final class StatsRouteTest extends EndpointTestBase {
         result.assertStatusCode(EndpointTestConstants.DUMMY_COMMAND_SUCCESS);
     }
 
+    @Test
+    public void getStatsHeavyHittersUrlRequiresDevOpsAuthentication() {
+        final TestRouteResult result = statsTestRoute.run(HttpRequest.GET(STATS_PATH +
+                "/" + StatsRoute.HEAVY_HITTERS_PATH));
+        result.assertStatusCode(StatusCodes.UNAUTHORIZED);
+    }
+
     @Test
     public void getNonExistingToplevelUrl() {
         final TestRouteResult result = statsTestRoute.run(HttpRequest.GET(UNKNOWN_PATH));
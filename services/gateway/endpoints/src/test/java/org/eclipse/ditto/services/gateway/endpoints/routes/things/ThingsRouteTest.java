@@ -14,18 +14,27 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ModifyThingsPathInvalidException;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributes;
 import org.junit.Before;
 import org.junit.Test;
 
+import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpEntities;
@@ -36,6 +45,7 @@ import akka.http.javadsl.server.Route;
 import akka.http.javadsl.testkit.TestRoute;
 import akka.http.javadsl.testkit.TestRouteResult;
 import akka.http.scaladsl.model.HttpEntity;
+import akka.stream.javadsl.Source;
 
 /**
  * Tests {@link ThingsRoute}.
@@ -126,6 +136,81 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertEntity(expectedEx.toJsonString());
     }
 
+    @Test
+    public void putThingsStreamsResultsOfModifyThings() {
+        final ActorRef proxyActor = createDummyResponseActor(message -> {
+            if (message instanceof ThingsAggregatorProxyActor.StreamModifyThingsResults) {
+                final ModifyThings modifyThings =
+                        ((ThingsAggregatorProxyActor.StreamModifyThingsResults) message).getModifyThings();
+                return Optional.of(Source.from(modifyThings.getThingEntityIds())
+                        .map(thingId -> JsonObject.newBuilder()
+                                .set(ModifyThingsResponse.JSON_RESULT_THING_ID, thingId.toString())
+                                .set(ModifyThingsResponse.JSON_RESULT_STATUS, 204)
+                                .build()));
+            }
+            return Optional.empty();
+        });
+        final ThingsRoute streamingThingsRoute = new ThingsRoute(proxyActor, system(), messageConfig,
+                claimMessageConfig, httpConfig,
+                ProtocolAdapterProvider.load(protocolConfig, system()).getHttpHeaderTranslator());
+        final TestRoute streamingRoute = testRoute(
+                extractRequestContext(ctx -> streamingThingsRoute.buildThingsRoute(ctx, DittoHeaders.empty())));
+
+        final TestRouteResult result = streamingRoute.run(
+                HttpRequest.PUT("/things?ids=org.eclipse.ditto%3At1,org.eclipse.ditto%3At2&path=/attributes/location")
+                        .withEntity("\"kitchen\""));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(JsonArray.of(result.entityString())).isEqualTo(JsonArray.of(
+                "[{\"thingId\":\"org.eclipse.ditto:t1\",\"status\":204}," +
+                        "{\"thingId\":\"org.eclipse.ditto:t2\",\"status\":204}]"));
+    }
+
+    @Test
+    public void putThingsTerminatesJsonArrayIfStreamFails() {
+        final ActorRef proxyActor = createDummyResponseActor(message -> {
+            if (message instanceof ThingsAggregatorProxyActor.StreamModifyThingsResults) {
+                final ModifyThings modifyThings =
+                        ((ThingsAggregatorProxyActor.StreamModifyThingsResults) message).getModifyThings();
+                return Optional.of(Source.from(modifyThings.getThingEntityIds())
+                        .map(thingId -> {
+                            if (thingId.getName().equals("t2")) {
+                                throw new IllegalStateException("expected failure");
+                            }
+                            return JsonObject.newBuilder()
+                                    .set(ModifyThingsResponse.JSON_RESULT_THING_ID, thingId.toString())
+                                    .set(ModifyThingsResponse.JSON_RESULT_STATUS, 204)
+                                    .build();
+                        }));
+            }
+            return Optional.empty();
+        });
+        final ThingsRoute streamingThingsRoute = new ThingsRoute(proxyActor, system(), messageConfig,
+                claimMessageConfig, httpConfig,
+                ProtocolAdapterProvider.load(protocolConfig, system()).getHttpHeaderTranslator());
+        final TestRoute streamingRoute = testRoute(
+                extractRequestContext(ctx -> streamingThingsRoute.buildThingsRoute(ctx, DittoHeaders.empty())));
+
+        final TestRouteResult result = streamingRoute.run(
+                HttpRequest.PUT("/things?ids=org.eclipse.ditto%3At1,org.eclipse.ditto%3At2&path=/attributes/location")
+                        .withEntity("\"kitchen\""));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final JsonArray results = JsonArray.of(result.entityString());
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).map(JsonValue::asObject).orElseThrow())
+                .contains(JsonKey.of("status"), 500);
+    }
+
+    @Test
+    public void putThingsWithUnsupportedPath() {
+        final TestRouteResult result = underTest.run(
+                HttpRequest.PUT("/things?ids=org.eclipse.ditto%3At1&path=/features/f1/foo").withEntity("{}"));
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+        assertThat(JsonObject.of(result.entityString()))
+                .contains(JsonKey.of("error"), ModifyThingsPathInvalidException.ERROR_CODE);
+    }
+
     @Test
     public void getAttributesWithTrailingSlash() {
         final HttpRequest request = HttpRequest.GET("/things/org.eclipse.ditto%3Adummy/attributes/");
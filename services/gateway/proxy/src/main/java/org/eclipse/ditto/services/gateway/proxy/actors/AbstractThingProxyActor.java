@@ -18,6 +18,7 @@ import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
@@ -57,9 +58,12 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                             command.getType());
                     devOpsCommandsActor.forward(command, getContext());
                 })
-                /* handle RetrieveThings in a special way */
+                /* handle RetrieveThings and ModifyThings in a special way */
                 .match(RetrieveThings.class, rt -> aggregatorProxyActor.forward(rt, getContext()))
                 .match(SudoRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
+                .match(ModifyThings.class, mt -> aggregatorProxyActor.forward(mt, getContext()))
+                .match(ThingsAggregatorProxyActor.StreamModifyThingsResults.class,
+                        smtr -> aggregatorProxyActor.forward(smtr, getContext()))
 
                 .match(QueryThings.class, qt -> {
                     final ActorRef responseActor = getContext().actorOf(
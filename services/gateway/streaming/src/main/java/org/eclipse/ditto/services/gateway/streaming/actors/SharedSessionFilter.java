@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.things.ThingFilterIndex;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.base.Signal;
+
+/**
+ * Evaluates the filters of all streaming sessions of a gateway instance which filter the Thing of a signal without
+ * extra fields. Every session receives the same signal instance, so the filters of all those sessions are evaluated
+ * together when the first session asks whether the signal matches its filter. The results of the most recent
+ * signals are remembered for the other sessions.
+ */
+@ThreadSafe
+final class SharedSessionFilter {
+
+    private static final int REMEMBERED_SIGNALS = 64;
+
+    private final ThingFilterIndex<StreamingSession> index;
+    private final Map<StreamingSession, Long> registrations;
+    private final AtomicLong registrationCounter;
+    private final AtomicReferenceArray<Evaluation> evaluations;
+    private final AtomicInteger nextEvaluation;
+
+    private SharedSessionFilter() {
+        index = ThingFilterIndex.newInstance();
+        registrations = new ConcurrentHashMap<>();
+        registrationCounter = new AtomicLong();
+        evaluations = new AtomicReferenceArray<>(REMEMBERED_SIGNALS);
+        nextEvaluation = new AtomicInteger();
+    }
+
+    /**
+     * Returns a new {@code SharedSessionFilter} without any sessions.
+     *
+     * @return the filter.
+     */
+    static SharedSessionFilter newInstance() {
+        return new SharedSessionFilter();
+    }
+
+    /**
+     * Adds the filter of a session to the shared evaluation.
+     *
+     * @param session the session.
+     * @param criteria the filter of the session.
+     */
+    void register(final StreamingSession session, final Criteria criteria) {
+        index.put(session, criteria);
+        registrations.put(session, registrationCounter.incrementAndGet());
+    }
+
+    /**
+     * Removes the filter of a session from the shared evaluation.
+     *
+     * @param session the session.
+     */
+    void deregister(final StreamingSession session) {
+        registrations.remove(session);
+        index.remove(session);
+    }
+
+    /**
+     * Tests whether the Thing of a signal matches the filter of a session.
+     *
+     * @param session the session.
+     * @param signal the signal.
+     * @param thing the Thing of the signal.
+     * @return whether the Thing passes the filter of the session.
+     */
+    boolean matches(final StreamingSession session, final Signal<?> signal, final Thing thing) {
+        final Long registration = registrations.get(session);
+        if (null == registration) {
+            return session.matchesFilter(thing);
+        }
+        final Evaluation evaluation = evaluate(signal, thing);
+        if (registration > evaluation.lastRegistration) {
+            // the session was registered after the filters were evaluated for the signal
+            return session.matchesFilter(thing);
+        }
+        return evaluation.matchingSessions.contains(session);
+    }
+
+    /**
+     * Returns the number of sessions whose filters are evaluated together.
+     *
+     * @return the number of sessions.
+     */
+    int size() {
+        return registrations.size();
+    }
+
+    private Evaluation evaluate(final Signal<?> signal, final Thing thing) {
+        @Nullable final Evaluation rememberedEvaluation = findEvaluation(signal);
+        if (null != rememberedEvaluation) {
+            return rememberedEvaluation;
+        }
+        // read the registration counter first: every session registered up to it is already in the index
+        final long lastRegistration = registrationCounter.get();
+        final Evaluation evaluation = new Evaluation(signal, lastRegistration, index.match(thing));
+        evaluations.set(Math.floorMod(nextEvaluation.getAndIncrement(), REMEMBERED_SIGNALS), evaluation);
+        return evaluation;
+    }
+
+    @Nullable
+    private Evaluation findEvaluation(final Signal<?> signal) {
+        for (int i = 0; i < REMEMBERED_SIGNALS; ++i) {
+            final Evaluation evaluation = evaluations.get(i);
+            if (null != evaluation && evaluation.signal == signal) {
+                return evaluation;
+            }
+        }
+        return null;
+    }
+
+    private static final class Evaluation {
+
+        private final Signal<?> signal;
+        private final long lastRegistration;
+        private final Set<StreamingSession> matchingSessions;
+
+        private Evaluation(final Signal<?> signal, final long lastRegistration,
+                final Set<StreamingSession> matchingSessions) {
+            this.signal = signal;
+            this.lastRegistration = lastRegistration;
+            this.matchingSessions = matchingSessions;
+        }
+
+    }
+
+}
@@ -69,9 +69,11 @@ public final class StreamingActor extends AbstractActorWithTimers
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
     private final Gauge streamingSessionsCounter;
+    private final Gauge sharedSessionFiltersCounter;
     private final JwtValidator jwtValidator;
     private final JwtAuthorizationContextProvider jwtAuthorizationContextProvider;
     private final Props subscriptionManagerProps;
+    private final SharedSessionFilter sharedSessionFilter;
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final SupervisorStrategy strategy = new OneForOneStrategy(true, DeciderBuilder
@@ -96,11 +98,13 @@ public final class StreamingActor extends AbstractActorWithTimers
         this.commandRouter = commandRouter;
         this.streamingConfig = streamingConfig;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        sharedSessionFiltersCounter = DittoMetrics.gauge("streaming_shared_filters_count");
         jwtValidator = jwtAuthenticationFactory.getJwtValidator();
         jwtAuthorizationContextProvider = jwtAuthenticationFactory.newJwtAuthorizationContextProvider();
         subscriptionManagerProps =
                 SubscriptionManager.props(streamingConfig.getSearchIdleTimeout(), pubSubMediator, conciergeForwarder,
                         ActorMaterializer.create(getContext()));
+        sharedSessionFilter = SharedSessionFilter.newInstance();
         scheduleScrapeStreamSessionsCounter();
     }
 
@@ -138,7 +142,7 @@ public final class StreamingActor extends AbstractActorWithTimers
                     final String connectionCorrelationId = connect.getConnectionCorrelationId();
                     getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub, eventAndResponsePublisher,
-                                    subscriptionManagerProps),
+                                    subscriptionManagerProps, sharedSessionFilter),
                             connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
@@ -254,6 +258,7 @@ public final class StreamingActor extends AbstractActorWithTimers
         if (getContext() != null) {
             streamingSessionsCounter.set(
                     StreamSupport.stream(getContext().getChildren().spliterator(), false).count());
+            sharedSessionFiltersCounter.set((long) sharedSessionFilter.size());
         }
     }
 
@@ -34,20 +34,38 @@ public final class StreamingSession {
     private final List<String> namespaces;
     private final Predicate<Thing> thingPredicate;
     @Nullable private final JsonFieldSelector extraFields;
+    @Nullable private final SharedSessionFilter sharedFilter;
 
     private StreamingSession(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
-            @Nullable final JsonFieldSelector extraFields) {
+            @Nullable final JsonFieldSelector extraFields, @Nullable final SharedSessionFilter sharedFilter) {
         this.namespaces = namespaces;
         thingPredicate = eventFilterCriteria == null
                 ? thing -> true
                 : ThingPredicateVisitor.apply(eventFilterCriteria);
         this.extraFields = extraFields;
+        this.sharedFilter = sharedFilter;
     }
 
     static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
             @Nullable final JsonFieldSelector extraFields) {
 
-        return new StreamingSession(namespaces, eventFilterCriteria, extraFields);
+        return new StreamingSession(namespaces, eventFilterCriteria, extraFields, null);
+    }
+
+    /**
+     * Creates a session whose filter is evaluated together with the filters of the other sessions of the shared
+     * filter. Sessions with extra fields evaluate their filter on their own, because the extra fields are retrieved
+     * per session. The session has to be {@link #close() closed} when it ends.
+     */
+    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+            @Nullable final JsonFieldSelector extraFields, final SharedSessionFilter sharedFilter) {
+
+        if (null == eventFilterCriteria || null != extraFields) {
+            return of(namespaces, eventFilterCriteria, extraFields);
+        }
+        final StreamingSession session = new StreamingSession(namespaces, eventFilterCriteria, null, sharedFilter);
+        sharedFilter.register(session, eventFilterCriteria);
+        return session;
     }
 
     /**
@@ -86,4 +104,29 @@ public final class StreamingSession {
     public boolean matchesFilter(final Thing thing) {
         return thingPredicate.test(thing);
     }
+
+    /**
+     * Test whether the thing of a signal matches the filter defined in this session. Prefer this method over
+     * {@link #matchesFilter(Thing)} if the signal is known, as it evaluates the filter only once per signal for all
+     * sessions without extra fields.
+     *
+     * @param signal the signal.
+     * @param thing the thing of the signal merged with the extra fields of this session.
+     * @return whether the thing passes the filter.
+     */
+    public boolean matchesFilter(final Signal<?> signal, final Thing thing) {
+        if (null != sharedFilter) {
+            return sharedFilter.matches(this, signal, thing);
+        }
+        return matchesFilter(thing);
+    }
+
+    /**
+     * Removes the filter of this session from the shared evaluation, if any.
+     */
+    void close() {
+        if (null != sharedFilter) {
+            sharedFilter.deregister(this);
+        }
+    }
 }
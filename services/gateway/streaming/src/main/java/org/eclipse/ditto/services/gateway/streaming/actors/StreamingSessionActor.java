@@ -81,6 +81,7 @@ final class StreamingSessionActor extends AbstractActor {
     private final ActorRef subscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final SharedSessionFilter sharedSessionFilter;
     private final DittoDiagnosticLoggingAdapter logger;
 
     @Nullable private Cancellable sessionTerminationCancellable;
@@ -90,7 +91,8 @@ final class StreamingSessionActor extends AbstractActor {
     private StreamingSessionActor(final Connect connect,
             final DittoProtocolSub dittoProtocolSub,
             final ActorRef eventAndResponsePublisher,
-            final Props subscriptionManagerProps) {
+            final Props subscriptionManagerProps,
+            final SharedSessionFilter sharedSessionFilter) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -100,6 +102,7 @@ final class StreamingSessionActor extends AbstractActor {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        this.sharedSessionFilter = sharedSessionFilter;
         logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         logger.setCorrelationId(connectionCorrelationId);
         connect.getSessionExpirationTime().ifPresent(expiration ->
@@ -118,20 +121,23 @@ final class StreamingSessionActor extends AbstractActor {
      * @param dittoProtocolSub manager of subscriptions.
      * @param eventAndResponsePublisher the {@link EventAndResponsePublisher} actor.
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
+     * @param sharedSessionFilter the filter evaluating the filters of all sessions of this gateway instance.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
             final DittoProtocolSub dittoProtocolSub,
             final ActorRef eventAndResponsePublisher,
-            final Props subscriptionManagerProps) {
+            final Props subscriptionManagerProps,
+            final SharedSessionFilter sharedSessionFilter) {
 
         return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub, eventAndResponsePublisher,
-                subscriptionManagerProps);
+                subscriptionManagerProps, sharedSessionFilter);
     }
 
     @Override
     public void postStop() {
         cancelSessionTimeout();
+        streamingSessions.values().forEach(StreamingSession::close);
         logger.info("Closing <{}> streaming session.", type);
     }
 
@@ -168,8 +174,12 @@ final class StreamingSessionActor extends AbstractActor {
                         return;
                     }
                     final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null));
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                            startStreaming.getExtraFields().orElse(null), sharedSessionFilter);
+                    final StreamingSession previousSession =
+                            streamingSessions.put(startStreaming.getStreamingType(), session);
+                    if (null != previousSession) {
+                        previousSession.close();
+                    }
 
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
@@ -187,7 +197,11 @@ final class StreamingSessionActor extends AbstractActor {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    final StreamingSession stoppedSession =
+                            streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (null != stoppedSession) {
+                        stoppedSession.close();
+                    }
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link SharedSessionFilter}.
+ */
+public final class SharedSessionFilterTest {
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "shared"))
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+            .build();
+
+    private final SharedSessionFilter underTest = SharedSessionFilter.newInstance();
+
+    @Test
+    public void sessionsWithoutExtraFieldsShareTheirFilters() {
+        final StreamingSession matching = session("eq(attributes/location,\"kitchen\")", null);
+        final StreamingSession notMatching = session("eq(attributes/location,\"garden\")", null);
+        final StreamingSession withExtraFields =
+                session("eq(attributes/location,\"kitchen\")", JsonFieldSelector.newInstance("attributes"));
+        final StreamingSession withoutFilter = StreamingSession.of(Collections.emptyList(), null, null, underTest);
+        final ThingModified signal = ThingModified.of(THING, 1L, DittoHeaders.empty());
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(matching.matchesFilter(signal, THING)).isTrue();
+        assertThat(notMatching.matchesFilter(signal, THING)).isFalse();
+        assertThat(withExtraFields.matchesFilter(signal, THING)).isTrue();
+        assertThat(withoutFilter.matchesFilter(signal, THING)).isTrue();
+    }
+
+    @Test
+    public void sessionsRegisteredAfterEvaluationOfSignalEvaluateTheirOwnFilter() {
+        final StreamingSession first = session("exists(attributes/location)", null);
+        final ThingModified signal = ThingModified.of(THING, 1L, DittoHeaders.empty());
+        assertThat(first.matchesFilter(signal, THING)).isTrue();
+
+        final StreamingSession second = session("eq(attributes/location,\"kitchen\")", null);
+
+        assertThat(second.matchesFilter(signal, THING)).isTrue();
+    }
+
+    @Test
+    public void closedSessionsAreRemoved() {
+        final StreamingSession session = session("eq(attributes/location,\"kitchen\")", null);
+
+        session.close();
+
+        assertThat(underTest.size()).isZero();
+        assertThat(session.matchesFilter(ThingModified.of(THING, 1L, DittoHeaders.empty()), THING)).isTrue();
+    }
+
+    private StreamingSession session(final String filter, @Nullable final JsonFieldSelector extraFields) {
+        final Criteria criteria = QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+        return StreamingSession.of(Collections.emptyList(), criteria, extraFields, underTest);
+    }
+
+}
@@ -45,6 +45,7 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final boolean lightweightRequestHandling;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig,
             final Pattern redirectToHttpsBlacklistPattern) {
@@ -60,6 +61,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        lightweightRequestHandling =
+                scopedConfig.getBoolean(GatewayHttpConfigValue.LIGHTWEIGHT_REQUEST_HANDLING.getConfigPath());
     }
 
     /**
@@ -137,6 +140,11 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public boolean isLightweightRequestHandling() {
+        return lightweightRequestHandling;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -151,6 +159,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                lightweightRequestHandling == that.lightweightRequestHandling &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlacklistPattern.equals(that.redirectToHttpsBlacklistPattern) &&
@@ -161,7 +170,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, schemaVersions, forceHttps, redirectToHttps,
-                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname);
+                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
+                lightweightRequestHandling);
     }
 
     @Override
@@ -176,6 +186,7 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", lightweightRequestHandling=" + lightweightRequestHandling +
                 "]";
     }
 
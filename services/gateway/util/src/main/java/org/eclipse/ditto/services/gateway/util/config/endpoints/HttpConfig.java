@@ -79,6 +79,15 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Indicates whether HTTP requests should be handled without creating a request actor per request.
+     * If disabled or if a custom {@code HttpRequestActorPropsFactory} is configured, a request actor is created for
+     * each request.
+     *
+     * @return {@code true} if requests should be handled by asking the proxy actor directly, {@code false} else.
+     */
+    boolean isLightweightRequestHandling();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -122,7 +131,12 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
          * The full qualified classname of the HttpRequestActorPropsFactory to instantiate.
          */
         ACTOR_PROPS_FACTORY("actor-props-factory",
-                "org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory");
+                "org.eclipse.ditto.services.gateway.endpoints.actors.DefaultHttpRequestActorPropsFactory"),
+
+        /**
+         * Determines whether HTTP requests should be handled without creating a request actor per request.
+         */
+        LIGHTWEIGHT_REQUEST_HANDLING("lightweight-request-handling", true);
 
         private final String path;
         private final Object defaultValue;
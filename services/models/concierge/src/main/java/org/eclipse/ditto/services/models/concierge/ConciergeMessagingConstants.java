@@ -44,6 +44,11 @@ public final class ConciergeMessagingConstants {
      */
     public static final String FORWARDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/conciergeForwarder";
 
+    /**
+     * Path of the concierge actor streaming the enforced history of thing events.
+     */
+    public static final String THING_EVENT_HISTORY_ACTOR_PATH = ROOT_ACTOR_PATH + "/thingEventHistoryActor";
+
     /**
      * Name of the blocked-namespace-updater singleton.
      */
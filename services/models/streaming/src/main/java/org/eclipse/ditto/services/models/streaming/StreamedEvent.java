@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import java.util.Objects;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Serializable message for streamed events of the event journal.
+ * Events persisted together share the offset of their journal entry.
+ *
+ * @since 1.1.0
+ */
+public final class StreamedEvent implements StreamingMessage, Jsonifiable<JsonObject> {
+
+    private final EntityId entityId;
+    private final String offset;
+    private final JsonObject event;
+
+    private StreamedEvent(final EntityId entityId, final String offset, final JsonObject event) {
+        this.entityId = entityId;
+        this.offset = offset;
+        this.event = event;
+    }
+
+    /**
+     * Create a streamed event from entity ID, journal offset and event as JSON object.
+     *
+     * @param entityId the entity ID of the event.
+     * @param offset the offset of the journal entry of the event to resume the stream after.
+     * @param event the event as JSON object.
+     * @return the streamed event object.
+     */
+    public static StreamedEvent of(final EntityId entityId, final String offset, final JsonObject event) {
+        return new StreamedEvent(entityId, offset, event);
+    }
+
+    /**
+     * Deserialize a streamed event from JSON.
+     *
+     * @param jsonObject the JSON representation of the streamed event.
+     * @return the streamed event object.
+     */
+    public static StreamedEvent fromJson(final JsonObject jsonObject) {
+        final EntityId entityId = DefaultEntityId.of(jsonObject.getValueOrThrow(JsonFields.ENTITY_ID));
+        final String offset = jsonObject.getValueOrThrow(JsonFields.OFFSET);
+        final JsonObject event = jsonObject.getValueOrThrow(JsonFields.EVENT);
+        return new StreamedEvent(entityId, offset, event);
+    }
+
+    /**
+     * Retrieve the entity ID of the streamed event.
+     *
+     * @return the entity ID.
+     */
+    public EntityId getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Retrieve the offset of the journal entry of the streamed event.
+     *
+     * @return the offset.
+     */
+    public String getOffset() {
+        return offset;
+    }
+
+    /**
+     * Retrieve the event as JSON object.
+     *
+     * @return the event as JSON object.
+     */
+    public JsonObject getEvent() {
+        return event;
+    }
+
+    /**
+     * Create a copy of this streamed event with another JSON representation of the event.
+     *
+     * @param event the new JSON representation.
+     * @return the copy.
+     */
+    public StreamedEvent setEvent(final JsonObject event) {
+        return new StreamedEvent(entityId, offset, event);
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set(JsonFields.ENTITY_ID, entityId.toString())
+                .set(JsonFields.OFFSET, offset)
+                .set(JsonFields.EVENT, event)
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (other instanceof StreamedEvent) {
+            final StreamedEvent that = (StreamedEvent) other;
+            return Objects.equals(entityId, that.entityId) &&
+                    Objects.equals(offset, that.offset) &&
+                    Objects.equals(event, that.event);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId, offset, event);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "[entityId=" + entityId +
+                ",offset=" + offset +
+                ",event=" + event +
+                "]";
+    }
+
+    private static final class JsonFields {
+
+        private static final JsonFieldDefinition<String> ENTITY_ID = JsonFactory.newStringFieldDefinition("id");
+
+        private static final JsonFieldDefinition<String> OFFSET = JsonFactory.newStringFieldDefinition("o");
+
+        private static final JsonFieldDefinition<JsonObject> EVENT = JsonFactory.newJsonObjectFieldDefinition("e");
+    }
+}
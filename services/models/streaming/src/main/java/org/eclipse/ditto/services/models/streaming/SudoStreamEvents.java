@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.model.base.json.FieldType.REGULAR;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which starts a stream of persisted events in the order of the event journal.
+ * The stream can be resumed after the offset of the last received {@link StreamedEvent}.
+ *
+ * @since 1.1.0
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoStreamEvents.TYPE_PREFIX, name = SudoStreamEvents.NAME)
+public final class SudoStreamEvents extends AbstractCommand<SudoStreamEvents>
+        implements StartStreamRequest, WithIdButActuallyNot {
+
+    static final String NAME = "SudoStreamEvents";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private final int burst;
+    private final long timeoutMillis;
+    private final String lowerBound;
+    private final JsonArray namespaces;
+
+    private SudoStreamEvents(final Integer burst,
+            final Long timeoutMillis,
+            final String lowerBound,
+            final JsonArray namespaces,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+
+        this.burst = burst;
+        this.timeoutMillis = timeoutMillis;
+        this.lowerBound = lowerBound;
+        this.namespaces = namespaces;
+    }
+
+    /**
+     * Creates a new {@code SudoStreamEvents} command streaming from the beginning of the event journal.
+     *
+     * @param burst the amount of journal entries to read in a batch.
+     * @param timeoutMillis maximum time to wait for acknowledgement of each stream element.
+     * @param namespaces the namespaces of the entities whose events to stream, or an empty list for all namespaces.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoStreamEvents of(final Integer burst, final Long timeoutMillis, final List<String> namespaces,
+            final DittoHeaders dittoHeaders) {
+
+        final JsonArray namespacesArray = namespaces.stream()
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray());
+        return new SudoStreamEvents(burst, timeoutMillis, "", namespacesArray, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoStreamEvents} from a JSON object.
+     *
+     * @param jsonObject the JSON representation of the command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the expected format.
+     */
+    public static SudoStreamEvents fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final int burst = jsonObject.getValueOrThrow(JsonFields.JSON_BURST);
+        final long timeoutMillis = jsonObject.getValueOrThrow(JsonFields.JSON_TIMEOUT_MILLIS);
+        final String lowerBound = jsonObject.getValue(JsonFields.JSON_LOWER_BOUND).orElse("");
+        final JsonArray namespaces = jsonObject.getValue(JsonFields.JSON_NAMESPACES).orElseGet(JsonArray::empty);
+        return new SudoStreamEvents(burst, timeoutMillis, lowerBound, namespaces, dittoHeaders);
+    }
+
+    /**
+     * Create a copy of this command with a lower-bound set. The lower bound is the offset of the last received
+     * {@link StreamedEvent}; the stream resumes with the events persisted after it.
+     *
+     * @param lowerBound the lower bound.
+     * @return a copy of this command with lower-bound set.
+     */
+    public SudoStreamEvents withLowerBound(final String lowerBound) {
+        return new SudoStreamEvents(burst, timeoutMillis, lowerBound, namespaces, getDittoHeaders());
+    }
+
+    /**
+     * Return the lower-bound offset to resume a stream.
+     *
+     * @return the lower-bound offset, or an empty string to stream from the beginning of the event journal.
+     */
+    public String getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Return whether the command has a non-empty lower bound.
+     *
+     * @return whether the command has a non-empty lower bound.
+     */
+    public boolean hasNonEmptyLowerBound() {
+        return !lowerBound.isEmpty();
+    }
+
+    /**
+     * Return the namespaces of the entities whose events to stream.
+     *
+     * @return the namespaces, or an empty array for all namespaces.
+     */
+    public JsonArray getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder,
+            final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.JSON_BURST, burst, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUND, lowerBound, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_NAMESPACES, namespaces, predicate);
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoStreamEvents setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoStreamEvents(burst, timeoutMillis, lowerBound, namespaces, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound, namespaces);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (obj instanceof SudoStreamEvents) {
+            final SudoStreamEvents that = (SudoStreamEvents) obj;
+            return burst == that.burst &&
+                    timeoutMillis == that.timeoutMillis &&
+                    Objects.equals(lowerBound, that.lowerBound) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    super.equals(that);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoStreamEvents;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString()
+                + ", burst=" + burst
+                + ", timeoutMillis=" + timeoutMillis
+                + ", lowerBound=" + lowerBound
+                + ", namespaces=" + namespaces
+                + "]";
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public String getResourceType() {
+        return TYPE;
+    }
+
+    static final class JsonFields {
+
+        static final JsonFieldDefinition<Integer> JSON_BURST =
+                JsonFactory.newIntFieldDefinition("payload/burst", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<Long> JSON_TIMEOUT_MILLIS =
+                JsonFactory.newLongFieldDefinition("payload/timeoutMillis", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/lowerBound", REGULAR, V_1, V_2);
+
+        static final JsonFieldDefinition<JsonArray> JSON_NAMESPACES =
+                JsonFactory.newJsonArrayFieldDefinition("payload/namespaces", REGULAR, V_1, V_2);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.models.streaming.StreamedEvent}.
+ */
+public final class StreamedEventTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(StreamedEvent.class, areImmutable(),
+                provided(EntityId.class, JsonObject.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(StreamedEvent.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final StreamedEvent underTest =
+                StreamedEvent.of(DefaultEntityId.of("hello:world"), "5e8c3d5a1f0b7c2a9d4e6f10",
+                        JsonObject.of("{\"hello\":\"world\"}"));
+
+        final StreamedEvent deserialized = StreamedEvent.fromJson(underTest.toJson());
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.streaming;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.models.streaming.SudoStreamEvents}.
+ */
+public final class SudoStreamEventsTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoStreamEvents.class, areImmutable(),
+                provided(JsonArray.class).areAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoStreamEvents.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamEvents underTest =
+                SudoStreamEvents.of(123, 456L, List.of("hello", "world"), dittoHeaders)
+                        .withLowerBound("5e8c3d5a1f0b7c2a9d4e6f10");
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoStreamEvents deserialized = SudoStreamEvents.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+    }
+
+    @Test
+    public void parseWithRegistry() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamEvents underTest =
+                SudoStreamEvents.of(123, 456L, List.of("hello", "world"), dittoHeaders);
+        final SudoStreamEvents expected = SudoStreamEvents.fromJson(underTest.toJson(), dittoHeaders);
+        final Jsonifiable<?> parsed = GlobalCommandRegistry.getInstance().parse(underTest.toJson(), dittoHeaders);
+        assertThat(parsed).isEqualTo(expected);
+    }
+
+}
@@ -38,6 +38,11 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_SNAPSHOT_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/snapshotStreamingActor";
 
+    /**
+     * Path of the actor that streams the events of the event journal in the order of their persistence.
+     */
+    public static final String THINGS_JOURNAL_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/journalStreamingActor";
+
     /**
      * Name of the shard region for Thing entities.
      */
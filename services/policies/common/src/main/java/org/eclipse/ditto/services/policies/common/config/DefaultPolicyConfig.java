@@ -23,7 +23,9 @@ import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
 
 import com.typesafe.config.Config;
 
@@ -38,11 +40,13 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final WarmUpConfig warmUpConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        warmUpConfig = DefaultWarmUpConfig.of(scopedConfig);
     }
 
     /**
@@ -71,6 +75,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public WarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +91,13 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         final DefaultPolicyConfig that = (DefaultPolicyConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(warmUpConfig, that.warmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, warmUpConfig);
     }
 
     @Override
@@ -96,6 +106,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 " supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 "]";
     }
 
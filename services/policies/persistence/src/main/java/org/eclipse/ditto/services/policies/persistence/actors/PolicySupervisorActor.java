@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyUnavailableException;
@@ -45,7 +46,15 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
     private final ActorRef pubSubMediator;
     private final SnapshotAdapter<Policy> snapshotAdapter;
 
+    @SuppressWarnings("unused")
     private PolicySupervisorActor(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter) {
+        this(pubSubMediator, snapshotAdapter, null);
+    }
+
+    private PolicySupervisorActor(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
+            @Nullable final TopKCounter<String> accessCounter) {
+
+        super(accessCounter);
         this.pubSubMediator = pubSubMediator;
         this.snapshotAdapter = snapshotAdapter;
     }
@@ -66,6 +75,20 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
         return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter);
     }
 
+    /**
+     * Props for creating a {@code PolicySupervisorActor} which counts the accesses of its policy.
+     *
+     * @param pubSubMediator the PubSub mediator actor.
+     * @param snapshotAdapter the adapter to serialize snapshots.
+     * @param accessCounter the counter of policy accesses of this node.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
+            final TopKCounter<String> accessCounter) {
+
+        return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter, accessCounter);
+    }
+
     @Override
     protected PolicyId getEntityId() throws Exception {
         return PolicyId.of(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name()));
@@ -20,6 +20,8 @@ import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
@@ -35,15 +37,19 @@ import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsRespons
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
+import org.eclipse.ditto.services.utils.health.ActorStatusReporter;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistentactors.warmup.WarmUpActor;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
 import akka.Done;
@@ -73,6 +79,8 @@ public final class PoliciesRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "policiesRoot";
 
+    private static final String WARM_UP_COLLECTION_NAME = "policies_warm_up";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -87,7 +95,11 @@ public final class PoliciesRootActor extends DittoRootActor {
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE);
 
-        final Props policySupervisorProps = PolicySupervisorActor.props(pubSubMediator, snapshotAdapter);
+        final WarmUpConfig warmUpConfig = policiesConfig.getPolicyConfig().getWarmUpConfig();
+        final TopKCounter<String> accessCounter = WarmUpActor.newAccessCounter(warmUpConfig);
+        final Props policySupervisorProps = warmUpConfig.isEnabled()
+                ? PolicySupervisorActor.props(pubSubMediator, snapshotAdapter, accessCounter)
+                : PolicySupervisorActor.props(pubSubMediator, snapshotAdapter);
 
         final TagsConfig tagsConfig = policiesConfig.getTagsConfig();
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
@@ -101,6 +113,11 @@ public final class PoliciesRootActor extends DittoRootActor {
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
                         ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
 
+        @Nullable final ActorRef warmUpActor = warmUpConfig.isEnabled()
+                ? startChildActor(WarmUpActor.ACTOR_NAME, WarmUpActor.props(warmUpConfig, policiesShardRegion,
+                accessCounter, policiesConfig.getMongoDbConfig(), WARM_UP_COLLECTION_NAME))
+                : null;
+
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
@@ -118,14 +135,17 @@ public final class PoliciesRootActor extends DittoRootActor {
         final HealthCheckingActorOptions healthCheckingActorOptions = hcBuilder.build();
         final MetricsReporterConfig metricsReporterConfig =
                 healthCheckConfig.getPersistenceConfig().getMetricsReporterConfig();
-        final Props healthCheckingActorProps = DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
-                MongoHealthChecker.props(),
-                MongoMetricsReporter.props(
-                        metricsReporterConfig.getResolution(),
-                        metricsReporterConfig.getHistory(),
-                        pubSubMediator
-                )
+        final Props mongoMetricsReporterProps = MongoMetricsReporter.props(
+                metricsReporterConfig.getResolution(),
+                metricsReporterConfig.getHistory(),
+                pubSubMediator
         );
+        // report healthy only after the warm-up finished
+        final Props healthCheckingActorProps = null != warmUpActor
+                ? DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions, MongoHealthChecker.props(),
+                mongoMetricsReporterProps, ActorStatusReporter.props(warmUpActor))
+                : DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions, MongoHealthChecker.props(),
+                mongoMetricsReporterProps);
         final ActorRef healthCheckingActor =
                 startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME, healthCheckingActorProps);
 
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import java.util.Optional;
+
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
@@ -23,12 +25,15 @@ import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingCompactor;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.RecoveryConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
+import org.eclipse.ditto.services.utils.persistentactors.EntityCompactor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -154,6 +159,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected RecoveryConfig getRecoveryConfig() {
+        return thingConfig.getRecoveryConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -183,6 +193,11 @@ public final class ThingPersistenceActor
         return entity.getImplementedSchemaVersion();
     }
 
+    @Override
+    protected Optional<EntityCompactor<Thing>> getEntityCompactor() {
+        return Optional.of(ThingCompactor.getInstance());
+    }
+
     private static Thing enhanceThingWithLifecycle(final Thing thing) {
         final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
         if (!thing.getLifecycle().isPresent()) {
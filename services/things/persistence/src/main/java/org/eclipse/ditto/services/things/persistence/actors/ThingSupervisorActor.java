@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
@@ -53,6 +54,15 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
 
+        this(pubSubMediator, distributedPub, thingPersistenceActorPropsFactory, null);
+    }
+
+    private ThingSupervisorActor(final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            @Nullable final TopKCounter<String> accessCounter) {
+
+        super(accessCounter);
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
@@ -78,6 +88,26 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
     }
 
+    /**
+     * Props for creating a {@code ThingSupervisorActor} which counts the accesses of its thing.
+     *
+     * @param pubSubMediator the PubSub mediator actor.
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param accessCounter the counter of thing accesses of this node.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final TopKCounter<String> accessCounter) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory,
+                accessCounter);
+    }
+
     @Override
     protected ThingId getEntityId() throws Exception {
         return ThingId.of(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name()));
@@ -20,6 +20,7 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.utils.persistence.mongo.DefaultPersistenceStreamingActor;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalStreamingActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.SnapshotStreamingActor;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.PidWithSeqNr;
 
@@ -44,6 +45,12 @@ public final class ThingsPersistenceStreamingActorCreator {
      */
     public static final String SNAPSHOT_STREAMING_ACTOR_NAME = "snapshotStreamingActor";
 
+    /**
+     * The name of the journal streaming actor. Must agree with
+     * {@link org.eclipse.ditto.services.models.things.ThingsMessagingConstants#THINGS_JOURNAL_STREAMING_ACTOR_PATH}.
+     */
+    public static final String JOURNAL_STREAMING_ACTOR_NAME = "journalStreamingActor";
+
     private static final Pattern PERSISTENCE_ID_PATTERN = Pattern.compile(ThingPersistenceActor.PERSISTENCE_ID_PREFIX);
 
     private ThingsPersistenceStreamingActorCreator() {
@@ -77,6 +84,18 @@ public final class ThingsPersistenceStreamingActorCreator {
         return actorCreator.apply(SNAPSHOT_STREAMING_ACTOR_NAME, props);
     }
 
+    /**
+     * Create an actor that streams the events of the event journal in the order of their persistence.
+     *
+     * @param actorCreator function to create a named actor with.
+     * @return a reference of the created actor.
+     */
+    public static ActorRef startJournalStreamingActor(final BiFunction<String, Props, ActorRef> actorCreator) {
+        final Props props = JournalStreamingActor.props(ThingsPersistenceStreamingActorCreator::pid2EntityId,
+                ThingPersistenceActor.PERSISTENCE_ID_PREFIX);
+        return actorCreator.apply(JOURNAL_STREAMING_ACTOR_NAME, props);
+    }
+
     private static ThingTag createElement(final PidWithSeqNr pidWithSeqNr) {
         return ThingTag.of(pid2EntityId(pidWithSeqNr.getPersistenceId()), pidWithSeqNr.getSequenceNr());
     }
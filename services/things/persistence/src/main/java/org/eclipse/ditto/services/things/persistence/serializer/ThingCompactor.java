@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistentactors.EntityCompactor;
+
+/**
+ * Converts Things to compact CBOR byte arrays and back. Thing persistence actors keep the compact representation in
+ * memory instead of the materialized Thing while they are idle. Like snapshots, it contains the regular and the
+ * special fields of the Thing in its implemented schema version.
+ */
+@Immutable
+public final class ThingCompactor implements EntityCompactor<Thing> {
+
+    private static final ThingCompactor INSTANCE = new ThingCompactor();
+
+    private ThingCompactor() {
+        super();
+    }
+
+    /**
+     * Returns the instance of {@code ThingCompactor}.
+     *
+     * @return the instance.
+     */
+    public static ThingCompactor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Convert a Thing to its compact representation.
+     *
+     * @param thing the Thing.
+     * @return the CBOR bytes of the Thing.
+     * @throws IOException if the Thing could not be written as CBOR.
+     */
+    @Override
+    public byte[] compact(final Thing thing) throws IOException {
+        return CborFactory.toByteArray(thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial()));
+    }
+
+    /**
+     * Restore a Thing from its compact representation.
+     *
+     * @param compactThing the CBOR bytes created by {@link #compact(Thing)}.
+     * @return the Thing.
+     * @throws org.eclipse.ditto.json.JsonParseException if the bytes are no CBOR representation of a JSON object.
+     */
+    @Override
+    public Thing expand(final byte[] compactThing) {
+        final JsonValue thingJson = CborFactory.readFrom(compactThing);
+        return ThingsModelFactory.newThing(thingJson.asObject());
+    }
+
+}
@@ -87,6 +87,7 @@ import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAcl;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAclEntry;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
@@ -527,6 +528,35 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAndRetrieveCompactedThing() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.activity-check.compaction-interval = 100ms"));
+        final Thing thing = createThingV2WithRandomId();
+        final JsonPointer attributePointer = JsonPointer.of("compacted");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // wait for the idle Thing to be compacted
+                expectNoMessage(java.time.Duration.ofMillis(500L));
+                underTest.tell(ModifyAttribute.of(getIdOrThrow(thing), attributePointer, JsonValue.of(true),
+                        dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                expectNoMessage(java.time.Duration.ofMillis(500L));
+                underTest.tell(RetrieveThing.of(getIdOrThrow(thing), dittoHeadersV2), getRef());
+                final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(retrievedThing.toJson())
+                        .isEqualTo(thing.setAttribute(attributePointer, JsonValue.of(true)).toJson());
+            }
+        };
+    }
+
     @Test
     public void retrieveThingsWithoutThingIdOfActor() {
         final Thing thing = createThingV2WithRandomId();
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.TestConstants;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingCompactor}.
+ */
+public final class ThingCompactorTest {
+
+    private final ThingCompactor underTest = ThingCompactor.getInstance();
+
+    @Test
+    public void compactAndExpandThingV1() throws IOException {
+        final Thing thing = TestConstants.Thing.THING_V1;
+        assertThat(underTest.expand(underTest.compact(thing))).isEqualTo(thing);
+    }
+
+    @Test
+    public void compactAndExpandThingV2() throws IOException {
+        final Thing thing = TestConstants.Thing.THING_V2.setLifecycle(ThingLifecycle.ACTIVE);
+        final Thing expandedThing = underTest.expand(underTest.compact(thing));
+        assertThat(expandedThing).isEqualTo(thing);
+        assertThat(expandedThing.getRevision()).isEqualTo(thing.getRevision());
+        assertThat(expandedThing.getModified()).isEqualTo(thing.getModified());
+        assertThat(expandedThing.getLifecycle()).contains(ThingLifecycle.ACTIVE);
+    }
+
+    @Test
+    public void compactAndExpandThingWithNestedAttributesAndFeatures() throws IOException {
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", "thermostat"))
+                .setPolicyId(PolicyId.of("org.eclipse.ditto", "thermostat"))
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setRevision(42L)
+                .setModified(Instant.EPOCH.plusSeconds(42L))
+                .setAttributes(JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder()
+                                .set("floor", 3)
+                                .set("latitude", 47.68)
+                                .set("description", "Büro ☀")
+                                .build())
+                        .build())
+                .setFeature(Feature.newBuilder()
+                        .properties(JsonObject.newBuilder()
+                                .set("value", 21.5)
+                                .set("online", true)
+                                .set("lastMeasured", JsonValue.nullLiteral())
+                                .build())
+                        .withId("temperature")
+                        .build())
+                .build();
+
+        final Thing expandedThing = underTest.expand(underTest.compact(thing));
+
+        assertThat(expandedThing).isEqualTo(thing);
+        assertThat(expandedThing.getRevision()).isEqualTo(thing.getRevision());
+        assertThat(expandedThing.getModified()).isEqualTo(thing.getModified());
+    }
+
+    @Test
+    public void compactThingIsSmallerThanItsJson() throws IOException {
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final String thingJson = thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial())
+                .toString();
+        assertThat(underTest.compact(thing).length).isLessThan(thingJson.length());
+    }
+
+}
@@ -14,12 +14,19 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
 
@@ -48,4 +55,44 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
+    @Test
+    public void compressedSnapshotRoundtripReturnsExpected() {
+        final SnapshotConfig snapshotConfig = DefaultSnapshotConfig.of(ConfigFactory.parseString(
+                "snapshot { compression-enabled = true, compression-threshold = 0 }"));
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(thing, snapshotConfig);
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final BsonDocument dbObject = (BsonDocument) rawSnapshotEntity;
+        assertThat(dbObject.getString("__compression").getValue()).isEqualTo("deflate");
+        assertThat(dbObject.isBinary("__snapshot")).isTrue();
+        final Thing restoredThing = underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, dbObject));
+        assertThat(restoredThing).isEqualTo(thing);
+    }
+
+    @Test
+    public void compressedSnapshotKeepsFieldsProjectedBySnapshotStreaming() {
+        final SnapshotConfig snapshotConfig = DefaultSnapshotConfig.of(ConfigFactory.parseString(
+                "snapshot { compression-enabled = true, compression-threshold = 0 }"));
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final BsonDocument uncompressed = (BsonDocument) underTest.toSnapshotStore(thing);
+        final BsonDocument compressed = (BsonDocument) underTest.toSnapshotStore(thing, snapshotConfig);
+
+        for (final JsonFieldDefinition<?> fieldDefinition : List.of(Thing.JsonFields.REVISION,
+                Thing.JsonFields.POLICY_ID, Thing.JsonFields.MODIFIED, Thing.JsonFields.LIFECYCLE)) {
+            final String fieldName = fieldDefinition.getPointer().toString().substring(1);
+            assertThat(compressed.get(fieldName)).isNotNull().isEqualTo(uncompressed.get(fieldName));
+        }
+        assertThat(compressed.containsKey("features")).isFalse();
+        assertThat(compressed.containsKey("attributes")).isFalse();
+    }
+
+    @Test
+    public void snapshotBelowCompressionThresholdIsNotCompressed() {
+        final SnapshotConfig snapshotConfig = DefaultSnapshotConfig.of(ConfigFactory.parseString(
+                "snapshot { compression-enabled = true, compression-threshold = 1m }"));
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(thing, snapshotConfig);
+        assertThat(rawSnapshotEntity).isEqualTo(underTest.toSnapshotStore(thing));
+    }
+
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.
 import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
@@ -35,14 +37,18 @@ import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsRespons
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
+import org.eclipse.ditto.services.utils.health.ActorStatusReporter;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistentactors.warmup.WarmUpActor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
@@ -74,6 +80,8 @@ public final class ThingsRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "thingsRoot";
 
+    private static final String WARM_UP_COLLECTION_NAME = "things_warm_up";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -92,12 +100,22 @@ public final class ThingsRootActor extends DittoRootActor {
         final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
         final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
 
+        final WarmUpConfig warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        final TopKCounter<String> accessCounter = WarmUpActor.newAccessCounter(warmUpConfig);
+        final Props thingSupervisorActorProps = warmUpConfig.isEnabled()
+                ? ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory, accessCounter)
+                : getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory);
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        thingSupervisorActorProps,
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
+        @Nullable final ActorRef warmUpActor = warmUpConfig.isEnabled()
+                ? startChildActor(WarmUpActor.ACTOR_NAME, WarmUpActor.props(warmUpConfig, thingsShardRegion,
+                accessCounter, thingsConfig.getMongoDbConfig(), WARM_UP_COLLECTION_NAME))
+                : null;
+
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), thingsConfig.getPersistenceOperationsConfig()));
@@ -115,15 +133,19 @@ public final class ThingsRootActor extends DittoRootActor {
         final HealthCheckingActorOptions healthCheckingActorOptions = hcBuilder.build();
         final MetricsReporterConfig metricsReporterConfig =
                 healthCheckConfig.getPersistenceConfig().getMetricsReporterConfig();
-        final ActorRef healthCheckingActor = startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME,
-                DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
-                        MongoHealthChecker.props(),
-                        MongoMetricsReporter.props(
-                                metricsReporterConfig.getResolution(),
-                                metricsReporterConfig.getHistory(),
-                                pubSubMediator
-                        )
-                ));
+        final Props mongoMetricsReporterProps = MongoMetricsReporter.props(
+                metricsReporterConfig.getResolution(),
+                metricsReporterConfig.getHistory(),
+                pubSubMediator
+        );
+        // report healthy only after the warm-up finished
+        final Props healthCheckingActorProps = null != warmUpActor
+                ? DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions, MongoHealthChecker.props(),
+                mongoMetricsReporterProps, ActorStatusReporter.props(warmUpActor))
+                : DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions, MongoHealthChecker.props(),
+                mongoMetricsReporterProps);
+        final ActorRef healthCheckingActor =
+                startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME, healthCheckingActorProps);
 
         final TagsConfig tagsConfig = thingsConfig.getTagsConfig();
         final ActorRef eventStreamingActor =
@@ -131,10 +153,13 @@ public final class ThingsRootActor extends DittoRootActor {
                         this::startChildActor);
         final ActorRef snapshotStreamingActor =
                 ThingsPersistenceStreamingActorCreator.startSnapshotStreamingActor(this::startChildActor);
+        final ActorRef journalStreamingActor =
+                ThingsPersistenceStreamingActorCreator.startJournalStreamingActor(this::startChildActor);
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(eventStreamingActor), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(snapshotStreamingActor), getSelf());
+        pubSubMediator.tell(DistPubSubAccess.put(journalStreamingActor), getSelf());
 
         final HttpConfig httpConfig = thingsConfig.getHttpConfig();
         String hostname = httpConfig.getHostname();
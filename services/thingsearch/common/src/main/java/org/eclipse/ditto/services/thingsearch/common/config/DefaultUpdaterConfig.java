@@ -38,6 +38,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final int maxBulkSize;
     private final Duration shardingStatePollInterval;
     private final boolean eventProcessingActive;
+    private final boolean policyBulkUpdateEnabled;
+    private final int hotThingEventThreshold;
+    private final Duration hotThingWindow;
+    private final Duration hotThingWriteInterval;
     private final BackgroundSyncConfig backgroundSyncConfig;
 
     private DefaultUpdaterConfig(final ConfigWithFallback updaterScopedConfig) {
@@ -47,6 +51,13 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getDuration(UpdaterConfigValue.SHARDING_STATE_POLL_INTERVAL.getConfigPath());
         eventProcessingActive =
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
+        policyBulkUpdateEnabled =
+                updaterScopedConfig.getBoolean(UpdaterConfigValue.POLICY_BULK_UPDATE_ENABLED.getConfigPath());
+        hotThingEventThreshold =
+                updaterScopedConfig.getInt(UpdaterConfigValue.HOT_THING_EVENT_THRESHOLD.getConfigPath());
+        hotThingWindow = updaterScopedConfig.getDuration(UpdaterConfigValue.HOT_THING_WINDOW.getConfigPath());
+        hotThingWriteInterval =
+                updaterScopedConfig.getDuration(UpdaterConfigValue.HOT_THING_WRITE_INTERVAL.getConfigPath());
         backgroundSyncConfig = DefaultBackgroundSyncConfig.fromUpdaterConfig(updaterScopedConfig);
     }
 
@@ -82,6 +93,26 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return eventProcessingActive;
     }
 
+    @Override
+    public boolean isPolicyBulkUpdateEnabled() {
+        return policyBulkUpdateEnabled;
+    }
+
+    @Override
+    public int getHotThingEventThreshold() {
+        return hotThingEventThreshold;
+    }
+
+    @Override
+    public Duration getHotThingWindow() {
+        return hotThingWindow;
+    }
+
+    @Override
+    public Duration getHotThingWriteInterval() {
+        return hotThingWriteInterval;
+    }
+
     @Override
     public BackgroundSyncConfig getBackgroundSyncConfig() {
         return backgroundSyncConfig;
@@ -98,14 +129,19 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         final DefaultUpdaterConfig that = (DefaultUpdaterConfig) o;
         return maxBulkSize == that.maxBulkSize &&
                 eventProcessingActive == that.eventProcessingActive &&
+                policyBulkUpdateEnabled == that.policyBulkUpdateEnabled &&
+                hotThingEventThreshold == that.hotThingEventThreshold &&
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
+                Objects.equals(hotThingWindow, that.hotThingWindow) &&
+                Objects.equals(hotThingWriteInterval, that.hotThingWriteInterval) &&
                 Objects.equals(backgroundSyncConfig, that.backgroundSyncConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
+                policyBulkUpdateEnabled, hotThingEventThreshold, hotThingWindow, hotThingWriteInterval,
                 backgroundSyncConfig);
     }
 
@@ -116,6 +152,10 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", maxBulkSize=" + maxBulkSize +
                 ", shardingStatePollInterval=" + shardingStatePollInterval +
                 ", eventProcessingActive=" + eventProcessingActive +
+                ", policyBulkUpdateEnabled=" + policyBulkUpdateEnabled +
+                ", hotThingEventThreshold=" + hotThingEventThreshold +
+                ", hotThingWindow=" + hotThingWindow +
+                ", hotThingWriteInterval=" + hotThingWriteInterval +
                 ", backgroundSyncConfig=" + backgroundSyncConfig +
                 "]";
     }
@@ -44,6 +44,8 @@ public final class DittoSearchConfig implements SearchConfig {
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    @Nullable private final String mongoCollectionsByNamespace;
+    @Nullable private final String searchableFieldsByNamespace;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
     private final UpdaterConfig updaterConfig;
@@ -62,6 +64,10 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        mongoCollectionsByNamespace =
+                configWithFallback.getStringOrNull(SearchConfigValue.MONGO_COLLECTIONS_BY_NAMESPACE);
+        searchableFieldsByNamespace =
+                configWithFallback.getStringOrNull(SearchConfigValue.SEARCHABLE_FIELDS_BY_NAMESPACE);
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
@@ -86,6 +92,16 @@ public final class DittoSearchConfig implements SearchConfig {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public Optional<String> getMongoCollectionsByNamespace() {
+        return Optional.ofNullable(mongoCollectionsByNamespace);
+    }
+
+    @Override
+    public Optional<String> getSearchableFieldsByNamespace() {
+        return Optional.ofNullable(searchableFieldsByNamespace);
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -157,6 +173,8 @@ public final class DittoSearchConfig implements SearchConfig {
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                Objects.equals(mongoCollectionsByNamespace, that.mongoCollectionsByNamespace) &&
+                Objects.equals(searchableFieldsByNamespace, that.searchableFieldsByNamespace) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
@@ -170,14 +188,17 @@ public final class DittoSearchConfig implements SearchConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, mongoCollectionsByNamespace, searchableFieldsByNamespace,
+                deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig, healthCheckConfig, indexInitializationConfig,
+                persistenceOperationsConfig, mongoDbConfig, streamConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", mongoCollectionsByNamespace=" + mongoCollectionsByNamespace +
+                ", searchableFieldsByNamespace=" + searchableFieldsByNamespace +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
                 ", updaterConfig=" + updaterConfig +
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
@@ -29,6 +31,28 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns the amount of write operations below which the bulk size is never decreased if bulk writes are slow.
+     *
+     * @return the min bulk size.
+     */
+    int getMinBulkSize();
+
+    /**
+     * Returns by how many write operations the bulk size is increased after each bulk write which completed within
+     * the target bulk latency.
+     *
+     * @return the bulk size increment.
+     */
+    int getBulkSizeIncrement();
+
+    /**
+     * Returns the latency of bulk writes to aim for. Slower bulk writes decrease the parallelism and the bulk size.
+     *
+     * @return the target bulk latency.
+     */
+    Duration getTargetBulkLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +63,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The amount of write operations below which the bulk size is never decreased.
+         */
+        MIN_BULK_SIZE("min-bulk-size", 10),
+
+        /**
+         * By how many write operations the bulk size is increased after a bulk write within the target latency.
+         */
+        BULK_SIZE_INCREMENT("bulk-size-increment", 10),
+
+        /**
+         * The latency of bulk writes to aim for.
+         */
+        TARGET_BULK_LATENCY("target-bulk-latency", Duration.ofSeconds(1L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -32,6 +32,23 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Returns the JSON object mapping namespaces to the MongoDB collections their things are indexed in.
+     * Things of namespaces not in the mapping are indexed in the default collection.
+     *
+     * @return the mapping, or an empty optional if the search index is not partitioned.
+     */
+    Optional<String> getMongoCollectionsByNamespace();
+
+    /**
+     * Returns the JSON object mapping namespaces to arrays of JSON pointers of the attributes and features which are
+     * searchable. Things of namespaces not in the mapping are indexed completely.
+     *
+     * @return the mapping, or an empty optional if all fields of all things are searchable.
+     * @since 1.2.0
+     */
+    Optional<String> getSearchableFieldsByNamespace();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -69,7 +86,17 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Default value is {@code null}.
+         */
+        MONGO_COLLECTIONS_BY_NAMESPACE("mongo-collections-by-namespace", null),
+
+        /**
+         * Default value is {@code null}.
+         */
+        SEARCHABLE_FIELDS_BY_NAMESPACE("searchable-fields-by-namespace", null);
 
         private final String path;
         private final Object defaultValue;
@@ -53,6 +53,42 @@ public interface UpdaterConfig {
      */
     boolean isEventProcessingActive();
 
+    /**
+     * Indicates whether policy changes should update the authorization fields of the governed search index entries
+     * in bulk instead of re-indexing each governed Thing.
+     *
+     * @return {@code true} if policy changes are applied in bulk, {@code false} else.
+     */
+    boolean isPolicyBulkUpdateEnabled();
+
+    /**
+     * Returns the number of events within {@link #getHotThingWindow()} from which on a Thing is considered hot.
+     * Hot Things are indexed at most once per {@link #getHotThingWriteInterval()}; a value of {@code 0} disables
+     * the classification so that every Thing is indexed on each event.
+     *
+     * @return the event threshold of hot Things.
+     * @since 1.2.0
+     */
+    int getHotThingEventThreshold();
+
+    /**
+     * Returns the time window in which the events of a Thing are counted in order to classify it as hot or cold.
+     *
+     * @return the window of the event rate.
+     * @since 1.2.0
+     */
+    Duration getHotThingWindow();
+
+    /**
+     * Returns how long the changes of a hot Thing are coalesced before they are written into the search index.
+     * The search index lags behind a hot Thing by at most this interval plus the write interval of the
+     * change queue.
+     *
+     * @return the write interval of hot Things.
+     * @since 1.2.0
+     */
+    Duration getHotThingWriteInterval();
+
     /**
      * Returns configuration for the background sync actor.
      *
@@ -85,7 +121,27 @@ public interface UpdaterConfig {
         /**
          * Determines whether event processing should be active.
          */
-        EVENT_PROCESSING_ACTIVE("event-processing-active", true);
+        EVENT_PROCESSING_ACTIVE("event-processing-active", true),
+
+        /**
+         * Determines whether policy changes update the authorization fields of the search index in bulk.
+         */
+        POLICY_BULK_UPDATE_ENABLED("policy-bulk-update-enabled", true),
+
+        /**
+         * Number of events within the hot-thing window from which on a Thing is indexed as hot; 0 disables it.
+         */
+        HOT_THING_EVENT_THRESHOLD("hot-thing-event-threshold", 0),
+
+        /**
+         * Time window in which the events of a Thing are counted.
+         */
+        HOT_THING_WINDOW("hot-thing-window", Duration.ofSeconds(10L)),
+
+        /**
+         * How long the changes of a hot Thing are coalesced before they are indexed.
+         */
+        HOT_THING_WRITE_INTERVAL("hot-thing-write-interval", Duration.ofSeconds(10L));
 
         private final String path;
         private final Object defaultValue;
@@ -65,9 +65,21 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.isEventProcessingActive())
                 .as(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getDefaultValue());
+        softly.assertThat(underTest.isPolicyBulkUpdateEnabled())
+                .as(UpdaterConfigValue.POLICY_BULK_UPDATE_ENABLED.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.POLICY_BULK_UPDATE_ENABLED.getDefaultValue());
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.MAX_IDLE_TIME.getDefaultValue());
+        softly.assertThat(underTest.getHotThingEventThreshold())
+                .as(UpdaterConfigValue.HOT_THING_EVENT_THRESHOLD.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.HOT_THING_EVENT_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getHotThingWindow())
+                .as(UpdaterConfigValue.HOT_THING_WINDOW.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.HOT_THING_WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getHotThingWriteInterval())
+                .as(UpdaterConfigValue.HOT_THING_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.HOT_THING_WRITE_INTERVAL.getDefaultValue());
     }
 
     @Test
@@ -82,9 +94,24 @@ public final class DefaultUpdaterConfigTest {
                 .as(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath())
                 .isEqualTo(
                         updaterScopedRawConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath()));
+        softly.assertThat(underTest.isPolicyBulkUpdateEnabled())
+                .as(UpdaterConfigValue.POLICY_BULK_UPDATE_ENABLED.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getBoolean(
+                        UpdaterConfigValue.POLICY_BULK_UPDATE_ENABLED.getConfigPath()));
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath()));
+        softly.assertThat(underTest.getHotThingEventThreshold())
+                .as(UpdaterConfigValue.HOT_THING_EVENT_THRESHOLD.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getInt(
+                        UpdaterConfigValue.HOT_THING_EVENT_THRESHOLD.getConfigPath()));
+        softly.assertThat(underTest.getHotThingWindow())
+                .as(UpdaterConfigValue.HOT_THING_WINDOW.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.HOT_THING_WINDOW.getConfigPath()));
+        softly.assertThat(underTest.getHotThingWriteInterval())
+                .as(UpdaterConfigValue.HOT_THING_WRITE_INTERVAL.getConfigPath())
+                .isEqualTo(updaterScopedRawConfig.getDuration(
+                        UpdaterConfigValue.HOT_THING_WRITE_INTERVAL.getConfigPath()));
     }
 
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+
+/**
+ * Partitioning of the search index into MongoDB collections by namespace.
+ * <p>
+ * Configured namespaces are stored in collections of their own with their own set of indexes so that large tenants
+ * do not degrade the queries of the others. Things of all other namespaces stay in the collection
+ * {@value PersistenceConstants#THINGS_COLLECTION_NAME}.
+ * </p>
+ */
+@Immutable
+public final class SearchCollections {
+
+    private final Map<String, String> collectionsByNamespace;
+
+    private SearchCollections(final Map<String, String> collectionsByNamespace) {
+        this.collectionsByNamespace = Collections.unmodifiableMap(collectionsByNamespace);
+    }
+
+    /**
+     * @return the search index in the single collection {@value PersistenceConstants#THINGS_COLLECTION_NAME}.
+     */
+    public static SearchCollections single() {
+        return new SearchCollections(Collections.emptyMap());
+    }
+
+    /**
+     * Get the partitioning of the search index configured for the search service.
+     *
+     * @param searchConfig the search config.
+     * @return the configured partitioning, or a single collection if none is configured.
+     */
+    public static SearchCollections of(final SearchConfig searchConfig) {
+        return searchConfig.getMongoCollectionsByNamespace()
+                .map(SearchCollections::byNamespace)
+                .orElseGet(SearchCollections::single);
+    }
+
+    /**
+     * Extract the partitioning from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to the names of their collections.
+     * @return the partitioning.
+     * @throws IllegalArgumentException if a namespace is mapped to the default collection.
+     */
+    public static SearchCollections byNamespace(final String jsonString) {
+        final Map<String, String> collectionsByNamespace = JsonObject.of(jsonString)
+                .stream()
+                .collect(Collectors.toMap(JsonField::getKeyName, field -> field.getValue().asString()));
+        if (collectionsByNamespace.containsValue(PersistenceConstants.THINGS_COLLECTION_NAME)) {
+            throw new IllegalArgumentException("Namespaces must not be partitioned into the default collection <" +
+                    PersistenceConstants.THINGS_COLLECTION_NAME + ">: " + jsonString);
+        }
+        return new SearchCollections(collectionsByNamespace);
+    }
+
+    /**
+     * @return whether the search index is stored in more than one collection.
+     */
+    public boolean isPartitioned() {
+        return !collectionsByNamespace.isEmpty();
+    }
+
+    /**
+     * Get the collection containing the things of a namespace.
+     *
+     * @param namespace the namespace.
+     * @return name of the collection.
+     */
+    public String getCollectionName(final CharSequence namespace) {
+        return collectionsByNamespace.getOrDefault(namespace.toString(), PersistenceConstants.THINGS_COLLECTION_NAME);
+    }
+
+    /**
+     * Get the collection containing a thing.
+     *
+     * @param thingId ID of the thing.
+     * @return name of the collection.
+     */
+    public String getCollectionName(final ThingId thingId) {
+        return getCollectionName(thingId.getNamespace());
+    }
+
+    /**
+     * Get the collections to query for things of some namespaces.
+     *
+     * @param namespaces the namespaces of a query, or null if the query is not restricted to any namespace.
+     * @return names of the collections in the order of {@link #getAllCollectionNames()}.
+     */
+    public List<String> getCollectionNames(@Nullable final Collection<String> namespaces) {
+        if (namespaces == null || namespaces.isEmpty()) {
+            return getAllCollectionNames();
+        }
+        final Set<String> collectionNames =
+                namespaces.stream().map(this::getCollectionName).collect(Collectors.toSet());
+        return getAllCollectionNames().stream().filter(collectionNames::contains).collect(Collectors.toList());
+    }
+
+    /**
+     * @return names of all collections of the search index starting with the default collection.
+     */
+    public List<String> getAllCollectionNames() {
+        return new ArrayList<>(Stream.concat(Stream.of(PersistenceConstants.THINGS_COLLECTION_NAME),
+                collectionsByNamespace.values().stream().sorted())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SearchCollections that = (SearchCollections) o;
+        return Objects.equals(collectionsByNamespace, that.collectionsByNamespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(collectionsByNamespace);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "collectionsByNamespace=" + collectionsByNamespace +
+                "]";
+    }
+
+}
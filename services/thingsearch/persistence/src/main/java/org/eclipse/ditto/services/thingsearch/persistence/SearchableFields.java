@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Predicate;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+
+/**
+ * Restriction of the fields of Things written into the search index by namespace.
+ * <p>
+ * For configured namespaces, only attributes and features matching one of the configured JSON pointers are indexed.
+ * A pointer includes everything below it; the segment {@code *} matches any single key, e.g.
+ * {@code features/*}{@code /properties/temperature}. Fields outside of attributes and features such as the Thing ID,
+ * the policy ID or the modification timestamp are always indexed. Things of other namespaces are indexed completely.
+ * </p>
+ */
+@Immutable
+public final class SearchableFields {
+
+    private static final String WILDCARD = "*";
+
+    private static final Set<JsonKey> RESTRICTED_ROOTS = Set.of(
+            Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow(IllegalStateException::new),
+            Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(IllegalStateException::new));
+
+    private final Map<String, List<JsonPointer>> searchablePointersByNamespace;
+
+    private SearchableFields(final Map<String, List<JsonPointer>> searchablePointersByNamespace) {
+        this.searchablePointersByNamespace = Collections.unmodifiableMap(searchablePointersByNamespace);
+    }
+
+    /**
+     * @return searchable fields where every field of every Thing is indexed.
+     */
+    public static SearchableFields all() {
+        return new SearchableFields(Collections.emptyMap());
+    }
+
+    /**
+     * Get the searchable fields configured for the search service.
+     *
+     * @param searchConfig the search config.
+     * @return the configured searchable fields, or all fields if none are configured.
+     */
+    public static SearchableFields of(final SearchConfig searchConfig) {
+        return searchConfig.getSearchableFieldsByNamespace()
+                .map(SearchableFields::byNamespace)
+                .orElseGet(SearchableFields::all);
+    }
+
+    /**
+     * Extract the searchable fields from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to arrays of searchable JSON pointers.
+     * @return the searchable fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if the JSON is not an object.
+     * @throws IllegalArgumentException if a namespace is not mapped to an array of strings.
+     */
+    public static SearchableFields byNamespace(final String jsonString) {
+        final Map<String, List<JsonPointer>> searchablePointersByNamespace = JsonObject.of(jsonString)
+                .stream()
+                .collect(Collectors.toMap(JsonField::getKeyName, SearchableFields::toPointers));
+        return new SearchableFields(searchablePointersByNamespace);
+    }
+
+    /**
+     * @return whether the indexed fields of any namespace are restricted.
+     */
+    public boolean isRestricted() {
+        return !searchablePointersByNamespace.isEmpty();
+    }
+
+    /**
+     * Check whether a field of a Thing is written into the search index.
+     *
+     * @param namespace namespace of the Thing.
+     * @param field pointer to a field of the Thing.
+     * @return whether the field is indexed.
+     */
+    public boolean isIndexed(final CharSequence namespace, final JsonPointer field) {
+        final List<JsonPointer> searchablePointers = searchablePointersByNamespace.get(namespace.toString());
+        return searchablePointers == null || !isRestricted(field) ||
+                searchablePointers.stream().anyMatch(pointer -> covers(pointer, field));
+    }
+
+    /**
+     * Check whether a change of a field of a Thing may change the search index, i. e. whether the field is indexed
+     * or contains indexed fields.
+     *
+     * @param namespace namespace of the Thing.
+     * @param field pointer to the changed field of the Thing.
+     * @return whether the search index may change.
+     */
+    public boolean isAffectedBy(final CharSequence namespace, final JsonPointer field) {
+        final List<JsonPointer> searchablePointers = searchablePointersByNamespace.get(namespace.toString());
+        return searchablePointers == null || !isRestricted(field) ||
+                searchablePointers.stream().anyMatch(pointer -> isQueryable(pointer, field));
+    }
+
+    /**
+     * Remove the fields not written into the search index from a Thing.
+     *
+     * @param namespace namespace of the Thing.
+     * @param thing JSON representation of the Thing.
+     * @return the Thing with only the indexed fields.
+     */
+    public JsonObject prune(final CharSequence namespace, final JsonObject thing) {
+        final List<JsonPointer> searchablePointers = searchablePointersByNamespace.get(namespace.toString());
+        return searchablePointers == null ? thing : prune(searchablePointers, JsonPointer.empty(), thing);
+    }
+
+    /**
+     * Find a field of a query which is not searchable in all namespaces of the query.
+     *
+     * @param query the query.
+     * @param namespaces the namespaces of the query, or null if the query is not restricted to any namespace.
+     * @return a field not indexed in some of the namespaces, or an empty optional if the query can be answered.
+     */
+    public Optional<JsonPointer> findUnsearchableField(final Query query,
+            @Nullable final Collection<String> namespaces) {
+
+        if (!isRestricted()) {
+            return Optional.empty();
+        }
+        final List<List<JsonPointer>> searchablePointersOfQuery = namespaces == null || namespaces.isEmpty()
+                ? List.copyOf(searchablePointersByNamespace.values())
+                : namespaces.stream()
+                .map(searchablePointersByNamespace::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        final Stream<JsonPointer> sortFields = query.getSortOptions()
+                .stream()
+                .map(SortOption::getSortExpression)
+                .map(expression -> expression.acceptSortVisitor(GetPointerVisitor.INSTANCE));
+        return Stream.concat(query.getCriteria().accept(GetPointersVisitor.INSTANCE).stream(), sortFields)
+                .filter(field -> isRestricted(field) && !searchablePointersOfQuery.stream()
+                        .allMatch(pointers -> pointers.stream().anyMatch(pointer -> isQueryable(pointer, field))))
+                .findAny();
+    }
+
+    private static List<JsonPointer> toPointers(final JsonField field) {
+        final JsonValue value = field.getValue();
+        if (!value.isArray() || !value.asArray().stream().allMatch(JsonValue::isString)) {
+            throw new IllegalArgumentException("Searchable fields of namespace <" + field.getKeyName() +
+                    "> are not an array of JSON pointers: " + value);
+        }
+        return value.asArray().stream().map(JsonValue::asString).map(JsonPointer::of).collect(Collectors.toList());
+    }
+
+    private static JsonObject prune(final List<JsonPointer> searchablePointers, final JsonPointer path,
+            final JsonObject jsonObject) {
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : jsonObject) {
+            final JsonPointer fieldPath = path.addLeaf(field.getKey());
+            final JsonValue value = field.getValue();
+            if (!isRestricted(fieldPath) || searchablePointers.stream().anyMatch(p -> covers(p, fieldPath))) {
+                builder.set(field.getKey(), value);
+            } else if (value.isObject() && searchablePointers.stream().anyMatch(p -> isAbove(fieldPath, p))) {
+                final JsonObject prunedValue = prune(searchablePointers, fieldPath, value.asObject());
+                if (!prunedValue.isEmpty()) {
+                    builder.set(field.getKey(), prunedValue);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isRestricted(final JsonPointer field) {
+        return field.getRoot().filter(RESTRICTED_ROOTS::contains).isPresent();
+    }
+
+    /*
+     * A queried field is searchable if it is indexed or if indexed fields lie below it, e.g. for "exists".
+     */
+    private static boolean isQueryable(final JsonPointer searchablePointer, final JsonPointer field) {
+        return covers(searchablePointer, field) || isAbove(field, searchablePointer);
+    }
+
+    /*
+     * Check whether a field is equal to or below a searchable pointer.
+     */
+    private static boolean covers(final JsonPointer searchablePointer, final JsonPointer field) {
+        return searchablePointer.getLevelCount() <= field.getLevelCount() &&
+                matches(searchablePointer, field, searchablePointer.getLevelCount());
+    }
+
+    /*
+     * Check whether a field is strictly above a searchable pointer.
+     */
+    private static boolean isAbove(final JsonPointer field, final JsonPointer searchablePointer) {
+        return field.getLevelCount() < searchablePointer.getLevelCount() &&
+                matches(searchablePointer, field, field.getLevelCount());
+    }
+
+    /*
+     * Compare the first levels of a searchable pointer and a field; the wildcard of the searchable pointer matches
+     * any key, whereas the wildcard of a field only matches the wildcard.
+     */
+    private static boolean matches(final JsonPointer searchablePointer, final JsonPointer field, final int levels) {
+        for (int i = 0; i < levels; ++i) {
+            final JsonKey searchableKey = searchablePointer.get(i).orElseThrow(IllegalStateException::new);
+            if (!WILDCARD.equals(searchableKey.toString()) && !searchableKey.equals(field.get(i).orElse(null))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SearchableFields that = (SearchableFields) o;
+        return Objects.equals(searchablePointersByNamespace, that.searchablePointersByNamespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(searchablePointersByNamespace);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "searchablePointersByNamespace=" + searchablePointersByNamespace +
+                "]";
+    }
+
+    private static final class GetPointersVisitor implements CriteriaVisitor<List<JsonPointer>> {
+
+        private static final GetPointersVisitor INSTANCE = new GetPointersVisitor();
+
+        @Override
+        public List<JsonPointer> visitAnd(final List<List<JsonPointer>> conjuncts) {
+            return conjuncts.stream().flatMap(List::stream).collect(Collectors.toList());
+        }
+
+        @Override
+        public List<JsonPointer> visitAny() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<JsonPointer> visitExists(final ExistsFieldExpression fieldExpression) {
+            return Collections.singletonList(fieldExpression.acceptExistsVisitor(GetPointerVisitor.INSTANCE));
+        }
+
+        @Override
+        public List<JsonPointer> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+            return Collections.singletonList(fieldExpression.acceptFilterVisitor(GetPointerVisitor.INSTANCE));
+        }
+
+        @Override
+        public List<JsonPointer> visitNor(final List<List<JsonPointer>> negativeDisjoints) {
+            return visitAnd(negativeDisjoints);
+        }
+
+        @Override
+        public List<JsonPointer> visitOr(final List<List<JsonPointer>> disjoints) {
+            return visitAnd(disjoints);
+        }
+
+    }
+
+    private static final class GetPointerVisitor implements FieldExpressionVisitor<JsonPointer> {
+
+        private static final GetPointerVisitor INSTANCE = new GetPointerVisitor();
+
+        @Override
+        public JsonPointer visitAttribute(final String key) {
+            return Thing.JsonFields.ATTRIBUTES.getPointer().append(JsonPointer.of(key));
+        }
+
+        @Override
+        public JsonPointer visitFeature(final String featureId) {
+            return Thing.JsonFields.FEATURES.getPointer().addLeaf(JsonKey.of(featureId));
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+            return visitFeature(featureId).append(Feature.JsonFields.PROPERTIES.getPointer())
+                    .append(JsonPointer.of(property));
+        }
+
+        @Override
+        public JsonPointer visitSimple(final String fieldName) {
+            return JsonPointer.of(fieldName);
+        }
+
+    }
+
+}
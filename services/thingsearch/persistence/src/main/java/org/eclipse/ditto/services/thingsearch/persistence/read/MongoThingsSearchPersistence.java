@@ -26,9 +26,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -39,7 +41,9 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.SortOption;
@@ -50,6 +54,8 @@ import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchCollections;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
@@ -85,7 +91,9 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
-    private final MongoCollection<Document> collection;
+    private final MongoDatabase database;
+    private final SearchCollections searchCollections;
+    private final SearchableFields searchableFields;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
@@ -100,12 +108,9 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      * @since 1.0.0
      */
     public MongoThingsSearchPersistence(final DittoMongoClient mongoClient, final ActorSystem actorSystem) {
-        final MongoDatabase database = mongoClient.getDefaultDatabase();
-        // configure search persistence to stress the primary as little as possible and tolerate inconsistency
-        collection = database
-                .getCollection(PersistenceConstants.THINGS_COLLECTION_NAME)
-                .withReadPreference(ReadPreference.secondaryPreferred());
-
+        database = mongoClient.getDefaultDatabase();
+        searchCollections = SearchCollections.single();
+        searchableFields = SearchableFields.all();
         log = Logging.getLogger(actorSystem, getClass());
         final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
         indexInitializer = IndexInitializer.of(database, materializer);
@@ -114,13 +119,17 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     }
 
     private MongoThingsSearchPersistence(
-            final MongoCollection<Document> collection,
+            final MongoDatabase database,
+            final SearchCollections searchCollections,
+            final SearchableFields searchableFields,
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
             final MongoHints hints) {
 
-        this.collection = collection;
+        this.database = database;
+        this.searchCollections = searchCollections;
+        this.searchableFields = searchableFields;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
@@ -135,12 +144,44 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(database, searchCollections, searchableFields, log, indexInitializer,
+                maxQueryTime,
+                hints);
+    }
+
+    /**
+     * Create a copy of this object with the search index partitioned into collections by namespace.
+     *
+     * @param searchCollections the partitioning of the search index.
+     * @return copy of this object reading from the partitioned collections.
+     */
+    public MongoThingsSearchPersistence withSearchCollections(final SearchCollections searchCollections) {
+        return new MongoThingsSearchPersistence(database, searchCollections, searchableFields, log, indexInitializer,
+                maxQueryTime,
+                hints);
+    }
+
+    /**
+     * Create a copy of this object which rejects queries on fields not searchable in the namespaces of the query.
+     *
+     * @param searchableFields the fields written into the search index.
+     * @return copy of this object validating queries against the searchable fields.
+     * @since 1.2.0
+     */
+    public MongoThingsSearchPersistence withSearchableFields(final SearchableFields searchableFields) {
+        return new MongoThingsSearchPersistence(database, searchCollections, searchableFields, log, indexInitializer,
+                maxQueryTime, hints);
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all())
+        // every partition gets its own set of indexes
+        CompletionStage<Void> initialization = CompletableFuture.completedFuture(null);
+        for (final String collectionName : searchCollections.getAllCollectionNames()) {
+            initialization = initialization.thenCompose(unused ->
+                    indexInitializer.initialize(collectionName, Indices.all()));
+        }
+        return initialization
                 .exceptionally(t -> {
                     log.error(t, "Index-Initialization failed: {}", t.getMessage());
                     return null;
@@ -149,16 +190,18 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
     @Override
     public Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport() {
-        final AggregatePublisher<Document> aggregatePublisher = collection.aggregate(
-                Collections.singletonList(
-                        new Document("$group",
-                                new Document(FIELD_ID, "$_namespace")
-                                        .append(PersistenceConstants.FIELD_COUNT, new Document("$sum", 1))
-                        )
-                )
-        );
-
-        return Source.fromPublisher(aggregatePublisher)
+        return Source.from(searchCollections.getAllCollectionNames())
+                .flatMapConcat(collectionName -> {
+                    final AggregatePublisher<Document> aggregatePublisher = getCollection(collectionName).aggregate(
+                            Collections.singletonList(
+                                    new Document("$group",
+                                            new Document(FIELD_ID, "$_namespace")
+                                                    .append(PersistenceConstants.FIELD_COUNT, new Document("$sum", 1))
+                                    )
+                            )
+                    );
+                    return Source.fromPublisher(aggregatePublisher);
+                })
                 .map(document -> {
                     final String namespace = document.get(FIELD_ID) != null
                             ? document.get(FIELD_ID).toString()
@@ -175,19 +218,38 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
     @Override
     public Source<Long, NotUsed> count(final Query query,
-            @Nullable final List<String> authorizationSubjectIds) {
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
 
         checkNotNull(query, "query");
 
+        final Optional<JsonPointer> unsearchableField = searchableFields.findUnsearchableField(query, namespaces);
+        if (unsearchableField.isPresent()) {
+            return Source.failed(unsearchableFieldException(unsearchableField.get()));
+        }
+
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         log.debug("count with query filter <{}>.", queryFilter);
 
-        final CountOptions countOptions = new CountOptions()
-                .skip(query.getSkip())
-                .limit(query.getLimit())
-                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        final List<String> collectionNames = searchCollections.getCollectionNames(namespaces);
+        final Source<Long, NotUsed> countSource;
+        if (collectionNames.size() == 1) {
+            final CountOptions countOptions = new CountOptions()
+                    .skip(query.getSkip())
+                    .limit(query.getLimit())
+                    .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+            countSource = Source.fromPublisher(getCollection(collectionNames.get(0)).count(queryFilter, countOptions));
+        } else {
+            // skip and limit apply to the sum of the counts of all partitions
+            final CountOptions countOptions = new CountOptions().maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+            countSource = Source.from(collectionNames)
+                    .flatMapConcat(collectionName ->
+                            Source.fromPublisher(getCollection(collectionName).count(queryFilter, countOptions)))
+                    .fold(0L, Long::sum)
+                    .map(total -> Math.min(Math.max(total - query.getSkip(), 0L), query.getLimit()));
+        }
 
-        return Source.fromPublisher(collection.count(queryFilter, countOptions))
+        return countSource
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -231,6 +293,11 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
+        final Optional<JsonPointer> unsearchableField = searchableFields.findUnsearchableField(query, namespaces);
+        if (unsearchableField.isPresent()) {
+            return Source.failed(unsearchableFieldException(unsearchableField.get()));
+        }
+
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
@@ -239,9 +306,36 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
+        final List<String> collectionNames = searchCollections.getCollectionNames(namespaces);
+        if (collectionNames.size() == 1) {
+            return find(collectionNames.get(0), queryFilter, sortOptions, query, namespaces, skip, limit,
+                    maxQueryTime);
+        }
+
+        // fan out to all partitions in question; each partition has to deliver the results up to skip + limit
+        final Integer limitOfPartitions = limit != null ? (int) Math.min((long) skip + limit, Integer.MAX_VALUE) : null;
+        final Comparator<Document> comparator = SortValuesComparator.of(query.getSortOptions());
+        final Source<Document, NotUsed> mergedSource = collectionNames.stream()
+                .map(collectionName -> find(collectionName, queryFilter, sortOptions, query, namespaces, 0,
+                        limitOfPartitions, maxQueryTime))
+                .reduce((source1, source2) -> source1.mergeSorted(source2, comparator))
+                .orElseGet(Source::empty)
+                .drop(skip);
+        return limit != null ? mergedSource.take(limit) : mergedSource;
+    }
+
+    private Source<Document, NotUsed> find(final String collectionName,
+            final BsonDocument queryFilter,
+            final Bson sortOptions,
+            final Query query,
+            @Nullable final Set<String> namespaces,
+            final int skip,
+            @Nullable final Integer limit,
+            @Nullable final Duration maxQueryTime) {
+
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
-                collection.find(queryFilter, Document.class)
+                getCollection(collectionName).find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
                         .sort(sortOptions)
                         .skip(skip)
@@ -266,10 +360,23 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID, FIELD_POLICY_REVISION,
                         FIELD_PATH_MODIFIED);
         final Bson sortById = Sorts.ascending(FIELD_ID);
-        final Publisher<Document> publisher = collection.find(filter)
-                .projection(relevantFieldsProjection)
-                .sort(sortById);
-        return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
+        final Comparator<Document> comparator = Comparator.comparing(document -> document.getString(FIELD_ID));
+        return searchCollections.getAllCollectionNames()
+                .stream()
+                .map(collectionName -> {
+                    final Publisher<Document> publisher = getCollection(collectionName).find(filter)
+                            .projection(relevantFieldsProjection)
+                            .sort(sortById);
+                    return Source.<Document>fromPublisher(publisher);
+                })
+                .reduce((source1, source2) -> source1.mergeSorted(source2, comparator))
+                .orElseGet(Source::empty)
+                .map(MongoThingsSearchPersistence::readAsMetadata);
+    }
+
+    private MongoCollection<Document> getCollection(final String collectionName) {
+        // configure search persistence to stress the primary as little as possible and tolerate inconsistency
+        return database.getCollection(collectionName).withReadPreference(ReadPreference.secondaryPreferred());
     }
 
     private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
@@ -314,6 +421,14 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         }
     }
 
+    private static InvalidRqlExpressionException unsearchableFieldException(final JsonPointer field) {
+        return InvalidRqlExpressionException.newBuilder()
+                .message(String.format("The field <%s> is not searchable in all namespaces of the query.", field))
+                .description("Restrict the query to namespaces in which the field is searchable or do not " +
+                        "filter or sort by it.")
+                .build();
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Package-private comparator of search results by their sort values. It reproduces the order in which MongoDB
+ * returns the results of a sorted query so that results of several collections can be merged.
+ */
+final class SortValuesComparator implements Comparator<Document> {
+
+    private final List<SortOption> sortOptions;
+
+    private SortValuesComparator(final List<SortOption> sortOptions) {
+        this.sortOptions = sortOptions;
+    }
+
+    /**
+     * Create a comparator of search results.
+     *
+     * @param sortOptions sort options of the query; the sort values must be part of the projection.
+     * @return the comparator.
+     */
+    static SortValuesComparator of(final List<SortOption> sortOptions) {
+        return new SortValuesComparator(sortOptions);
+    }
+
+    @Override
+    public int compare(final Document document1, final Document document2) {
+        final JsonArray sortValues1 = GetSortBsonVisitor.sortValuesAsArray(document1, sortOptions);
+        final JsonArray sortValues2 = GetSortBsonVisitor.sortValuesAsArray(document2, sortOptions);
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final int comparison = compareValues(sortValues1.get(i).orElse(JsonValue.nullLiteral()),
+                    sortValues2.get(i).orElse(JsonValue.nullLiteral()));
+            if (comparison != 0) {
+                return sortOptions.get(i).getSortDirection() == SortDirection.DESC ? -comparison : comparison;
+            }
+        }
+        return 0;
+    }
+
+    private static int compareValues(final JsonValue value1, final JsonValue value2) {
+        final int typeComparison = Integer.compare(typeOrder(value1), typeOrder(value2));
+        if (typeComparison != 0) {
+            return typeComparison;
+        } else if (value1.isNumber()) {
+            return Double.compare(value1.asDouble(), value2.asDouble());
+        } else if (value1.isString()) {
+            return value1.asString().compareTo(value2.asString());
+        } else if (value1.isBoolean()) {
+            return Boolean.compare(value1.asBoolean(), value2.asBoolean());
+        } else {
+            // objects and arrays are not indexed for sorting; fall back to their textual representation
+            return value1.toString().compareTo(value2.toString());
+        }
+    }
+
+    // the relative order of the JSON types in the BSON comparison order of MongoDB
+    private static int typeOrder(final JsonValue value) {
+        if (value.isNull()) {
+            return 0;
+        } else if (value.isNumber()) {
+            return 1;
+        } else if (value.isString()) {
+            return 2;
+        } else if (value.isObject()) {
+            return 3;
+        } else if (value.isArray()) {
+            return 4;
+        } else {
+            return 5;
+        }
+    }
+
+}
@@ -53,10 +53,12 @@ public interface ThingsSearchPersistence {
      *
      * @param query the query for matching.
      * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
      * @return an {@link Source} which emits the count.
      * @throws NullPointerException if {@code query} is {@code null}.
      */
-    Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
+    Source<Long, NotUsed> count(Query query, @Nullable List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces);
 
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
@@ -102,6 +104,18 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Returns the count of documents found by the given {@code query}.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @return an {@link Source} which emits the count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    default Source<Long, NotUsed> count(final Query query, @Nullable final List<String> authorizationSubjectIds) {
+        return count(query, authorizationSubjectIds, null);
+    }
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.write;
 
 import java.util.Map;
 
+import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
@@ -43,4 +44,15 @@ public interface ThingsSearchUpdaterPersistence extends NamespacePersistenceOper
      * @return a Source holding the publisher to execute the operation.
      */
     Source<ThingId, NotUsed> getOutdatedThingIds(PolicyTag policyTag);
+
+    /**
+     * Updates the policy-derived authorization fields of all search index entries governed by a policy in bulk
+     * without re-indexing the Things one by one.
+     *
+     * @param policy the policy with ID and revision.
+     * @return a Source holding the publisher to execute the operation. It emits {@code true} if the entries were
+     * updated, or {@code false} if the effect of the policy differs from Thing to Thing so that the governed Things
+     * have to be re-indexed individually.
+     */
+    Source<Boolean, NotUsed> updatePolicyAuthorization(Policy policy);
 }
@@ -21,6 +21,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.bson.BsonDateTime;
@@ -29,15 +30,19 @@ import org.bson.BsonInt32;
 import org.bson.BsonString;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchCollections;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedPolicyMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.reactivestreams.Publisher;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
@@ -53,10 +58,14 @@ import akka.stream.javadsl.Source;
  */
 public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUpdaterPersistence {
 
-    private final MongoCollection<Document> collection;
+    private final MongoDatabase database;
+    private final SearchCollections searchCollections;
 
-    private MongoThingsSearchUpdaterPersistence(final MongoDatabase database) {
-        collection = database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME);
+    private MongoThingsSearchUpdaterPersistence(final MongoDatabase database,
+            final SearchCollections searchCollections) {
+
+        this.database = database;
+        this.searchCollections = searchCollections;
     }
 
     /**
@@ -65,7 +74,19 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
      * @param database the database.
      */
     public static ThingsSearchUpdaterPersistence of(final MongoDatabase database) {
-        return new MongoThingsSearchUpdaterPersistence(database);
+        return of(database, SearchCollections.single());
+    }
+
+    /**
+     * Constructor for a search index partitioned into collections by namespace.
+     *
+     * @param database the database.
+     * @param searchCollections the partitioning of the search index.
+     */
+    public static ThingsSearchUpdaterPersistence of(final MongoDatabase database,
+            final SearchCollections searchCollections) {
+
+        return new MongoThingsSearchUpdaterPersistence(database, searchCollections);
     }
 
     @Override
@@ -75,11 +96,10 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                         .stream()
                         .map(String::valueOf)
                         .collect(Collectors.toSet()));
-        final Publisher<Document> publisher =
-                collection.find(filter).projection(new Document()
-                        .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
-                        .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1)));
-        return Source.fromPublisher(publisher)
+        final Document projection = new Document()
+                .append(PersistenceConstants.FIELD_ID, new BsonInt32(1))
+                .append(PersistenceConstants.FIELD_POLICY_ID, new BsonInt32(1));
+        return findInAllCollections(filter, projection)
                 .mapConcat(doc -> {
                     final ThingId thingId = ThingId.of(doc.getString(PersistenceConstants.FIELD_ID));
                     final String policyIdString = doc.getString(PersistenceConstants.FIELD_POLICY_ID);
@@ -99,13 +119,28 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
         final PolicyId policyId = policyTag.getEntityId();
         final Bson filter = and(eq(PersistenceConstants.FIELD_POLICY_ID, policyId.toString()), lt(
                 PersistenceConstants.FIELD_POLICY_REVISION, policyTag.getRevision()));
-        final Publisher<Document> publisher =
-                collection.find(filter).projection(new BsonDocument(PersistenceConstants.FIELD_ID, new BsonInt32(1)));
-        return Source.fromPublisher(publisher)
+        final Bson projection = new BsonDocument(PersistenceConstants.FIELD_ID, new BsonInt32(1));
+        return findInAllCollections(filter, projection)
                 .map(doc -> doc.getString(PersistenceConstants.FIELD_ID))
                 .map(ThingId::of);
     }
 
+    @Override
+    public Source<Boolean, NotUsed> updatePolicyAuthorization(final Policy policy) {
+        final Optional<List<WriteModel<Document>>> updates = EnforcedPolicyMapper.toUpdateModels(policy);
+        if (updates.isPresent()) {
+            final BulkWriteOptions options = new BulkWriteOptions().ordered(true).bypassDocumentValidation(true);
+            // things of a policy may be in any partition of the search index
+            return Source.from(searchCollections.getAllCollectionNames())
+                    .flatMapConcat(collectionName ->
+                            Source.fromPublisher(getCollection(collectionName).bulkWrite(updates.get(), options)))
+                    .map(bulkWriteResult -> true)
+                    .fold(true, Boolean::logicalAnd);
+        } else {
+            return Source.single(false);
+        }
+    }
+
     @Override
     public Source<List<Throwable>, NotUsed> purge(final CharSequence namespace) {
         final Bson filter = thingNamespaceFilter(namespace);
@@ -114,6 +149,7 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
         final UpdateOptions updateOptions = new UpdateOptions().bypassDocumentValidation(true);
         final WriteModel<Document> writeModel = new UpdateManyModel<>(filter, update, updateOptions);
 
+        final MongoCollection<Document> collection = getCollection(searchCollections.getCollectionName(namespace));
         return Source.fromPublisher(collection.bulkWrite(Collections.singletonList(writeModel)))
                 .map(bulkWriteResult -> Collections.<Throwable>emptyList())
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<List<Throwable>, NotUsed>>()
@@ -121,6 +157,19 @@ public final class MongoThingsSearchUpdaterPersistence implements ThingsSearchUp
                         .build());
     }
 
+    private Source<Document, NotUsed> findInAllCollections(final Bson filter, final Bson projection) {
+        return Source.from(searchCollections.getAllCollectionNames())
+                .flatMapConcat(collectionName -> {
+                    final Publisher<Document> publisher =
+                            getCollection(collectionName).find(filter).projection(projection);
+                    return Source.fromPublisher(publisher);
+                });
+    }
+
+    private MongoCollection<Document> getCollection(final String collectionName) {
+        return database.getCollection(collectionName);
+    }
+
     private Document thingNamespaceFilter(final CharSequence namespace) {
         return new Document().append(PersistenceConstants.FIELD_NAMESPACE, new BsonString(namespace.toString()));
     }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+import static org.eclipse.ditto.services.models.policies.Permission.READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.PolicyRevision;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Map a policy to bulk updates of the policy-derived authorization fields of all search index entries governed by it.
+ * <p>
+ * The grants and revokes of a flattened key depend only on the policy resources on or above the key. Thus every
+ * key whose deepest enclosing policy resource is the same receives the same grants and revokes, no matter to which
+ * Thing it belongs. This class emits one {@code updateMany} per policy resource, ordered from the root downward so
+ * that deeper resources override their ancestors, and a final {@code updateMany} bumping the policy revision.
+ * </p>
+ * <p>
+ * Resources below a particular feature ID make the indexed values of the wildcard feature key
+ * {@code /features/*} depend on the Thing's feature IDs. Policies with such resources are not mapped; the affected
+ * Things have to be re-indexed one by one.
+ * </p>
+ */
+public final class EnforcedPolicyMapper {
+
+    private static final JsonPointer ROOT_RESOURCE = JsonPointer.empty();
+
+    private static final JsonKey FEATURES_KEY =
+            Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(() ->
+                    new IllegalStateException("Impossible: Thing JSON field of features have no root!"));
+
+    private static final String ELEMENT = "e";
+
+    private static final String ALL_ELEMENTS = FIELD_INTERNAL + ".$[]" + DOT;
+
+    private static final String FILTERED_ELEMENTS = FIELD_INTERNAL + ".$[" + ELEMENT + "]" + DOT;
+
+    private EnforcedPolicyMapper() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Map a policy into ordered updates of the authorization fields of the search index entries governed by it.
+     * The updates must be executed in an ordered bulk write.
+     *
+     * @param policy the policy with ID and revision.
+     * @return the ordered updates, or an empty optional if the effect of the policy differs from Thing to Thing.
+     * @throws IllegalArgumentException if the policy has no ID or no revision.
+     */
+    public static Optional<List<WriteModel<Document>>> toUpdateModels(final Policy policy) {
+        final PolicyId policyId = policy.getEntityId()
+                .orElseThrow(() -> new IllegalArgumentException("Policy has no ID"));
+        final long policyRevision = policy.getRevision()
+                .map(PolicyRevision::toLong)
+                .orElseThrow(() -> new IllegalArgumentException("Policy has no revision"));
+        final Set<JsonPointer> resources = getThingResources(policy);
+        if (resources.stream().anyMatch(EnforcedPolicyMapper::isBelowFeatureId)) {
+            return Optional.empty();
+        }
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(policy);
+        final Bson filter = Filters.and(Filters.eq(FIELD_POLICY_ID, policyId.toString()),
+                Filters.lt(FIELD_POLICY_REVISION, policyRevision));
+        final List<WriteModel<Document>> updates = new ArrayList<>(resources.size() + 1);
+        for (final JsonPointer resource : resources) {
+            updates.add(toUpdateModel(filter, resource, enforcer));
+        }
+        updates.add(new UpdateManyModel<>(filter, set(new BsonDocument()
+                .append(FIELD_POLICY_REVISION, new BsonInt64(policyRevision)))));
+
+        return Optional.of(updates);
+    }
+
+    /**
+     * Collect the Thing resources of a policy including the root resource, sorted by ascending level.
+     *
+     * @param policy the policy.
+     * @return the sorted Thing resources.
+     */
+    private static Set<JsonPointer> getThingResources(final Policy policy) {
+        final Set<JsonPointer> resources = new TreeSet<>(Comparator.comparingInt(JsonPointer::getLevelCount)
+                .thenComparing(JsonPointer::toString));
+        resources.add(ROOT_RESOURCE);
+        for (final PolicyEntry entry : policy) {
+            for (final Resource resource : entry.getResources()) {
+                if (THING.equals(resource.getType())) {
+                    resources.add(resource.getPath());
+                }
+            }
+        }
+        return resources;
+    }
+
+    private static boolean isBelowFeatureId(final JsonPointer resource) {
+        return resource.getLevelCount() > 1 && resource.getRoot().filter(FEATURES_KEY::equals).isPresent();
+    }
+
+    private static WriteModel<Document> toUpdateModel(final Bson filter, final JsonPointer resource,
+            final Enforcer enforcer) {
+
+        final ResourceKey resourceKey = ResourceKey.newInstance(THING, resource);
+        final EffectedSubjects subjects = enforcer.getSubjectsWithPermission(resourceKey, READ);
+        final BsonArray grants = toBsonArray(subjects.getGranted());
+        final BsonArray revokes = toBsonArray(subjects.getRevoked());
+        if (resource.isEmpty()) {
+            final BsonArray globalRead = new BsonArray();
+            enforcer.getSubjectIdsWithPartialPermission(resourceKey, READ)
+                    .forEach(subjectId -> globalRead.add(new BsonString(subjectId)));
+            final BsonDocument setRoot = new BsonDocument()
+                    .append(FIELD_GLOBAL_READ, globalRead)
+                    .append(ALL_ELEMENTS + FIELD_GRANTED, grants)
+                    .append(ALL_ELEMENTS + FIELD_REVOKED, revokes);
+            return new UpdateManyModel<>(filter, set(setRoot));
+        } else {
+            final BsonDocument setResource = new BsonDocument()
+                    .append(FILTERED_ELEMENTS + FIELD_GRANTED, grants)
+                    .append(FILTERED_ELEMENTS + FIELD_REVOKED, revokes);
+            final Bson elementFilter = new BsonDocument(ELEMENT + DOT + FIELD_INTERNAL_KEY,
+                    new BsonRegularExpression("^" + Pattern.quote(resource.toString()) + "(/|$)"));
+            final UpdateOptions options = new UpdateOptions().arrayFilters(Collections.singletonList(elementFilter));
+            return new UpdateManyModel<>(filter, set(setResource), options);
+        }
+    }
+
+    private static Bson set(final BsonDocument fields) {
+        return new BsonDocument(AbstractWriteModel.SET, fields);
+    }
+
+    private static BsonArray toBsonArray(final Iterable<AuthorizationSubject> authorizationSubjects) {
+        final BsonArray bsonArray = new BsonArray();
+        authorizationSubjects.forEach(subject -> bsonArray.add(new BsonString(subject.getId())));
+        return bsonArray;
+    }
+
+}
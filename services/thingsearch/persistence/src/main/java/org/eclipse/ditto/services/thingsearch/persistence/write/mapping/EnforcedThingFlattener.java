@@ -37,6 +37,8 @@ import org.eclipse.ditto.model.enforcers.EffectedSubjects;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.IndexLengthRestrictionEnforcer;
 import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 
@@ -54,17 +56,27 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
     private final Enforcer enforcer;
     private final IndexLengthRestrictionEnforcer indexLengthRestrictionEnforcer;
     private final int maxArraySize;
+    private final SearchableFields searchableFields;
+    private final String namespace;
 
     EnforcedThingFlattener(final String thingId, final Enforcer enforcer, final int maxArraySize) {
+        this(thingId, enforcer, maxArraySize, SearchableFields.all());
+    }
+
+    EnforcedThingFlattener(final String thingId, final Enforcer enforcer, final int maxArraySize,
+            final SearchableFields searchableFields) {
         this.enforcer = enforcer;
         indexLengthRestrictionEnforcer = IndexLengthRestrictionEnforcer.newInstance(thingId);
         this.maxArraySize = maxArraySize;
+        this.searchableFields = searchableFields;
+        namespace = ThingId.of(thingId).getNamespace();
     }
 
-    static BsonArray flattenJson(final JsonObject thingJson, final Enforcer enforcer, final int maxArraySize) {
+    static BsonArray flattenJson(final JsonObject thingJson, final Enforcer enforcer, final int maxArraySize,
+            final SearchableFields searchableFields) {
         final BsonArray bsonArray = new BsonArray();
         final String thingId = thingJson.getValueOrThrow(Thing.JsonFields.ID);
-        new EnforcedThingFlattener(thingId, enforcer, maxArraySize).eval(thingJson)
+        new EnforcedThingFlattener(thingId, enforcer, maxArraySize, searchableFields).eval(thingJson)
                 .forEach(doc -> bsonArray.add(BsonUtil.toBsonDocument(doc)));
         return bsonArray;
     }
@@ -108,6 +120,10 @@ final class EnforcedThingFlattener implements JsonObjectVisitor<Stream<Document>
     }
 
     private Stream<Document> singleton(final JsonPointer key, final JsonValue jsonValue) {
+        if (!searchableFields.isIndexed(namespace, key)) {
+            // not searchable in the namespace of the thing; do not index it.
+            return Stream.empty();
+        }
         final Optional<JsonValue> fixedJsonValue = indexLengthRestrictionEnforcer.enforce(key, jsonValue);
         if (fixedJsonValue.isPresent()) {
             final BsonValue bsonValue = JsonToBson.convert(fixedJsonValue.get());
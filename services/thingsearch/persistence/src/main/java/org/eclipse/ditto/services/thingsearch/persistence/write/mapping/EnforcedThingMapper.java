@@ -40,6 +40,7 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -95,6 +96,27 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, SearchableFields.all());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model containing only its searchable fields.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param searchableFields the fields to index.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     * @since 1.2.0
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final SearchableFields searchableFields) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -102,10 +124,13 @@ public final class EnforcedThingMapper {
         final Metadata metadata = Metadata.of(thingId, thingRevision, nullablePolicyId, policyRevision);
 
         // hierarchical values for sorting
-        final BsonValue thingCopyForSorting = JsonToBson.convert(pruneArrays(thing, maxArraySize));
+        // fields not searchable in the namespace of the thing are neither sortable nor flattened
+        final JsonObject searchableThing = searchableFields.prune(thingId.getNamespace(), thing);
+        final BsonValue thingCopyForSorting = JsonToBson.convert(pruneArrays(searchableThing, maxArraySize));
 
         // flattened values for querying with special handling for thingId and namespace
-        final BsonArray flattenedValues = EnforcedThingFlattener.flattenJson(thing, enforcer, maxArraySize);
+        final BsonArray flattenedValues =
+                EnforcedThingFlattener.flattenJson(searchableThing, enforcer, maxArraySize, searchableFields);
 
         final Document thingDocument =
                 new Document().append(FIELD_ID, thingId.toString())
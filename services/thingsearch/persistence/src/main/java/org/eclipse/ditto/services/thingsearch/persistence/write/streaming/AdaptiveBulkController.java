@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.Done;
+
+/**
+ * Controls the size of bulk writes against the search persistence and how many of them are in flight by additive
+ * increase and multiplicative decrease (AIMD) according to the latency and the errors of completed bulk writes.
+ * <p>
+ * A bulk write which completes within the target latency increases the bulk size by a constant increment until the
+ * max bulk size is reached; from then on it increases the number of bulk writes in flight by one until the max
+ * parallelism is reached. A bulk write which exceeds the target latency or fails as a whole halves the number of
+ * bulk writes in flight and, once only one is left, the bulk size, but never below their minimum.
+ * </p>
+ * <p>
+ * Each materialization of the search updater flow needs its own controller, as the permits of bulk writes in flight
+ * are bound to the lifetime of the flow.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveBulkController {
+
+    private static final String GAUGE_BULK_SIZE = "things_search_thing_bulkUpdate_bulk_size";
+    private static final String GAUGE_PARALLELISM = "things_search_thing_bulkUpdate_parallelism";
+    private static final String COUNT_RETRIED_DOCUMENTS = "things_search_thing_bulkUpdate_retried_documents";
+
+    private final int minBulkSize;
+    private final int maxBulkSize;
+    private final int bulkSizeIncrement;
+    private final int maxParallelism;
+    private final Duration targetLatency;
+    private final boolean adaptive;
+
+    private final Gauge bulkSizeGauge;
+    private final Gauge parallelismGauge;
+    private final Counter retriedDocumentsCounter;
+
+    // guarded by "this"
+    private final Queue<CompletableFuture<Done>> waitingBulkWrites;
+    private int bulkSize;
+    private int parallelism;
+    private int bulkWritesInFlight;
+
+    private AdaptiveBulkController(final int minBulkSize,
+            final int maxBulkSize,
+            final int bulkSizeIncrement,
+            final int maxParallelism,
+            final Duration targetLatency,
+            final boolean adaptive) {
+
+        this.minBulkSize = Math.max(1, Math.min(minBulkSize, maxBulkSize));
+        this.maxBulkSize = Math.max(1, maxBulkSize);
+        this.bulkSizeIncrement = Math.max(1, bulkSizeIncrement);
+        this.maxParallelism = Math.max(1, maxParallelism);
+        this.targetLatency = targetLatency;
+        this.adaptive = adaptive;
+
+        bulkSizeGauge = DittoMetrics.gauge(GAUGE_BULK_SIZE);
+        parallelismGauge = DittoMetrics.gauge(GAUGE_PARALLELISM);
+        retriedDocumentsCounter = DittoMetrics.counter(COUNT_RETRIED_DOCUMENTS);
+
+        waitingBulkWrites = new ArrayDeque<>();
+        // start optimistic like fixed bulk writes would do
+        bulkSize = this.maxBulkSize;
+        parallelism = this.maxParallelism;
+        bulkWritesInFlight = 0;
+        reportSettings(bulkSize, parallelism);
+    }
+
+    /**
+     * Create a controller which adapts the bulk writes within the limits of the persistence stream config.
+     *
+     * @param persistenceConfig the config of the persistence stream.
+     * @return the controller.
+     */
+    static AdaptiveBulkController of(final PersistenceStreamConfig persistenceConfig) {
+        return new AdaptiveBulkController(persistenceConfig.getMinBulkSize(), persistenceConfig.getMaxBulkSize(),
+                persistenceConfig.getBulkSizeIncrement(), persistenceConfig.getParallelism(),
+                persistenceConfig.getTargetBulkLatency(), true);
+    }
+
+    /**
+     * Create a controller which adapts the bulk writes within the given limits.
+     *
+     * @param minBulkSize the minimum amount of writes in one bulk.
+     * @param maxBulkSize the maximum amount of writes in one bulk.
+     * @param bulkSizeIncrement by how much to increase the bulk size after a bulk write within the target latency.
+     * @param maxParallelism how many bulk writes may be in flight at most.
+     * @param targetLatency the latency of bulk writes to aim for.
+     * @return the controller.
+     */
+    static AdaptiveBulkController of(final int minBulkSize,
+            final int maxBulkSize,
+            final int bulkSizeIncrement,
+            final int maxParallelism,
+            final Duration targetLatency) {
+
+        return new AdaptiveBulkController(minBulkSize, maxBulkSize, bulkSizeIncrement, maxParallelism, targetLatency,
+                true);
+    }
+
+    /**
+     * Create a controller which never adapts the bulk size and the number of bulk writes in flight.
+     *
+     * @param parallelism how many bulk writes may be in flight.
+     * @param bulkSize the amount of writes in one bulk.
+     * @return the controller.
+     */
+    static AdaptiveBulkController fixed(final int parallelism, final int bulkSize) {
+        return new AdaptiveBulkController(bulkSize, bulkSize, 1, parallelism, Duration.ZERO, false);
+    }
+
+    /**
+     * @return the maximum amount of writes in one bulk.
+     */
+    int getMaxBulkSize() {
+        return maxBulkSize;
+    }
+
+    /**
+     * @return how many bulk writes may be in flight at most.
+     */
+    int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * @return the current amount of writes in one bulk.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return how many bulk writes may currently be in flight.
+     */
+    synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Split write models into bulks of the current bulk size.
+     *
+     * @param writeModels the write models.
+     * @param <T> type of write models.
+     * @return the bulks.
+     */
+    <T> List<List<T>> split(final List<T> writeModels) {
+        final int currentBulkSize = getBulkSize();
+        if (writeModels.size() <= currentBulkSize) {
+            return Collections.singletonList(writeModels);
+        }
+        final List<List<T>> bulks = new ArrayList<>(writeModels.size() / currentBulkSize + 1);
+        for (int from = 0; from < writeModels.size(); from += currentBulkSize) {
+            bulks.add(writeModels.subList(from, Math.min(from + currentBulkSize, writeModels.size())));
+        }
+        return bulks;
+    }
+
+    /**
+     * Wait for the permit to start a bulk write. Each permit must be returned by {@link #release()}.
+     *
+     * @return future completed when the bulk write may start.
+     */
+    synchronized CompletionStage<Done> acquire() {
+        if (bulkWritesInFlight < parallelism) {
+            ++bulkWritesInFlight;
+            return CompletableFuture.completedFuture(Done.getInstance());
+        } else {
+            final CompletableFuture<Done> permit = new CompletableFuture<>();
+            waitingBulkWrites.add(permit);
+            return permit;
+        }
+    }
+
+    /**
+     * Return the permit of a terminated bulk write.
+     */
+    void release() {
+        final List<CompletableFuture<Done>> admitted;
+        synchronized (this) {
+            --bulkWritesInFlight;
+            admitted = admitWaitingBulkWrites();
+        }
+        admitted.forEach(permit -> permit.complete(Done.getInstance()));
+    }
+
+    /**
+     * Adapt bulk size and parallelism according to the result of a bulk write.
+     *
+     * @param writeResultAndErrors the result of the bulk write.
+     * @param latency how long the bulk write took.
+     */
+    void onResult(final WriteResultAndErrors writeResultAndErrors, final Duration latency) {
+        final boolean failedAsWhole = writeResultAndErrors.getUnexpectedError().isPresent() ||
+                !writeResultAndErrors.getBulkWriteResult().wasAcknowledged();
+        final int retriedDocuments = failedAsWhole
+                ? writeResultAndErrors.getWriteModels().size()
+                : writeResultAndErrors.getBulkWriteErrors().size();
+        if (retriedDocuments > 0) {
+            retriedDocumentsCounter.increment(retriedDocuments);
+        }
+        if (adaptive) {
+            adapt(failedAsWhole || latency.compareTo(targetLatency) > 0);
+        }
+    }
+
+    private void adapt(final boolean isCongested) {
+        final List<CompletableFuture<Done>> admitted;
+        final int newBulkSize;
+        final int newParallelism;
+        synchronized (this) {
+            if (isCongested) {
+                if (parallelism > 1) {
+                    parallelism = Math.max(1, parallelism / 2);
+                } else {
+                    bulkSize = Math.max(minBulkSize, bulkSize / 2);
+                }
+            } else if (bulkSize < maxBulkSize) {
+                bulkSize = Math.min(maxBulkSize, bulkSize + bulkSizeIncrement);
+            } else if (parallelism < maxParallelism) {
+                ++parallelism;
+            }
+            newBulkSize = bulkSize;
+            newParallelism = parallelism;
+            admitted = admitWaitingBulkWrites();
+        }
+        reportSettings(newBulkSize, newParallelism);
+        admitted.forEach(permit -> permit.complete(Done.getInstance()));
+    }
+
+    // must be called while holding the lock on "this"
+    private List<CompletableFuture<Done>> admitWaitingBulkWrites() {
+        final List<CompletableFuture<Done>> admitted = new ArrayList<>();
+        while (bulkWritesInFlight < parallelism && !waitingBulkWrites.isEmpty()) {
+            ++bulkWritesInFlight;
+            admitted.add(waitingBulkWrites.remove());
+        }
+        return admitted;
+    }
+
+    private void reportSettings(final int currentBulkSize, final int currentParallelism) {
+        bulkSizeGauge.set((long) currentBulkSize);
+        parallelismGauge.set((long) currentParallelism);
+    }
+
+}
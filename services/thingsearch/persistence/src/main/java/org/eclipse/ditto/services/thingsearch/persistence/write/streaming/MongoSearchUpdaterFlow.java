@@ -12,13 +12,15 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
-import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
-
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchCollections;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
@@ -33,23 +35,16 @@ import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import akka.NotUsed;
-import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
 import akka.stream.DelayOverflowStrategy;
-import akka.stream.FanInShape2;
-import akka.stream.FlowShape;
-import akka.stream.Graph;
-import akka.stream.UniformFanOutShape;
-import akka.stream.javadsl.Broadcast;
 import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
-import akka.stream.javadsl.Zip;
 import kamon.Kamon;
 
 /**
- * Flow mapping write models to write results via the search persistence.
+ * Flow mapping write models to write results via the search persistence. The size of bulk writes and their
+ * parallelism are controlled by an {@link AdaptiveBulkController}.
  */
 final class MongoSearchUpdaterFlow {
 
@@ -59,10 +54,12 @@ final class MongoSearchUpdaterFlow {
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
-    private final MongoCollection<Document> collection;
+    private final MongoDatabase database;
+    private final SearchCollections searchCollections;
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
-        this.collection = collection;
+    private MongoSearchUpdaterFlow(final MongoDatabase database, final SearchCollections searchCollections) {
+        this.database = database;
+        this.searchCollections = searchCollections;
     }
 
     /**
@@ -72,12 +69,23 @@ final class MongoSearchUpdaterFlow {
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return of(database, SearchCollections.single());
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object writing into a search index partitioned by namespace.
+     *
+     * @param database the MongoDB database.
+     * @param searchCollections the partitioning of the search index.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final SearchCollections searchCollections) {
+        return new MongoSearchUpdaterFlow(database, searchCollections);
     }
 
 
     /**
-     * Create a new flow through the search persistence.
+     * Create a new flow through the search persistence with fixed bulk size and parallelism.
      * No logging or recovery is attempted.
      *
      * @param parallelism How many write operations may run in parallel for this sink.
@@ -90,6 +98,39 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
+        return start(() -> AdaptiveBulkController.fixed(parallelism, maxBulkSize), writeInterval);
+    }
+
+    /**
+     * Create a new flow through the search persistence whose bulk size and parallelism adapt to the latency of the
+     * bulk writes within the limits of the persistence stream config.
+     * No logging or recovery is attempted.
+     *
+     * @param persistenceConfig the config of the persistence stream.
+     * @param writeInterval Delay between bulk operation requests. MongoDB backpressure is insufficient.
+     * @return the sink.
+     */
+    public Flow<Source<AbstractWriteModel, NotUsed>, WriteResultAndErrors, NotUsed> start(
+            final PersistenceStreamConfig persistenceConfig,
+            final Duration writeInterval) {
+
+        return start(() -> AdaptiveBulkController.of(persistenceConfig), writeInterval);
+    }
+
+    private Flow<Source<AbstractWriteModel, NotUsed>, WriteResultAndErrors, NotUsed> start(
+            final Supplier<AdaptiveBulkController> controllerSupplier,
+            final Duration writeInterval) {
+
+        // each materialization gets its own controller so that permits of a terminated flow are never leaked
+        return Flow.<Source<AbstractWriteModel, NotUsed>, WriteResultAndErrors, NotUsed>setup(
+                (materializer, attributes) -> createFlow(controllerSupplier.get(), writeInterval))
+                .mapMaterializedValue(notUsed -> NotUsed.getInstance());
+    }
+
+    private Flow<Source<AbstractWriteModel, NotUsed>, WriteResultAndErrors, NotUsed> createFlow(
+            final AdaptiveBulkController controller,
+            final Duration writeInterval) {
+
         final Flow<List<AbstractWriteModel>, List<AbstractWriteModel>, NotUsed> throttleFlow;
         if (Duration.ZERO.minus(writeInterval).isNegative()) {
             throttleFlow = Flow.<List<AbstractWriteModel>>create()
@@ -98,25 +139,41 @@ final class MongoSearchUpdaterFlow {
             throttleFlow = Flow.create();
         }
 
-        final Flow<Source<AbstractWriteModel, NotUsed>, List<AbstractWriteModel>, NotUsed> batchFlow =
-                Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.grouped(maxBulkSize))
-                        .via(throttleFlow);
-
-        final Flow<List<AbstractWriteModel>, WriteResultAndErrors, NotUsed> writeFlow =
-                Flow.<List<AbstractWriteModel>>create()
-                        .flatMapMerge(parallelism, this::executeBulkWrite)
-                        // never initiate more than "parallelism" writes against the persistence
-                        .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
-
-        return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, createStartTimerFlow(), createStopTimerFlow()));
+        final int maxParallelism = controller.getMaxParallelism();
+        return Flow.<Source<AbstractWriteModel, NotUsed>>create()
+                // each source contains at most one write model per thing: the order of writes within a bulk does not
+                // matter, which allows unordered bulk writes
+                .flatMapConcat(source -> source.grouped(controller.getMaxBulkSize()))
+                .mapConcat(this::groupByCollection)
+                .mapConcat(controller::split)
+                .via(throttleFlow)
+                .flatMapMerge(maxParallelism, writeModels ->
+                        Source.fromCompletionStage(controller.acquire())
+                                .flatMapConcat(permit -> executeBulkWrite(writeModels, controller))
+                                .watchTermination((notUsed, termination) -> {
+                                    termination.whenComplete((done, error) -> controller.release());
+                                    return NotUsed.getInstance();
+                                }))
+                // never initiate more than "parallelism" writes against the persistence
+                .withAttributes(Attributes.inputBuffer(maxParallelism, maxParallelism));
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(
-            final List<AbstractWriteModel> abstractWriteModels) {
+            final List<AbstractWriteModel> abstractWriteModels,
+            final AdaptiveBulkController controller) {
+
+        Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(abstractWriteModels.size());
+        final StartedTimer timer =
+                DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
+        final long startNanos = System.nanoTime();
+
         final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
                 .map(AbstractWriteModel::toMongo)
                 .collect(Collectors.toList());
+        // all write models of a bulk belong to the same collection
+        final String collectionName =
+                searchCollections.getCollectionName(abstractWriteModels.get(0).getMetadata().getThingId());
+        final MongoCollection<Document> collection = database.getCollection(collectionName);
         return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
                 .map(bulkWriteResult -> WriteResultAndErrors.success(abstractWriteModels, bulkWriteResult))
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<WriteResultAndErrors, NotUsed>>()
@@ -127,51 +184,30 @@ final class MongoSearchUpdaterFlow {
                                 Source.single(WriteResultAndErrors.unexpectedError(abstractWriteModels, error))
                         )
                         .build()
-                );
+                )
+                .map(writeResultAndErrors -> {
+                    stopTimer(timer);
+                    controller.onResult(writeResultAndErrors, Duration.ofNanos(System.nanoTime() - startNanos));
+                    return writeResultAndErrors;
+                });
     }
 
-    private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
-        return Flow.fromFunction(writeModels -> {
-            Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
-            return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
-        });
+    private List<List<AbstractWriteModel>> groupByCollection(final List<AbstractWriteModel> writeModels) {
+        if (!searchCollections.isPartitioned()) {
+            return List.of(writeModels);
+        }
+        return new ArrayList<>(writeModels.stream()
+                .collect(Collectors.groupingBy(
+                        writeModel -> searchCollections.getCollectionName(writeModel.getMetadata().getThingId())))
+                .values());
     }
 
-    private static <T> Flow<Pair<T, StartedTimer>, T, NotUsed> createStopTimerFlow() {
-        return Flow.fromFunction(pair -> {
-            try {
-                pair.second().stop();
-            } catch (final IllegalStateException e) {
-                // it is okay if the timer stopped already; simply return the result.
-            }
-            return pair.first();
-        });
+    private static void stopTimer(final StartedTimer timer) {
+        try {
+            timer.stop();
+        } catch (final IllegalStateException e) {
+            // it is okay if the timer stopped already; simply return the result.
+        }
     }
 
-    @SuppressWarnings("unchecked") // java 8 can't handle graph DSL types
-    private static <A, B, C, D> Graph<FlowShape<A, C>, NotUsed> assembleFlows(
-            final Flow<A, B, NotUsed> stage1Flow,
-            final Flow<B, C, NotUsed> stage2Flow,
-            final Flow<B, D, NotUsed> sideChannelFlow,
-            final Flow<Pair<C, D>, C, NotUsed> resultProcessorFlow) {
-
-        return GraphDSL.create(builder -> {
-            final FlowShape<A, B> stage1 = builder.add(stage1Flow);
-            final FlowShape<B, C> stage2 = builder.add(stage2Flow);
-            final FlowShape<B, D> sideChannel = builder.add(sideChannelFlow);
-            final FlowShape<Pair<C, D>, C> resultProcessor = builder.add(resultProcessorFlow);
-
-            final UniformFanOutShape<B, B> broadcast = builder.add(Broadcast.create(2));
-            final FanInShape2<C, D, Pair<C, D>> zip = builder.add(Zip.create());
-
-            builder.from(stage1.out()).toInlet(broadcast.in());
-            builder.from(broadcast.out(0)).toInlet(stage2.in());
-            builder.from(broadcast.out(1)).toInlet(sideChannel.in());
-            builder.from(stage2.out()).toInlet(zip.in0());
-            builder.from(sideChannel.out()).toInlet(zip.in1());
-            builder.from(zip.out()).toInlet(resultProcessor.in());
-
-            return FlowShape.of(stage1.in(), resultProcessor.out());
-        });
-    }
 }
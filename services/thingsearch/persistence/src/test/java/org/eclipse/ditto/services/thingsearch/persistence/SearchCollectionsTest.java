@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchCollections}.
+ */
+public final class SearchCollectionsTest {
+
+    private static final SearchCollections UNDER_TEST =
+            SearchCollections.byNamespace("{\"big\":\"searchThingsBig\",\"huge\":\"searchThingsHuge\"}");
+
+    @Test
+    public void singleCollection() {
+        final SearchCollections single = SearchCollections.single();
+        assertThat(single.isPartitioned()).isFalse();
+        assertThat(single.getCollectionName(ThingId.of("big:thing"))).isEqualTo(THINGS_COLLECTION_NAME);
+        assertThat(single.getCollectionNames(Set.of("big"))).containsExactly(THINGS_COLLECTION_NAME);
+    }
+
+    @Test
+    public void routeByNamespace() {
+        assertThat(UNDER_TEST.isPartitioned()).isTrue();
+        assertThat(UNDER_TEST.getCollectionName(ThingId.of("big:thing"))).isEqualTo("searchThingsBig");
+        assertThat(UNDER_TEST.getCollectionName("small")).isEqualTo(THINGS_COLLECTION_NAME);
+    }
+
+    @Test
+    public void fanOutQueriesNotRestrictedToPartitionedNamespaces() {
+        final List<String> all = List.of(THINGS_COLLECTION_NAME, "searchThingsBig", "searchThingsHuge");
+        assertThat(UNDER_TEST.getAllCollectionNames()).isEqualTo(all);
+        assertThat(UNDER_TEST.getCollectionNames(null)).isEqualTo(all);
+        assertThat(UNDER_TEST.getCollectionNames(Set.of("huge"))).containsExactly("searchThingsHuge");
+        assertThat(UNDER_TEST.getCollectionNames(Set.of("huge", "small", "other")))
+                .containsExactly(THINGS_COLLECTION_NAME, "searchThingsHuge");
+    }
+
+    @Test
+    public void rejectPartitionIntoDefaultCollection() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SearchCollections.byNamespace("{\"big\":\"" + THINGS_COLLECTION_NAME + "\"}"));
+    }
+
+}
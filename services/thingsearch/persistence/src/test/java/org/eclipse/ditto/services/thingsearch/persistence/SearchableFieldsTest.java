@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link SearchableFields}.
+ */
+public final class SearchableFieldsTest {
+
+    private static final SearchableFields UNDER_TEST = SearchableFields.byNamespace(
+            "{\"big\":[\"attributes/location\",\"features/*/properties/temperature\"],\"small\":[]}");
+
+    private static final CriteriaFactory CF = new CriteriaFactoryImpl();
+    private static final ThingsFieldExpressionFactory FEF = new ThingsFieldExpressionFactoryImpl();
+    private static final MongoQueryBuilderFactory QBF =
+            new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty()));
+
+    @Test
+    public void allFieldsAreIndexedByDefault() {
+        final SearchableFields all = SearchableFields.all();
+        final JsonObject thing = JsonObject.of("{\"thingId\":\"big:thing\",\"attributes\":{\"blob\":[1,2,3]}}");
+        assertThat(all.isRestricted()).isFalse();
+        assertThat(all.isIndexed("big", JsonPointer.of("attributes/blob"))).isTrue();
+        assertThat(all.prune("big", thing)).isSameAs(thing);
+        assertThat(all.findUnsearchableField(query(CF.fieldCriteria(FEF.filterByAttribute("blob"), CF.eq(1))),
+                null)).isEmpty();
+    }
+
+    @Test
+    public void indexOnlySearchableFieldsOfConfiguredNamespaces() {
+        assertThat(UNDER_TEST.isRestricted()).isTrue();
+        assertThat(UNDER_TEST.isIndexed("big", JsonPointer.of("thingId"))).isTrue();
+        assertThat(UNDER_TEST.isIndexed("big", JsonPointer.of("attributes/location/floor"))).isTrue();
+        assertThat(UNDER_TEST.isIndexed("big", JsonPointer.of("features/x/properties/temperature"))).isTrue();
+        assertThat(UNDER_TEST.isIndexed("big", JsonPointer.of("features/x/properties/humidity"))).isFalse();
+        assertThat(UNDER_TEST.isIndexed("big", JsonPointer.of("attributes/blob"))).isFalse();
+        assertThat(UNDER_TEST.isIndexed("small", JsonPointer.of("attributes/location"))).isFalse();
+        assertThat(UNDER_TEST.isIndexed("other", JsonPointer.of("attributes/blob"))).isTrue();
+    }
+
+    @Test
+    public void changesOfIndexedFieldsAndTheirParentsAffectTheIndex() {
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.empty())).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("policyId"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("attributes"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("attributes/location/floor"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("features"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("features/x"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("features/x/properties"))).isTrue();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("features/x/properties/humidity"))).isFalse();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("features/x/definition"))).isFalse();
+        assertThat(UNDER_TEST.isAffectedBy("big", JsonPointer.of("attributes/blob"))).isFalse();
+        assertThat(UNDER_TEST.isAffectedBy("small", JsonPointer.of("attributes"))).isFalse();
+        assertThat(UNDER_TEST.isAffectedBy("other", JsonPointer.of("attributes/blob"))).isTrue();
+    }
+
+    @Test
+    public void pruneFieldsNotSearchable() {
+        final JsonObject thing = JsonObject.of("{\"thingId\":\"big:thing\"," +
+                "\"attributes\":{\"location\":{\"floor\":3},\"blob\":\"xyz\"}," +
+                "\"features\":{\"x\":{\"definition\":[\"a:b:c\"],\"properties\":{\"temperature\":21,\"blob\":{}}}," +
+                "\"y\":{\"properties\":{\"blob\":1}}}}");
+        final JsonObject expected = JsonObject.of("{\"thingId\":\"big:thing\"," +
+                "\"attributes\":{\"location\":{\"floor\":3}}," +
+                "\"features\":{\"x\":{\"properties\":{\"temperature\":21}}}}");
+
+        assertThat(UNDER_TEST.prune("big", thing)).isEqualTo(expected);
+        assertThat(UNDER_TEST.prune("small", thing)).isEqualTo(JsonObject.of("{\"thingId\":\"big:thing\"}"));
+        assertThat(UNDER_TEST.prune("other", thing)).isEqualTo(thing);
+    }
+
+    @Test
+    public void acceptQueriesOnSearchableFields() {
+        final Query query = QBF.newBuilder(CF.and(List.of(
+                CF.fieldCriteria(FEF.filterByAttribute("location/floor"), CF.eq(3)),
+                CF.existsCriteria(FEF.existsByFeatureId("x")),
+                CF.fieldCriteria(FEF.filterByFeatureProperty("*", "temperature"), CF.gt(20)),
+                CF.fieldCriteria(FEF.filterByThingId(), CF.like("big:*")))))
+                .sort(List.of(new SortOption(FEF.sortByAttribute("location"), SortDirection.ASC)))
+                .build();
+
+        assertThat(UNDER_TEST.findUnsearchableField(query, Set.of("big", "other"))).isEmpty();
+    }
+
+    @Test
+    public void rejectQueriesOnFieldsNotSearchable() {
+        final Query filterByBlob = query(CF.nor(CF.fieldCriteria(FEF.filterByAttribute("blob"), CF.eq(1))));
+        final Query filterByOtherFeature = query(CF.or(List.of(CF.any(),
+                CF.existsCriteria(FEF.existsByFeatureProperty("*", "humidity")))));
+        final Query sortByBlob = QBF.newBuilder(CF.any())
+                .sort(List.of(new SortOption(FEF.sortByFeatureProperty("x", "blob"), SortDirection.DESC)))
+                .build();
+
+        assertThat(UNDER_TEST.findUnsearchableField(filterByBlob, Set.of("other"))).isEmpty();
+        assertThat(UNDER_TEST.findUnsearchableField(filterByBlob, Set.of("big", "other")))
+                .contains(JsonPointer.of("attributes/blob"));
+        assertThat(UNDER_TEST.findUnsearchableField(filterByBlob, null))
+                .contains(JsonPointer.of("attributes/blob"));
+        assertThat(UNDER_TEST.findUnsearchableField(filterByOtherFeature, Set.of("big")))
+                .contains(JsonPointer.of("features/*/properties/humidity"));
+        assertThat(UNDER_TEST.findUnsearchableField(sortByBlob, Set.of("big")))
+                .contains(JsonPointer.of("features/x/properties/blob"));
+    }
+
+    @Test
+    public void rejectNamespacesNotMappedToPointers() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SearchableFields.byNamespace("{\"big\":\"attributes/location\"}"));
+    }
+
+    private static Query query(final Criteria criteria) {
+        return QBF.newBuilder(criteria).build();
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.junit.Test;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Tests {@link EnforcedPolicyMapper}.
+ */
+public final class EnforcedPolicyMapperTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("policy", "id");
+
+    @Test
+    public void mapPolicyToOrderedUpdates() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("grant-root")
+                .setSubject("g:0", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                .forLabel("grant-attributes")
+                .setSubject("g:1", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/attributes", Permission.READ)
+                .setRevision(5L)
+                .build();
+
+        final Optional<List<WriteModel<Document>>> result = EnforcedPolicyMapper.toUpdateModels(policy);
+
+        assertThat(result).isPresent();
+        final List<WriteModel<Document>> updates = result.get();
+        assertThat(updates).hasSize(4).allMatch(UpdateManyModel.class::isInstance);
+
+        final String expectedFilter =
+                "{\"policyId\":\"policy:id\",\"__policyRev\":{\"$lt\":{\"$numberLong\":\"5\"}}}";
+        updates.forEach(update -> assertThat(toJson(((UpdateManyModel<Document>) update).getFilter()))
+                .isEqualTo(JsonFactory.readFrom(expectedFilter)));
+
+        final UpdateManyModel<Document> root = (UpdateManyModel<Document>) updates.get(0);
+        assertThat(toJson(root.getUpdate())).isEqualTo(JsonFactory.readFrom("{\"$set\":{" +
+                "\"gr\":[\"g:0\",\"g:1\"]," +
+                "\"d.$[].g\":[\"g:0\"]," +
+                "\"d.$[].r\":[]" +
+                "}}"));
+        assertThat(root.getOptions().getArrayFilters()).isNull();
+
+        final UpdateManyModel<Document> attributes = (UpdateManyModel<Document>) updates.get(1);
+        assertThat(toJson(attributes.getUpdate())).isEqualTo(JsonFactory.readFrom("{\"$set\":{" +
+                "\"d.$[e].g\":[\"g:1\",\"g:0\"]," +
+                "\"d.$[e].r\":[]" +
+                "}}"));
+        assertThat(attributes.getOptions().getArrayFilters()).hasSize(1);
+        assertThat(toJson(attributes.getOptions().getArrayFilters().get(0))).isEqualTo(JsonFactory.readFrom(
+                "{\"e.k\":{\"$regex\":\"^\\\\Q/attributes\\\\E(/|$)\",\"$options\":\"\"}}"));
+
+        final UpdateManyModel<Document> secret = (UpdateManyModel<Document>) updates.get(2);
+        assertThat(toJson(secret.getUpdate())).isEqualTo(JsonFactory.readFrom("{\"$set\":{" +
+                "\"d.$[e].g\":[\"g:1\"]," +
+                "\"d.$[e].r\":[\"g:0\"]" +
+                "}}"));
+
+        final UpdateManyModel<Document> revision = (UpdateManyModel<Document>) updates.get(3);
+        assertThat(toJson(revision.getUpdate()))
+                .isEqualTo(JsonFactory.readFrom("{\"$set\":{\"__policyRev\":{\"$numberLong\":\"5\"}}}"));
+    }
+
+    @Test
+    public void doNotMapPolicyWithFeatureSpecificResources() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel("grant-root")
+                .setSubject("g:0", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .forLabel("grant-feature")
+                .setSubject("g:1", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/features/hi/properties", Permission.READ)
+                .setRevision(6L)
+                .build();
+
+        assertThat(EnforcedPolicyMapper.toUpdateModels(policy)).isEmpty();
+    }
+
+    private static Object toJson(final Bson bson) {
+        final BsonDocument bsonDocument =
+                bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+        return JsonFactory.readFrom(bsonDocument.toJson());
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 
 import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -24,6 +25,8 @@ import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -104,4 +107,45 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void mapOnlySearchableFields() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true, \"blob\": [ 1, 2, 3 ] } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\", \"blob\": { \"x\": \"y\" } }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .build());
+        final SearchableFields searchableFields =
+                SearchableFields.byNamespace("{\"hello\":[\"attributes/hello\",\"features/*/properties/there\"]}");
+
+        final JsonObject expectedSortingJson = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"features\": { \"hi\": { \"properties\": { \"there\": true } } },\n" +
+                "  \"attributes\": { \"hello\": \"world\" }\n" +
+                "}");
+        final JsonArray expectedFlattenedJson = JsonFactory.newArray("[\n" +
+                "  { \"k\": \"/thingId\", \"v\": \"hello:world\", \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "  { \"k\": \"/_revision\", \"v\": 1024, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "  { \"k\": \"/features/hi/properties/there\", \"v\": true, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "  { \"k\": \"/features/*/properties/there\", \"v\": true, \"g\": [ \"g:0\" ], \"r\": [] },\n" +
+                "  { \"k\": \"/attributes/hello\", \"v\": \"world\", \"g\": [ \"g:0\" ], \"r\": [] }\n" +
+                "]");
+
+        final ThingWriteModel writeModel = EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1, searchableFields);
+        final JsonObject result = JsonFactory.newObject(writeModel.getThingDocument().toJson());
+
+        assertThat(result.getValue("s")).contains(expectedSortingJson);
+        assertThat(result.getValue("d")).contains(expectedFlattenedJson);
+        assertThat(writeModel.getMetadata())
+                .isEqualTo(EnforcedThingMapper.toWriteModel(thing, enforcer, 56L, -1).getMetadata());
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.junit.Test;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import akka.Done;
+
+/**
+ * Tests {@link AdaptiveBulkController}.
+ */
+public final class AdaptiveBulkControllerTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(1L);
+    private static final Duration FAST = Duration.ofMillis(10L);
+    private static final Duration SLOW = Duration.ofSeconds(2L);
+
+    private static final WriteResultAndErrors SUCCESS = WriteResultAndErrors.success(
+            Collections.singletonList(mock(AbstractWriteModel.class)),
+            BulkWriteResult.acknowledged(0, 1, 0, 1, Collections.emptyList()));
+
+    private static final WriteResultAndErrors UNEXPECTED_ERROR = WriteResultAndErrors.unexpectedError(
+            Collections.singletonList(mock(AbstractWriteModel.class)), new IllegalStateException("timeout"));
+
+    @Test
+    public void splitsIntoBulksOfCurrentBulkSize() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.fixed(1, 2);
+
+        final List<List<Integer>> bulks = underTest.split(Arrays.asList(1, 2, 3, 4, 5));
+
+        assertThat(bulks).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5));
+    }
+
+    @Test
+    public void slowBulkWritesDecreaseParallelismBeforeBulkSize() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.of(10, 100, 10, 4, TARGET_LATENCY);
+
+        underTest.onResult(SUCCESS, SLOW);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+
+        underTest.onResult(SUCCESS, SLOW);
+        underTest.onResult(UNEXPECTED_ERROR, FAST);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+
+        underTest.onResult(SUCCESS, SLOW);
+        underTest.onResult(SUCCESS, SLOW);
+        underTest.onResult(SUCCESS, SLOW);
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+    }
+
+    @Test
+    public void fastBulkWritesIncreaseBulkSizeBeforeParallelism() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.of(10, 100, 30, 2, TARGET_LATENCY);
+        underTest.onResult(SUCCESS, SLOW);
+        underTest.onResult(SUCCESS, SLOW);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+
+        underTest.onResult(SUCCESS, FAST);
+        assertThat(underTest.getBulkSize()).isEqualTo(80);
+        underTest.onResult(SUCCESS, FAST);
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+        underTest.onResult(SUCCESS, FAST);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+        underTest.onResult(SUCCESS, FAST);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+    }
+
+    @Test
+    public void fixedControllerNeverAdapts() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.fixed(2, 100);
+
+        underTest.onResult(UNEXPECTED_ERROR, SLOW);
+
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void bulkWritesWaitForPermits() {
+        final AdaptiveBulkController underTest = AdaptiveBulkController.of(10, 100, 10, 2, TARGET_LATENCY);
+
+        final CompletionStage<Done> first = underTest.acquire();
+        final CompletionStage<Done> second = underTest.acquire();
+        final CompletionStage<Done> third = underTest.acquire();
+        assertThat(isDone(first)).isTrue();
+        assertThat(isDone(second)).isTrue();
+        assertThat(isDone(third)).isFalse();
+
+        // parallelism decreases to 1: releasing one permit is not enough
+        underTest.onResult(SUCCESS, SLOW);
+        underTest.release();
+        assertThat(isDone(third)).isFalse();
+
+        underTest.release();
+        assertThat(isDone(third)).isTrue();
+    }
+
+    private static boolean isDone(final CompletionStage<Done> permit) {
+        return ((CompletableFuture<Done>) permit).isDone();
+    }
+
+}
@@ -151,16 +151,17 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        executeCount(countThings, queryParser::parse, false, countThings.getNamespaces().orElse(null));
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true, null);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final boolean isSudo,
+            @Nullable final Set<String> namespaces) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
@@ -185,7 +186,7 @@ public final class SearchActor extends AbstractActor {
                     final Source<Long, NotUsed> countResultSource = isSudo
                             ? searchPersistence.sudoCount(query)
                             : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationSubjects());
+                            countCommand.getDittoHeaders().getAuthorizationSubjects(), namespaces);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -38,6 +38,8 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchCollections;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
@@ -134,8 +136,18 @@ public final class SearchRootActor extends DittoRootActor {
             final DittoMongoClient mongoDbClient) {
 
         final ActorContext context = getContext();
+        final SearchCollections searchCollections = SearchCollections.of(searchConfig);
+        if (searchCollections.isPartitioned()) {
+            log.info("Partitioning search index into <{}>.", searchCollections);
+        }
+        final SearchableFields searchableFields = SearchableFields.of(searchConfig);
+        if (searchableFields.isRestricted()) {
+            log.info("Restricting searchable fields to <{}>.", searchableFields);
+        }
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withSearchCollections(searchCollections)
+                        .withSearchableFields(searchableFields);
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -16,12 +16,17 @@ import static akka.cluster.pubsub.DistributedPubSubMediator.SubscribeAck;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -37,7 +42,9 @@ import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.pattern.PatternsCS;
 import akka.stream.ActorMaterializer;
 import akka.stream.Attributes;
@@ -50,6 +57,9 @@ import akka.stream.javadsl.Source;
 
 /**
  * Cluster singleton that forwards policy events to updater shard region with buffering.
+ * If policy bulk update is enabled, the authorization fields of the search index entries governed by a changed policy
+ * are updated in bulk before the policy reference tags are forwarded, so that search results reflect the policy change
+ * without waiting for each Thing to be re-indexed.
  */
 final class PolicyEventForwarder extends AbstractActor {
 
@@ -61,9 +71,12 @@ final class PolicyEventForwarder extends AbstractActor {
     private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
 
     private final ActorRef thingsUpdater;
+    private final ActorRef policiesShardRegion;
     private final ThingsSearchUpdaterPersistence persistence;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
+    private final Duration askTimeout;
+    private final boolean policyBulkUpdateEnabled;
 
     private Map<PolicyId, Long> policyRevisions = new HashMap<>();
     private KillSwitch killSwitch;
@@ -71,14 +84,19 @@ final class PolicyEventForwarder extends AbstractActor {
     @SuppressWarnings("unused")
     private PolicyEventForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
+            final ActorRef policiesShardRegion,
             final BlockedNamespaces blockedNamespaces,
             final ThingsSearchUpdaterPersistence persistence) {
 
         this.thingsUpdater = thingsUpdater;
+        this.policiesShardRegion = policiesShardRegion;
         this.persistence = persistence;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
-        interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getStreamConfig().getWriteInterval();
+        final DittoSearchConfig searchConfig =
+                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+        interval = searchConfig.getStreamConfig().getWriteInterval();
+        askTimeout = searchConfig.getStreamConfig().getAskTimeout();
+        policyBulkUpdateEnabled = searchConfig.getUpdaterConfig().isPolicyBulkUpdateEnabled();
 
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, ACTOR_NAME, getSelf()),
                 getSelf());
@@ -91,15 +109,19 @@ final class PolicyEventForwarder extends AbstractActor {
      *
      * @param pubSubMediator Akka pub-sub-mediator
      * @param thingsUpdater thingsUpdater
+     * @param policiesShardRegion the policies shard region to retrieve changed policies from.
      * @param blockedNamespaces blocked namespaces.
+     * @param persistence the search updater persistence.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
+            final ActorRef policiesShardRegion,
             final BlockedNamespaces blockedNamespaces,
             final ThingsSearchUpdaterPersistence persistence) {
 
-        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence);
+        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, policiesShardRegion,
+                blockedNamespaces, persistence);
     }
 
     @Override
@@ -198,7 +220,13 @@ final class PolicyEventForwarder extends AbstractActor {
     @SuppressWarnings("unchecked")
     private Source<PolicyReferenceTag, NotUsed> mapDumpResult(final Object dumpResult) {
         if (dumpResult instanceof Map) {
-            return persistence.getPolicyReferenceTags((Map<PolicyId, Long>) dumpResult);
+            final Map<PolicyId, Long> policyRevisions = (Map<PolicyId, Long>) dumpResult;
+            if (policyBulkUpdateEnabled) {
+                return Source.from(policyRevisions.entrySet())
+                        .flatMapConcat(entry -> updatePolicyAuthorization(entry.getKey(), entry.getValue()));
+            } else {
+                return persistence.getPolicyReferenceTags(policyRevisions);
+            }
         } else {
             if (dumpResult instanceof Throwable) {
                 log.error((Throwable) dumpResult, "dump failed");
@@ -209,6 +237,48 @@ final class PolicyEventForwarder extends AbstractActor {
         }
     }
 
+    /**
+     * Update the search index entries governed by a policy in bulk, then emit the policy reference tags of the
+     * governed Things. The tags are emitted even if the bulk update succeeded: otherwise the updaters of the Things
+     * keep the old policy revision, and their next write with an enforcer cached for the old revision reverts the
+     * bulk update.
+     *
+     * @param policyId ID of the changed policy.
+     * @param revision the revision of the last event of the changed policy.
+     * @return source of policy reference tags of the governed Things.
+     */
+    private Source<PolicyReferenceTag, NotUsed> updatePolicyAuthorization(final PolicyId policyId,
+            final long revision) {
+
+        final SudoRetrievePolicy command = SudoRetrievePolicy.of(policyId, DittoHeaders.empty());
+        final CompletionStage<Source<Boolean, NotUsed>> updateFuture =
+                Patterns.ask(policiesShardRegion, command, askTimeout)
+                        .thenApply(response -> {
+                            if (response instanceof SudoRetrievePolicyResponse) {
+                                return persistence.updatePolicyAuthorization(
+                                        ((SudoRetrievePolicyResponse) response).getPolicy());
+                            } else {
+                                log.warning("Unexpected response to <{}>: <{}>", command, response);
+                                return Source.single(false);
+                            }
+                        });
+
+        return Source.fromSourceCompletionStage(updateFuture)
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Boolean, NotUsed>>()
+                        .matchAny(error -> {
+                            log.error(error, "Bulk update of policy <{}> failed", policyId);
+                            return Source.single(false);
+                        })
+                        .build())
+                .flatMapConcat(updated -> {
+                    if (!updated) {
+                        log.debug("Policy <{}> not updated in bulk; re-indexing governed Things only", policyId);
+                    }
+                    return persistence.getPolicyReferenceTags(Collections.singletonMap(policyId, revision));
+                })
+                .mapMaterializedValue(ignored -> NotUsed.getInstance());
+    }
+
     private enum Control {
         DUMP_POLICY_REVISIONS,
         STREAM_COMPLETED
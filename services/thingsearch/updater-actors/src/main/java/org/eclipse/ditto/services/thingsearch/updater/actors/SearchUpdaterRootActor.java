@@ -18,6 +18,8 @@ import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.util.RootSupervisorStrategyFactory;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchCollections;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
@@ -104,7 +106,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
 
-        final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
+        final Props thingUpdaterProps =
+                ThingUpdater.props(pubSubMediator, changeQueueActor, SearchableFields.of(searchConfig));
 
         final ActorRef updaterShardRegion =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
@@ -113,7 +116,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
-                MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
+                MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase(),
+                        SearchCollections.of(searchConfig));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -134,7 +138,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         // start policy event forwarder as cluster singleton
         final Props policyEventForwarderProps =
-                PolicyEventForwarder.props(pubSubMediator, thingsUpdaterActor, blockedNamespaces,
+                PolicyEventForwarder.props(pubSubMediator, thingsUpdaterActor,
+                        shardRegionFactory.getPoliciesShardRegion(numberOfShards), blockedNamespaces,
                         searchUpdaterPersistence);
         startClusterSingletonActor(PolicyEventForwarder.ACTOR_NAME, policyEventForwarderProps);
 
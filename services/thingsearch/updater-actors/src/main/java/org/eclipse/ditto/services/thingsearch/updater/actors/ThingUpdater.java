@@ -17,6 +17,7 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -31,14 +32,19 @@ import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
@@ -47,13 +53,46 @@ import akka.cluster.sharding.ShardRegion;
 
 /**
  * This Actor initiates persistence updates related to 1 thing.
+ * <p>
+ * Things with at least {@link UpdaterConfig#getHotThingEventThreshold()} events within
+ * {@link UpdaterConfig#getHotThingWindow()} are hot: their events are coalesced and the thing is indexed at most once
+ * per {@link UpdaterConfig#getHotThingWriteInterval()}. All other things are indexed on each event.
+ * </p>
+ * <p>
+ * Events which only change fields excluded from the search index by {@link SearchableFields} are coalesced in the
+ * same way regardless of the event rate, so that the index catches up with the revision of the thing within the same
+ * bound without rewriting the index entry for each of them.
+ * </p>
  */
-final class ThingUpdater extends AbstractActor {
+final class ThingUpdater extends AbstractActorWithTimers {
+
+    private static final String CLASS_TAG = "class";
+    private static final String INDEX_DELAY = "things_search_updater_index_delay_millis";
+    private static final String COALESCED_EVENTS = "things_search_updater_coalesced_events";
+
+    private static final Histogram HOT_INDEX_DELAY = DittoMetrics.histogram(INDEX_DELAY).tag(CLASS_TAG, "hot");
+    private static final Histogram COLD_INDEX_DELAY = DittoMetrics.histogram(INDEX_DELAY).tag(CLASS_TAG, "cold");
+    private static final Histogram UNINDEXED_INDEX_DELAY =
+            DittoMetrics.histogram(INDEX_DELAY).tag(CLASS_TAG, "unindexed");
+    private static final Counter COALESCED_EVENTS_COUNTER = DittoMetrics.counter(COALESCED_EVENTS);
 
     private final DittoDiagnosticLoggingAdapter log;
     private final ThingId thingId;
     private final ShutdownBehaviour shutdownBehaviour;
     private final ActorRef changeQueueActor;
+    private final SearchableFields searchableFields;
+    private final int hotThingEventThreshold;
+    private final long hotThingWindowNanos;
+    private final Duration hotThingWriteInterval;
+
+    // event rate of the Thing
+    private long windowStartNanos = System.nanoTime();
+    private int eventsInWindow = 0;
+    private boolean hot = false;
+
+    // start of the coalesced events not yet pushed into the change queue, or -1 if there are none
+    private long deferredSinceNanos = -1L;
+    private Histogram deferredIndexDelay = UNINDEXED_INDEX_DELAY;
 
     // state of Thing and Policy
     private long thingRevision = -1L;
@@ -61,7 +100,8 @@ final class ThingUpdater extends AbstractActor {
     private long policyRevision = -1L;
 
     @SuppressWarnings("unused") //It is used via reflection. See props method.
-    private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+    private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor,
+            final SearchableFields searchableFields) {
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         final DittoSearchConfig dittoSearchConfig = DittoSearchConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
@@ -69,8 +109,14 @@ final class ThingUpdater extends AbstractActor {
         thingId = tryToGetThingId();
         shutdownBehaviour = ShutdownBehaviour.fromId(thingId, pubSubMediator, getSelf());
         this.changeQueueActor = changeQueueActor;
+        this.searchableFields = searchableFields;
 
-        getContext().setReceiveTimeout(dittoSearchConfig.getUpdaterConfig().getMaxIdleTime());
+        final UpdaterConfig updaterConfig = dittoSearchConfig.getUpdaterConfig();
+        hotThingEventThreshold = updaterConfig.getHotThingEventThreshold();
+        hotThingWindowNanos = updaterConfig.getHotThingWindow().toNanos();
+        hotThingWriteInterval = updaterConfig.getHotThingWriteInterval();
+
+        getContext().setReceiveTimeout(updaterConfig.getMaxIdleTime());
     }
 
     /**
@@ -78,11 +124,13 @@ final class ThingUpdater extends AbstractActor {
      *
      * @param pubSubMediator Akka pub-sub mediator.
      * @param changeQueueActor reference of the change queue actor.
+     * @param searchableFields the fields written into the search index.
      * @return the Akka configuration Props object
      */
-    static Props props(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+    static Props props(final ActorRef pubSubMediator, final ActorRef changeQueueActor,
+            final SearchableFields searchableFields) {
 
-        return Props.create(ThingUpdater.class, pubSubMediator, changeQueueActor);
+        return Props.create(ThingUpdater.class, pubSubMediator, changeQueueActor, searchableFields);
     }
 
     @Override
@@ -93,6 +141,7 @@ final class ThingUpdater extends AbstractActor {
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
                 .match(UpdateThing.class, this::updateThing)
                 .match(UpdateThingResponse.class, this::processUpdateThingResponse)
+                .matchEquals(Control.INDEX_HOT_THING, this::indexHotThing)
                 .match(ReceiveTimeout.class, this::stopThisActor)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
@@ -117,9 +166,62 @@ final class ThingUpdater extends AbstractActor {
      * Push metadata of this updater to the queue of thing-changes to be streamed into the persistence.
      */
     private void enqueueMetadata() {
+        if (deferredSinceNanos >= 0L) {
+            // the current metadata includes all coalesced events
+            timers().cancel(Control.INDEX_HOT_THING);
+            deferredIndexDelay.record(Duration.ofNanos(System.nanoTime() - deferredSinceNanos).toMillis());
+            deferredSinceNanos = -1L;
+        }
         enqueueMetadata(exportMetadata());
     }
 
+    /**
+     * Push metadata of this updater to the change queue once the write interval of hot things has passed.
+     * Events arriving in the meantime are coalesced into the same update.
+     *
+     * @param indexDelay the histogram to record the delay of the update in, unless events are already coalesced.
+     */
+    private void deferMetadata(final Histogram indexDelay) {
+        if (deferredSinceNanos < 0L) {
+            deferredSinceNanos = System.nanoTime();
+            deferredIndexDelay = indexDelay;
+            timers().startSingleTimer(Control.INDEX_HOT_THING, Control.INDEX_HOT_THING, hotThingWriteInterval);
+        } else {
+            COALESCED_EVENTS_COUNTER.increment();
+        }
+    }
+
+    private void indexHotThing(final Control indexHotThing) {
+        log.debug("Indexing hot thing <{}> with revision <{}>.", thingId, thingRevision);
+        enqueueMetadata();
+    }
+
+    /**
+     * Count an event of the Thing and classify the Thing by its event rate.
+     *
+     * @return whether the Thing is hot.
+     */
+    private boolean countEventAndClassify() {
+        if (hotThingEventThreshold <= 0) {
+            return false;
+        }
+        final long now = System.nanoTime();
+        final long elapsedNanos = now - windowStartNanos;
+        if (elapsedNanos >= hotThingWindowNanos) {
+            // a Thing stays hot if it reached the threshold in the window immediately before this one
+            hot = eventsInWindow >= hotThingEventThreshold && elapsedNanos < 2 * hotThingWindowNanos;
+            windowStartNanos = now;
+            eventsInWindow = 0;
+        }
+        ++eventsInWindow;
+        if (!hot && eventsInWindow >= hotThingEventThreshold) {
+            log.debug("Thing <{}> became hot with <{}> events within <{}>.", thingId, eventsInWindow,
+                    Duration.ofNanos(hotThingWindowNanos));
+            hot = true;
+        }
+        return hot;
+    }
+
     private void enqueueMetadata(final Metadata metadata) {
         changeQueueActor.tell(metadata, getSelf());
     }
@@ -188,10 +290,22 @@ final class ThingUpdater extends AbstractActor {
         } else {
             log.debug("Applying thing event <{}>.", thingEvent);
             thingRevision = thingEvent.getRevision();
-            enqueueMetadata();
+            if (countEventAndClassify()) {
+                deferMetadata(HOT_INDEX_DELAY);
+            } else if (!changesIndexedFields(thingEvent)) {
+                log.debug("Deferring thing event <{}> which changes no indexed field.", thingEvent);
+                deferMetadata(UNINDEXED_INDEX_DELAY);
+            } else {
+                COLD_INDEX_DELAY.record(0L);
+                enqueueMetadata();
+            }
         }
     }
 
+    private boolean changesIndexedFields(final ThingEvent<?> thingEvent) {
+        return searchableFields.isAffectedBy(thingId.getNamespace(), thingEvent.getResourcePath());
+    }
+
     private ThingId tryToGetThingId() {
         final Charset utf8 = StandardCharsets.UTF_8;
         try {
@@ -213,4 +327,8 @@ final class ThingUpdater extends AbstractActor {
         }
     }
 
+    private enum Control {
+        INDEX_HOT_THING
+    }
+
 }
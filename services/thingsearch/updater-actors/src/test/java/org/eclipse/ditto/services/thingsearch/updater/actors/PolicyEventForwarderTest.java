@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicyEventForwarder}.
+ */
+public final class PolicyEventForwarderTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+    private static final ThingId THING_ID = ThingId.of("namespace", "thing");
+    private static final long POLICY_REVISION = 5L;
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test")
+                .withValue("ditto.things-search.updater.policy-bulk-update-enabled",
+                        ConfigValueFactory.fromAnyRef(true)));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void notifyThingUpdatersAfterBulkPolicyUpdate() {
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+            final TestProbe thingsUpdater = TestProbe.apply(actorSystem);
+            final TestProbe policiesShardRegion = TestProbe.apply(actorSystem);
+            final BlockedNamespaces blockedNamespaces =
+                    BlockedNamespaces.create(DistributedData.createConfig(actorSystem, "replicator", ""),
+                            actorSystem);
+            final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                    .setRevision(POLICY_REVISION)
+                    .build();
+            final PolicyReferenceTag policyReferenceTag =
+                    PolicyReferenceTag.of(THING_ID, PolicyTag.of(POLICY_ID, POLICY_REVISION));
+
+            // GIVEN: the bulk update of the search index succeeds
+            final ThingsSearchUpdaterPersistence persistence = mock(ThingsSearchUpdaterPersistence.class);
+            when(persistence.updatePolicyAuthorization(any())).thenReturn(Source.single(true));
+            when(persistence.getPolicyReferenceTags(Collections.singletonMap(POLICY_ID, POLICY_REVISION)))
+                    .thenReturn(Source.single(policyReferenceTag));
+
+            final ActorRef underTest = actorSystem.actorOf(PolicyEventForwarder.props(
+                    pubSubMediator.ref(), thingsUpdater.ref(), policiesShardRegion.ref(), blockedNamespaces,
+                    persistence));
+
+            // WHEN: the policy changes
+            underTest.tell(PolicyTag.of(POLICY_ID, POLICY_REVISION), getRef());
+            policiesShardRegion.expectMsgClass(SudoRetrievePolicy.class);
+            policiesShardRegion.reply(SudoRetrievePolicyResponse.of(POLICY_ID, policy, DittoHeaders.empty()));
+
+            // THEN: the search index is updated in bulk and the updaters of the governed Things still learn the new
+            // policy revision, so that they do not index the Things with an enforcer of the old revision
+            thingsUpdater.expectMsg(policyReferenceTag);
+            verify(persistence).updatePolicyAuthorization(policy);
+        }};
+    }
+
+}
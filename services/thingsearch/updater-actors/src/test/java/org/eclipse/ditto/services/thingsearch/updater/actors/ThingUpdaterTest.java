@@ -12,12 +12,19 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.AccessControlList;
 import org.eclipse.ditto.model.things.AccessControlListModelFactory;
 import org.eclipse.ditto.model.things.AclEntry;
+import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
 import org.eclipse.ditto.model.things.Permission;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
@@ -25,11 +32,16 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.AttributesModified;
+import org.eclipse.ditto.signals.events.things.FeatureModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModified;
@@ -39,12 +51,14 @@ import org.junit.Test;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Unit test for {@link ThingUpdater}.
@@ -117,6 +131,102 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void coalesceEventsOfHotThing() {
+        startActorSystem(ConfigFactory.load("test")
+                .withValue("ditto.things-search.updater.hot-thing-event-threshold", ConfigValueFactory.fromAnyRef(2))
+                .withValue("ditto.things-search.updater.hot-thing-window", ConfigValueFactory.fromAnyRef("1m"))
+                .withValue("ditto.things-search.updater.hot-thing-write-interval",
+                        ConfigValueFactory.fromAnyRef("1s")));
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                // the first event of a cold thing is indexed immediately
+                underTest.tell(ThingModified.of(thing, 1L, DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, 1L, null, -1L));
+
+                // the thing becomes hot: its events are coalesced for the hot-thing-write-interval
+                underTest.tell(ThingModified.of(thing, 2L, DittoHeaders.empty()), ActorRef.noSender());
+                underTest.tell(ThingModified.of(thing, 3L, DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectNoMessage(FiniteDuration.apply(500L, TimeUnit.MILLISECONDS));
+                changeQueueTestProbe.expectMsg(FiniteDuration.apply(3L, TimeUnit.SECONDS), Metadata.of(THING_ID, 3L, null, -1L));
+
+                // a thing tag is indexed immediately and includes the coalesced events
+                underTest.tell(ThingModified.of(thing, 4L, DittoHeaders.empty()), ActorRef.noSender());
+                underTest.tell(ThingTag.of(THING_ID, 5L), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, 5L, null, -1L));
+                changeQueueTestProbe.expectNoMessage(FiniteDuration.apply(2L, TimeUnit.SECONDS));
+            }
+        };
+    }
+
+    @Test
+    public void coalesceEventsChangingNoIndexedField() {
+        startActorSystem(ConfigFactory.load("test")
+                .withValue("ditto.things-search.updater.hot-thing-write-interval",
+                        ConfigValueFactory.fromAnyRef("1s")));
+        final SearchableFields searchableFields =
+                SearchableFields.byNamespace("{\"" + NAMESPACE + "\":[\"attributes/location\"]}");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor(searchableFields);
+
+                // changes of fields excluded from the index are coalesced
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("config"), JsonValue.of(1), 1L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("config"), JsonValue.of(2), 2L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectNoMessage(FiniteDuration.apply(500L, TimeUnit.MILLISECONDS));
+                changeQueueTestProbe.expectMsg(FiniteDuration.apply(3L, TimeUnit.SECONDS),
+                        Metadata.of(THING_ID, 2L, null, -1L));
+
+                // a change of an indexed field is indexed immediately and includes the coalesced events
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("config"), JsonValue.of(3), 3L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("location"), JsonValue.of("here"), 4L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, 4L, null, -1L));
+                changeQueueTestProbe.expectNoMessage(FiniteDuration.apply(2L, TimeUnit.SECONDS));
+            }
+        };
+    }
+
+    @Test
+    public void writeEventsReplacingParentsOfIndexedFieldsImmediately() {
+        startActorSystem(ConfigFactory.load("test")
+                .withValue("ditto.things-search.updater.hot-thing-write-interval",
+                        ConfigValueFactory.fromAnyRef("5s")));
+        final SearchableFields searchableFields = SearchableFields.byNamespace("{\"" + NAMESPACE +
+                "\":[\"attributes/location\",\"features/*/properties/temperature\"]}");
+        final FiniteDuration immediately = FiniteDuration.apply(500L, TimeUnit.MILLISECONDS);
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor(searchableFields);
+
+                underTest.tell(AttributesModified.of(THING_ID,
+                        Attributes.newBuilder().set("location", "here").set("config", 1).build(), 1L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(immediately, Metadata.of(THING_ID, 1L, null, -1L));
+
+                underTest.tell(FeatureModified.of(THING_ID,
+                        Feature.newBuilder().properties(FeatureProperties.newBuilder().set("humidity", 40).build())
+                                .withId("sensor")
+                                .build(), 2L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(immediately, Metadata.of(THING_ID, 2L, null, -1L));
+
+                // a change below a feature which does not touch searchable pointers is still deferred
+                underTest.tell(FeaturePropertyModified.of(THING_ID, "sensor", JsonPointer.of("humidity"),
+                        JsonValue.of(41), 3L, DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectNoMessage(FiniteDuration.apply(2L, TimeUnit.SECONDS));
+            }
+        };
+    }
+
     @Test
     public void thingTagWithHigherSequenceNumberTriggersSync() {
         final long revision = 7L;
@@ -184,6 +294,27 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void thingEventAfterBulkPolicyUpdateCarriesNewPolicyRevision() {
+        final PolicyId policyId = PolicyId.of(THING_ID);
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, 1L)), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, 1L));
+
+                // the policy reference tag sent after a bulk update of the search index
+                underTest.tell(PolicyReferenceTag.of(THING_ID, PolicyTag.of(policyId, 5L)), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, -1L, policyId, 5L));
+
+                // the next event is indexed with the new policy revision so that the enforcer cache is reloaded
+                underTest.tell(ThingModified.of(thing, 2L, DittoHeaders.empty()), ActorRef.noSender());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, 2L, policyId, 5L));
+            }
+        };
+    }
+
     @Test
     public void policyIdChangeTriggersSync() {
         final PolicyId policyId1 = PolicyId.of("policy", "1");
@@ -275,7 +406,12 @@ public final class ThingUpdaterTest {
     }
 
     private ActorRef createThingUpdaterActor() {
-        return actorSystem.actorOf(ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref()),
+        return createThingUpdaterActor(SearchableFields.all());
+    }
+
+    private ActorRef createThingUpdaterActor(final SearchableFields searchableFields) {
+        return actorSystem.actorOf(
+                ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref(), searchableFields),
                 THING_ID.toString());
     }
 }
@@ -18,15 +18,19 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
@@ -41,11 +45,17 @@ import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -64,6 +74,12 @@ import akka.stream.javadsl.Source;
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * A {@link ModifyThings} command is split into chunks of at most {@value #MAX_THING_IDS_PER_CHUNK} Thing IDs so that
+ * each chunk fits into a single cluster message. The responses to the modifications of the single Things are streamed
+ * back the same way and are assembled to one {@link ModifyThingsResponse}. For {@link StreamModifyThingsResults}, the
+ * results are not assembled but streamed to the sender chunk by chunk.
+ * </p>
  */
 public final class ThingsAggregatorProxyActor extends AbstractActor {
 
@@ -73,6 +89,10 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
     public static final String ACTOR_NAME = "aggregatorProxy";
 
     private static final String TRACE_AGGREGATOR_RETRIEVE_THINGS = "aggregatorproxy_retrievethings";
+    private static final String TRACE_AGGREGATOR_MODIFY_THINGS = "aggregatorproxy_modifythings";
+
+    private static final int MAX_THING_IDS_PER_CHUNK = 1000;
+    private static final int MAX_CHUNKS_IN_FLIGHT = 2;
 
     private static final int ASK_TIMEOUT = 60;
 
@@ -107,12 +127,17 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         return ReceiveBuilder.create()
                 .match(RetrieveThings.class, rt -> handleRetrieveThings(rt, rt))
                 .match(SudoRetrieveThings.class, srt -> handleSudoRetrieveThings(srt, srt))
+                .match(ModifyThings.class, mt -> handleModifyThings(mt, chunk -> chunk))
+                .match(StreamModifyThingsResults.class, smtr -> streamModifyThingsResults(smtr.getModifyThings()))
                 .match(DistributedPubSubMediator.Send.class, send -> {
                     final Object msg = send.msg();
                     if (msg instanceof RetrieveThings) {
                         handleRetrieveThings((RetrieveThings) msg, send);
                     } else if (msg instanceof SudoRetrieveThings) {
                         handleSudoRetrieveThings((SudoRetrieveThings) msg, send);
+                    } else if (msg instanceof ModifyThings) {
+                        handleModifyThings((ModifyThings) msg, chunk ->
+                                new DistributedPubSubMediator.Send(send.path(), chunk, send.localAffinity()));
                     } else {
                         log.warning("Got unknown message: {}", send);
                         unhandled(send);
@@ -145,6 +170,135 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         askTargetActor(srt, thingIds, msgToAsk, sender);
     }
 
+    private void handleModifyThings(final ModifyThings mt, final Function<ModifyThings, Object> chunkToMsgToAsk) {
+        LogUtil.enhanceLogWithCorrelationId(log, mt.getDittoHeaders().getCorrelationId());
+        final List<ThingId> thingIds = mt.getThingEntityIds();
+        log.info("Got '{}' message. Modifying requested '{}' Things..",
+                ModifyThings.class.getSimpleName(), thingIds.size());
+
+        final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_AGGREGATOR_MODIFY_THINGS)
+                .tag("size", Integer.toString(thingIds.size()))
+                .build();
+
+        final CompletionStage<ModifyThingsResponse> modifyThingsResponse = modifyThings(mt, chunkToMsgToAsk)
+                .runWith(Sink.seq(), actorMaterializer)
+                .thenApply(responses -> ModifyThingsResponse.of(responses, mt.getDittoHeaders()))
+                .thenApply(response -> {
+                    stopTimer(timer);
+                    return response;
+                });
+
+        PatternsCS.pipe(modifyThingsResponse, getContext().dispatcher()).to(getSender());
+    }
+
+    private void streamModifyThingsResults(final ModifyThings mt) {
+        LogUtil.enhanceLogWithCorrelationId(log, mt.getDittoHeaders().getCorrelationId());
+        final List<ThingId> thingIds = mt.getThingEntityIds();
+        log.info("Got '{}' message. Modifying requested '{}' Things and streaming the results..",
+                ModifyThings.class.getSimpleName(), thingIds.size());
+
+        final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_AGGREGATOR_MODIFY_THINGS)
+                .tag("size", Integer.toString(thingIds.size()))
+                .build();
+
+        final Source<JsonObject, NotUsed> results = modifyThings(mt, chunk -> chunk)
+                .map(ModifyThingsResponse::toResult)
+                .watchTermination((notUsed, done) -> {
+                    done.thenRun(() -> stopTimer(timer));
+                    return NotUsed.getInstance();
+                });
+        getSender().tell(results, getSelf());
+    }
+
+    /**
+     * Modifies the Things chunk by chunk. Only the responses of the chunks in flight are kept in memory.
+     *
+     * @return source of the responses in the order of the Thing IDs of the command.
+     */
+    private Source<ThingCommandResponse<?>, NotUsed> modifyThings(final ModifyThings mt,
+            final Function<ModifyThings, Object> chunkToMsgToAsk) {
+
+        return Source.from(splitIntoChunks(mt))
+                .mapAsync(MAX_CHUNKS_IN_FLIGHT, chunk -> askTargetActor(chunk, chunkToMsgToAsk.apply(chunk))
+                        .thenApply(responses -> sortByThingIds(responses, chunk)))
+                .mapConcat(responses -> responses);
+    }
+
+    private static List<ModifyThings> splitIntoChunks(final ModifyThings modifyThings) {
+        final List<ThingId> thingIds = modifyThings.getThingEntityIds();
+        if (thingIds.size() <= MAX_THING_IDS_PER_CHUNK) {
+            return Collections.singletonList(modifyThings);
+        }
+        final List<ModifyThings> chunks = new ArrayList<>(thingIds.size() / MAX_THING_IDS_PER_CHUNK + 1);
+        for (int from = 0; from < thingIds.size(); from += MAX_THING_IDS_PER_CHUNK) {
+            final int to = Math.min(from + MAX_THING_IDS_PER_CHUNK, thingIds.size());
+            chunks.add(ModifyThings.of(thingIds.subList(from, to), modifyThings.getResourcePath(),
+                    modifyThings.getValue(), modifyThings.getDittoHeaders()));
+        }
+        return chunks;
+    }
+
+    /**
+     * Asks the target actor to modify the Things of one chunk. A chunk which can not be modified at all results in
+     * one error response per Thing of the chunk so that the Things of other chunks are not affected.
+     */
+    private CompletionStage<List<ThingCommandResponse<?>>> askTargetActor(final ModifyThings chunk,
+            final Object msgToAsk) {
+
+        return PatternsCS.ask(targetActor, msgToAsk, Duration.ofSeconds(ASK_TIMEOUT))
+                .thenCompose(response -> {
+                    if (response instanceof SourceRef) {
+                        return ((SourceRef<?>) response).getSource()
+                                .filter(ThingCommandResponse.class::isInstance)
+                                .<ThingCommandResponse<?>>map(ThingCommandResponse.class::cast)
+                                .log("modify-thing-response", log)
+                                .runWith(Sink.seq(), actorMaterializer);
+                    } else if (response instanceof DittoRuntimeException) {
+                        return CompletableFuture.completedFuture(
+                                toErrorResponses(chunk, (DittoRuntimeException) response));
+                    } else {
+                        log.error("Unexpected non-DittoRuntimeException error - responding with " +
+                                        "GatewayInternalErrorException. Cause: {} - {}",
+                                response.getClass().getSimpleName(), response);
+                        return CompletableFuture.completedFuture(toErrorResponses(chunk,
+                                GatewayInternalErrorException.newBuilder()
+                                        .dittoHeaders(chunk.getDittoHeaders())
+                                        .build()));
+                    }
+                });
+    }
+
+    private static List<ThingCommandResponse<?>> toErrorResponses(final ModifyThings chunk,
+            final DittoRuntimeException dittoRuntimeException) {
+
+        return chunk.getThingEntityIds()
+                .stream()
+                .map(thingId -> ThingErrorResponse.of(thingId, dittoRuntimeException, chunk.getDittoHeaders()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts the responses in the order of the Thing IDs of the command. Things without a response, e.g. because the
+     * stream of their chunk terminated early, are reported as unavailable.
+     */
+    private static List<ThingCommandResponse<?>> sortByThingIds(final List<ThingCommandResponse<?>> responses,
+            final ModifyThings modifyThings) {
+
+        final Map<ThingId, ThingCommandResponse<?>> responsesByThingId = new HashMap<>(responses.size() * 2);
+        responses.forEach(response -> responsesByThingId.put(response.getThingEntityId(), response));
+        return modifyThings.getThingEntityIds()
+                .stream()
+                .map(thingId -> {
+                    final ThingCommandResponse<?> response = responsesByThingId.get(thingId);
+                    return response != null ? response : ThingErrorResponse.of(thingId,
+                            ThingUnavailableException.newBuilder(thingId)
+                                    .dittoHeaders(modifyThings.getDittoHeaders())
+                                    .build(),
+                            modifyThings.getDittoHeaders());
+                })
+                .collect(Collectors.toList());
+    }
+
     private void askTargetActor(final Command<?> command, final List<ThingId> thingIds,
             final Object msgToAsk, final ActorRef sender) {
         PatternsCS.ask(targetActor, msgToAsk, Duration.ofSeconds(ASK_TIMEOUT))
@@ -265,6 +419,47 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 .collect(Collectors.toList()), dittoHeaders);
     }
 
+    /**
+     * Requests the results of a {@link ModifyThings} command as stream instead of one {@link ModifyThingsResponse}.
+     * The reply is a {@link Source} of the results as they appear in a {@code ModifyThingsResponse}, in the order of
+     * the Thing IDs of the command. As the reply is no cluster message, this request must be sent from the same actor
+     * system.
+     */
+    public static final class StreamModifyThingsResults {
+
+        private final ModifyThings modifyThings;
+
+        private StreamModifyThingsResults(final ModifyThings modifyThings) {
+            this.modifyThings = checkNotNull(modifyThings, "modifyThings");
+        }
+
+        /**
+         * Creates a request to stream the results of a {@code ModifyThings} command.
+         *
+         * @param modifyThings the command.
+         * @return the request.
+         * @throws NullPointerException if {@code modifyThings} is {@code null}.
+         */
+        public static StreamModifyThingsResults of(final ModifyThings modifyThings) {
+            return new StreamModifyThingsResults(modifyThings);
+        }
+
+        /**
+         * Returns the command whose results are streamed.
+         *
+         * @return the command.
+         */
+        public ModifyThings getModifyThings() {
+            return modifyThings;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [modifyThings=" + modifyThings + "]";
+        }
+
+    }
+
     /**
      * Internal representation of an entity's JSON string.
      */
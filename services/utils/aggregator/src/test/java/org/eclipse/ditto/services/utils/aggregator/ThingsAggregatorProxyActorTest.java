@@ -12,13 +12,30 @@
  */
 package org.eclipse.ditto.services.utils.aggregator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -27,9 +44,14 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import akka.testkit.TestActor.AutoPilot;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
 
 /**
  * Tests {@link ThingsAggregatorProxyActor}.
@@ -48,6 +70,12 @@ public class ThingsAggregatorProxyActorTest {
             RetrieveThings.getBuilder(ThingId.of("ditto", "thing"))
             .dittoHeaders(DITTO_HEADERS)
             .build();
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("location");
+    private static final List<ThingId> THING_IDS =
+            Arrays.asList(ThingId.of("ditto", "thing1"), ThingId.of("ditto", "thing2"), ThingId.of("ditto", "thing3"));
+    private static final ModifyThings MODIFY_THINGS_COMMAND =
+            ModifyThings.of(THING_IDS, JsonPointer.of("attributes").append(ATTRIBUTE_POINTER),
+                    JsonValue.of("kitchen"), DITTO_HEADERS);
 
     private static ActorSystem actorSystem;
 
@@ -79,6 +107,121 @@ public class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void testModifyThingsResponseIsSortedByThingIds() {
+        new TestKit(actorSystem) {{
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotAnsweringWithSourceRef(Arrays.asList(
+                    ModifyAttributeResponse.modified(THING_IDS.get(2), ATTRIBUTE_POINTER, DITTO_HEADERS),
+                    ModifyAttributeResponse.modified(THING_IDS.get(0), ATTRIBUTE_POINTER, DITTO_HEADERS))));
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            proxyActor.tell(MODIFY_THINGS_COMMAND, getRef());
+            final ModifyThingsResponse response = expectMsgClass(ModifyThingsResponse.class);
+
+            final JsonArray results = response.getResults();
+            assertThat(results.stream()
+                    .map(JsonValue::asObject)
+                    .map(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_THING_ID)))
+                    .containsExactly(THING_IDS.get(0).toString(), THING_IDS.get(1).toString(),
+                            THING_IDS.get(2).toString());
+            assertThat(results.stream()
+                    .map(JsonValue::asObject)
+                    .map(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_STATUS)))
+                    .containsExactly(204, 503, 204);
+            assertThat(results.get(1)
+                    .map(JsonValue::asObject)
+                    .flatMap(result -> result.getValue(ModifyThingsResponse.JSON_RESULT_ERROR))
+                    .flatMap(error -> error.getValue(DittoRuntimeException.JsonFields.ERROR_CODE)))
+                    .contains(ThingUnavailableException.ERROR_CODE);
+        }};
+    }
+
+    @Test
+    public void testModifyThingsWithDittoRuntimeException() {
+        new TestKit(actorSystem) {{
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotAnsweringWithException(DITTO_RUNTIME_EXCEPTION));
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            proxyActor.tell(MODIFY_THINGS_COMMAND, getRef());
+            final ModifyThingsResponse response = expectMsgClass(ModifyThingsResponse.class);
+
+            assertThat(response.getResults().stream()
+                    .map(JsonValue::asObject)
+                    .map(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_ERROR)))
+                    .containsOnly(DITTO_RUNTIME_EXCEPTION.toJson())
+                    .hasSize(THING_IDS.size());
+        }};
+    }
+
+    @Test
+    public void testStreamModifyThingsResultsChunkByChunkInOrderOfThingIds() {
+        new TestKit(actorSystem) {{
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotModifyingThingsInReverseOrder());
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            final List<ThingId> thingIds = IntStream.range(0, 2500)
+                    .mapToObj(i -> ThingId.of("ditto", "thing" + i))
+                    .collect(Collectors.toList());
+            final ModifyThings modifyThings = ModifyThings.of(thingIds,
+                    JsonPointer.of("attributes").append(ATTRIBUTE_POINTER), JsonValue.of("kitchen"), DITTO_HEADERS);
+            proxyActor.tell(ThingsAggregatorProxyActor.StreamModifyThingsResults.of(modifyThings), getRef());
+            @SuppressWarnings("unchecked") final Source<JsonObject, ?> results = expectMsgClass(Source.class);
+
+            final List<JsonObject> collectedResults = results.runWith(Sink.seq(), ActorMaterializer.create(actorSystem))
+                    .toCompletableFuture()
+                    .join();
+            assertThat(collectedResults.stream()
+                    .map(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_THING_ID)))
+                    .containsExactlyElementsOf(thingIds.stream().map(String::valueOf).collect(Collectors.toList()));
+            assertThat(collectedResults.stream()
+                    .map(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_STATUS)))
+                    .containsOnly(204);
+            // 2500 Thing IDs are modified in chunks of at most 1000
+            assertThat(JavaConverters.seqAsJavaList(targetActor.receiveN(3)))
+                    .allMatch(ModifyThings.class::isInstance);
+        }};
+    }
+
+    private static class AutoPilotModifyingThingsInReverseOrder extends AutoPilot {
+
+        @Override
+        public AutoPilot run(final ActorRef sender, final Object msg) {
+            final List<ThingId> thingIds = new ArrayList<>(((ModifyThings) msg).getThingEntityIds());
+            Collections.reverse(thingIds);
+            Source.from(thingIds)
+                    .map(thingId -> ModifyAttributeResponse.modified(thingId, ATTRIBUTE_POINTER, DITTO_HEADERS))
+                    .runWith(StreamRefs.sourceRef(), ActorMaterializer.create(actorSystem))
+                    .thenAccept(sourceRef -> sender.tell(sourceRef, ActorRef.noSender()));
+            return keepRunning();
+        }
+    }
+
+    private static class AutoPilotAnsweringWithSourceRef extends AutoPilot {
+
+        private final List<ThingCommandResponse<?>> responses;
+
+        private AutoPilotAnsweringWithSourceRef(final List<ThingCommandResponse<?>> responses) {
+            this.responses = Collections.unmodifiableList(responses);
+        }
+
+        @Override
+        public AutoPilot run(final ActorRef sender, final Object msg) {
+            Source.from(responses)
+                    .runWith(StreamRefs.sourceRef(), ActorMaterializer.create(actorSystem))
+                    .thenAccept(sourceRef -> sender.tell(sourceRef, ActorRef.noSender()));
+            return keepRunning();
+        }
+    }
+
     private static class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.cacheloaders;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -58,12 +59,25 @@ public final class AclEnforcerCacheLoader
      * @param thingsShardRegionProxy the shard-region-proxy.
      */
     public AclEnforcerCacheLoader(final Duration askTimeout, final ActorRef thingsShardRegionProxy) {
+        this(askTimeout, thingsShardRegionProxy, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param thingsShardRegionProxy the shard-region-proxy.
+     * @param weighEntries whether to estimate the size of the loaded entries because the cache is bounded by weight.
+     * @since 1.1.0
+     */
+    public AclEnforcerCacheLoader(final Duration askTimeout, final ActorRef thingsShardRegionProxy,
+            final boolean weighEntries) {
         requireNonNull(askTimeout);
         requireNonNull(thingsShardRegionProxy);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = ThingCommandFactory::sudoRetrieveThing;
         final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
-                AclEnforcerCacheLoader::handleSudoRetrieveThingResponse;
+                (response, cacheLookupContext) -> handleSudoRetrieveThingResponse(response, weighEntries);
 
         this.delegate = ActorAskCacheLoader.forShard(askTimeout, ThingCommand.RESOURCE_TYPE, thingsShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -77,7 +91,7 @@ public final class AclEnforcerCacheLoader
 
     @Nullable
     private static Entry<Enforcer> handleSudoRetrieveThingResponse(final Object response,
-            @Nullable final CacheLookupContext cacheLookupContext) {
+            final boolean weighEntry) {
         if (response instanceof SudoRetrieveThingResponse) {
             final SudoRetrieveThingResponse sudoRetrieveThingResponse = (SudoRetrieveThingResponse) response;
             final Thing thing = sudoRetrieveThingResponse.getThing();
@@ -88,7 +102,12 @@ public final class AclEnforcerCacheLoader
                 final long revision = thing.getRevision().map(ThingRevision::toLong)
                         .orElseThrow(badThingResponse("no revision"));
 
-                return Entry.of(revision, AclEnforcer.of(accessControlList));
+                if (!weighEntry) {
+                    return Entry.of(revision, AclEnforcer.of(accessControlList));
+                }
+                // weighed by the size of the serialized ACL like policy-enforcers by the size of their policy
+                return Entry.of(revision, AclEnforcer.of(accessControlList),
+                        accessControlList.toJsonString().getBytes(StandardCharsets.UTF_8).length);
             } else {
                 // The thing exists, but it has a policy. Remove entry from cache.
                 return null;
@@ -14,23 +14,29 @@ package org.eclipse.ditto.services.utils.cacheloaders;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.OffHeapStore;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -42,12 +48,20 @@ import akka.actor.ActorRef;
 
 /**
  * Loads a policy-enforcer by asking the policies shard-region-proxy.
+ * <p>
+ * If the cache is bounded by weight, the loaded entries are weighed by the size of their serialized policy. If an
+ * {@link OffHeapStore} is given, the serialized policies are kept in it and enforcers which were evicted from the
+ * cache are rebuilt from there without asking the shard-region-proxy again. Invalidations of the cache must reach the store, see
+ * {@link org.eclipse.ditto.services.utils.cache.OffHeapBackedCache}.
+ * </p>
  */
 @Immutable
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityIdWithResourceType,
         Entry<Enforcer>> {
 
-    private final ActorAskCacheLoader<Enforcer, Command> delegate;
+    private final ActorAskCacheLoader<Policy, Command> delegate;
+    @Nullable private final OffHeapStore<EntityIdWithResourceType> policyStore;
+    private final boolean weighEntries;
 
     /**
      * Constructor.
@@ -56,31 +70,88 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, null, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param policyStore the store of serialized policies or {@code null} to always ask the shard-region-proxy.
+     * @param weighEntries whether to estimate the size of the loaded entries because the cache is bounded by weight.
+     * @since 1.1.0
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            @Nullable final OffHeapStore<EntityIdWithResourceType> policyStore, final boolean weighEntries) {
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
 
         final BiFunction<EntityId, CacheLookupContext, Command> commandCreator = PolicyCommandFactory::sudoRetrievePolicy;
-        final BiFunction<Object, CacheLookupContext, Entry<Enforcer>> responseTransformer =
+        final BiFunction<Object, CacheLookupContext, Entry<Policy>> responseTransformer =
                 PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
+        this.policyStore = policyStore;
+        this.weighEntries = weighEntries;
     }
 
     @Override
     public CompletableFuture<Entry<Enforcer>> asyncLoad(final EntityIdWithResourceType key,
             final Executor executor) {
-        return delegate.asyncLoad(key, executor);
+        if (null == policyStore) {
+            return delegate.asyncLoad(key, executor)
+                    .thenApply(policyEntry -> toEnforcerEntry(policyEntry, weighEntries, null));
+        }
+        final Optional<byte[]> storedPolicy = policyStore.get(key);
+        if (storedPolicy.isPresent()) {
+            return CompletableFuture.supplyAsync(() -> restoreEnforcerEntry(storedPolicy.get()), executor);
+        }
+        final long stamp = policyStore.getStamp();
+        return delegate.asyncLoad(key, executor)
+                .thenApply(policyEntry -> toEnforcerEntry(policyEntry, weighEntries,
+                        serializedPolicy -> policyStore.put(key, serializedPolicy, stamp)));
+    }
+
+    private static Entry<Enforcer> toEnforcerEntry(final Entry<Policy> policyEntry, final boolean weighEntry,
+            @Nullable final Consumer<byte[]> serializedPolicyConsumer) {
+
+        if (!policyEntry.exists()) {
+            return Entry.nonexistent();
+        }
+        final Policy policy = policyEntry.getValueOrThrow();
+        if (!weighEntry && null == serializedPolicyConsumer) {
+            return Entry.of(policyEntry.getRevision(), PolicyEnforcers.defaultEvaluator(policy));
+        }
+        final byte[] serializedPolicy = serialize(policy);
+        if (null != serializedPolicyConsumer) {
+            serializedPolicyConsumer.accept(serializedPolicy);
+        }
+        return Entry.of(policyEntry.getRevision(), PolicyEnforcers.defaultEvaluator(policy), serializedPolicy.length);
+    }
+
+    private static Entry<Enforcer> restoreEnforcerEntry(final byte[] serializedPolicy) {
+        final Policy policy = PoliciesModelFactory.newPolicy(new String(serializedPolicy, StandardCharsets.UTF_8));
+        final long revision = policy.getRevision().map(PolicyRevision::toLong)
+                .orElseThrow(badPolicyResponse("no revision"));
+        return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy), serializedPolicy.length);
+    }
+
+    private static byte[] serialize(final Policy policy) {
+        return policy.toJson(policy.getImplementedSchemaVersion(), FieldType.regularOrSpecial())
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
     }
 
-    private static Entry<Enforcer> handleSudoRetrievePolicyResponse(final Object response,
+    private static Entry<Policy> handleSudoRetrievePolicyResponse(final Object response,
             @Nullable final CacheLookupContext cacheLookupContext) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, policy);
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
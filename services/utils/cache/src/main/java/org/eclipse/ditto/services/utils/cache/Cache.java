@@ -16,6 +16,8 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * A general purpose cache for items which are associated with a key.
@@ -91,4 +93,15 @@ public interface Cache<K, V> {
     default void invalidateAll(final Collection<K> keys) {
         keys.forEach(this::invalidate);
     }
+
+    /**
+     * Invalidate all keys matching a predicate, including keys of entries which this cache keeps outside of
+     * {@link #asMap()}.
+     *
+     * @param predicate the predicate of the keys to invalidate.
+     * @since 1.1.0
+     */
+    default void invalidateIf(final Predicate<? super K> predicate) {
+        invalidateAll(asMap().keySet().stream().filter(predicate).collect(Collectors.toList()));
+    }
 }
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig}.
@@ -99,7 +100,8 @@ public final class CacheFactory {
     public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
             final Executor executor) {
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheName);
+        return CaffeineCache.of(caffeine(cacheConfig, executor).maximumSize(cacheConfig.getMaximumSize()),
+                cacheName);
     }
 
     /**
@@ -121,7 +123,41 @@ public final class CacheFactory {
 
         checkNotNull(cacheLoader, "AsyncCacheLoader");
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        return CaffeineCache.of(caffeine(cacheConfig, executor).maximumSize(cacheConfig.getMaximumSize()),
+                cacheLoader, cacheName);
+    }
+
+    /**
+     * Creates a cache which is bounded by the total weight of its values if the config defines a
+     * {@link CacheConfig#getMaximumWeight() maximum weight}, and by the number of its values otherwise.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfig the the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param weigher estimates the retained size of the values, e. g.
+     * {@link org.eclipse.ditto.services.utils.cache.entry.EntryWeigher}.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} is {@code null}.
+     * @since 1.1.0
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor,
+            final Weigher<? super K, ? super V> weigher) {
+
+        checkNotNull(cacheLoader, "AsyncCacheLoader");
+        checkNotNull(weigher, "Weigher");
+
+        final Caffeine<Object, Object> caffeine = caffeine(cacheConfig, executor);
+        if (0 < cacheConfig.getMaximumWeight()) {
+            return CaffeineCache.of(caffeine.maximumWeight(cacheConfig.getMaximumWeight()).<K, V>weigher(weigher),
+                    cacheLoader, cacheName);
+        }
+        return CaffeineCache.of(caffeine.maximumSize(cacheConfig.getMaximumSize()), cacheLoader, cacheName);
     }
 
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
@@ -129,7 +165,6 @@ public final class CacheFactory {
         checkNotNull(executor, "Executor");
 
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
-        caffeine.maximumSize(cacheConfig.getMaximumSize());
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
@@ -70,7 +70,12 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             return 0L;
         }
 
-        return synchronousCacheView.estimatedSize();
+        // caches bounded by weight report their weight to compare it with their maximum weight
+        return synchronousCacheView.policy()
+                .eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElseGet(synchronousCacheView::estimatedSize);
     }
 
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
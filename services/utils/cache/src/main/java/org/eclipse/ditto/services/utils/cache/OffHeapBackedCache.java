@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache whose loader restores evicted values from the serialized values of an {@link OffHeapStore}.
+ * <p>
+ * Invalidations and puts remove the serialized value of the key from the store before they reach the cache, so
+ * the loader never restores a value the cache was told to discard. Modifications through {@link #asMap()} bypass the
+ * store.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ * @since 1.1.0
+ */
+@ThreadSafe
+public final class OffHeapBackedCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final OffHeapStore<K> offHeapStore;
+
+    private OffHeapBackedCache(final Cache<K, V> cache, final OffHeapStore<K> offHeapStore) {
+        this.cache = cache;
+        this.offHeapStore = offHeapStore;
+    }
+
+    /**
+     * Returns a new {@code OffHeapBackedCache}.
+     *
+     * @param cache the cache whose loader reads and fills {@code offHeapStore}.
+     * @param offHeapStore the store of serialized values.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> OffHeapBackedCache<K, V> of(final Cache<K, V> cache, final OffHeapStore<K> offHeapStore) {
+        return new OffHeapBackedCache<>(checkNotNull(cache, "cache"), checkNotNull(offHeapStore, "offHeapStore"));
+    }
+
+    @Override
+    public CompletableFuture<Optional<V>> get(final K key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public CompletableFuture<Optional<V>> getIfPresent(final K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public Optional<V> getBlocking(final K key) {
+        return cache.getBlocking(key);
+    }
+
+    @Override
+    public boolean invalidate(final K key) {
+        offHeapStore.invalidate(key);
+        return cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll(final Collection<K> keys) {
+        offHeapStore.invalidateAll(keys);
+        cache.invalidateAll(keys);
+    }
+
+    @Override
+    public void invalidateIf(final Predicate<? super K> predicate) {
+        offHeapStore.invalidateIf(predicate);
+        cache.invalidateIf(predicate);
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+        offHeapStore.invalidate(key);
+        cache.put(key, value);
+    }
+
+    @Override
+    public ConcurrentMap<K, V> asMap() {
+        return cache.asMap();
+    }
+
+}
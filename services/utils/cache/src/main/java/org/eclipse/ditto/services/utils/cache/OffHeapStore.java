@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded store of serialized values in a single direct byte buffer outside of the Java heap.
+ * <p>
+ * Values are appended to the buffer like to a ring. If the buffer is full, the oldest values are overwritten and
+ * dropped from the store. On the heap, the store only keeps the keys and a small index entry per value, independent
+ * of the size of the value.
+ * </p>
+ * <p>
+ * Values expire a fixed duration after they were stored, so that a value which missed an invalidation is not
+ * restored for longer than the cache it backs would have kept it.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @since 1.1.0
+ */
+@ThreadSafe
+public final class OffHeapStore<K> {
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier nanoTime;
+
+    private final Map<K, Slot<K>> index;
+    private final Deque<Slot<K>> slotsInWriteOrder;
+    private long writePosition;
+    private long invalidations;
+
+    private OffHeapStore(final int capacity, final long expireAfterWriteNanos, final LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.nanoTime = nanoTime;
+        buffer = ByteBuffer.allocateDirect(capacity);
+        index = new HashMap<>();
+        slotsInWriteOrder = new ArrayDeque<>();
+        writePosition = 0L;
+        invalidations = 0L;
+    }
+
+    /**
+     * Returns a new {@code OffHeapStore} which allocates the given capacity in direct memory and whose values do not
+     * expire.
+     *
+     * @param capacity the number of bytes to allocate.
+     * @param <K> the type of the keys.
+     * @return the store.
+     * @throws IllegalArgumentException if {@code capacity} is not positive or exceeds the maximum size of a byte
+     * buffer.
+     */
+    public static <K> OffHeapStore<K> of(final long capacity) {
+        return of(capacity, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Returns a new {@code OffHeapStore} which allocates the given capacity in direct memory.
+     *
+     * @param capacity the number of bytes to allocate.
+     * @param expireAfterWrite how long a value is retrieved after it was stored.
+     * @param <K> the type of the keys.
+     * @return the store.
+     * @throws NullPointerException if {@code expireAfterWrite} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is not positive or exceeds the maximum size of a byte
+     * buffer or if {@code expireAfterWrite} is negative.
+     * @since 1.1.0
+     */
+    public static <K> OffHeapStore<K> of(final long capacity, final Duration expireAfterWrite) {
+        return of(capacity, expireAfterWrite, System::nanoTime);
+    }
+
+    static <K> OffHeapStore<K> of(final long capacity, final Duration expireAfterWrite, final LongSupplier nanoTime) {
+        checkArgument(capacity, c -> 0 < c && c <= Integer.MAX_VALUE,
+                () -> "The capacity must be positive and must not exceed " + Integer.MAX_VALUE + " bytes!");
+        checkNotNull(expireAfterWrite, "expireAfterWrite");
+        checkArgument(expireAfterWrite, d -> !d.isNegative(), () -> "The expiry must not be negative!");
+
+        return new OffHeapStore<>((int) capacity, expireAfterWrite.toNanos(), nanoTime);
+    }
+
+    /**
+     * Returns a stamp to pass to {@link #put(Object, byte[], long)} for values which are loaded concurrently to
+     * invalidations.
+     *
+     * @return the stamp.
+     */
+    public synchronized long getStamp() {
+        return invalidations;
+    }
+
+    /**
+     * Stores a value, replacing any value stored before for the same key.
+     *
+     * @param key the key.
+     * @param value the serialized value.
+     * @return {@code true} if the value was stored, {@code false} if it is larger than the capacity of the store.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public synchronized boolean put(final K key, final byte[] value) {
+        return put(key, value, invalidations);
+    }
+
+    /**
+     * Stores a value unless any value was invalidated after the stamp was obtained. This prevents storing a value
+     * which was loaded before an invalidation of its key but completed after it.
+     *
+     * @param key the key.
+     * @param value the serialized value.
+     * @param stamp the stamp obtained by {@link #getStamp()} before the value was loaded.
+     * @return {@code true} if the value was stored, {@code false} if it is larger than the capacity of the store or if
+     * any value was invalidated in the meantime.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public synchronized boolean put(final K key, final byte[] value, final long stamp) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        if (stamp != invalidations || value.length > capacity) {
+            index.remove(key);
+            return false;
+        }
+
+        int offset = (int) (writePosition % capacity);
+        if (offset + value.length > capacity) {
+            // values do not wrap around the end of the buffer
+            writePosition += capacity - offset;
+            offset = 0;
+        }
+        // empty values occupy one byte so that every slot eventually gets overwritten
+        final long end = writePosition + Math.max(1, value.length);
+        dropOverwrittenSlots(end);
+
+        final ByteBuffer target = buffer.duplicate();
+        target.position(offset);
+        target.put(value);
+
+        final Slot<K> slot = new Slot<>(key, writePosition, value.length, nanoTime.getAsLong());
+        index.put(key, slot);
+        slotsInWriteOrder.addLast(slot);
+        writePosition = end;
+        return true;
+    }
+
+    /**
+     * Retrieves a copy of the stored value of a key.
+     *
+     * @param key the key.
+     * @return the value or an empty Optional if no value is stored for the key or if the stored value expired.
+     */
+    public synchronized Optional<byte[]> get(final K key) {
+        final Slot<K> slot = index.get(key);
+        if (null == slot) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - slot.writtenNanos >= expireAfterWriteNanos) {
+            index.remove(key);
+            return Optional.empty();
+        }
+        final byte[] value = new byte[slot.length];
+        final ByteBuffer source = buffer.duplicate();
+        source.position((int) (slot.start % capacity));
+        source.get(value);
+        return Optional.of(value);
+    }
+
+    /**
+     * Removes the value of a key.
+     *
+     * @param key the key.
+     * @return {@code true} if a value was stored for the key, {@code false} otherwise.
+     */
+    public synchronized boolean invalidate(final K key) {
+        ++invalidations;
+        return null != index.remove(key);
+    }
+
+    /**
+     * Removes the values of keys.
+     *
+     * @param keys the keys.
+     */
+    public synchronized void invalidateAll(final Collection<K> keys) {
+        ++invalidations;
+        keys.forEach(index::remove);
+    }
+
+    /**
+     * Removes the values of all keys matching a predicate.
+     *
+     * @param predicate the predicate of the keys.
+     */
+    public synchronized void invalidateIf(final Predicate<? super K> predicate) {
+        ++invalidations;
+        index.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Returns the number of values in this store.
+     *
+     * @return the number of values.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the number of bytes this store allocates in direct memory.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void dropOverwrittenSlots(final long end) {
+        Slot<K> oldest = slotsInWriteOrder.peekFirst();
+        while (null != oldest && oldest.start < end - capacity) {
+            slotsInWriteOrder.removeFirst();
+            index.remove(oldest.key, oldest);
+            oldest = slotsInWriteOrder.peekFirst();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", size=" + size() +
+                "]";
+    }
+
+    private static final class Slot<K> {
+
+        private final K key;
+        private final long start;
+        private final int length;
+        private final long writtenNanos;
+
+        private Slot(final K key, final long start, final int length, final long writtenNanos) {
+            this.key = key;
+            this.start = start;
+            this.length = length;
+            this.writtenNanos = writtenNanos;
+        }
+
+    }
+
+}
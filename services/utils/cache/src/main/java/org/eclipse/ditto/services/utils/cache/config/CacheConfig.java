@@ -33,6 +33,16 @@ public interface CacheConfig {
      */
     long getMaximumSize();
 
+    /**
+     * Returns the maximum total weight of the entries of a cache, e. g. their estimated retained size in bytes.
+     * Caches created with a weigher are bounded by this weight instead of by {@link #getMaximumSize()} unless it is
+     * {@code 0}.
+     *
+     * @return the maximum weight or {@code 0} if the cache is bounded by its maximum size.
+     * @since 1.1.0
+     */
+    long getMaximumWeight();
+
     /**
      * Returns duration after which a written cache entry expires.
      *
@@ -72,6 +82,11 @@ public interface CacheConfig {
          */
         MAXIMUM_SIZE("maximum-size", 50_000L),
 
+        /**
+         * The maximum total weight of the cache entries; 0 to bound the cache by its maximum size.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
         /**
          * Duration after which a written cache entry expires.
          */
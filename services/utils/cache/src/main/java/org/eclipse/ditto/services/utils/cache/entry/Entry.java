@@ -17,12 +17,31 @@ package org.eclipse.ditto.services.utils.cache.entry;
  */
 public interface Entry<T> {
 
+    /**
+     * The weight of entries whose retained size is not estimated.
+     */
+    long UNKNOWN_WEIGHT = 1L;
+
     static <T> Entry<T> permanent(final T value) {
-        return new ExistentEntry<>(Long.MAX_VALUE, value);
+        return new ExistentEntry<>(Long.MAX_VALUE, value, UNKNOWN_WEIGHT);
     }
 
     static <T> Entry<T> of(final long revision, final T value) {
-        return new ExistentEntry<>(revision, value);
+        return new ExistentEntry<>(revision, value, UNKNOWN_WEIGHT);
+    }
+
+    /**
+     * Creates an entry with an estimation of the retained size of its value.
+     *
+     * @param revision the revision of the entry.
+     * @param value the value.
+     * @param weight the estimated retained size of the value in bytes.
+     * @param <T> the type of the value.
+     * @return the entry.
+     * @since 1.1.0
+     */
+    static <T> Entry<T> of(final long revision, final T value, final long weight) {
+        return new ExistentEntry<>(revision, value, weight);
     }
 
     static <T> Entry<T> nonexistent() {
@@ -39,6 +58,14 @@ public interface Entry<T> {
 
     boolean exists();
 
+    /**
+     * Returns the estimated retained size of this entry in bytes, which bounds caches by weight.
+     *
+     * @return the weight or {@link #UNKNOWN_WEIGHT} if the size of the entry is not estimated.
+     * @since 1.1.0
+     */
+    long getWeight();
+
     /**
      * Retrieve the value if present.
      *
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache.entry;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cache entries by their {@link Entry#getWeight() estimated retained size}.
+ */
+@Immutable
+public final class EntryWeigher implements Weigher<Object, Entry<?>> {
+
+    private static final EntryWeigher INSTANCE = new EntryWeigher();
+
+    private EntryWeigher() {}
+
+    /**
+     * Returns the instance of {@code EntryWeigher}.
+     *
+     * @return the instance.
+     */
+    public static EntryWeigher getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int weigh(final Object key, final Entry<?> entry) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, entry.getWeight()));
+    }
+
+}
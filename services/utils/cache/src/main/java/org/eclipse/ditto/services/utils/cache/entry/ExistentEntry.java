@@ -24,10 +24,12 @@ final class ExistentEntry<T> implements Entry<T> {
 
     private final long revision;
     private final T value;
+    private final long weight;
 
-    ExistentEntry(final long revision, final T value) {
+    ExistentEntry(final long revision, final T value, final long weight) {
         this.revision = revision;
         this.value = value;
+        this.weight = weight;
     }
 
     @Override
@@ -45,6 +47,11 @@ final class ExistentEntry<T> implements Entry<T> {
         return true;
     }
 
+    @Override
+    public long getWeight() {
+        return weight;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -67,6 +74,7 @@ final class ExistentEntry<T> implements Entry<T> {
         return getClass().getSimpleName() + " [" +
                 "revision=" + revision +
                 ", value=" + value +
+                ", weight=" + weight +
                 "]";
     }
 
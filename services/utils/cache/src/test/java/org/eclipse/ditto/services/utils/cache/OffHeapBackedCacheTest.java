@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tests {@link OffHeapBackedCache}.
+ */
+public final class OffHeapBackedCacheTest {
+
+    private static final byte[] STORED = "stored".getBytes(StandardCharsets.UTF_8);
+
+    private final OffHeapStore<String> offHeapStore = OffHeapStore.of(100L);
+    private final Cache<String, String> heapCache = CaffeineCache.of(Caffeine.newBuilder(),
+            (key, executor) -> CompletableFuture.completedFuture(offHeapStore.get(key)
+                    .map(value -> new String(value, StandardCharsets.UTF_8))
+                    .orElse("loaded")));
+    private final OffHeapBackedCache<String, String> underTest = OffHeapBackedCache.of(heapCache, offHeapStore);
+
+    @Test
+    public void restoresEvictedValuesFromStore() {
+        offHeapStore.put("ns:evicted", STORED);
+
+        assertThat(underTest.getBlocking("ns:evicted")).contains("stored");
+    }
+
+    @Test
+    public void invalidateRemovesValueFromStore() {
+        offHeapStore.put("ns:evicted", STORED);
+
+        underTest.invalidate("ns:evicted");
+
+        assertThat(offHeapStore.get("ns:evicted")).isEmpty();
+        assertThat(underTest.getBlocking("ns:evicted")).contains("loaded");
+    }
+
+    @Test
+    public void invalidateIfRemovesMatchingValuesFromHeapAndStore() {
+        offHeapStore.put("ns1:evicted", STORED);
+        offHeapStore.put("ns2:evicted", STORED);
+        underTest.put("ns1:cached", "cached");
+        underTest.put("ns2:cached", "cached");
+
+        underTest.invalidateIf(key -> key.startsWith("ns1:"));
+
+        assertThat(underTest.asMap()).containsOnlyKeys("ns2:cached");
+        assertThat(offHeapStore.get("ns1:evicted")).isEmpty();
+        assertThat(offHeapStore.get("ns2:evicted")).contains(STORED);
+        assertThat(underTest.getBlocking("ns1:evicted")).contains("loaded");
+    }
+
+}
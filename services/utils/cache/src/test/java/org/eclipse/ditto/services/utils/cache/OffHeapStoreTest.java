@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link OffHeapStore}.
+ */
+public final class OffHeapStoreTest {
+
+    private static final int CAPACITY = 10;
+
+    private final OffHeapStore<String> underTest = OffHeapStore.of(CAPACITY);
+
+    @Test
+    public void capacityMustFitIntoByteBuffer() {
+        assertThatIllegalArgumentException().isThrownBy(() -> OffHeapStore.of(0L));
+        assertThatIllegalArgumentException().isThrownBy(() -> OffHeapStore.of(Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    public void expiryMustNotBeNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> OffHeapStore.of(CAPACITY, Duration.ofSeconds(-1L)));
+    }
+
+    @Test
+    public void doesNotRetrieveExpiredValues() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final OffHeapStore<String> expiringStore = OffHeapStore.of(CAPACITY, Duration.ofNanos(10L), nanoTime::get);
+        expiringStore.put("a", bytes("1234"));
+        nanoTime.set(5L);
+        expiringStore.put("b", bytes("5678"));
+
+        nanoTime.set(9L);
+        assertThat(expiringStore.get("a")).contains(bytes("1234"));
+
+        nanoTime.set(10L);
+        assertThat(expiringStore.get("a")).isEmpty();
+        assertThat(expiringStore.get("b")).contains(bytes("5678"));
+        assertThat(expiringStore.size()).isEqualTo(1);
+
+        // storing a value again restarts its expiry
+        expiringStore.put("a", bytes("12"));
+        nanoTime.set(15L);
+        assertThat(expiringStore.get("a")).contains(bytes("12"));
+        assertThat(expiringStore.get("b")).isEmpty();
+    }
+
+    @Test
+    public void retrievesStoredValues() {
+        underTest.put("a", bytes("1234"));
+        underTest.put("b", bytes("5678"));
+
+        assertThat(underTest.get("a")).contains(bytes("1234"));
+        assertThat(underTest.get("b")).contains(bytes("5678"));
+        assertThat(underTest.get("c")).isEmpty();
+    }
+
+    @Test
+    public void replacesValueOfSameKey() {
+        underTest.put("a", bytes("1234"));
+        underTest.put("a", bytes("56"));
+
+        assertThat(underTest.get("a")).contains(bytes("56"));
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void dropsOldestValuesWhenFull() {
+        underTest.put("a", bytes("1234"));
+        underTest.put("b", bytes("5678"));
+        // does not fit behind "b" and overwrites "a" at the start of the buffer
+        underTest.put("c", bytes("abc"));
+
+        assertThat(underTest.get("a")).isEmpty();
+        assertThat(underTest.get("b")).contains(bytes("5678"));
+        assertThat(underTest.get("c")).contains(bytes("abc"));
+
+        underTest.put("d", bytes("defgh"));
+
+        assertThat(underTest.get("b")).isEmpty();
+        assertThat(underTest.get("c")).contains(bytes("abc"));
+        assertThat(underTest.get("d")).contains(bytes("defgh"));
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void rejectsValuesLargerThanCapacity() {
+        underTest.put("a", bytes("1234"));
+
+        assertThat(underTest.put("a", bytes("0123456789a"))).isFalse();
+        assertThat(underTest.get("a")).isEmpty();
+    }
+
+    @Test
+    public void doesNotStoreValuesLoadedBeforeInvalidation() {
+        underTest.put("a", bytes("1234"));
+        final long stamp = underTest.getStamp();
+
+        assertThat(underTest.invalidate("a")).isTrue();
+        assertThat(underTest.put("a", bytes("1234"), stamp)).isFalse();
+        assertThat(underTest.get("a")).isEmpty();
+        assertThat(underTest.put("a", bytes("5678"), underTest.getStamp())).isTrue();
+        assertThat(underTest.get("a")).contains(bytes("5678"));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -64,6 +64,9 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getDefaultValue());
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
@@ -79,6 +82,9 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(4711);
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(10L * 1024 * 1024);
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(3));
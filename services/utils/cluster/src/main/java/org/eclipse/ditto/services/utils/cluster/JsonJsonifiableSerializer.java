@@ -18,8 +18,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.Config;
+
 import akka.actor.ExtendedActorSystem;
 
 /**
@@ -30,6 +33,10 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     private static final int UNIQUE_IDENTIFIER = 784456217;
 
+    private static final String CONFIG_LAZY_PARSING = "akka.actor.serializers-json.lazy-parsing";
+
+    private final JsonParseOptions parseOptions;
+
     /**
      * Constructs a new {@code JsonifiableSerializer} object.
      *
@@ -37,6 +44,11 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
      */
     public JsonJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "JSON");
+        final Config config = actorSystem.settings().config();
+        final boolean lazyParsing = config.hasPath(CONFIG_LAZY_PARSING) && config.getBoolean(CONFIG_LAZY_PARSING);
+        parseOptions = lazyParsing
+                ? JsonParseOptions.newBuilder().withLazyParsing().build()
+                : JsonParseOptions.newBuilder().withoutLazyParsing().build();
     }
 
     @Override
@@ -47,7 +59,6 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
-        return JsonFactory.readFrom(json);
+        return JsonFactory.readFrom(byteBuffer, parseOptions);
     }
 }
@@ -83,7 +83,8 @@ public final class SharedJsonifiableSerializerTest {
         final ExtendedActorSystem actorSystem =
                 (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.empty()
                         .withValue("ditto.mapping-strategy.implementation",
-                                ConfigValueFactory.fromAnyRef(ThingCommandsStrategy.class.getName())));
+                                ConfigValueFactory.fromAnyRef(ThingCommandsStrategy.class.getName()))
+                        .withValue("akka.actor.serializers-json.lazy-parsing", ConfigValueFactory.fromAnyRef(true)));
         underTestForThingCommands = createNewSerializer(actorSystem);
     }
 
@@ -39,6 +39,7 @@ import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.metrics.topk.HeavyHitters;
 import org.eclipse.ditto.signals.base.JsonTypeNotParsableException;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -50,6 +51,8 @@ import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommandResponse;
 import org.eclipse.ditto.signals.commands.devops.DevOpsErrorResponse;
 import org.eclipse.ditto.signals.commands.devops.ExecutePiggybackCommand;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHeavyHitters;
+import org.eclipse.ditto.signals.commands.devops.RetrieveHeavyHittersResponse;
 import org.eclipse.ditto.signals.commands.devops.RetrieveLoggerConfig;
 import org.eclipse.ditto.signals.commands.devops.RetrieveLoggerConfigResponse;
 
@@ -103,6 +106,7 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
                 PubSubSubscriberActor.props(pubSubMediator, serviceName, instance,
                         RetrieveLoggerConfig.TYPE,
                         ChangeLogLevel.TYPE,
+                        RetrieveHeavyHitters.TYPE,
                         ExecutePiggybackCommand.TYPE
                 ),
                 "pubSubSubscriber");
@@ -253,6 +257,8 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
             handleChangeLogLevel((ChangeLogLevel) wrappedCommand);
         } else if (wrappedCommand instanceof RetrieveLoggerConfig) {
             handleRetrieveLoggerConfig((RetrieveLoggerConfig) wrappedCommand);
+        } else if (wrappedCommand instanceof RetrieveHeavyHitters) {
+            handleRetrieveHeavyHitters((RetrieveHeavyHitters) wrappedCommand);
         } else if (wrappedCommand instanceof ExecutePiggybackCommand) {
             handleExecutePiggyBack((ExecutePiggybackCommand) wrappedCommand);
         }
@@ -279,6 +285,12 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         getSender().tell(retrieveLoggerConfigResponse, getSelf());
     }
 
+    private void handleRetrieveHeavyHitters(final RetrieveHeavyHitters command) {
+        final RetrieveHeavyHittersResponse response = RetrieveHeavyHittersResponse.of(serviceName, instance,
+                HeavyHitters.allToJson(command.getLimit()), command.getDittoHeaders());
+        getSender().tell(response, getSelf());
+    }
+
     private void handleExecutePiggyBack(final ExecutePiggybackCommand command) {
         LogUtil.enhanceLogWithCorrelationId(log, command);
 
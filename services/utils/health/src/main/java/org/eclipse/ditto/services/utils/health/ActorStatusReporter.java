@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.health;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor to report the health status of another actor on this node, which answers {@link RetrieveHealth} with a
+ * {@link RetrieveHealthResponse}.
+ *
+ * @since 1.1.0
+ */
+public final class ActorStatusReporter extends AbstractHealthCheckingActor {
+
+    private final ActorRef healthReportingActor;
+
+    @SuppressWarnings("unused")
+    private ActorStatusReporter(final ActorRef healthReportingActor) {
+        this.healthReportingActor = healthReportingActor;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param healthReportingActor the actor whose health status to report.
+     * @return Props to report the health status of the actor.
+     * @throws NullPointerException if {@code healthReportingActor} is {@code null}.
+     */
+    public static Props props(final ActorRef healthReportingActor) {
+        checkNotNull(healthReportingActor, "healthReportingActor");
+        return Props.create(ActorStatusReporter.class, healthReportingActor);
+    }
+
+    @Override
+    protected Receive matchCustomMessages() {
+        return ReceiveBuilder.create()
+                .match(RetrieveHealthResponse.class, response -> updateHealth(response.getStatusInfo()))
+                .build();
+    }
+
+    @Override
+    protected void triggerHealthRetrieval() {
+        healthReportingActor.tell(RetrieveHealth.newInstance(), getSelf());
+    }
+
+}
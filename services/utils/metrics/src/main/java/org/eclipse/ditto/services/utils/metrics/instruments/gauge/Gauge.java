@@ -47,4 +47,11 @@ public interface Gauge extends ResettableMetricInstrument, TaggedMetricInstrumen
      * @return The current value of the gauge.
      */
     Long get();
+
+    /**
+     * Removes the gauge with its tags from the reported metrics, e.g. because a tag value is no longer relevant.
+     *
+     * @return True if the gauge was reported before.
+     */
+    boolean remove();
 }
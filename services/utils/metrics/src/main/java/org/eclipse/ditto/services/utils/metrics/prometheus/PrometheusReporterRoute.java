@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.utils.metrics.prometheus;
 import static akka.http.javadsl.server.Directives.complete;
 import static akka.http.javadsl.server.Directives.get;
 
+import org.eclipse.ditto.services.utils.metrics.topk.HeavyHitters;
+
 import akka.http.javadsl.model.ContentType;
 import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpResponse;
@@ -35,17 +37,19 @@ public final class PrometheusReporterRoute {
     }
 
     /**
-     * Builds a Route for a HTTP Prometheus endpoint where Prometheus can scrape metrics from.
+     * Builds a Route for a HTTP Prometheus endpoint where Prometheus can scrape metrics from. Each scrape exports the
+     * current heavy hitters as gauges; they are reported with the next tick of the reporter.
      *
      * @param prometheusReporter the PrometheusReporter to retrieve the {@code scrapeData} from
      * @return the Prometheus Route
      */
     public static Route buildPrometheusReporterRoute(final PrometheusReporter prometheusReporter) {
-        return get(() ->
-                complete(HttpResponse.create()
-                        .withStatus(StatusCodes.OK)
-                        .withEntity(CONTENT_TYPE, ByteString.fromString(prometheusReporter.scrapeData()))
-                )
-        );
+        return get(() -> {
+            HeavyHitters.exportGauges();
+            return complete(HttpResponse.create()
+                    .withStatus(StatusCodes.OK)
+                    .withEntity(CONTENT_TYPE, ByteString.fromString(prometheusReporter.scrapeData()))
+            );
+        });
     }
 }
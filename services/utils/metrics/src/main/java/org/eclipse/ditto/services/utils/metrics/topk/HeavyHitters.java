@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Tracks the entities and namespaces of one resource type which cause the most messages, bytes and persistence
+ * latency on this node.
+ * <p>
+ * Each dimension is counted by a {@link TopKCounter} per entity ID and per namespace. Counters are rotated after a
+ * fixed window so that reports reflect recent traffic: a report contains the previous complete window and the
+ * current one.
+ * </p>
+ * <p>
+ * Recording is on the hot path of every signal and every persisted event. To keep threads from contending for the
+ * same counters, the counters of the current window are striped: each thread counts into the stripe of its thread ID,
+ * and the stripes are only merged when the window rotates or when the heavy hitters are reported.
+ * </p>
+ */
+@ThreadSafe
+public final class HeavyHitters {
+
+    /**
+     * Number of keys monitored per dimension and scope. Heavy hitters with more than {@code 1 / CAPACITY} of the
+     * traffic of a window are never missed.
+     */
+    static final int CAPACITY = 1000;
+
+    /**
+     * Length of a counting window.
+     */
+    static final Duration WINDOW = Duration.ofMinutes(5L);
+
+    /**
+     * Number of entries per dimension and scope exported as gauges.
+     */
+    static final int EXPORTED_TOP_N = 10;
+
+    private static final int STRIPE_COUNT = Math.max(1, Math.min(16, Runtime.getRuntime().availableProcessors()));
+
+    private static final String GAUGE_NAME = "heavy_hitters";
+    private static final String KEY = "key";
+    private static final String COUNT = "count";
+    private static final String ERROR = "error";
+
+    private static final ConcurrentMap<String, HeavyHitters> INSTANCES = new ConcurrentHashMap<>();
+    private static final Map<List<String>, Gauge> EXPORTED_GAUGES = new HashMap<>();
+
+    private final String resourceType;
+    private final long windowNanos;
+    private volatile List<Map<Dimension, Map<Scope, TopKCounter<String>>>> currentWindow;
+    private volatile long windowStartNanos;
+
+    @GuardedBy("this")
+    private Map<Dimension, Map<Scope, TopKCounter<String>>> previousWindow;
+
+    private HeavyHitters(final String resourceType, final Duration window) {
+        this.resourceType = resourceType;
+        windowNanos = window.toNanos();
+        currentWindow = newStripes();
+        previousWindow = newCounters();
+        windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Return the heavy hitters of a resource type on this node.
+     *
+     * @param resourceType the resource type, e.g. {@code thing}.
+     * @return the heavy hitters of the resource type.
+     * @throws NullPointerException if {@code resourceType} is {@code null}.
+     */
+    public static HeavyHitters forResourceType(final String resourceType) {
+        checkNotNull(resourceType, "resourceType");
+        return INSTANCES.computeIfAbsent(resourceType, type -> new HeavyHitters(type, WINDOW));
+    }
+
+    /**
+     * Create heavy hitters with a custom window which are not registered for reports.
+     *
+     * @param resourceType the resource type.
+     * @param window the length of a counting window.
+     * @return the heavy hitters.
+     */
+    static HeavyHitters newInstance(final String resourceType, final Duration window) {
+        return new HeavyHitters(resourceType, window);
+    }
+
+    /**
+     * Count a message addressed to an entity.
+     *
+     * @param entityId ID of the entity.
+     * @param bytes estimated size of the message in bytes.
+     */
+    public void recordMessage(final CharSequence entityId, final long bytes) {
+        record(Dimension.MESSAGES, entityId, 1L);
+        record(Dimension.BYTES, entityId, bytes);
+    }
+
+    /**
+     * Count the latency of persisting an event of an entity.
+     *
+     * @param entityId ID of the entity.
+     * @param latency the duration between the request to persist and the confirmation.
+     */
+    public void recordPersistLatency(final CharSequence entityId, final Duration latency) {
+        record(Dimension.PERSIST_LATENCY_MS, entityId, latency.toMillis());
+    }
+
+    /**
+     * Report the heavy hitters of this resource type in the format
+     * <pre>
+     * {"messages":{"entities":[{"key":"ns:id","count":42,"error":0}],"namespaces":[...]},"bytes":{...},...}
+     * </pre>
+     *
+     * @param limit the maximum number of entries per dimension and scope.
+     * @return the report.
+     */
+    public synchronized JsonObject toJson(final int limit) {
+        rotateIfDue();
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Dimension dimension : Dimension.values()) {
+            final JsonObjectBuilder dimensionBuilder = JsonFactory.newObjectBuilder();
+            for (final Scope scope : Scope.values()) {
+                final List<TopKCounter.Entry<String>> entries = getTopK(dimension, scope, limit);
+                if (!entries.isEmpty()) {
+                    dimensionBuilder.set(scope.getName(), toJsonArray(entries));
+                }
+            }
+            final JsonObject dimensionJson = dimensionBuilder.build();
+            if (!dimensionJson.isEmpty()) {
+                builder.set(dimension.getName(), dimensionJson);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Report the heavy hitters of all resource types on this node.
+     *
+     * @param limit the maximum number of entries per resource type, dimension and scope.
+     * @return JSON object with the reports of {@link #toJson(int)} keyed by resource type.
+     */
+    public static JsonObject allToJson(final int limit) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        INSTANCES.forEach((resourceType, heavyHitters) -> {
+            final JsonObject report = heavyHitters.toJson(limit);
+            if (!report.isEmpty()) {
+                builder.set(resourceType, report);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Merge the reports of several nodes as returned by {@link #allToJson(int)} by summing up counts and errors of
+     * equal keys.
+     *
+     * @param reports the reports of the nodes.
+     * @param limit the maximum number of entries per resource type, dimension and scope.
+     * @return the merged report.
+     */
+    public static JsonObject merge(final Collection<JsonObject> reports, final int limit) {
+        final Map<String, Map<String, Map<String, Map<String, long[]>>>> sums = new LinkedHashMap<>();
+        reports.forEach(report -> forEachObjectField(report, (resourceType, resourceJson) ->
+                forEachObjectField(resourceJson, (dimension, dimensionJson) ->
+                        dimensionJson.forEach(scopeField -> {
+                            final Map<String, long[]> keySums = sums
+                                    .computeIfAbsent(resourceType, r -> new LinkedHashMap<>())
+                                    .computeIfAbsent(dimension, d -> new LinkedHashMap<>())
+                                    .computeIfAbsent(scopeField.getKeyName(), s -> new HashMap<>());
+                            if (scopeField.getValue().isArray()) {
+                                scopeField.getValue().asArray().forEach(entry -> addEntry(keySums, entry));
+                            }
+                        }))));
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        sums.forEach((resourceType, dimensions) -> {
+            final JsonObjectBuilder resourceBuilder = JsonFactory.newObjectBuilder();
+            dimensions.forEach((dimension, scopes) -> {
+                final JsonObjectBuilder dimensionBuilder = JsonFactory.newObjectBuilder();
+                scopes.forEach((scope, keySums) -> dimensionBuilder.set(scope, toJsonArray(toEntries(keySums, limit))));
+                resourceBuilder.set(dimension, dimensionBuilder.build());
+            });
+            builder.set(resourceType, resourceBuilder.build());
+        });
+        return builder.build();
+    }
+
+    /**
+     * Export the top entries of all resource types on this node as gauges named {@code heavy_hitters} tagged by
+     * resource type, dimension, scope, rank and key. Gauges of keys which dropped out of the top entries are removed.
+     */
+    public static void exportGauges() {
+        INSTANCES.values().forEach(HeavyHitters::exportOwnGauges);
+    }
+
+    private void exportOwnGauges() {
+        final Map<List<String>, TopKCounter.Entry<String>> ranks = new HashMap<>();
+        synchronized (this) {
+            rotateIfDue();
+            for (final Dimension dimension : Dimension.values()) {
+                for (final Scope scope : Scope.values()) {
+                    final List<TopKCounter.Entry<String>> entries = getTopK(dimension, scope, EXPORTED_TOP_N);
+                    for (int i = 0; i < EXPORTED_TOP_N; ++i) {
+                        final List<String> rankId = Arrays.asList(resourceType, dimension.getName(), scope.getName(),
+                                String.valueOf(i + 1));
+                        ranks.put(rankId, i < entries.size() ? entries.get(i) : null);
+                    }
+                }
+            }
+        }
+        synchronized (EXPORTED_GAUGES) {
+            ranks.forEach((rankId, entry) -> {
+                final Gauge exported = EXPORTED_GAUGES.get(rankId);
+                if (null != exported && (null == entry || !entry.getKey().equals(exported.getTag(KEY)))) {
+                    exported.remove();
+                    EXPORTED_GAUGES.remove(rankId);
+                }
+                if (null != entry) {
+                    final Gauge gauge = EXPORTED_GAUGES.computeIfAbsent(rankId, id -> DittoMetrics.gauge(GAUGE_NAME)
+                            .tag("resource", id.get(0))
+                            .tag("dimension", id.get(1))
+                            .tag("scope", id.get(2))
+                            .tag("rank", id.get(3))
+                            .tag(KEY, entry.getKey()));
+                    gauge.set(entry.getCount());
+                }
+            });
+        }
+    }
+
+    private void record(final Dimension dimension, final CharSequence entityId, final long weight) {
+        if (weight <= 0L) {
+            return;
+        }
+        if (isRotationDue(System.nanoTime())) {
+            synchronized (this) {
+                rotateIfDue();
+            }
+        }
+        final String entityIdString = entityId.toString();
+        final List<Map<Dimension, Map<Scope, TopKCounter<String>>>> stripes = currentWindow;
+        final Map<Scope, TopKCounter<String>> counters =
+                stripes.get((int) (Thread.currentThread().getId() % stripes.size())).get(dimension);
+        counters.get(Scope.ENTITIES).increment(entityIdString, weight);
+        getNamespace(entityIdString).ifPresent(namespace ->
+                counters.get(Scope.NAMESPACES).increment(namespace, weight));
+    }
+
+    private List<TopKCounter.Entry<String>> getTopK(final Dimension dimension, final Scope scope, final int limit) {
+        final Map<String, long[]> keySums = new HashMap<>();
+        addAll(keySums, previousWindow.get(dimension).get(scope));
+        currentWindow.forEach(stripe -> addAll(keySums, stripe.get(dimension).get(scope)));
+        return toEntries(keySums, limit);
+    }
+
+    private boolean isRotationDue(final long now) {
+        return now - windowStartNanos >= windowNanos;
+    }
+
+    /*
+     * Must be called while holding the lock of this object. Occurrences which threads count into the stripes of the
+     * rotated window while they are merged may be lost.
+     */
+    private void rotateIfDue() {
+        final long now = System.nanoTime();
+        if (isRotationDue(now)) {
+            final boolean skippedWindow = now - windowStartNanos >= 2 * windowNanos;
+            final List<Map<Dimension, Map<Scope, TopKCounter<String>>>> rotatedWindow = currentWindow;
+            currentWindow = newStripes();
+            windowStartNanos = now;
+            previousWindow = newCounters();
+            if (!skippedWindow) {
+                for (final Dimension dimension : Dimension.values()) {
+                    for (final Scope scope : Scope.values()) {
+                        final TopKCounter<String> previous = previousWindow.get(dimension).get(scope);
+                        final Map<String, long[]> keySums = new HashMap<>();
+                        rotatedWindow.forEach(stripe -> addAll(keySums, stripe.get(dimension).get(scope)));
+                        toEntries(keySums, CAPACITY).forEach(entry ->
+                                previous.increment(entry.getKey(), entry.getCount()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Map<Dimension, Map<Scope, TopKCounter<String>>>> newStripes() {
+        final List<Map<Dimension, Map<Scope, TopKCounter<String>>>> stripes = new ArrayList<>(STRIPE_COUNT);
+        for (int i = 0; i < STRIPE_COUNT; ++i) {
+            stripes.add(newCounters());
+        }
+        return Collections.unmodifiableList(stripes);
+    }
+
+    private static Map<Dimension, Map<Scope, TopKCounter<String>>> newCounters() {
+        final Map<Dimension, Map<Scope, TopKCounter<String>>> counters = new EnumMap<>(Dimension.class);
+        for (final Dimension dimension : Dimension.values()) {
+            final Map<Scope, TopKCounter<String>> scopes = new EnumMap<>(Scope.class);
+            for (final Scope scope : Scope.values()) {
+                scopes.put(scope, TopKCounter.of(CAPACITY));
+            }
+            counters.put(dimension, scopes);
+        }
+        return counters;
+    }
+
+    private static Optional<String> getNamespace(final String entityId) {
+        final int separatorIndex = entityId.indexOf(':');
+        return separatorIndex > 0 ? Optional.of(entityId.substring(0, separatorIndex)) : Optional.empty();
+    }
+
+    private static void addAll(final Map<String, long[]> keySums, final TopKCounter<String> counter) {
+        counter.getTopK(CAPACITY).forEach(entry -> add(keySums, entry.getKey(), entry.getCount(), entry.getError()));
+    }
+
+    private static void addEntry(final Map<String, long[]> keySums, final JsonValue entry) {
+        if (entry.isObject()) {
+            final JsonObject entryObject = entry.asObject();
+            entryObject.getValue(KEY).filter(JsonValue::isString).ifPresent(key ->
+                    add(keySums, key.asString(), getLong(entryObject, COUNT), getLong(entryObject, ERROR)));
+        }
+    }
+
+    private static long getLong(final JsonObject jsonObject, final String key) {
+        return jsonObject.getValue(key).filter(JsonValue::isNumber).map(JsonValue::asLong).orElse(0L);
+    }
+
+    private static void add(final Map<String, long[]> keySums, final String key, final long count, final long error) {
+        final long[] sum = keySums.computeIfAbsent(key, k -> new long[2]);
+        sum[0] += count;
+        sum[1] += error;
+    }
+
+    private static List<TopKCounter.Entry<String>> toEntries(final Map<String, long[]> keySums, final int limit) {
+        return keySums.entrySet()
+                .stream()
+                .sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(e -> e.getValue()[0]).reversed())
+                .limit(limit)
+                .map(e -> new TopKCounter.Entry<>(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .collect(Collectors.toList());
+    }
+
+    private static JsonArray toJsonArray(final List<TopKCounter.Entry<String>> entries) {
+        return JsonFactory.newArrayBuilder(entries.stream().map(HeavyHitters::toJson).collect(Collectors.toList()))
+                .build();
+    }
+
+    private static JsonObject toJson(final TopKCounter.Entry<String> entry) {
+        return JsonFactory.newObjectBuilder()
+                .set(KEY, entry.getKey())
+                .set(COUNT, entry.getCount())
+                .set(ERROR, entry.getError())
+                .build();
+    }
+
+    private static void forEachObjectField(final JsonObject jsonObject,
+            final BiConsumer<String, JsonObject> consumer) {
+
+        for (final JsonField field : jsonObject) {
+            if (field.getValue().isObject()) {
+                consumer.accept(field.getKeyName(), field.getValue().asObject());
+            }
+        }
+    }
+
+    private enum Dimension {
+
+        MESSAGES("messages"),
+
+        BYTES("bytes"),
+
+        PERSIST_LATENCY_MS("persistLatencyMs");
+
+        private final String name;
+
+        Dimension(final String name) {
+            this.name = name;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+    }
+
+    private enum Scope {
+
+        ENTITIES("entities"),
+
+        NAMESPACES("namespaces");
+
+        private final String name;
+
+        Scope(final String name) {
+            this.name = name;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Approximates the most frequent keys of an unbounded stream in bounded memory with the space-saving algorithm of
+ * Metwally, Agrawal and El Abbadi.
+ * <p>
+ * At most {@code capacity} keys are monitored. An unmonitored key replaces the monitored key with the least count and
+ * inherits its count as overestimation error. Every key whose true count exceeds {@code total / capacity} is
+ * guaranteed to be monitored.
+ * </p>
+ *
+ * @param <K> type of the counted keys.
+ */
+@ThreadSafe
+public final class TopKCounter<K> {
+
+    private static final Comparator<Slot<?>> ASCENDING =
+            Comparator.<Slot<?>>comparingLong(slot -> slot.count).thenComparingLong(slot -> slot.sequenceNumber);
+
+    private final int capacity;
+    private final Map<K, Slot<K>> slots;
+    private final TreeSet<Slot<K>> orderedSlots;
+    private long sequenceNumber;
+    private long total;
+
+    private TopKCounter(final int capacity) {
+        this.capacity = capacity;
+        slots = new HashMap<>();
+        orderedSlots = new TreeSet<>(ASCENDING);
+        sequenceNumber = 0L;
+        total = 0L;
+    }
+
+    /**
+     * Create a counter monitoring at most {@code capacity} keys.
+     *
+     * @param capacity the maximum number of monitored keys.
+     * @param <K> type of the counted keys.
+     * @return the counter.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    public static <K> TopKCounter<K> of(final int capacity) {
+        checkArgument(capacity, c -> c > 0, () -> "The capacity must be positive!");
+        return new TopKCounter<>(capacity);
+    }
+
+    /**
+     * @return the maximum number of monitored keys.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Count one occurrence of a key.
+     *
+     * @param key the key.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     */
+    public void increment(final K key) {
+        increment(key, 1L);
+    }
+
+    /**
+     * Count a weighted occurrence of a key, e.g. the size of a message in bytes.
+     *
+     * @param key the key.
+     * @param weight the weight of the occurrence; non-positive weights are ignored.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     */
+    public synchronized void increment(final K key, final long weight) {
+        checkNotNull(key, "key");
+        if (weight <= 0L) {
+            return;
+        }
+        total += weight;
+        final Slot<K> existingSlot = slots.get(key);
+        if (null != existingSlot) {
+            orderedSlots.remove(existingSlot);
+            final Slot<K> updatedSlot = existingSlot.plus(weight, ++sequenceNumber);
+            slots.put(key, updatedSlot);
+            orderedSlots.add(updatedSlot);
+        } else if (slots.size() < capacity) {
+            final Slot<K> newSlot = new Slot<>(key, weight, 0L, ++sequenceNumber);
+            slots.put(key, newSlot);
+            orderedSlots.add(newSlot);
+        } else {
+            final Slot<K> evictedSlot = orderedSlots.pollFirst();
+            slots.remove(evictedSlot.key);
+            final Slot<K> newSlot =
+                    new Slot<>(key, evictedSlot.count + weight, evictedSlot.count, ++sequenceNumber);
+            slots.put(key, newSlot);
+            orderedSlots.add(newSlot);
+        }
+    }
+
+    /**
+     * Return the monitored keys with the highest counts in descending order.
+     *
+     * @param k the maximum number of keys to return.
+     * @return the top keys with their estimated counts.
+     */
+    public synchronized List<Entry<K>> getTopK(final int k) {
+        final List<Entry<K>> result = new ArrayList<>(Math.min(k, slots.size()));
+        final Iterator<Slot<K>> descending = orderedSlots.descendingIterator();
+        while (result.size() < k && descending.hasNext()) {
+            final Slot<K> slot = descending.next();
+            result.add(new Entry<>(slot.key, slot.count, slot.error));
+        }
+        return result;
+    }
+
+    /**
+     * @return the sum of the weights of all counted occurrences since creation or the last reset.
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    /**
+     * Forget all counted occurrences.
+     */
+    public synchronized void reset() {
+        slots.clear();
+        orderedSlots.clear();
+        total = 0L;
+    }
+
+    /**
+     * Estimated count of a monitored key.
+     *
+     * @param <K> type of the key.
+     */
+    @Immutable
+    public static final class Entry<K> {
+
+        private final K key;
+        private final long count;
+        private final long error;
+
+        /**
+         * Create an entry.
+         *
+         * @param key the key.
+         * @param count the estimated count; may overestimate the true count by at most {@code error}.
+         * @param error the maximum overestimation of the count.
+         */
+        public Entry(final K key, final long count, final long error) {
+            this.key = checkNotNull(key, "key");
+            this.count = count;
+            this.error = error;
+        }
+
+        /**
+         * @return the key.
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * @return the estimated count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the maximum overestimation of the count.
+         */
+        public long getError() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Entry<?> that = (Entry<?>) o;
+            return count == that.count && error == that.error && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, count, error);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "key=" + key +
+                    ", count=" + count +
+                    ", error=" + error +
+                    "]";
+        }
+
+    }
+
+    private static final class Slot<K> {
+
+        private final K key;
+        private final long count;
+        private final long error;
+        private final long sequenceNumber;
+
+        private Slot(final K key, final long count, final long error, final long sequenceNumber) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        private Slot<K> plus(final long weight, final long newSequenceNumber) {
+            return new Slot<>(key, count + weight, error, newSequenceNumber);
+        }
+
+    }
+
+}
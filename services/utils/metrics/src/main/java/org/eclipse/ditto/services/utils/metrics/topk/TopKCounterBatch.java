@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Accumulates the occurrences of a key within one actor and adds them to a shared {@link TopKCounter} in batches, so
+ * that actors counting every message do not contend for the lock of the shared counter on each message.
+ * <p>
+ * A batch is added to the counter when the key changes, when the flush interval has elapsed since the first
+ * occurrence of the batch, or when {@link #flush()} is called. Since the elapsed interval is only checked on the next
+ * occurrence, actors should call {@link #flush()} on a timer of the flush interval and when they stop, so that the
+ * occurrences of idle actors reach the counter before it is read or reset.
+ * </p>
+ *
+ * @param <K> type of the counted keys.
+ */
+@NotThreadSafe
+public final class TopKCounterBatch<K> {
+
+    private final TopKCounter<K> counter;
+    private final long flushIntervalNanos;
+    @Nullable private K key;
+    private long weight;
+    private long batchStartNanos;
+
+    private TopKCounterBatch(final TopKCounter<K> counter, final Duration flushInterval) {
+        this.counter = counter;
+        flushIntervalNanos = flushInterval.toNanos();
+        key = null;
+        weight = 0L;
+        batchStartNanos = 0L;
+    }
+
+    /**
+     * Create a batch which adds its occurrences to a shared counter.
+     *
+     * @param counter the shared counter.
+     * @param flushInterval the maximum time between the first occurrence of a batch and its addition to the counter.
+     * @param <K> type of the counted keys.
+     * @return the batch.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K> TopKCounterBatch<K> of(final TopKCounter<K> counter, final Duration flushInterval) {
+        checkNotNull(counter, "counter");
+        checkNotNull(flushInterval, "flushInterval");
+        return new TopKCounterBatch<>(counter, flushInterval);
+    }
+
+    /**
+     * Count one occurrence of a key.
+     *
+     * @param key the key.
+     * @throws NullPointerException if {@code key} is {@code null}.
+     */
+    public void increment(final K key) {
+        checkNotNull(key, "key");
+        if (!Objects.equals(this.key, key)) {
+            flush();
+            this.key = key;
+        }
+        final long now = System.nanoTime();
+        if (0L == weight) {
+            batchStartNanos = now;
+        }
+        ++weight;
+        if (now - batchStartNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+
+    /**
+     * Add the occurrences counted since the last flush to the shared counter.
+     */
+    public void flush() {
+        if (null != key && 0L < weight) {
+            counter.increment(key, weight);
+        }
+        weight = 0L;
+    }
+
+}
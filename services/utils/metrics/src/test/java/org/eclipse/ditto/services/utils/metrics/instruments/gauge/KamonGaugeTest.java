@@ -56,4 +56,13 @@ public class KamonGaugeTest {
         sut.decrement();
         assertThat(sut.get()).isEqualTo(4L);
     }
+
+    @Test
+    public void remove() {
+        final Gauge tagged = sut.tag("rank", "1");
+        tagged.set(5L);
+        assertThat(tagged.remove()).isTrue();
+        assertThat(tagged.remove()).isFalse();
+        assertThat(tagged.get()).isEqualTo(0L);
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Tests {@link HeavyHitters}.
+ */
+public final class HeavyHittersTest {
+
+    @Test
+    public void reportEntitiesAndNamespaces() {
+        final HeavyHitters underTest = HeavyHitters.newInstance("thing", Duration.ofHours(1L));
+        underTest.recordMessage("ns1:a", 10L);
+        underTest.recordMessage("ns1:a", 10L);
+        underTest.recordMessage("ns1:b", 100L);
+        underTest.recordMessage("ns2:c", 5L);
+        underTest.recordPersistLatency("ns2:c", Duration.ofMillis(30L));
+
+        final JsonObject report = underTest.toJson(1);
+
+        assertThat(report.getValue(JsonPointer.of("messages/entities")))
+                .contains(JsonArray.of("[{\"key\":\"ns1:a\",\"count\":2,\"error\":0}]"));
+        assertThat(report.getValue(JsonPointer.of("messages/namespaces")))
+                .contains(JsonArray.of("[{\"key\":\"ns1\",\"count\":3,\"error\":0}]"));
+        assertThat(report.getValue(JsonPointer.of("bytes/entities")))
+                .contains(JsonArray.of("[{\"key\":\"ns1:b\",\"count\":100,\"error\":0}]"));
+        assertThat(report.getValue(JsonPointer.of("persistLatencyMs/namespaces")))
+                .contains(JsonArray.of("[{\"key\":\"ns2\",\"count\":30,\"error\":0}]"));
+    }
+
+    @Test
+    public void keepPreviousWindowAndDropOlderOnes() throws InterruptedException {
+        final HeavyHitters underTest = HeavyHitters.newInstance("thing", Duration.ofMillis(200L));
+        underTest.recordMessage("ns:a", 1L);
+        Thread.sleep(250L);
+        underTest.recordMessage("ns:b", 1L);
+
+        assertThat(underTest.toJson(10).getValue(JsonPointer.of("messages/entities")).map(v -> v.asArray().getSize()))
+                .contains(2);
+
+        Thread.sleep(500L);
+
+        assertThat(underTest.toJson(10)).isEmpty();
+    }
+
+    @Test
+    public void reportCountsOfAllThreads() throws InterruptedException {
+        final HeavyHitters underTest = HeavyHitters.newInstance("thing", Duration.ofHours(1L));
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; ++j) {
+                    underTest.recordMessage("ns:a", 1L);
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(underTest.toJson(1).getValue(JsonPointer.of("messages/entities")))
+                .contains(JsonArray.of("[{\"key\":\"ns:a\",\"count\":4000,\"error\":0}]"));
+    }
+
+    @Test
+    public void mergeReportsOfSeveralNodes() {
+        final JsonObject node1 = JsonObject.of("{\"thing\":{\"messages\":{\"entities\":[" +
+                "{\"key\":\"ns:a\",\"count\":5,\"error\":1},{\"key\":\"ns:b\",\"count\":4,\"error\":0}]}}}");
+        final JsonObject node2 = JsonObject.of("{\"thing\":{\"messages\":{\"entities\":[" +
+                "{\"key\":\"ns:b\",\"count\":3,\"error\":2},{\"key\":\"ns:c\",\"count\":6,\"error\":0}]}}," +
+                "\"policy\":{\"bytes\":{\"namespaces\":[{\"key\":\"ns\",\"count\":1,\"error\":0}]}}}");
+
+        final JsonObject merged = HeavyHitters.merge(Arrays.asList(node1, node2), 2);
+
+        assertThat(merged).isEqualTo(JsonObject.of("{" +
+                "\"thing\":{\"messages\":{\"entities\":[" +
+                "{\"key\":\"ns:b\",\"count\":7,\"error\":2},{\"key\":\"ns:c\",\"count\":6,\"error\":0}]}}," +
+                "\"policy\":{\"bytes\":{\"namespaces\":[{\"key\":\"ns\",\"count\":1,\"error\":0}]}}}"));
+    }
+
+}
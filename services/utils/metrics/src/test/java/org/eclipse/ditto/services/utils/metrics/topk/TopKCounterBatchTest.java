@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link TopKCounterBatch}.
+ */
+public final class TopKCounterBatchTest {
+
+    @Test
+    public void addOccurrencesOnlyWhenFlushed() {
+        final TopKCounter<String> counter = TopKCounter.of(10);
+        final TopKCounterBatch<String> underTest = TopKCounterBatch.of(counter, Duration.ofDays(1L));
+        for (int i = 0; i < 100; ++i) {
+            underTest.increment("a");
+        }
+
+        assertThat(counter.getTotal()).isZero();
+
+        underTest.flush();
+        underTest.flush();
+
+        assertThat(counter.getTopK(10)).containsExactly(new TopKCounter.Entry<>("a", 100L, 0L));
+    }
+
+    @Test
+    public void flushWhenKeyChanges() {
+        final TopKCounter<String> counter = TopKCounter.of(10);
+        final TopKCounterBatch<String> underTest = TopKCounterBatch.of(counter, Duration.ofDays(1L));
+        underTest.increment("a");
+        underTest.increment("a");
+        underTest.increment("b");
+
+        assertThat(counter.getTopK(10)).containsExactly(new TopKCounter.Entry<>("a", 2L, 0L));
+
+        underTest.flush();
+
+        assertThat(counter.getTopK(10)).containsExactly(
+                new TopKCounter.Entry<>("a", 2L, 0L),
+                new TopKCounter.Entry<>("b", 1L, 0L));
+    }
+
+    @Test
+    public void flushWhenIntervalElapsed() {
+        final TopKCounter<String> counter = TopKCounter.of(10);
+        final TopKCounterBatch<String> underTest = TopKCounterBatch.of(counter, Duration.ZERO);
+        underTest.increment("a");
+        underTest.increment("a");
+
+        assertThat(counter.getTopK(10)).containsExactly(new TopKCounter.Entry<>("a", 2L, 0L));
+    }
+
+    @Test
+    public void batchesOfManyActorsFindHeavyHitters() {
+        final TopKCounter<String> counter = TopKCounter.of(10);
+        for (int i = 0; i < 1000; ++i) {
+            final TopKCounterBatch<String> noise = TopKCounterBatch.of(counter, Duration.ofDays(1L));
+            noise.increment("noise-" + i);
+            noise.flush();
+        }
+        final TopKCounterBatch<String> hot = TopKCounterBatch.of(counter, Duration.ofDays(1L));
+        for (int i = 0; i < 500; ++i) {
+            hot.increment("hot");
+        }
+        hot.flush();
+
+        assertThat(counter.getTopK(1)).extracting(TopKCounter.Entry::getKey).containsExactly("hot");
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.topk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link TopKCounter}.
+ */
+public final class TopKCounterTest {
+
+    @Test
+    public void rejectNonPositiveCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> TopKCounter.of(0));
+    }
+
+    @Test
+    public void countExactlyWithinCapacity() {
+        final TopKCounter<String> underTest = TopKCounter.of(3);
+        underTest.increment("a");
+        underTest.increment("b", 5L);
+        underTest.increment("a");
+        underTest.increment("c", 0L);
+
+        assertThat(underTest.getTopK(10)).containsExactly(
+                new TopKCounter.Entry<>("b", 5L, 0L),
+                new TopKCounter.Entry<>("a", 2L, 0L));
+        assertThat(underTest.getTotal()).isEqualTo(7L);
+    }
+
+    @Test
+    public void replaceLeastCountedKeyWhenFull() {
+        final TopKCounter<String> underTest = TopKCounter.of(2);
+        underTest.increment("a", 3L);
+        underTest.increment("b", 1L);
+        underTest.increment("c", 1L);
+
+        assertThat(underTest.getTopK(2)).containsExactly(
+                new TopKCounter.Entry<>("a", 3L, 0L),
+                new TopKCounter.Entry<>("c", 2L, 1L));
+    }
+
+    @Test
+    public void heavyHittersSurviveNoise() {
+        final TopKCounter<String> underTest = TopKCounter.of(10);
+        for (int i = 0; i < 1000; ++i) {
+            underTest.increment("hot-" + (i % 2));
+            underTest.increment("noise-" + i);
+        }
+
+        final List<String> topKeys = underTest.getTopK(2).stream()
+                .map(TopKCounter.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(topKeys).containsExactlyInAnyOrder("hot-0", "hot-1");
+    }
+
+    @Test
+    public void resetForgetsEverything() {
+        final TopKCounter<String> underTest = TopKCounter.of(2);
+        underTest.increment("a");
+        underTest.reset();
+
+        assertThat(underTest.getTopK(2)).isEmpty();
+        assertThat(underTest.getTotal()).isZero();
+    }
+
+}
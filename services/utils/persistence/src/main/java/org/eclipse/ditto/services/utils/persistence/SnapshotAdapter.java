@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.utils.persistence;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+
 import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
 
@@ -36,6 +38,19 @@ public interface SnapshotAdapter<T> {
      */
     Object toSnapshotStore(T snapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to the Object which should be persisted into the Snapshot-Store
+     * respecting the storage options of the snapshot config, e.g. compression.
+     * Ignores the snapshot config by default.
+     *
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param snapshotConfig the snapshot config of the persistence actor.
+     * @return the transformed Database type which should be persisted into Snapshot-Store.
+     */
+    default Object toSnapshotStore(final T snapshot, final SnapshotConfig snapshotConfig) {
+        return toSnapshotStore(snapshot);
+    }
+
     /**
      * Converts a "database snapshot" (directly loaded from the database) type to a domain model snapshot type.
      *
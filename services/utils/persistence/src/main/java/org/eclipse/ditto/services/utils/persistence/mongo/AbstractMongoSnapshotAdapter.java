@@ -14,20 +14,34 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.slf4j.Logger;
 
 import akka.persistence.SelectedSnapshot;
@@ -35,6 +49,12 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * If compression is enabled in the {@link SnapshotConfig}, entities whose serialized JSON exceeds the compression
+ * threshold are stored as Deflate-compressed binary. Both formats are recovered transparently.
+ * The top-level scalar fields of a compressed entity (e.g. its revision, modified timestamp or lifecycle) are kept
+ * uncompressed next to the binary so that snapshot streaming can still project them.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -42,6 +62,18 @@ import akka.persistence.SnapshotOffer;
 public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
         implements SnapshotAdapter<T> {
 
+    /**
+     * Field of a compressed snapshot containing the name of the compression algorithm.
+     */
+    static final String FIELD_COMPRESSION = "__compression";
+
+    /**
+     * Field of a compressed snapshot containing the compressed JSON of the entity.
+     */
+    static final String FIELD_COMPRESSED_SNAPSHOT = "__snapshot";
+
+    private static final String DEFLATE = "deflate";
+
     private final Logger logger;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
@@ -58,6 +90,29 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return dittoBsonJson.parse(json);
     }
 
+    @Override
+    public Object toSnapshotStore(final T snapshotEntity, final SnapshotConfig snapshotConfig) {
+        if (!snapshotConfig.isCompressionEnabled()) {
+            return toSnapshotStore(snapshotEntity);
+        }
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+
+        onSnapshotStoreConversion(snapshotEntity, json);
+
+        final byte[] jsonBytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (jsonBytes.length >= snapshotConfig.getCompressionThreshold()) {
+            final JsonObject scalarFields = json.stream()
+                    .filter(field -> !field.getValue().isObject() && !field.getValue().isArray())
+                    .collect(JsonCollectors.fieldsToObject());
+            return DittoBsonJson.getInstance().parse(scalarFields)
+                    .append(FIELD_COMPRESSION, new BsonString(DEFLATE))
+                    .append(FIELD_COMPRESSED_SNAPSHOT, new BsonBinary(deflate(jsonBytes)));
+        } else {
+            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+            return dittoBsonJson.parse(json);
+        }
+    }
+
     /**
      * This method is called exactly once when a snapshot is created.
      * It does nothing by default.
@@ -106,6 +161,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
+        if (isCompressed(rawSnapshotEntity)) {
+            return decompressToJson((BsonDocument) rawSnapshotEntity);
+        }
         if (rawSnapshotEntity instanceof BsonValue) {
             return convertToJson((BsonValue) rawSnapshotEntity);
         }
@@ -129,6 +187,46 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
+    private static boolean isCompressed(final Object rawSnapshotEntity) {
+        return rawSnapshotEntity instanceof BsonDocument &&
+                ((BsonDocument) rawSnapshotEntity).containsKey(FIELD_COMPRESSION);
+    }
+
+    private static JsonObject decompressToJson(final BsonDocument compressedSnapshot) {
+        final String compression = compressedSnapshot.getString(FIELD_COMPRESSION).getValue();
+        if (!DEFLATE.equals(compression)) {
+            final String pattern = "Unable to create a Jsonifiable from snapshot with unknown compression <{0}>!";
+            throw new IllegalArgumentException(MessageFormat.format(pattern, compression));
+        }
+        final byte[] jsonBytes = inflate(compressedSnapshot.getBinary(FIELD_COMPRESSED_SNAPSHOT).getData());
+        return DittoJsonException.wrapJsonRuntimeException(() -> {
+            final JsonValue jsonValue = JsonFactory.readFrom(jsonBytes);
+            if (!jsonValue.isObject()) {
+                throw new JsonParseException("Decompressed snapshot is no JSON object: " + jsonValue);
+            }
+            return jsonValue.asObject();
+        });
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+        try (final DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+            deflaterOutputStream.write(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] inflate(final byte[] bytes) {
+        try (final InflaterInputStream inflaterInputStream =
+                new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return inflaterInputStream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Nullable
     private T tryToCreateJsonifiableFrom(final JsonObject jsonObject) {
         try {
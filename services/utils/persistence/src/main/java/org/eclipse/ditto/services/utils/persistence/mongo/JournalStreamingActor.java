@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.services.models.streaming.StreamedEvent;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEvents;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import com.typesafe.config.Config;
+
+import akka.NotUsed;
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+
+/**
+ * An actor that streams the events of the event journal of a service with Mongo persistence plugin in the order of
+ * their persistence on request. The events are read in batches of journal entries directly from the database so that
+ * consumers can catch up with the history of entities at the read speed of MongoDB.
+ */
+@AllValuesAreNonnullByDefault
+public final class JournalStreamingActor extends AbstractActor {
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
+
+    private final Function<String, EntityId> pid2EntityId;
+    private final String pidPrefix;
+    private final DittoMongoClient mongoClient;
+    private final MongoReadJournal readJournal;
+
+    @SuppressWarnings("unused") // called by reflection
+    private JournalStreamingActor(final Function<String, EntityId> pid2EntityId,
+            final String pidPrefix,
+            final DittoMongoClient mongoClient,
+            final MongoReadJournal readJournal) {
+        this.pid2EntityId = pid2EntityId;
+        this.pidPrefix = pidPrefix;
+        this.mongoClient = mongoClient;
+        this.readJournal = readJournal;
+    }
+
+    @SuppressWarnings("unused") // called by reflection
+    private JournalStreamingActor(final Function<String, EntityId> pid2EntityId, final String pidPrefix) {
+        this.pid2EntityId = pid2EntityId;
+        this.pidPrefix = pidPrefix;
+
+        final Config config = getContext().getSystem().settings().config();
+        final MongoDbConfig mongoDbConfig =
+                DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(config));
+        mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
+        readJournal = MongoReadJournal.newInstance(config, mongoClient);
+    }
+
+    /**
+     * Create Akka Props object for this actor.
+     *
+     * @param pid2EntityId function mapping PID to entity ID.
+     * @param pidPrefix the prefix of all PIDs preceding the namespace of the entity ID.
+     * @return Props for this actor.
+     */
+    public static Props props(final Function<String, EntityId> pid2EntityId, final String pidPrefix) {
+        return Props.create(JournalStreamingActor.class, pid2EntityId, pidPrefix);
+    }
+
+    /**
+     * Create Akka Props object for this actor with given Mongo client and read journal.
+     * This is useful for unit tests with a mocked MongoDB.
+     *
+     * @param pid2EntityId function mapping PID to entity ID.
+     * @param pidPrefix the prefix of all PIDs preceding the namespace of the entity ID.
+     * @param mongoClient MongoDB client.
+     * @param readJournal the read journal.
+     * @return Props for this actor.
+     */
+    public static Props propsForTest(final Function<String, EntityId> pid2EntityId,
+            final String pidPrefix,
+            final DittoMongoClient mongoClient,
+            final MongoReadJournal readJournal) {
+
+        return Props.create(JournalStreamingActor.class, pid2EntityId, pidPrefix, mongoClient, readJournal);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        mongoClient.close();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoStreamEvents.class, this::startStreaming)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private Source<StreamedEvent, NotUsed> createSource(final SudoStreamEvents command) {
+        log.info("Starting stream for <{}>", command);
+        final List<String> pidPrefixes = command.getNamespaces()
+                .stream()
+                .map(namespace -> pidPrefix + namespace.asString() + ":")
+                .collect(Collectors.toList());
+        try {
+            return readJournal.getJournalEntriesAbove(command.getLowerBound(), pidPrefixes, command.getBurst(),
+                    materializer)
+                    .mapConcat(this::mapJournalEntry)
+                    .log("journal-streaming", log);
+        } catch (final IllegalArgumentException e) {
+            return Source.failed(e);
+        }
+    }
+
+    private List<StreamedEvent> mapJournalEntry(final Document journalEntry) {
+        final EntityId entityId = pid2EntityId.apply(journalEntry.getString(MongoReadJournal.PROCESSOR_ID));
+        final String offset = MongoReadJournal.getOffset(journalEntry);
+        return journalEntry.getList(MongoReadJournal.EVENTS, Document.class)
+                .stream()
+                .map(event -> StreamedEvent.of(entityId, offset, mapEvent(event)))
+                .collect(Collectors.toList());
+    }
+
+    private static JsonObject mapEvent(final Document event) {
+        final Document payload = event.get(MongoReadJournal.EVENT_PAYLOAD, Document.class);
+        final JsonObject eventJson = DittoBsonJson.getInstance().serialize(BsonUtil.toBsonDocument(payload));
+        // the revision is not persisted as part of the payload, but as sequence number of the event
+        return eventJson.setValue(Event.JsonFields.REVISION.getPointer(),
+                JsonValue.of(event.getLong(MongoReadJournal.EVENT_SN)));
+    }
+
+    private void startStreaming(final SudoStreamEvents command) {
+        final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
+        final CompletionStage<SourceRef<StreamedEvent>> sourceRef = createSource(command)
+                .initialTimeout(timeout)
+                .idleTimeout(timeout)
+                .runWith(StreamRefs.sourceRef(), materializer);
+        Patterns.pipe(sourceRef, getContext().getDispatcher()).to(getSender());
+    }
+}
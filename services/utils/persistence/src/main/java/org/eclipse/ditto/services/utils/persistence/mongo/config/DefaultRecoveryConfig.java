@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the recovery of entities.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultRecoveryConfig implements RecoveryConfig {
+
+    private static final String CONFIG_PATH = "recovery";
+
+    private final boolean prefetchEnabled;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private DefaultRecoveryConfig(final ScopedConfig config) {
+        prefetchEnabled = config.getBoolean(RecoveryConfigValue.PREFETCH_ENABLED.getConfigPath());
+        batchSize = getPositiveInt(config, RecoveryConfigValue.BATCH_SIZE);
+        parallelism = getPositiveInt(config, RecoveryConfigValue.PARALLELISM);
+        timeout = config.getDuration(RecoveryConfigValue.TIMEOUT.getConfigPath());
+        if (timeout.isNegative() || timeout.isZero()) {
+            final String msgPattern = "The recovery {0} must be positive but it was <{1}>!";
+            throw new DittoConfigError(
+                    MessageFormat.format(msgPattern, RecoveryConfigValue.TIMEOUT.getConfigPath(), timeout));
+        }
+    }
+
+    private static int getPositiveInt(final ScopedConfig config, final RecoveryConfigValue configValue) {
+        final int result = config.getInt(configValue.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The recovery {0} must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default recovery config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the recovery config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRecoveryConfig of(final Config config) {
+        return new DefaultRecoveryConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RecoveryConfigValue.values()));
+    }
+
+    @Override
+    public boolean isPrefetchEnabled() {
+        return prefetchEnabled;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRecoveryConfig that = (DefaultRecoveryConfig) o;
+        return prefetchEnabled == that.prefetchEnabled &&
+                batchSize == that.batchSize &&
+                parallelism == that.parallelism &&
+                Objects.equals(timeout, that.timeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefetchEnabled, batchSize, parallelism, timeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "prefetchEnabled=" + prefetchEnabled +
+                ", batchSize=" + batchSize +
+                ", parallelism=" + parallelism +
+                ", timeout=" + timeout +
+                "]";
+    }
+
+}
@@ -34,10 +34,14 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean compressionEnabled;
+    private final long compressionThreshold;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        compressionEnabled = config.getBoolean(SnapshotConfigValue.COMPRESSION_ENABLED.getConfigPath());
+        compressionThreshold = config.getBytes(SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath());
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -71,6 +75,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    @Override
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +94,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                compressionEnabled == that.compressionEnabled &&
+                compressionThreshold == that.compressionThreshold &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, compressionEnabled, compressionThreshold);
     }
 
     @Override
@@ -93,6 +110,8 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", compressionEnabled=" + compressionEnabled +
+                ", compressionThreshold=" + compressionThreshold +
                 "]";
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link WarmUpConfig}.
+ */
+@Immutable
+public final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final int topK;
+    private final Duration recordInterval;
+    private final Duration maxAge;
+    private final Duration throttleInterval;
+    private final int throttleLimit;
+
+    private DefaultWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WarmUpConfigValue.ENABLED.getConfigPath());
+        topK = config.getInt(WarmUpConfigValue.TOP_K.getConfigPath());
+        recordInterval = config.getDuration(WarmUpConfigValue.RECORD_INTERVAL.getConfigPath());
+        maxAge = config.getDuration(WarmUpConfigValue.MAX_AGE.getConfigPath());
+        throttleInterval = config.getDuration(WarmUpConfigValue.THROTTLE_INTERVAL.getConfigPath());
+        throttleLimit = config.getInt(WarmUpConfigValue.THROTTLE_LIMIT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of the default warm-up config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getTopK() {
+        return topK;
+    }
+
+    @Override
+    public Duration getRecordInterval() {
+        return recordInterval;
+    }
+
+    @Override
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    @Override
+    public Duration getThrottleInterval() {
+        return throttleInterval;
+    }
+
+    @Override
+    public int getThrottleLimit() {
+        return throttleLimit;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                topK == that.topK &&
+                Objects.equals(recordInterval, that.recordInterval) &&
+                throttleLimit == that.throttleLimit &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(throttleInterval, that.throttleInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, topK, recordInterval, maxAge, throttleInterval, throttleLimit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", topK=" + topK +
+                ", recordInterval=" + recordInterval +
+                ", maxAge=" + maxAge +
+                ", throttleInterval=" + throttleInterval +
+                ", throttleLimit=" + throttleLimit +
+                "]";
+    }
+
+}
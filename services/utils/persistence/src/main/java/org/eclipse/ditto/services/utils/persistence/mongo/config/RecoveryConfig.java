@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the recovery of entities from their snapshots and journals.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface RecoveryConfig {
+
+    /**
+     * Indicates whether the events after the snapshot of an entity are prefetched from the journal in batches and
+     * decoded in parallel instead of being replayed one after another by the journal plugin.
+     *
+     * @return {@code true} if events are prefetched during recovery, {@code false} else.
+     */
+    boolean isPrefetchEnabled();
+
+    /**
+     * Returns how many journal entries are fetched per round trip while prefetching events.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns how many batches of prefetched events are decoded in parallel.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how long to wait for the next batch of prefetched events. Recovery fails if it is exceeded; commands
+     * received meanwhile are stashed at most this long per batch.
+     *
+     * @return the timeout.
+     */
+    Duration getTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code RecoveryConfig}.
+     */
+    enum RecoveryConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events are prefetched during recovery.
+         */
+        PREFETCH_ENABLED("prefetch-enabled", false),
+
+        /**
+         * How many journal entries are fetched per round trip.
+         */
+        BATCH_SIZE("batch-size", 1000),
+
+        /**
+         * How many batches of events are decoded in parallel.
+         */
+        PARALLELISM("parallelism", 4),
+
+        /**
+         * How long to wait for the next batch of prefetched events.
+         */
+        TIMEOUT("timeout", Duration.ofSeconds(30));
+
+        private final String path;
+        private final Object defaultValue;
+
+        RecoveryConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,20 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots of large entities should be stored compressed.
+     *
+     * @return {@code true} if snapshots above the compression threshold are compressed, {@code false} else.
+     */
+    boolean isCompressionEnabled();
+
+    /**
+     * Returns the size in bytes of the serialized entity from which on a snapshot is stored compressed.
+     *
+     * @return the compression threshold in bytes.
+     */
+    long getCompressionThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +66,17 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether snapshots of large entities are stored compressed.
+         */
+        COMPRESSION_ENABLED("compression-enabled", false),
+
+        /**
+         * The size of the serialized entity from which on a snapshot is stored compressed.
+         */
+        COMPRESSION_THRESHOLD("compression-threshold", "16k");
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for recording the most accessed entities of a node and starting them up front
+ * after a restart.
+ */
+@Immutable
+public interface WarmUpConfig {
+
+    /**
+     * Indicates whether the most accessed entities are recorded and warmed up.
+     *
+     * @return {@code true} if warm-up is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many of the most accessed entities each node records.
+     *
+     * @return the number of recorded entities per node.
+     */
+    int getTopK();
+
+    /**
+     * Returns the interval in which each node records its most accessed entities.
+     *
+     * @return the record interval.
+     */
+    Duration getRecordInterval();
+
+    /**
+     * Returns how long recorded entities are considered for warm-up.
+     *
+     * @return the maximum age of a record.
+     */
+    Duration getMaxAge();
+
+    /**
+     * Returns the interval in which at most {@link #getThrottleLimit()} recorded entities are started.
+     *
+     * @return the throttle interval.
+     */
+    Duration getThrottleInterval();
+
+    /**
+     * Returns how many recorded entities are started per {@link #getThrottleInterval()}.
+     *
+     * @return the throttle limit.
+     */
+    int getThrottleLimit();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmUpConfig}.
+     */
+    enum WarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the most accessed entities are recorded and warmed up.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How many of the most accessed entities each node records.
+         */
+        TOP_K("top-k", 100),
+
+        /**
+         * The interval in which each node records its most accessed entities.
+         */
+        RECORD_INTERVAL("record-interval", Duration.ofMinutes(5L)),
+
+        /**
+         * How long recorded entities are considered for warm-up.
+         */
+        MAX_AGE("max-age", Duration.ofHours(1L)),
+
+        /**
+         * The interval in which at most {@code THROTTLE_LIMIT} recorded entities are started.
+         */
+        THROTTLE_INTERVAL("throttling.interval", Duration.ofSeconds(1L)),
+
+        /**
+         * How many recorded entities are started per {@code THROTTLE_INTERVAL}.
+         */
+        THROTTLE_LIMIT("throttling.limit", 20);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private WarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
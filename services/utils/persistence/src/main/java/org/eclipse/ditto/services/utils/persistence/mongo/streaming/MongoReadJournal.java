@@ -13,19 +13,26 @@
 package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
@@ -37,6 +44,7 @@ import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.BsonField;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -76,6 +84,31 @@ public class MongoReadJournal {
      */
     public static final String ID = JournallingFieldNames$.MODULE$.ID();
 
+    /**
+     * PID field of journal entries delivered by the read journal.
+     */
+    public static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+
+    /**
+     * Field of journal entries delivered by the read journal containing the array of their events.
+     */
+    public static final String EVENTS = JournallingFieldNames$.MODULE$.EVENTS();
+
+    /**
+     * Sequence number field of events in journal entries delivered by the read journal.
+     */
+    public static final String EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+
+    /**
+     * Serialized payload field of events in journal entries delivered by the read journal.
+     */
+    public static final String EVENT_PAYLOAD = JournallingFieldNames$.MODULE$.SERIALIZED();
+
+    /**
+     * Manifest field of events in journal entries delivered by the read journal.
+     */
+    public static final String EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
+
     private static final String AKKA_PERSISTENCE_JOURNAL_AUTO_START =
             "akka.persistence.journal.auto-start-journals";
     private static final String AKKA_PERSISTENCE_SNAPS_AUTO_START =
@@ -84,7 +117,8 @@ public class MongoReadJournal {
     private static final String JOURNAL_COLLECTION_NAME_KEY = "overrides.journal-collection";
     private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
 
-    private static final String PROCESSOR_ID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String JOURNAL_FROM = JournallingFieldNames$.MODULE$.FROM();
+    private static final String JOURNAL_TO = JournallingFieldNames$.MODULE$.TO();
     private static final String SN = SnapshottingFieldNames$.MODULE$.SEQUENCE_NUMBER();
 
     // Not working: SnapshottingFieldNames.V2$.MODULE$.SERIALIZED()
@@ -97,6 +131,12 @@ public class MongoReadJournal {
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
+    /**
+     * How long after generating the ID of a journal entry its commit may become visible to the streams of journal
+     * entries. Covers the clock skew between cluster members and the latency of the write.
+     */
+    private static final Duration JOURNAL_ENTRY_COMMIT_WINDOW = Duration.ofSeconds(10L);
+
     private final String journalCollection;
     private final String snapsCollection;
     private final DittoMongoClient mongoClient;
@@ -217,6 +257,80 @@ public class MongoReadJournal {
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the journal entries roughly in the order of their persistence above a lower-bound offset. Each journal
+     * entry is projected to its ID, its PID and the sequence numbers and payloads of its {@link #EVENTS}. The
+     * hexadecimal string of the ID of a journal entry is its offset to resume the stream after.
+     * <p>
+     * The IDs of journal entries are generated by the writing cluster member before the commit, so that a journal
+     * entry may become visible after others with greater IDs. Each query therefore reads again the IDs generated
+     * within a commit window of 10 seconds before the previous query and skips the journal entries already
+     * delivered. Every journal entry committed within the commit window after the generation of its ID is delivered
+     * exactly once per stream, possibly after journal entries with greater IDs. A stream resumed after an offset
+     * delivers again the journal entries with IDs in the commit window before the offset; consumers should discard
+     * events by PID and sequence number if they must not see them twice.
+     * Does not limit database access in any way.
+     *
+     * @param lowerBoundOffset offset of the last journal entry already received, or an empty string to start from the
+     * beginning of the journal.
+     * @param pidPrefixes prefixes of the PIDs whose journal entries to retrieve, or an empty collection for all PIDs.
+     * @param batchSize how many journal entries to read in 1 query.
+     * @param mat the materializer.
+     * @return source of journal entries above the lower bound.
+     * @throws IllegalArgumentException if {@code lowerBoundOffset} is neither empty nor a valid offset.
+     */
+    public Source<Document, NotUsed> getJournalEntriesAbove(final String lowerBoundOffset,
+            final Collection<String> pidPrefixes,
+            final int batchSize,
+            final ActorMaterializer mat) {
+
+        if (!lowerBoundOffset.isEmpty() && !ObjectId.isValid(lowerBoundOffset)) {
+            throw new IllegalArgumentException("Invalid journal offset: " + lowerBoundOffset);
+        }
+        @Nullable final Bson pidFilter = pidPrefixes.isEmpty() ? null : Filters.or(pidPrefixes.stream()
+                .map(prefix -> Filters.regex(PROCESSOR_ID, "^" + Pattern.quote(prefix)))
+                .collect(Collectors.toList()));
+        return getJournal()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(journal ->
+                        Source.unfoldAsync(JournalCursor.of(lowerBoundOffset),
+                                cursor -> listJournalEntriesAbove(journal, cursor, pidFilter, batchSize, mat))
+                                .withAttributes(Attributes.inputBuffer(1, 1))
+                )
+                .mapConcat(entries -> entries);
+    }
+
+    /**
+     * Retrieve the events of one persistence ID with sequence numbers above a lower bound in the order of their
+     * sequence numbers. Each event is projected to its sequence number, manifest and payload. All events are read
+     * by one cursor fetching {@code batchSize} journal entries per round trip so that the next batch is on its way
+     * while the previous one is processed.
+     *
+     * @param pid the persistence ID.
+     * @param lowerBoundSn sequence number of the last event already known, or 0 to start from the first event.
+     * @param batchSize how many journal entries to fetch per round trip of the cursor.
+     * @return source of the events above the lower bound.
+     * @since 1.2.0
+     */
+    public Source<Document, NotUsed> getEventsAbove(final String pid, final long lowerBoundSn, final int batchSize) {
+        return getJournal()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(journal -> listEventsAbove(journal, pid, lowerBoundSn, batchSize))
+                .mapConcat(journalEntry -> journalEntry.getList(EVENTS, Document.class))
+                // a journal entry written atomically may contain events at and below the lower bound
+                .filter(event -> event.get(EVENT_SN, Number.class).longValue() > lowerBoundSn);
+    }
+
+    /**
+     * Get the offset of a journal entry to resume a stream of journal entries after.
+     *
+     * @param journalEntry the journal entry.
+     * @return the offset.
+     */
+    public static String getOffset(final Document journalEntry) {
+        return journalEntry.getObjectId(ID).toHexString();
+    }
+
     private Source<List<String>, NotUsed> listPidsInJournal(final MongoCollection<Document> journal,
             final String lowerBound, final int batchSize, final ActorMaterializer mat, final Duration maxBackOff,
             final int maxRestarts) {
@@ -292,6 +406,60 @@ public class MongoReadJournal {
                         .map(document -> document.getString(ID)));
     }
 
+    private static CompletionStage<Optional<Pair<JournalCursor, List<Document>>>> listJournalEntriesAbove(
+            final MongoCollection<Document> journal,
+            final JournalCursor cursor,
+            @Nullable final Bson pidFilter,
+            final int batchSize,
+            final ActorMaterializer mat) {
+
+        final long queryStartSeconds = Instant.now().getEpochSecond();
+        return listJournalEntriesAbove(journal, cursor, pidFilter, batchSize)
+                .runWith(Sink.seq(), mat)
+                .thenApply(entries -> entries.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(Pair.create(cursor.next(entries, queryStartSeconds), entries)));
+    }
+
+    private static Source<Document, NotUsed> listJournalEntriesAbove(final MongoCollection<Document> journal,
+            final JournalCursor cursor,
+            @Nullable final Bson pidFilter,
+            final int batchSize) {
+
+        final List<Bson> filters = new ArrayList<>(3);
+        cursor.getLowerBound().ifPresent(lowerBound -> filters.add(Filters.gt(ID, lowerBound)));
+        if (!cursor.getDelivered().isEmpty()) {
+            filters.add(Filters.nin(ID, cursor.getDelivered()));
+        }
+        if (pidFilter != null) {
+            filters.add(pidFilter);
+        }
+        final Bson filter = filters.isEmpty() ? new Document() : Filters.and(filters);
+        final Bson projection = Projections.include(ID, PROCESSOR_ID,
+                EVENTS + "." + EVENT_SN, EVENTS + "." + EVENT_PAYLOAD);
+
+        return Source.fromPublisher(journal.find(filter)
+                .projection(projection)
+                .sort(Sorts.ascending(ID))
+                .limit(batchSize));
+    }
+
+    private static Source<Document, NotUsed> listEventsAbove(final MongoCollection<Document> journal,
+            final String pid,
+            final long lowerBoundSn,
+            final int batchSize) {
+
+        final Bson filter = Filters.and(Filters.eq(PROCESSOR_ID, pid), Filters.gt(JOURNAL_TO, lowerBoundSn));
+        final Bson projection = Projections.include(EVENTS + "." + EVENT_SN, EVENTS + "." + EVENT_MANIFEST,
+                EVENTS + "." + EVENT_PAYLOAD);
+
+        return Source.fromPublisher(journal.find(filter)
+                .projection(projection)
+                // journal entries of a PID cover disjoint ranges; sorting by the lower end follows the PID index
+                .sort(Sorts.ascending(JOURNAL_FROM))
+                .batchSize(batchSize));
+    }
+
     private int computeMaxRestarts(final Duration maxDuration) {
         if (MAX_BACK_OFF_DURATION.minus(maxDuration).isNegative()) {
             // maxBackOff < maxDuration: backOff at least 7 times (1+2+4+8+16+32+64=127s)
@@ -461,4 +629,70 @@ public class MongoReadJournal {
         }
     }
 
+    /**
+     * Position of a stream of journal entries: the greatest ID delivered, the start of the commit window of the
+     * previous query and the IDs delivered within the commit window.
+     */
+    private static final class JournalCursor {
+
+        @Nullable private final ObjectId maxId;
+        private final long windowStartSeconds;
+        private final List<ObjectId> delivered;
+
+        private JournalCursor(@Nullable final ObjectId maxId, final long windowStartSeconds,
+                final List<ObjectId> delivered) {
+            this.maxId = maxId;
+            this.windowStartSeconds = windowStartSeconds;
+            this.delivered = delivered;
+        }
+
+        private static JournalCursor of(final String offset) {
+            if (offset.isEmpty()) {
+                return new JournalCursor(null, 0L, Collections.emptyList());
+            } else {
+                // the query delivering the journal entry at the offset started no earlier than the generation of its ID
+                final ObjectId maxId = new ObjectId(offset);
+                return new JournalCursor(maxId, getWindowStart(maxId.getTimestamp()), Collections.emptyList());
+            }
+        }
+
+        private static long getWindowStart(final long querySeconds) {
+            return Math.max(0L, querySeconds - JOURNAL_ENTRY_COMMIT_WINDOW.getSeconds());
+        }
+
+        private Optional<ObjectId> getLowerBound() {
+            if (maxId == null) {
+                return Optional.empty();
+            }
+            final ObjectId windowStart = new ObjectId(String.format("%08x0000000000000000", windowStartSeconds));
+            return Optional.of(maxId.compareTo(windowStart) < 0 ? maxId : windowStart);
+        }
+
+        private List<ObjectId> getDelivered() {
+            return delivered;
+        }
+
+        private JournalCursor next(final List<Document> entries, final long queryStartSeconds) {
+            final long nextWindowStartSeconds = getWindowStart(queryStartSeconds);
+            ObjectId nextMaxId = maxId;
+            final List<ObjectId> nextDelivered = new ArrayList<>(delivered.size() + entries.size());
+            for (final ObjectId id : delivered) {
+                if (id.getTimestamp() >= nextWindowStartSeconds) {
+                    nextDelivered.add(id);
+                }
+            }
+            for (final Document entry : entries) {
+                final ObjectId id = entry.getObjectId(ID);
+                if (nextMaxId == null || nextMaxId.compareTo(id) < 0) {
+                    nextMaxId = id;
+                }
+                if (id.getTimestamp() >= nextWindowStartSeconds) {
+                    nextDelivered.add(id);
+                }
+            }
+            return new JournalCursor(nextMaxId, nextWindowStartSeconds, nextDelivered);
+        }
+
+    }
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.models.streaming.StreamedEvent;
+import org.eclipse.ditto.services.models.streaming.SudoStreamEvents;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Test for {@link org.eclipse.ditto.services.utils.persistence.mongo.JournalStreamingActor}.
+ */
+public final class JournalStreamingActorTest {
+
+    private static final String OFFSET_1 = "5e8c3d5a1f0b7c2a9d4e6f10";
+    private static final String OFFSET_2 = "5e8c3d5a1f0b7c2a9d4e6f11";
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private DittoMongoClient mockClient;
+    private MongoReadJournal mockReadJournal;
+
+    @Before
+    public void initActorSystem() {
+        final Config config = ConfigFactory.load("test");
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+        materializer = ActorMaterializer.create(actorSystem);
+        mockClient = Mockito.mock(DittoMongoClient.class);
+        mockReadJournal = Mockito.mock(MongoReadJournal.class);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void streamEventsOfJournalEntries() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createJournalStreamingActor();
+
+            // WHEN
+            final SudoStreamEvents sudoStreamEvents =
+                    SudoStreamEvents.of(100, 10_000L, List.of("ns"), DittoHeaders.empty())
+                            .withLowerBound(OFFSET_1);
+            Mockito.when(mockReadJournal.getJournalEntriesAbove(eq(OFFSET_1), eq(List.of("thing:ns:")), anyInt(),
+                    any()))
+                    .thenReturn(Source.from(List.of(
+                            journalEntry(OFFSET_1, "thing:ns:1", event(1L, "hello"), event(2L, "world")),
+                            journalEntry(OFFSET_2, "thing:ns:2", event(5L, "bye"))
+                    )));
+            underTest.tell(sudoStreamEvents, getRef());
+
+            // THEN
+            final SourceRef<?> sourceRef = expectMsgClass(SourceRef.class);
+            final List<Object> results = sourceRef.getSource()
+                    .<Object>map(x -> x)
+                    .runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(results).containsExactly(
+                    StreamedEvent.of(DefaultEntityId.of("ns:1"), OFFSET_1,
+                            JsonObject.of("{\"type\":\"hello\",\"revision\":1}")),
+                    StreamedEvent.of(DefaultEntityId.of("ns:1"), OFFSET_1,
+                            JsonObject.of("{\"type\":\"world\",\"revision\":2}")),
+                    StreamedEvent.of(DefaultEntityId.of("ns:2"), OFFSET_2,
+                            JsonObject.of("{\"type\":\"bye\",\"revision\":5}"))
+            );
+        }};
+    }
+
+    @Test
+    public void failStreamOnInvalidOffset() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createJournalStreamingActor();
+
+            // WHEN
+            final SudoStreamEvents sudoStreamEvents =
+                    SudoStreamEvents.of(100, 10_000L, List.of(), DittoHeaders.empty())
+                            .withLowerBound("not-an-offset");
+            Mockito.when(mockReadJournal.getJournalEntriesAbove(any(), any(), anyInt(), any()))
+                    .thenThrow(new IllegalArgumentException("Invalid journal offset: not-an-offset"));
+            underTest.tell(sudoStreamEvents, getRef());
+
+            // THEN
+            final SourceRef<?> sourceRef = expectMsgClass(SourceRef.class);
+            final Throwable error = sourceRef.getSource()
+                    .runWith(Sink.ignore(), materializer)
+                    .handle((done, e) -> e)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(error).isNotNull();
+        }};
+    }
+
+    private static Document journalEntry(final String offset, final String pid, final Document... events) {
+        return new Document().append(MongoReadJournal.ID, new ObjectId(offset))
+                .append(MongoReadJournal.PROCESSOR_ID, pid)
+                .append(MongoReadJournal.EVENTS, List.of(events));
+    }
+
+    private static Document event(final long sequenceNumber, final String type) {
+        return new Document().append(MongoReadJournal.EVENT_SN, sequenceNumber)
+                .append(MongoReadJournal.EVENT_PAYLOAD, new Document().append("type", type));
+    }
+
+    private ActorRef createJournalStreamingActor() {
+        final Props props = JournalStreamingActor.propsForTest(
+                pid -> DefaultEntityId.of(pid.substring(pid.indexOf(':') + 1)),
+                "thing:",
+                mockClient,
+                mockReadJournal
+        );
+        return actorSystem.actorOf(props);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultRecoveryConfig}.
+ */
+public final class DefaultRecoveryConfigTest {
+
+    private static Config recoveryTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        recoveryTestConf = ConfigFactory.load("recovery-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultRecoveryConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultRecoveryConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultRecoveryConfig underTest = DefaultRecoveryConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isPrefetchEnabled())
+                .as(RecoveryConfig.RecoveryConfigValue.PREFETCH_ENABLED.getConfigPath())
+                .isEqualTo(RecoveryConfig.RecoveryConfigValue.PREFETCH_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getBatchSize())
+                .as(RecoveryConfig.RecoveryConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(RecoveryConfig.RecoveryConfigValue.BATCH_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryConfig.RecoveryConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(RecoveryConfig.RecoveryConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getTimeout())
+                .as(RecoveryConfig.RecoveryConfigValue.TIMEOUT.getConfigPath())
+                .isEqualTo(RecoveryConfig.RecoveryConfigValue.TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultRecoveryConfig underTest = DefaultRecoveryConfig.of(recoveryTestConf);
+
+        softly.assertThat(underTest.isPrefetchEnabled())
+                .as(RecoveryConfig.RecoveryConfigValue.PREFETCH_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getBatchSize())
+                .as(RecoveryConfig.RecoveryConfigValue.BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getParallelism())
+                .as(RecoveryConfig.RecoveryConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getTimeout())
+                .as(RecoveryConfig.RecoveryConfigValue.TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void rejectNonPositiveBatchSize() {
+        final Config config = ConfigFactory.parseString("recovery.batch-size = 0");
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultRecoveryConfig.of(config));
+    }
+
+    @Test
+    public void rejectNonPositiveTimeout() {
+        final Config config = ConfigFactory.parseString("recovery.timeout = 0s");
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultRecoveryConfig.of(config));
+    }
+
+}
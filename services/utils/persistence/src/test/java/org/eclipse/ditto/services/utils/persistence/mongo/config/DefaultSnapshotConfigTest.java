@@ -65,6 +65,12 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isCompressionEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_ENABLED.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.COMPRESSION_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(16L * 1024L);
     }
 
     @Test
@@ -77,5 +83,11 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isCompressionEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(3L * 1024L);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig}.
+ */
+public final class DefaultWarmUpConfigTest {
+
+    private static Config warmUpTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        warmUpTestConf = ConfigFactory.load("warm-up-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmUpConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmUpConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getTopK())
+                .as(WarmUpConfig.WarmUpConfigValue.TOP_K.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.TOP_K.getDefaultValue());
+        softly.assertThat(underTest.getRecordInterval())
+                .as(WarmUpConfig.WarmUpConfigValue.RECORD_INTERVAL.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.RECORD_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getMaxAge())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getDefaultValue());
+        softly.assertThat(underTest.getThrottleInterval())
+                .as(WarmUpConfig.WarmUpConfigValue.THROTTLE_INTERVAL.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.THROTTLE_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getThrottleLimit())
+                .as(WarmUpConfig.WarmUpConfigValue.THROTTLE_LIMIT.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.THROTTLE_LIMIT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(warmUpTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getTopK())
+                .as(WarmUpConfig.WarmUpConfigValue.TOP_K.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getRecordInterval())
+                .as(WarmUpConfig.WarmUpConfigValue.RECORD_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(7L));
+        softly.assertThat(underTest.getMaxAge())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getConfigPath())
+                .isEqualTo(Duration.ofHours(3L));
+        softly.assertThat(underTest.getThrottleInterval())
+                .as(WarmUpConfig.WarmUpConfigValue.THROTTLE_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+        softly.assertThat(underTest.getThrottleLimit())
+                .as(WarmUpConfig.WarmUpConfigValue.THROTTLE_LIMIT.getConfigPath())
+                .isEqualTo(5);
+    }
+
+}
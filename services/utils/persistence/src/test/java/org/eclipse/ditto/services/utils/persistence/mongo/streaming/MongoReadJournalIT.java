@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
@@ -255,6 +256,31 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4");
     }
 
+    @Test
+    public void streamJournalEntriesCommittedBehindTheOffset() {
+        final long nowSeconds = System.currentTimeMillis() / 1000L;
+        final ObjectId earlyId = objectId(nowSeconds - 2L);
+        final ObjectId lateId = objectId(nowSeconds - 1L);
+        final ObjectId offset = objectId(nowSeconds);
+        insert("test_journal", new Document().append("_id", earlyId).append("pid", "pid1").append("to", 1L));
+        insert("test_journal", new Document().append("_id", offset).append("pid", "pid2").append("to", 1L));
+        // committed after the journal entry at the offset was delivered
+        insert("test_journal", new Document().append("_id", lateId).append("pid", "pid3").append("to", 1L));
+
+        final List<String> pids =
+                readJournal.getJournalEntriesAbove(offset.toHexString(), List.of(), 1, materializer)
+                        .map(entry -> entry.getString(MongoReadJournal.PROCESSOR_ID))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture().join();
+
+        // journal entries within the commit window before the offset are delivered again
+        assertThat(pids).containsExactly("pid1", "pid3", "pid2");
+    }
+
+    private static ObjectId objectId(final long timestampSeconds) {
+        return new ObjectId(String.format("%08x0000000000000001", timestampSeconds));
+    }
+
     private void insert(final String collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
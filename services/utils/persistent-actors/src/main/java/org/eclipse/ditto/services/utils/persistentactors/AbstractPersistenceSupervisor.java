@@ -24,6 +24,8 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounterBatch;
 
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
@@ -47,18 +49,34 @@ import akka.japi.pf.ReceiveBuilder;
  */
 public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends AbstractActorWithTimers {
 
+    /**
+     * How long accesses are counted within this actor before they are added to the shared access counter.
+     */
+    private static final Duration ACCESS_FLUSH_INTERVAL = Duration.ofSeconds(10L);
+
     protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     @Nullable private E entityId;
     @Nullable private Props persistenceActorProps;
     @Nullable private ShutdownBehaviour shutdownBehaviour;
     @Nullable private ActorRef child;
+    @Nullable private final TopKCounterBatch<String> accessBatch;
 
     private ExponentialBackOffConfig exponentialBackOffConfig;
     private Instant lastRestart;
     private Duration restartDelay;
 
     protected AbstractPersistenceSupervisor() {
+        this(null);
+    }
+
+    /**
+     * Create a supervisor which counts the messages forwarded to its child as accesses of the entity.
+     *
+     * @param accessCounter the counter of entity accesses of this node, or null if accesses are not counted.
+     */
+    protected AbstractPersistenceSupervisor(@Nullable final TopKCounter<String> accessCounter) {
+        accessBatch = null != accessCounter ? TopKCounterBatch.of(accessCounter, ACCESS_FLUSH_INTERVAL) : null;
         exponentialBackOffConfig = getExponentialBackOffConfig();
         lastRestart = Instant.now();
         restartDelay = Duration.ZERO; // set to min backoff on next child termination
@@ -131,6 +149,14 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         }
     }
 
+    @Override
+    public void postStop() throws Exception {
+        if (null != accessBatch) {
+            accessBatch.flush();
+        }
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -143,6 +169,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
+                .matchEquals(Control.FLUSH_ACCESSES, this::flushAccesses)
                 .matchAny(this::forwardToChildIfAvailable)
                 .build());
     }
@@ -240,6 +267,14 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 log.warning("Received unhandled message from child actor '{}': {}", entityId, message);
                 unhandled(message);
             } else {
+                if (null != accessBatch && null != entityId) {
+                    accessBatch.increment(entityId.toString());
+                    if (!getTimers().isTimerActive(Control.FLUSH_ACCESSES)) {
+                        // flush accesses of idle entities too, so that they are counted in the current record
+                        getTimers().startSingleTimer(Control.FLUSH_ACCESSES, Control.FLUSH_ACCESSES,
+                                ACCESS_FLUSH_INTERVAL);
+                    }
+                }
                 child.forward(message, getContext());
             }
         } else {
@@ -256,6 +291,12 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         getSender().tell(builder.build(), getSelf());
     }
 
+    private void flushAccesses(final Control flushAccesses) {
+        if (null != accessBatch) {
+            accessBatch.flush();
+        }
+    }
+
     private void warnAboutMessagesDuringStartup(final Object message) {
         log.warning("Received message during startup: <{}>", message);
     }
@@ -272,7 +313,12 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         /**
          * Request to start child actor.
          */
-        START_CHILD
+        START_CHILD,
+
+        /**
+         * Request to add the counted accesses of the entity to the shared access counter.
+         */
+        FLUSH_ACCESSES
     }
 
 }
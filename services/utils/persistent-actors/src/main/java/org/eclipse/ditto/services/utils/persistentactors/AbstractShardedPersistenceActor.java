@@ -12,12 +12,17 @@
  */
 package org.eclipse.ditto.services.utils.persistentactors;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonValue;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
@@ -25,8 +30,12 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.topk.HeavyHitters;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultRecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.RecoveryConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -35,14 +44,25 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.Persistence;
+import akka.persistence.Recovery;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
 import akka.persistence.SnapshotOffer;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.persistence.journal.EventAdapter;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 import scala.Option;
 
 /**
@@ -62,6 +82,8 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final RecoveryConfig DEFAULT_RECOVERY_CONFIG = DefaultRecoveryConfig.of(ConfigFactory.empty());
+
     /**
      * Logger of the actor.
      */
@@ -79,6 +101,12 @@ public abstract class AbstractShardedPersistenceActor<
     @Nullable
     protected S entity;
 
+    /**
+     * Compact representation of the current entity while the actor is idle; {@link #entity} is null meanwhile.
+     */
+    @Nullable
+    private byte[] compactedEntity;
+
     /**
      * The entity ID.
      */
@@ -86,6 +114,16 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    private final long recoveryStartNanos;
+    private long recoveredEvents;
+
+    /**
+     * Materializer of the event replay while events are prefetched during recovery, or null otherwise.
+     */
+    @Nullable
+    private ActorMaterializer replayMaterializer;
+    private long replayedRevision;
+
     /**
      * Instantiate the actor.
      *
@@ -100,6 +138,9 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        recoveryStartNanos = System.nanoTime();
+        recoveredEvents = 0L;
+        replayedRevision = 0L;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
@@ -179,6 +220,34 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract JsonSchemaVersion getEntitySchemaVersion(S entity);
 
+    /**
+     * Returns the compactor of entities if this persistence actor supports keeping a compact representation of its
+     * entity in memory instead of the entity while the actor is idle. The entity is expanded again as soon as a
+     * command is processed or a snapshot is taken. Compaction is only scheduled if a compactor is present and the
+     * compaction interval of the activity check config is positive. Subclasses providing a compactor must not access
+     * {@link #entity} outside of command strategies, event strategies and snapshots.
+     *
+     * @return the entity compactor, or an empty optional if entities stay materialized, which is the default.
+     * @since 1.2.0
+     */
+    protected Optional<EntityCompactor<S>> getEntityCompactor() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the configuration of recovery. If prefetching is enabled, only the snapshot is loaded through the
+     * snapshot plugin; the events after it are prefetched by {@link JournalReplay} while the snapshot is decoded and
+     * applied in batches before {@link #recoveryCompleted(RecoveryCompleted)} is called. Prefetched events are decoded
+     * by the event adapter bound to {@code org.bson.BsonValue} in the config of the journal plugin. The default is to
+     * replay events through the journal plugin.
+     *
+     * @return the recovery config.
+     * @since 1.2.0
+     */
+    protected RecoveryConfig getRecoveryConfig() {
+        return DEFAULT_RECOVERY_CONFIG;
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -224,13 +293,29 @@ public abstract class AbstractShardedPersistenceActor<
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
     }
 
+    @Override
+    public Recovery recovery() {
+        if (getRecoveryConfig().isPrefetchEnabled()) {
+            // load the snapshot only; the events after it are prefetched
+            return Recovery.create(SnapshotSelectionCriteria.latest(), Long.MAX_VALUE, 0L);
+        } else {
+            return super.recovery();
+        }
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return ReceiveBuilder.create()
+                // # Event handling
+                .match(getEventClass(), event -> recoverEvent(event, getRevisionNumber()))
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
+                    if (getRecoveryConfig().isPrefetchEnabled()) {
+                        // fetch the events while the snapshot is decoded
+                        startEventReplay(ss.metadata().sequenceNr());
+                    }
                     recoverFromSnapshotOffer(ss);
                 })
                 // # Recovery timeout
@@ -238,9 +323,9 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, this::completeRecoveryFromSnapshot)
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
-                .build());
+                .build();
     }
 
     /**
@@ -253,6 +338,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.COMPACT_ENTITY, this::compactIdleEntity)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::matchAnyAfterInitialization)
@@ -262,6 +348,7 @@ public abstract class AbstractShardedPersistenceActor<
 
         scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         scheduleSnapshot();
+        scheduleEntityCompaction();
     }
 
     protected void becomeDeletedHandler() {
@@ -344,6 +431,7 @@ public abstract class AbstractShardedPersistenceActor<
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.COMPACT_ENTITY, this::compactIdleEntity)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -373,6 +461,38 @@ public abstract class AbstractShardedPersistenceActor<
         timers().cancel("takeSnapshot");
     }
 
+    private void scheduleEntityCompaction() {
+        final Duration compactionInterval = getActivityCheckConfig().getCompactionInterval();
+        if (!compactionInterval.isNegative() && !compactionInterval.isZero() && getEntityCompactor().isPresent()) {
+            // restarting the timer on each access keeps the entity materialized while it is in use
+            timers().startSingleTimer("compactEntity", Control.COMPACT_ENTITY, compactionInterval);
+        }
+    }
+
+    private void compactIdleEntity(final Control compactEntity) {
+        final Optional<EntityCompactor<S>> entityCompactor = getEntityCompactor();
+        if (entity != null && !entityExistsAsDeleted() && entityCompactor.isPresent()) {
+            try {
+                final byte[] compactRepresentation = entityCompactor.get().compact(entity);
+                log.debug("Compacting idle entity <{}> to <{}> bytes.", entityId, compactRepresentation.length);
+                compactedEntity = compactRepresentation;
+                entity = null;
+            } catch (final IOException e) {
+                log.warning("Keeping entity <{}> materialized as it could not be compacted: {}", entityId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private void materializeEntity() {
+        if (compactedEntity != null) {
+            entity = getEntityCompactor()
+                    .orElseThrow(() -> new IllegalStateException("Entity compactor vanished for <" + entityId + ">."))
+                    .expand(compactedEntity);
+            compactedEntity = null;
+        }
+    }
+
     private void handleByCommandStrategy(final C command) {
         handleByStrategy(command, getCreatedStrategy());
     }
@@ -387,6 +507,8 @@ public abstract class AbstractShardedPersistenceActor<
             final CommandStrategy<T, S, K, Result<E>> strategy) {
         log.debug("Handling by strategy: <{}>", command);
         accessCounter++;
+        materializeEntity();
+        scheduleEntityCompaction();
         final Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
@@ -430,9 +552,12 @@ public abstract class AbstractShardedPersistenceActor<
         LogUtil.enhanceLogWithCorrelationId(log, event);
         log.debug("Persisting Event <{}>.", event.getType());
 
+        final long persistStartNanos = System.nanoTime();
         persist(event, persistedEvent -> {
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
+            HeavyHitters.forResourceType(event.getResourceType())
+                    .recordPersistLatency(entityId, Duration.ofNanos(System.nanoTime() - persistStartNanos));
 
             /* the event has to be applied before creating the snapshot, otherwise a snapshot with new
                sequence no (e.g. 2), but old entity revision no (e.g. 1) will be created -> can lead to serious
@@ -449,11 +574,15 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
+        if (lastSnapshotRevision != revision && compactedEntity != null) {
+            materializeEntity();
+            scheduleEntityCompaction();
+        }
         if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId, revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity, getSnapshotConfig());
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -496,6 +625,115 @@ public abstract class AbstractShardedPersistenceActor<
         log.error(s.cause(), "Got {}", s);
     }
 
+    private void recoverEvent(final E event, final long revision) {
+        entity = getEventStrategy().handle(event, entity, revision);
+        recoveredEvents++;
+    }
+
+    private void completeRecoveryFromSnapshot(final RecoveryCompleted recoveryCompleted) {
+        if (replayMaterializer == null && getRecoveryConfig().isPrefetchEnabled() &&
+                lastSequenceNr() > lastSnapshotRevision) {
+            // there is no snapshot to decode meanwhile
+            startEventReplay(lastSnapshotRevision);
+        }
+        if (replayMaterializer != null) {
+            // the replayed events arrive after recovery completed; stash commands until they are applied
+            getContext().become(createReplayingBehavior(recoveryCompleted));
+        } else {
+            finishRecovery(recoveryCompleted);
+        }
+    }
+
+    private void startEventReplay(final long snapshotSequenceNumber) {
+        replayedRevision = snapshotSequenceNumber;
+        replayMaterializer = ActorMaterializer.create(getContext());
+        replayEventsAfter(snapshotSequenceNumber)
+                .map(ReplayedEvents::new)
+                .runWith(Sink.actorRefWithAck(getSelf(), Control.REPLAY_STARTED, Control.REPLAY_ACK,
+                        Control.REPLAY_COMPLETED, ReplayFailed::new), replayMaterializer);
+    }
+
+    /**
+     * Prefetch the events after a sequence number from the journal. The events are decoded by the event adapter
+     * the journal plugin of this actor uses for BSON.
+     *
+     * @param sequenceNumber sequence number of the last event already applied.
+     * @return source of batches of events in the order of their sequence numbers.
+     */
+    Source<List<E>, NotUsed> replayEventsAfter(final long sequenceNumber) {
+        final ActorSystem system = getContext().getSystem();
+        final EventAdapter eventAdapter = Persistence.get(system).adaptersFor(journalPluginId()).get(BsonValue.class);
+        return JournalReplay.get(system).replayAfter(persistenceId(), sequenceNumber, eventAdapter, getEventClass(),
+                getRecoveryConfig(), getContext().getDispatcher());
+    }
+
+    private Receive createReplayingBehavior(final RecoveryCompleted recoveryCompleted) {
+        scheduleReplayTimeout();
+        return ReceiveBuilder.create()
+                .matchEquals(Control.REPLAY_STARTED, started -> getSender().tell(Control.REPLAY_ACK, getSelf()))
+                .match(ReplayedEvents.class, replayedEvents -> {
+                    for (final Object replayedEvent : replayedEvents.events) {
+                        final E event = getEventClass().cast(replayedEvent);
+                        recoverEvent(event, event.getRevision());
+                        replayedRevision = event.getRevision();
+                    }
+                    scheduleReplayTimeout();
+                    getSender().tell(Control.REPLAY_ACK, getSelf());
+                })
+                .matchEquals(Control.REPLAY_COMPLETED, completed -> completeReplay(recoveryCompleted))
+                .match(ReplayFailed.class, replayFailed -> failReplay(replayFailed.cause))
+                .matchEquals(Control.REPLAY_TIMED_OUT, timedOut -> failReplay(new TimeoutException(
+                        "No events of <" + persistenceId() + "> replayed after revision <" + replayedRevision +
+                                "> within <" + getRecoveryConfig().getTimeout() + ">.")))
+                // commands are stashed at most for the recovery timeout per batch of events
+                .matchAny(message -> stash())
+                .build();
+    }
+
+    private void scheduleReplayTimeout() {
+        timers().startSingleTimer("replayTimeout", Control.REPLAY_TIMED_OUT, getRecoveryConfig().getTimeout());
+    }
+
+    private void completeReplay(final RecoveryCompleted recoveryCompleted) {
+        stopEventReplay();
+        if (replayedRevision < lastSequenceNr()) {
+            failReplay(new IllegalStateException("Replayed events of <" + persistenceId() + "> up to <" +
+                    replayedRevision + "> but the journal ends at <" + lastSequenceNr() + ">."));
+        } else {
+            getContext().become(createReceive());
+            unstashAll();
+            finishRecovery(recoveryCompleted);
+        }
+    }
+
+    private void failReplay(final Throwable cause) {
+        stopEventReplay();
+        onRecoveryFailure(cause, Option.empty());
+        getContext().stop(getSelf());
+    }
+
+    private void stopEventReplay() {
+        timers().cancel("replayTimeout");
+        if (replayMaterializer != null) {
+            replayMaterializer.shutdown();
+            replayMaterializer = null;
+        }
+    }
+
+    private void finishRecovery(final RecoveryCompleted recoveryCompleted) {
+        final String entityType = persistenceId().split(":", 2)[0];
+        final String replay = getRecoveryConfig().isPrefetchEnabled() ? "prefetch" : "plugin";
+        DittoMetrics.histogram("persistence_recovery_duration_millis")
+                .tag("entity_type", entityType)
+                .tag("replay", replay)
+                .record(Duration.ofNanos(System.nanoTime() - recoveryStartNanos).toMillis());
+        DittoMetrics.histogram("persistence_recovery_events")
+                .tag("entity_type", entityType)
+                .tag("replay", replay)
+                .record(recoveredEvents);
+        recoveryCompleted(recoveryCompleted);
+    }
+
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
@@ -520,7 +758,8 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private boolean isEntityActive() {
-        return entity != null && !entityExistsAsDeleted();
+        // only active entities are compacted
+        return compactedEntity != null || entity != null && !entityExistsAsDeleted();
     }
 
     /**
@@ -562,7 +801,36 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        COMPACT_ENTITY,
+        REPLAY_STARTED,
+        REPLAY_ACK,
+        REPLAY_COMPLETED,
+        REPLAY_TIMED_OUT
+    }
+
+    /**
+     * A batch of events prefetched during recovery.
+     */
+    private static final class ReplayedEvents {
+
+        private final List<?> events;
+
+        private ReplayedEvents(final List<?> events) {
+            this.events = events;
+        }
+    }
+
+    /**
+     * Failure of the event replay during recovery.
+     */
+    private static final class ReplayFailed {
+
+        private final Throwable cause;
+
+        private ReplayFailed(final Throwable cause) {
+            this.cause = cause;
+        }
     }
 
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.io.IOException;
+
+/**
+ * Converts the entity of a persistence actor into a compact representation to keep in memory while the actor is
+ * idle, and back. Persistence actors support compaction only if they provide an entity compactor.
+ *
+ * @param <S> type of the entity.
+ * @since 1.2.0
+ */
+public interface EntityCompactor<S> {
+
+    /**
+     * Convert an entity into its compact representation.
+     *
+     * @param entity the entity.
+     * @return the compact representation of the entity.
+     * @throws IOException if the entity could not be compacted; it then stays materialized.
+     */
+    byte[] compact(S entity) throws IOException;
+
+    /**
+     * Restore an entity from the representation created by {@link #compact(Object)}.
+     *
+     * @param compactedEntity the compact representation of the entity.
+     * @return the entity.
+     */
+    S expand(byte[] compactedEntity);
+
+}
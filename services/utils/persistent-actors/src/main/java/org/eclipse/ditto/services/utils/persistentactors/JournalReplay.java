@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.RecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.signals.events.base.Event;
+
+import akka.NotUsed;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.persistence.journal.EventAdapter;
+import akka.stream.javadsl.Source;
+import scala.collection.JavaConverters;
+
+/**
+ * Replay of events read directly from the journal for the recovery of persistence actors. Events are fetched in
+ * large batches by one cursor, decoded in parallel and emitted in the order of their sequence numbers so that the
+ * persistence actor only has to apply them. The extension shares one read journal among all persistence actors of
+ * an actor system.
+ *
+ * @since 1.2.0
+ */
+public final class JournalReplay implements Extension {
+
+    private final MongoReadJournal readJournal;
+
+    private JournalReplay(final MongoReadJournal readJournal) {
+        this.readJournal = readJournal;
+    }
+
+    /**
+     * Get the journal replay of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the journal replay.
+     */
+    public static JournalReplay get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Replay the events of a persistence ID after a sequence number.
+     *
+     * @param persistenceId the persistence ID.
+     * @param sequenceNumber sequence number of the last event already applied, e. g. that of the snapshot.
+     * @param eventAdapter the event adapter of the journal plugin to decode events with.
+     * @param eventClass the class of the events.
+     * @param recoveryConfig the recovery config.
+     * @param executor the executor to decode events in.
+     * @param <E> the type of the events.
+     * @return source of batches of decoded events in the order of their sequence numbers. The revision of each event
+     * is its sequence number.
+     */
+    public <E extends Event> Source<List<E>, NotUsed> replayAfter(final String persistenceId,
+            final long sequenceNumber,
+            final EventAdapter eventAdapter,
+            final Class<E> eventClass,
+            final RecoveryConfig recoveryConfig,
+            final Executor executor) {
+
+        return decode(readJournal.getEventsAbove(persistenceId, sequenceNumber, recoveryConfig.getBatchSize()),
+                eventAdapter, eventClass, recoveryConfig, executor);
+    }
+
+    /**
+     * Decode events read from the journal in parallel.
+     *
+     * @param journalEvents events as they are stored in the journal.
+     * @param eventAdapter the event adapter of the journal plugin.
+     * @param eventClass the class of the events.
+     * @param recoveryConfig the recovery config.
+     * @param executor the executor to decode events in.
+     * @param <E> the type of the events.
+     * @return source of batches of decoded events in the order of the journal events.
+     */
+    static <E extends Event> Source<List<E>, NotUsed> decode(final Source<Document, NotUsed> journalEvents,
+            final EventAdapter eventAdapter,
+            final Class<E> eventClass,
+            final RecoveryConfig recoveryConfig,
+            final Executor executor) {
+
+        // split each batch of the cursor among the decoding tasks
+        final int decodingBatchSize = Math.max(1, recoveryConfig.getBatchSize() / recoveryConfig.getParallelism());
+        return journalEvents.grouped(decodingBatchSize)
+                .mapAsync(recoveryConfig.getParallelism(), batch -> CompletableFuture.supplyAsync(() ->
+                        batch.stream()
+                                .flatMap(journalEvent -> decodeEvent(journalEvent, eventAdapter, eventClass).stream())
+                                .collect(Collectors.toList()), executor)
+                );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> List<E> decodeEvent(final Document journalEvent, final EventAdapter eventAdapter,
+            final Class<E> eventClass) {
+
+        final Object payload = journalEvent.get(MongoReadJournal.EVENT_PAYLOAD);
+        if (!(payload instanceof Document)) {
+            throw new IllegalStateException("Cannot replay event with payload other than BSON: " + journalEvent);
+        }
+        final BsonDocument bsonPayload = BsonUtil.toBsonDocument((Document) payload);
+        final String manifest = journalEvent.getString(MongoReadJournal.EVENT_MANIFEST);
+        final long sequenceNumber = journalEvent.get(MongoReadJournal.EVENT_SN, Number.class).longValue();
+        // the revision is not persisted as part of the payload, but as sequence number of the event
+        return JavaConverters.seqAsJavaList(eventAdapter.fromJournal(bsonPayload, manifest).events())
+                .stream()
+                .filter(eventClass::isInstance)
+                .map(event -> (E) eventClass.cast(event).setRevision(sequenceNumber))
+                .collect(Collectors.toList());
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<JournalReplay> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public JournalReplay createExtension(final ExtendedActorSystem system) {
+            return new JournalReplay(MongoReadJournal.newInstance(system));
+        }
+    }
+
+}
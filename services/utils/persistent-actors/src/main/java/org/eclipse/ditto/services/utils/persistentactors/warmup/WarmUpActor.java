@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.health.ActorStatusReporter;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Records the most accessed entities of this node periodically and starts the entities recorded by all nodes of the
+ * shard region after a restart, so that the first requests after a rolling deployment do not pay for recovery.
+ * Instead of starting entities in a shard region, the warm-up may also be any asynchronous function of the recorded
+ * entity IDs, e.g. loading them into caches.
+ * <p>
+ * Each node owns one document in the warm-up collection which is replaced on every record. Documents older than the
+ * configured maximum age are neither warmed up nor kept.
+ * </p>
+ * <p>
+ * This actor answers {@link RetrieveHealth} with status {@code DOWN} until the warm-up has finished, so that the node
+ * only reports healthy once its hottest entities are started, e.g. by {@link ActorStatusReporter}. A failed warm-up
+ * does not keep the node from becoming healthy.
+ * </p>
+ */
+public final class WarmUpActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "warmUp";
+
+    static final String FIELD_ID = "_id";
+    static final String FIELD_ENTITY_IDS = "entityIds";
+    static final String FIELD_TIMESTAMP = "_timestamp";
+
+    private static final Duration START_ENTITY_TIMEOUT = Duration.ofSeconds(10L);
+
+    private static final StatusInfo WARMING_UP = StatusInfo.fromStatus(StatusInfo.Status.DOWN, "warming up");
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final WarmUpConfig warmUpConfig;
+    private final Function<String, CompletionStage<?>> warmUpFunction;
+    private final TopKCounter<String> accessCounter;
+    private final DittoMongoClient mongoClient;
+    private final MongoCollection<Document> collection;
+    private final String nodeId;
+    private final ActorMaterializer materializer;
+    private StatusInfo status;
+
+    private WarmUpActor(final WarmUpConfig warmUpConfig,
+            final Function<String, CompletionStage<?>> warmUpFunction,
+            final TopKCounter<String> accessCounter,
+            final DittoMongoClient mongoClient,
+            final String collectionName) {
+
+        this.warmUpConfig = warmUpConfig;
+        this.warmUpFunction = warmUpFunction;
+        this.accessCounter = accessCounter;
+        this.mongoClient = mongoClient;
+        collection = mongoClient.getCollection(collectionName);
+        nodeId = Cluster.get(getContext().getSystem()).selfAddress().hostPort();
+        materializer = ActorMaterializer.create(getContext());
+        status = WARMING_UP;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param warmUpConfig the warm-up config.
+     * @param shardRegion the shard region of the entities to warm up.
+     * @param accessCounter counter of entity accesses of this node, fed in batches by the supervisors of the shard
+     * region.
+     * @param mongoDbConfig the MongoDB configuration settings.
+     * @param collectionName name of the collection where the most accessed entities of each node are recorded.
+     * @return the Props object.
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final ActorRef shardRegion,
+            final TopKCounter<String> accessCounter,
+            final MongoDbConfig mongoDbConfig,
+            final String collectionName) {
+
+        return props(warmUpConfig, entityId ->
+                        Patterns.ask(shardRegion, new ShardRegion.StartEntity(entityId), START_ENTITY_TIMEOUT),
+                accessCounter, mongoDbConfig, collectionName);
+    }
+
+    /**
+     * Create Props for this actor which warms up the recorded entities by an asynchronous function.
+     *
+     * @param warmUpConfig the warm-up config.
+     * @param warmUpFunction function which warms up the entity with the given ID; failures of single entities do not
+     * stop the warm-up.
+     * @param accessCounter counter of entity accesses of this node.
+     * @param mongoDbConfig the MongoDB configuration settings.
+     * @param collectionName name of the collection where the most accessed entities of each node are recorded.
+     * @return the Props object.
+     * @since 1.1.0
+     */
+    public static Props props(final WarmUpConfig warmUpConfig,
+            final Function<String, CompletionStage<?>> warmUpFunction,
+            final TopKCounter<String> accessCounter,
+            final MongoDbConfig mongoDbConfig,
+            final String collectionName) {
+
+        return Props.create(WarmUpActor.class, () -> new WarmUpActor(warmUpConfig, warmUpFunction, accessCounter,
+                MongoClientWrapper.newInstance(mongoDbConfig), collectionName));
+    }
+
+    /**
+     * Create a counter of entity accesses which monitors enough entities to find the configured top K reliably.
+     *
+     * @param warmUpConfig the warm-up config.
+     * @return the counter.
+     */
+    public static TopKCounter<String> newAccessCounter(final WarmUpConfig warmUpConfig) {
+        return TopKCounter.of(10 * warmUpConfig.getTopK());
+    }
+
+    @Override
+    public void preStart() {
+        warmUp();
+        getTimers().startPeriodicTimer(Control.RECORD, Control.RECORD, warmUpConfig.getRecordInterval());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        mongoClient.close();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.RECORD, this::record)
+                .match(WarmUpFinished.class, this::warmUpFinished)
+                .match(RetrieveHealth.class, retrieveHealth ->
+                        getSender().tell(RetrieveHealthResponse.of(status, DittoHeaders.empty()), getSelf()))
+                .build();
+    }
+
+    private void warmUp() {
+        final Date minTimestamp = Date.from(Instant.now().minus(warmUpConfig.getMaxAge()));
+        final ActorRef self = getSelf();
+        Source.fromPublisher(collection.find(Filters.gte(FIELD_TIMESTAMP, minTimestamp)))
+                .<List<String>>map(WarmUpActor::getEntityIds)
+                .<List<List<String>>>fold(new ArrayList<>(), (lists, list) -> {
+                    lists.add(list);
+                    return lists;
+                })
+                .mapConcat(WarmUpActor::interleave)
+                .throttle(warmUpConfig.getThrottleLimit(), warmUpConfig.getThrottleInterval())
+                .mapAsyncUnordered(warmUpConfig.getThrottleLimit(), this::warmUp)
+                .runWith(Sink.fold(0, (failures, warmedUp) -> warmedUp ? failures : failures + 1), materializer)
+                .whenComplete((failures, error) ->
+                        self.tell(new WarmUpFinished(null != failures ? failures : 0, error), ActorRef.noSender()));
+    }
+
+    private CompletionStage<Boolean> warmUp(final String entityId) {
+        try {
+            return warmUpFunction.apply(entityId).handle((result, error) -> null == error);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    private void warmUpFinished(final WarmUpFinished warmUpFinished) {
+        if (null != warmUpFinished.error) {
+            log.error(warmUpFinished.error, "Warm-up failed");
+            status = StatusInfo.fromStatus(StatusInfo.Status.UP, "warm-up failed: " + warmUpFinished.error);
+        } else {
+            log.info("Warm-up finished, <{}> entities failed to warm up", warmUpFinished.failures);
+            status = StatusInfo.fromStatus(StatusInfo.Status.UP);
+        }
+    }
+
+    private void record(final Control record) {
+        final List<String> topEntityIds = selectMostAccessed(accessCounter, warmUpConfig.getTopK());
+        if (topEntityIds.isEmpty()) {
+            return;
+        }
+        final Instant now = Instant.now();
+        final Document document = new Document()
+                .append(FIELD_ID, nodeId)
+                .append(FIELD_ENTITY_IDS, topEntityIds)
+                .append(FIELD_TIMESTAMP, Date.from(now));
+        final Date minTimestamp = Date.from(now.minus(warmUpConfig.getMaxAge()));
+        Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, nodeId), document,
+                new ReplaceOptions().upsert(true)))
+                .runWith(Sink.ignore(), materializer)
+                .thenCompose(replaced -> Source.fromPublisher(
+                        collection.deleteMany(Filters.lt(FIELD_TIMESTAMP, minTimestamp)))
+                        .runWith(Sink.ignore(), materializer))
+                .whenComplete((done, error) -> logRecordResult(done, error, topEntityIds.size()));
+    }
+
+    private void logRecordResult(@Nullable final Done done, @Nullable final Throwable error, final int size) {
+        if (null != error) {
+            log.error(error, "Failed to record most accessed entities");
+        } else {
+            log.debug("Recorded <{}> most accessed entities", size);
+        }
+    }
+
+    /**
+     * Select the most accessed entities since the previous selection and start counting anew.
+     *
+     * @param accessCounter the counter of entity accesses of this node.
+     * @param topK the maximum number of entities to select.
+     * @return the IDs of the selected entities, most accessed first.
+     */
+    static List<String> selectMostAccessed(final TopKCounter<String> accessCounter, final int topK) {
+        final List<String> topEntityIds = accessCounter.getTopK(topK)
+                .stream()
+                .map(TopKCounter.Entry::getKey)
+                .collect(Collectors.toList());
+        accessCounter.reset();
+        return topEntityIds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getEntityIds(final Document document) {
+        final Object entityIds = document.get(FIELD_ENTITY_IDS);
+        return entityIds instanceof List ? (List<String>) entityIds : Collections.emptyList();
+    }
+
+    /**
+     * Merge the records of all nodes by rank so that the hottest entities of each node are started first.
+     *
+     * @param lists the entity IDs recorded by each node, most accessed first.
+     * @return the distinct entity IDs ordered by rank.
+     */
+    static List<String> interleave(final List<List<String>> lists) {
+        final Set<String> result = new LinkedHashSet<>();
+        final int maxSize = lists.stream().mapToInt(List::size).max().orElse(0);
+        for (int rank = 0; rank < maxSize; ++rank) {
+            for (final List<String> list : lists) {
+                if (rank < list.size()) {
+                    result.add(list.get(rank));
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private enum Control {
+        RECORD
+    }
+
+    private static final class WarmUpFinished {
+
+        private final int failures;
+        @Nullable private final Throwable error;
+
+        private WarmUpFinished(final int failures, @Nullable final Throwable error) {
+            this.failures = failures;
+            this.error = error;
+        }
+
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultRecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.RecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.services.utils.persistentactors.results.Result;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.SnapshotOffer;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.Future;
+
+/**
+ * Tests the recovery of {@link AbstractShardedPersistenceActor} with prefetched events.
+ */
+public final class AbstractShardedPersistenceActorTest {
+
+    private static final long HIGHEST_SEQUENCE_NUMBER = 5L;
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.parseString(
+                "fixed-highest-sequence-number-journal {\n" +
+                        "  class = \"" + FixedHighestSequenceNumberJournal.class.getName() + "\"\n" +
+                        "  plugin-dispatcher = \"akka.actor.default-dispatcher\"\n" +
+                        "}")
+                .withFallback(ConfigFactory.load("test.conf")));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void replayCompletesIfAllEventsOfTheJournalAreReplayed() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = watch(actorSystem.actorOf(
+                    PrefetchingPersistenceActor.props(Source.single(eventsUpTo(HIGHEST_SEQUENCE_NUMBER)))));
+
+            expectNoMessage(Duration.ofSeconds(2));
+            actorSystem.stop(underTest);
+            expectTerminated(underTest);
+        }};
+    }
+
+    @Test
+    public void recoveryFailsIfReplayEndsBeforeTheJournal() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = watch(actorSystem.actorOf(
+                    PrefetchingPersistenceActor.props(Source.single(eventsUpTo(HIGHEST_SEQUENCE_NUMBER - 2)))));
+
+            expectTerminated(Duration.ofSeconds(5), underTest);
+        }};
+    }
+
+    @Test
+    public void recoveryFailsIfNoEventsAreReplayedWithinTheTimeout() {
+        new TestKit(actorSystem) {{
+            final Source<List<Event>, NotUsed> noEvents =
+                    Source.<List<Event>>maybe().mapMaterializedValue(promise -> NotUsed.getInstance());
+            final ActorRef underTest = watch(actorSystem.actorOf(PrefetchingPersistenceActor.props(noEvents)));
+
+            // the recovery timeout is 1s
+            expectNoMessage(Duration.ofMillis(500));
+            expectTerminated(Duration.ofSeconds(5), underTest);
+        }};
+    }
+
+    private static List<Event> eventsUpTo(final long revision) {
+        return LongStream.rangeClosed(1L, revision)
+                .mapToObj(sequenceNumber -> {
+                    final Event event = mock(Event.class);
+                    when(event.getRevision()).thenReturn(sequenceNumber);
+                    return event;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Persistence actor which prefetches the events of its journal from a given source.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class PrefetchingPersistenceActor
+            extends AbstractShardedPersistenceActor<Command, Long, EntityId, Long, Event> {
+
+        private static final RecoveryConfig RECOVERY_CONFIG = DefaultRecoveryConfig.of(
+                ConfigFactory.parseString("recovery { prefetch-enabled = true, timeout = 1s }"));
+
+        private static final EventStrategy<Event, Long> EVENT_STRATEGY =
+                (event, entity, revision) -> entity == null ? 1L : entity + 1L;
+
+        private final Source<List<Event>, NotUsed> replayedEvents;
+
+        private PrefetchingPersistenceActor(final Source<List<Event>, NotUsed> replayedEvents) {
+            super(DefaultEntityId.of("prefetching"), createSnapshotAdapter());
+            this.replayedEvents = replayedEvents;
+        }
+
+        private static Props props(final Source<List<Event>, NotUsed> replayedEvents) {
+            return Props.create(PrefetchingPersistenceActor.class, () -> new PrefetchingPersistenceActor(replayedEvents));
+        }
+
+        private static SnapshotAdapter<Long> createSnapshotAdapter() {
+            final SnapshotAdapter<Long> snapshotAdapter = mock(SnapshotAdapter.class);
+            when(snapshotAdapter.fromSnapshotStore(any(SnapshotOffer.class))).thenReturn(0L);
+            return snapshotAdapter;
+        }
+
+        @Override
+        Source<List<Event>, NotUsed> replayEventsAfter(final long sequenceNumber) {
+            return replayedEvents;
+        }
+
+        @Override
+        protected RecoveryConfig getRecoveryConfig() {
+            return RECOVERY_CONFIG;
+        }
+
+        @Override
+        public String persistenceId() {
+            return "prefetching:" + entityId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "fixed-highest-sequence-number-journal";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "mock-snapshot-store";
+        }
+
+        @Override
+        protected Class<Event> getEventClass() {
+            return Event.class;
+        }
+
+        @Override
+        protected CommandStrategy.Context<Long> getStrategyContext() {
+            return mock(CommandStrategy.Context.class);
+        }
+
+        @Override
+        protected CommandStrategy<Command, Long, Long, Result<Event>> getCreatedStrategy() {
+            return mock(CommandStrategy.class);
+        }
+
+        @Override
+        protected CommandStrategy<? extends Command, Long, Long, Result<Event>> getDeletedStrategy() {
+            return mock(CommandStrategy.class);
+        }
+
+        @Override
+        protected EventStrategy<Event, Long> getEventStrategy() {
+            return EVENT_STRATEGY;
+        }
+
+        @Override
+        protected ActivityCheckConfig getActivityCheckConfig() {
+            return DefaultActivityCheckConfig.of(ConfigFactory.empty());
+        }
+
+        @Override
+        protected SnapshotConfig getSnapshotConfig() {
+            return DefaultSnapshotConfig.of(ConfigFactory.empty());
+        }
+
+        @Override
+        protected boolean entityExistsAsDeleted() {
+            return false;
+        }
+
+        @Override
+        protected DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void publishEvent(final Event event) {
+            // nothing to publish
+        }
+
+        @Override
+        protected JsonSchemaVersion getEntitySchemaVersion(final Long entity) {
+            return JsonSchemaVersion.LATEST;
+        }
+
+    }
+
+    /**
+     * Journal which contains no events to replay but reports a fixed highest sequence number.
+     */
+    public static final class FixedHighestSequenceNumberJournal extends AsyncWriteJournal {
+
+        @Override
+        public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+                final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+            return Future.successful(null);
+        }
+
+        @Override
+        public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+            return Future.successful(HIGHEST_SEQUENCE_NUMBER);
+        }
+
+        @Override
+        public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+            return Future.successful(null);
+        }
+
+    }
+
+}
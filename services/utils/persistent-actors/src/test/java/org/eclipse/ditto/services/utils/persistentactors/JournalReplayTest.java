@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultRecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.RecoveryConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.persistence.journal.EventAdapter;
+import akka.persistence.journal.EventSeq;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link JournalReplay}.
+ */
+public final class JournalReplayTest {
+
+    private static final RecoveryConfig RECOVERY_CONFIG = DefaultRecoveryConfig.of(
+            ConfigFactory.parseString("recovery { prefetch-enabled = true, batch-size = 4, parallelism = 2 }"));
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        materializer = ActorMaterializer.create(actorSystem);
+    }
+
+    @After
+    public void shutdown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void decodeEventsInParallelInOrderOfSequenceNumbers() throws Exception {
+        final List<Document> journalEvents = LongStream.rangeClosed(3L, 12L)
+                .mapToObj(sn -> journalEvent(sn, new Document().append("type", sn == 7L ? "skipped" : "event")))
+                .collect(Collectors.toList());
+
+        final List<List<Event>> batches =
+                JournalReplay.decode(Source.from(journalEvents), new TestEventAdapter(), Event.class,
+                        RECOVERY_CONFIG, actorSystem.dispatcher())
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .get(10L, TimeUnit.SECONDS);
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(2));
+        assertThat(batches.stream().flatMap(List::stream).map(Event::getRevision))
+                .containsExactly(3L, 4L, 5L, 6L, 8L, 9L, 10L, 11L, 12L);
+    }
+
+    @Test
+    public void failOnPayloadOtherThanBson() {
+        final Document journalEvent = new Document()
+                .append(MongoReadJournal.EVENT_SN, 1L)
+                .append(MongoReadJournal.EVENT_PAYLOAD, "serialized");
+
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(() -> JournalReplay.decode(Source.single(journalEvent), new TestEventAdapter(),
+                        Event.class, RECOVERY_CONFIG, actorSystem.dispatcher())
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join())
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static Document journalEvent(final long sequenceNumber, final Document payload) {
+        return new Document()
+                .append(MongoReadJournal.EVENT_SN, sequenceNumber)
+                .append(MongoReadJournal.EVENT_MANIFEST, payload.getString("type"))
+                .append(MongoReadJournal.EVENT_PAYLOAD, payload);
+    }
+
+    private static Event<?> eventWithRevision(final long revision) {
+        final Event<?> event = mock(Event.class);
+        when(event.getRevision()).thenReturn(revision);
+        return event;
+    }
+
+    /**
+     * Decodes events of all types except "skipped" and lets them set their revision.
+     */
+    private static final class TestEventAdapter implements EventAdapter {
+
+        @Override
+        public String manifest(final Object event) {
+            return "";
+        }
+
+        @Override
+        public Object toJournal(final Object event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        public EventSeq fromJournal(final Object event, final String manifest) {
+            if ("skipped".equals(((BsonDocument) event).getString("type").getValue())) {
+                return EventSeq.empty();
+            }
+            final Event decodedEvent = mock(Event.class);
+            when(decodedEvent.setRevision(anyLong()))
+                    .thenAnswer(invocation -> eventWithRevision(invocation.getArgument(0)));
+            return EventSeq.single(decodedEvent);
+        }
+    }
+
+}
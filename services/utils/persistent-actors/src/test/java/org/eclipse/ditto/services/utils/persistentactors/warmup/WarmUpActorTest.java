@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounter;
+import org.eclipse.ditto.services.utils.metrics.topk.TopKCounterBatch;
+import org.junit.Test;
+
+/**
+ * Tests {@link WarmUpActor}.
+ */
+public final class WarmUpActorTest {
+
+    @Test
+    public void interleaveRecordsOfAllNodesByRank() {
+        assertThat(WarmUpActor.interleave(Arrays.asList(
+                Arrays.asList("a", "b", "c"),
+                Collections.emptyList(),
+                Arrays.asList("d", "a"))))
+                .containsExactly("a", "d", "b", "c");
+    }
+
+    @Test
+    public void selectMostAccessedEntitiesFromBatchedAccesses() {
+        final TopKCounter<String> accessCounter = TopKCounter.of(30);
+        for (int i = 0; i < 1000; ++i) {
+            final TopKCounterBatch<String> rarelyAccessed = TopKCounterBatch.of(accessCounter, Duration.ofDays(1L));
+            rarelyAccessed.increment("ns:rare-" + i);
+            rarelyAccessed.flush();
+        }
+        for (int i = 1; i <= 3; ++i) {
+            final TopKCounterBatch<String> frequentlyAccessed =
+                    TopKCounterBatch.of(accessCounter, Duration.ofDays(1L));
+            for (int j = 0; j < 100 * i; ++j) {
+                frequentlyAccessed.increment("ns:hot-" + i);
+            }
+            frequentlyAccessed.flush();
+        }
+
+        assertThat(WarmUpActor.selectMostAccessed(accessCounter, 3)).containsExactly("ns:hot-3", "ns:hot-2", "ns:hot-1");
+        assertThat(WarmUpActor.selectMostAccessed(accessCounter, 3)).isEmpty();
+    }
+
+}
@@ -13,6 +13,10 @@
 package org.eclipse.ditto.signals.base;
 
 import java.lang.annotation.Annotation;
+import java.util.function.BiFunction;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 
 /**
  * Responsible to build an {@link AnnotationBasedJsonParsable} from a given annotation.
@@ -27,15 +31,17 @@ public abstract class AbstractAnnotationBasedJsonParsableFactory<T, A extends An
      * Builds an {@link AnnotationBasedJsonParsable} from the given annotation.
      *
      * @param annotation the annotation that holds the information to build an annotation based json parsable.
-     * @param classToParse the class that should be deserialized.
+     * @param parseFunction the generated reference to the method named by
+     * {@link #getMethodNameFor(java.lang.annotation.Annotation)} of the class that should be deserialized.
      * @return the annotation based json parsable.
      */
-    AnnotationBasedJsonParsable<T> fromAnnotation(final A annotation, final Class<? extends T> classToParse) {
-        final String methodName = getMethodNameFor(annotation);
+    AnnotationBasedJsonParsable<T> fromAnnotation(final A annotation,
+            final BiFunction<JsonObject, DittoHeaders, ?> parseFunction) {
+
         final String key = getKeyFor(annotation);
         final String v1FallbackKey = getV1FallbackKeyFor(annotation);
 
-        return new AnnotationBasedJsonParsable<>(key, v1FallbackKey, classToParse, methodName);
+        return new AnnotationBasedJsonParsable<>(key, v1FallbackKey, parseFunction);
     }
 
     /**
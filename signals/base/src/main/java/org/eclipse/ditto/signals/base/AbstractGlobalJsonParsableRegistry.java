@@ -15,12 +15,15 @@ package org.eclipse.ditto.signals.base;
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.StreamSupport;
+import java.util.ServiceLoader;
 
-import org.atteo.classindex.ClassIndex;
+import org.eclipse.ditto.model.base.json.JsonParsableIndex;
 
 /**
  * Responsible for collecting all {@link AnnotationBasedJsonParsable} for subclasses of T.
+ * The annotated classes and references to their parse methods are looked up in the {@link JsonParsableIndex}es which
+ * are generated at compile time and registered as services, so neither the classpath is scanned nor are the parse
+ * methods invoked reflectively.
  *
  * @param <T> The superclass of all classes that should be deserialized by this registry.
  * @param <A> The type of the annotation that holds the information to build an annotation based json parsable.
@@ -78,27 +81,24 @@ public abstract class AbstractGlobalJsonParsableRegistry<T, A extends Annotation
         return mergedStrategies;
     }
 
-    @SuppressWarnings("unchecked") //Suppressed because the cast of cls is ensured by the two filters before.
     private static <T, A extends Annotation> Map<String, JsonParsable<T>> initAnnotationBasedParseStrategies(
             final Class<T> baseClass,
             final Class<A> annotationClass,
             final AbstractAnnotationBasedJsonParsableFactory<T, A> annotationBasedJsonParsableFactory) {
 
         final Map<String, JsonParsable<T>> parseRegistries = new HashMap<>();
-        final Iterable<Class<?>> annotatedClasses = ClassIndex.getAnnotated(annotationClass);
-
-        StreamSupport.stream(annotatedClasses.spliterator(), false)
-                .filter(baseClass::isAssignableFrom)
-                .filter(cls -> !baseClass.equals(cls))
-                .map(cls -> (Class<? extends T>) cls)
-                .forEach(classToParse -> {
+        for (final JsonParsableIndex index : ServiceLoader.load(JsonParsableIndex.class)) {
+            index.getParseFunctions(annotationClass).forEach((classToParse, parseFunction) -> {
+                if (baseClass.isAssignableFrom(classToParse) && !baseClass.equals(classToParse)) {
                     final A fromJsonAnnotation = classToParse.getAnnotation(annotationClass);
 
                     final AnnotationBasedJsonParsable<T> strategy =
-                            annotationBasedJsonParsableFactory.fromAnnotation(fromJsonAnnotation, classToParse);
+                            annotationBasedJsonParsableFactory.fromAnnotation(fromJsonAnnotation, parseFunction);
                     parseRegistries.put(strategy.getKey(), strategy);
                     parseRegistries.put(strategy.getV1FallbackKey(), strategy);
-                });
+                }
+            });
+        }
 
         return parseRegistries;
     }
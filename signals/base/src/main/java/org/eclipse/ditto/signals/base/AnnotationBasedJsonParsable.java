@@ -12,8 +12,7 @@
  */
 package org.eclipse.ditto.signals.base;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.function.BiFunction;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -29,39 +28,22 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
  */
 final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
 
-    private static final Class<?> JSON_OBJECT_PARAMETER = JsonObject.class;
-    private static final Class<?> DITTO_HEADERS_PARAMETER = DittoHeaders.class;
-
     private final String key;
     private final String v1FallbackKey;
-    private final Method parseMethod;
+    private final BiFunction<JsonObject, DittoHeaders, ?> parseFunction;
 
     /**
      * Creates a new instance.
      *
      * @param key the API v2 key for this strategy.
      * @param v1FallbackKey the API v1 key for this strategy.
-     * @param parsedClass the class that should be deserialized.
-     * @param parsingMethodName the name of the method that should be called on the given class in order to
-     * deserialize.
+     * @param parseFunction the generated reference to the method of the parsed class which deserializes it.
      */
     AnnotationBasedJsonParsable(final String key, final String v1FallbackKey,
-            final Class<? extends T> parsedClass,
-            final String parsingMethodName) {
+            final BiFunction<JsonObject, DittoHeaders, ?> parseFunction) {
         this.key = key;
         this.v1FallbackKey = v1FallbackKey;
-        try {
-            this.parseMethod =
-                    parsedClass.getMethod(parsingMethodName, JSON_OBJECT_PARAMETER, DITTO_HEADERS_PARAMETER);
-            final Class<?> returnType = parseMethod.getReturnType();
-            if (!parsedClass.isAssignableFrom(returnType)) {
-                throw new IllegalArgumentException(
-                        String.format("Parse method is invalid. Return type <%s> of parse method must be assignable " +
-                                "to parsed class: <%s>.", returnType.getSimpleName(), parsedClass.getSimpleName()));
-            }
-        } catch (final NoSuchMethodException e) {
-            throw new DeserializationStrategyNotFoundError(parsedClass, e);
-        }
+        this.parseFunction = parseFunction;
     }
 
     /**
@@ -85,23 +67,17 @@ final class AnnotationBasedJsonParsable<T> implements JsonParsable<T> {
     }
 
 
-    @SuppressWarnings("unchecked") //suppressed because returned type is ensured in constructor
+    @SuppressWarnings("unchecked") //suppressed because the return type is checked when compiling the parse function
     @Override
     public T parse(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
         try {
-            return (T) parseMethod.invoke(null, jsonObject, dittoHeaders);
-        } catch (final ClassCastException | IllegalAccessException e) {
+            return (T) parseFunction.apply(jsonObject, dittoHeaders);
+        } catch (final DittoRuntimeException e) {
+            throw e;
+        } catch (final JsonRuntimeException e) {
+            throw new DittoJsonException(e, dittoHeaders);
+        } catch (final RuntimeException e) {
             throw buildDittoJsonException(e, jsonObject, dittoHeaders);
-        } catch (final InvocationTargetException e) {
-            final Throwable targetException = e.getTargetException();
-
-            if (targetException instanceof DittoRuntimeException) {
-                throw (DittoRuntimeException) targetException;
-            } else if (targetException instanceof JsonRuntimeException) {
-                throw new DittoJsonException((JsonRuntimeException) targetException, dittoHeaders);
-            }
-
-            throw buildDittoJsonException(targetException, jsonObject, dittoHeaders);
         }
     }
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command to retrieve the entities and namespaces which cause the most messages, bytes and persistence latency on
+ * each service instance.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = RetrieveHeavyHitters.TYPE_PREFIX, name = RetrieveHeavyHitters.NAME)
+public final class RetrieveHeavyHitters extends AbstractDevOpsCommand<RetrieveHeavyHitters> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "retrieveHeavyHitters";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Default number of entries to retrieve per resource type, dimension and scope.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    static final JsonFieldDefinition<Integer> JSON_LIMIT =
+            JsonFactory.newIntFieldDefinition("limit", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final int limit;
+
+    private RetrieveHeavyHitters(@Nullable final String serviceName, @Nullable final String instance,
+            final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, serviceName, instance, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHeavyHitters} addressed to all service instances.
+     *
+     * @param limit the number of entries to retrieve per resource type, dimension and scope.
+     * @param dittoHeaders the headers of the request.
+     * @return a new RetrieveHeavyHitters command.
+     */
+    public static RetrieveHeavyHitters of(final int limit, final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHitters(null, null, limit, dittoHeaders);
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHeavyHitters}.
+     *
+     * @param serviceName the service name to which to send the DevOpsCommand.
+     * @param instance the instance index of the serviceName to which to send the DevOpsCommand.
+     * @param limit the number of entries to retrieve per resource type, dimension and scope.
+     * @param dittoHeaders the headers of the request.
+     * @return a new RetrieveHeavyHitters command.
+     */
+    public static RetrieveHeavyHitters of(@Nullable final String serviceName, @Nullable final String instance,
+            final int limit, final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHitters(serviceName, instance, limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHeavyHitters} from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveHeavyHitters command.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveHeavyHitters command which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveHeavyHitters fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveHeavyHitters} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveHeavyHitters fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<RetrieveHeavyHitters>(TYPE, jsonObject).deserialize(() -> {
+            final String serviceName = jsonObject.getValue(DevOpsCommand.JsonFields.JSON_SERVICE_NAME).orElse(null);
+            final String instance = jsonObject.getValue(DevOpsCommand.JsonFields.JSON_INSTANCE).orElse(null);
+            final int limit = jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT);
+            return of(serviceName, instance, limit, dittoHeaders);
+        });
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public RetrieveHeavyHitters setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), limit, dittoHeaders);
+    }
+
+    /**
+     * Returns the number of entries to retrieve per resource type, dimension and scope.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        super.appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LIMIT, limit, predicate);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RetrieveHeavyHitters that = (RetrieveHeavyHitters) o;
+        return that.canEqual(this) && limit == that.limit && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveHeavyHitters;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + "limit=" + limit + "]";
+    }
+
+}
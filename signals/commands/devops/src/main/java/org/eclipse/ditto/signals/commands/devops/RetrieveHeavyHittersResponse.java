@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+
+/**
+ * Response to the {@link RetrieveHeavyHitters} command containing the heavy hitters of one service instance keyed by
+ * resource type.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = RetrieveHeavyHittersResponse.TYPE)
+public final class RetrieveHeavyHittersResponse extends AbstractDevOpsCommandResponse<RetrieveHeavyHittersResponse>
+        implements WithEntity<RetrieveHeavyHittersResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveHeavyHitters.NAME;
+
+    static final JsonFieldDefinition<JsonObject> JSON_HEAVY_HITTERS =
+            JsonFactory.newJsonObjectFieldDefinition("heavyHitters", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonObject heavyHitters;
+
+    private RetrieveHeavyHittersResponse(@Nullable final String serviceName, @Nullable final String instance,
+            final JsonObject heavyHitters, final DittoHeaders dittoHeaders) {
+        super(TYPE, serviceName, instance, HttpStatusCode.OK, dittoHeaders);
+        this.heavyHitters = Objects.requireNonNull(heavyHitters, "The heavyHitters JSON must not be null!");
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveHeavyHittersResponse}.
+     *
+     * @param serviceName the service name from which the DevOpsCommandResponse originated.
+     * @param instance the instance identifier of the serviceName from which the DevOpsCommandResponse originated.
+     * @param heavyHitters the heavy hitters of the service instance.
+     * @param dittoHeaders the headers of the request.
+     * @return the new RetrieveHeavyHittersResponse response.
+     * @throws NullPointerException if {@code heavyHitters} is {@code null}.
+     */
+    public static RetrieveHeavyHittersResponse of(@Nullable final String serviceName, @Nullable final String instance,
+            final JsonObject heavyHitters, final DittoHeaders dittoHeaders) {
+        return new RetrieveHeavyHittersResponse(serviceName, instance, heavyHitters, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveHeavyHitters} command from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveHeavyHittersResponse.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveHeavyHittersResponse which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveHeavyHittersResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveHeavyHitters} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveHeavyHittersResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<RetrieveHeavyHittersResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> {
+                    final String serviceName = jsonObject.getValue(DevOpsCommandResponse.JsonFields.JSON_SERVICE_NAME)
+                            .orElse(null);
+                    final String instance = jsonObject.getValue(DevOpsCommandResponse.JsonFields.JSON_INSTANCE)
+                            .orElse(null);
+                    final JsonObject heavyHitters = jsonObject.getValueOrThrow(JSON_HEAVY_HITTERS);
+                    return of(serviceName, instance, heavyHitters, dittoHeaders);
+                });
+    }
+
+    /**
+     * Returns the heavy hitters of the service instance keyed by resource type.
+     *
+     * @return the heavy hitters.
+     */
+    public JsonObject getHeavyHitters() {
+        return heavyHitters;
+    }
+
+    @Override
+    public RetrieveHeavyHittersResponse setEntity(final JsonValue entity) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), entity.asObject(), getDittoHeaders());
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return heavyHitters;
+    }
+
+    @Override
+    public RetrieveHeavyHittersResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(getServiceName().orElse(null), getInstance().orElse(null), heavyHitters, dittoHeaders);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        super.appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_HEAVY_HITTERS, heavyHitters, predicate);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RetrieveHeavyHittersResponse that = (RetrieveHeavyHittersResponse) o;
+        return that.canEqual(this) && Objects.equals(heavyHitters, that.heavyHitters) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveHeavyHittersResponse;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), heavyHitters);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", heavyHitters=" + heavyHitters + "]";
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.exceptions;
+
+import java.net.URI;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableException;
+import org.eclipse.ditto.model.things.ThingException;
+
+/**
+ * Exception which indicates that the resource path of a modification of multiple Things is not supported.
+ *
+ * @since 1.1.0
+ */
+@Immutable
+@JsonParsableException(errorCode = ModifyThingsPathInvalidException.ERROR_CODE)
+public final class ModifyThingsPathInvalidException extends DittoRuntimeException implements ThingException {
+
+    /**
+     * Error code of this exception.
+     */
+    public static final String ERROR_CODE = ERROR_CODE_PREFIX + "things.path.invalid";
+
+    private static final String MESSAGE_TEMPLATE = "The path ''{0}'' can not be modified for multiple Things.";
+
+    private static final String DEFAULT_DESCRIPTION = "Multiple Things can only be modified at their policy ID, " +
+            "definition, attributes, features, feature definitions or feature properties.";
+
+    private static final long serialVersionUID = -3125896315448254013L;
+
+    private ModifyThingsPathInvalidException(final DittoHeaders dittoHeaders,
+            @Nullable final String message,
+            @Nullable final String description,
+            @Nullable final Throwable cause,
+            @Nullable final URI href) {
+        super(ERROR_CODE, HttpStatusCode.BAD_REQUEST, dittoHeaders, message, description, cause, href);
+    }
+
+    /**
+     * A mutable builder for a {@code ModifyThingsPathInvalidException}.
+     *
+     * @param path the path which can not be modified for multiple Things.
+     * @return the builder.
+     */
+    public static ModifyThingsPathInvalidException.Builder newBuilder(final JsonPointer path) {
+        return new ModifyThingsPathInvalidException.Builder(path);
+    }
+
+    /**
+     * Constructs a new {@code ModifyThingsPathInvalidException} object with given message.
+     *
+     * @param message detail message. This message can be later retrieved by the {@link #getMessage()} method.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new ModifyThingsPathInvalidException.
+     */
+    public static ModifyThingsPathInvalidException fromMessage(final String message,
+            final DittoHeaders dittoHeaders) {
+        return new ModifyThingsPathInvalidException.Builder()
+                .dittoHeaders(dittoHeaders)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Constructs a new {@code ModifyThingsPathInvalidException} object with the exception message extracted from the
+     * given JSON object.
+     *
+     * @param jsonObject the JSON to read the {@link JsonFields#MESSAGE} field from.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new ModifyThingsPathInvalidException.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the {@code jsonObject} does not have the {@link
+     * JsonFields#MESSAGE} field.
+     */
+    public static ModifyThingsPathInvalidException fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .dittoHeaders(dittoHeaders)
+                .message(readMessage(jsonObject))
+                .description(readDescription(jsonObject).orElse(DEFAULT_DESCRIPTION))
+                .href(readHRef(jsonObject).orElse(null))
+                .build();
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link ModifyThingsPathInvalidException}.
+     */
+    @NotThreadSafe
+    public static final class Builder extends DittoRuntimeExceptionBuilder<ModifyThingsPathInvalidException> {
+
+        private Builder() {
+            description(DEFAULT_DESCRIPTION);
+        }
+
+        private Builder(final JsonPointer path) {
+            this();
+            message(MessageFormat.format(MESSAGE_TEMPLATE, path));
+        }
+
+        @Override
+        protected ModifyThingsPathInvalidException doBuild(final DittoHeaders dittoHeaders,
+                @Nullable final String message,
+                @Nullable final String description,
+                @Nullable final Throwable cause,
+                @Nullable final URI href) {
+            return new ModifyThingsPathInvalidException(dittoHeaders, message, description, cause, href);
+        }
+
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+import org.eclipse.ditto.signals.commands.things.ThingCommandSizeValidator;
+import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ModifyThingsPathInvalidException;
+
+/**
+ * This command applies the same modification to several {@link org.eclipse.ditto.model.things.Thing}s based on the
+ * passed in List of Thing IDs. The modification of each Thing is executed as its own {@link ThingModifyCommand} which
+ * is answered by its own response.
+ *
+ * @since 1.1.0
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = ModifyThings.TYPE_PREFIX, name = ModifyThings.NAME)
+public final class ModifyThings extends AbstractCommand<ModifyThings> implements ThingModifyCommand<ModifyThings> {
+
+    /**
+     * Name of the "Modify Things" command.
+     */
+    public static final String NAME = "modifyThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Definition of the IDs of the Things to modify.
+     */
+    public static final JsonFieldDefinition<JsonArray> JSON_THING_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("thingIds", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_PATH =
+            JsonFactory.newStringFieldDefinition("path", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    /**
+     * Definition of the new value of the resource to modify in each Thing.
+     */
+    public static final JsonFieldDefinition<JsonValue> JSON_VALUE =
+            JsonFactory.newJsonValueFieldDefinition("value", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private static final JsonKey POLICY_ID = JsonKey.of("policyId");
+    private static final JsonKey DEFINITION = JsonKey.of("definition");
+    private static final JsonKey ATTRIBUTES = JsonKey.of("attributes");
+    private static final JsonKey FEATURES = JsonKey.of("features");
+    private static final JsonKey PROPERTIES = JsonKey.of("properties");
+
+    private final List<ThingId> thingIds;
+    private final JsonPointer path;
+    private final JsonValue value;
+
+    private ModifyThings(final List<ThingId> thingIds, final JsonPointer path, final JsonValue value,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        if (thingIds.isEmpty()) {
+            throw MissingThingIdsException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
+        this.path = checkNotNull(path, "path");
+        this.value = checkNotNull(value, "value");
+
+        ThingCommandSizeValidator.getInstance().ensureValidSize(
+                value::getUpperBoundForStringSize,
+                () -> value.toString().length(),
+                () -> dittoHeaders);
+
+        // fail early if the path or the value is not valid for the modification of a single Thing
+        toThingModifyCommand(thingIds.get(0));
+    }
+
+    /**
+     * Returns a command for applying the same modification to several Things.
+     *
+     * @param thingIds the IDs of the Things to modify.
+     * @param path the path of the resource to modify in each Thing.
+     * @param value the new value of the resource.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws MissingThingIdsException if {@code thingIds} is empty.
+     * @throws ModifyThingsPathInvalidException if {@code path} can not be modified for multiple Things.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoJsonException if {@code value} is not valid for
+     * {@code path}.
+     */
+    public static ModifyThings of(final List<ThingId> thingIds, final JsonPointer path, final JsonValue value,
+            final DittoHeaders dittoHeaders) {
+
+        return new ModifyThings(checkNotNull(thingIds, "thing ids"), path, value, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code ModifyThings} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static ModifyThings fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code ModifyThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static ModifyThings fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<ModifyThings>(TYPE, jsonObject).deserialize(() -> {
+            final List<ThingId> extractedThingIds = jsonObject.getValueOrThrow(JSON_THING_IDS)
+                    .stream()
+                    .filter(JsonValue::isString)
+                    .map(JsonValue::asString)
+                    .map(ThingId::of)
+                    .collect(Collectors.toList());
+            final JsonPointer extractedPath = JsonFactory.newPointer(jsonObject.getValueOrThrow(JSON_PATH));
+            final JsonValue extractedValue = jsonObject.getValueOrThrow(JSON_VALUE);
+
+            return of(extractedThingIds, extractedPath, extractedValue, dittoHeaders);
+        });
+    }
+
+    /**
+     * Returns an unmodifiable List of the identifiers of the {@code Thing}s to be modified.
+     *
+     * @return the identifiers of the Things.
+     */
+    public List<ThingId> getThingEntityIds() {
+        return thingIds;
+    }
+
+    /**
+     * Returns the new value of the resource at {@link #getResourcePath()} of each Thing.
+     *
+     * @return the new value.
+     */
+    public JsonValue getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the command which modifies a single Thing of this command.
+     *
+     * @param thingId the ID of the Thing.
+     * @return the command which applies the modification of this command to the Thing.
+     * @throws NullPointerException if {@code thingId} is {@code null}.
+     */
+    public ThingModifyCommand<?> toThingModifyCommand(final ThingId thingId) {
+        checkNotNull(thingId, "thing id");
+        final DittoHeaders dittoHeaders = getDittoHeaders();
+        final JsonKey root = path.getRoot()
+                .orElseThrow(() -> pathInvalid(path, dittoHeaders));
+        final JsonPointer subPath = path.nextLevel();
+        if (POLICY_ID.equals(root) && subPath.isEmpty()) {
+            return ModifyPolicyId.of(thingId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> PolicyId.of(value.asString())), dittoHeaders);
+        } else if (DEFINITION.equals(root) && subPath.isEmpty()) {
+            return ModifyThingDefinition.of(thingId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newDefinition(value.isNull() ? null : value.asString())), dittoHeaders);
+        } else if (ATTRIBUTES.equals(root) && subPath.isEmpty()) {
+            return ModifyAttributes.of(thingId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newAttributes(value.asObject())), dittoHeaders);
+        } else if (ATTRIBUTES.equals(root)) {
+            return ModifyAttribute.of(thingId, subPath, value, dittoHeaders);
+        } else if (FEATURES.equals(root) && subPath.isEmpty()) {
+            return ModifyFeatures.of(thingId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newFeatures(value.asObject())), dittoHeaders);
+        } else if (FEATURES.equals(root)) {
+            return toFeatureModifyCommand(thingId, subPath, dittoHeaders);
+        }
+        throw pathInvalid(path, dittoHeaders);
+    }
+
+    private ThingModifyCommand<?> toFeatureModifyCommand(final ThingId thingId, final JsonPointer featurePath,
+            final DittoHeaders dittoHeaders) {
+
+        final String featureId = featurePath.getRoot()
+                .map(JsonKey::toString)
+                .orElseThrow(() -> pathInvalid(path, dittoHeaders));
+        final JsonPointer featureSubPath = featurePath.nextLevel();
+        final Optional<JsonKey> featureField = featureSubPath.getRoot();
+        if (!featureField.isPresent()) {
+            return ModifyFeature.of(thingId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newFeatureBuilder(value.asObject()).useId(featureId).build()),
+                    dittoHeaders);
+        }
+        final JsonPointer propertyPointer = featureSubPath.nextLevel();
+        if (DEFINITION.equals(featureField.get()) && propertyPointer.isEmpty()) {
+            return ModifyFeatureDefinition.of(thingId, featureId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newFeatureDefinition(value.asArray())), dittoHeaders);
+        } else if (PROPERTIES.equals(featureField.get()) && propertyPointer.isEmpty()) {
+            return ModifyFeatureProperties.of(thingId, featureId, DittoJsonException.wrapJsonRuntimeException(
+                    () -> ThingsModelFactory.newFeatureProperties(value.asObject())), dittoHeaders);
+        } else if (PROPERTIES.equals(featureField.get())) {
+            return ModifyFeatureProperty.of(thingId, featureId, propertyPointer, value, dittoHeaders);
+        }
+        throw pathInvalid(path, dittoHeaders);
+    }
+
+    private static ModifyThingsPathInvalidException pathInvalid(final JsonPointer path,
+            final DittoHeaders dittoHeaders) {
+
+        return ModifyThingsPathInvalidException.newBuilder(path)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+    @Override
+    public ThingId getThingEntityId() {
+        return ThingId.dummy();
+    }
+
+    @Override
+    public Optional<JsonValue> getEntity(final JsonSchemaVersion schemaVersion) {
+        return Optional.of(value);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return path;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonArray thingIdsArray = thingIds.stream()
+                .map(String::valueOf)
+                .map(JsonFactory::newValue)
+                .collect(JsonCollectors.valuesToArray());
+        jsonObjectBuilder.set(JSON_THING_IDS, thingIdsArray, predicate);
+        jsonObjectBuilder.set(JSON_PATH, path.toString(), predicate);
+        jsonObjectBuilder.set(JSON_VALUE, value, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public ModifyThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(thingIds, path, value, dittoHeaders);
+    }
+
+    @Override
+    public boolean changesAuthorization() {
+        return POLICY_ID.equals(path.getRoot().orElse(null));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), thingIds, path, value);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067", "OverlyComplexMethod"})
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ModifyThings that = (ModifyThings) obj;
+        return that.canEqual(this) && Objects.equals(thingIds, that.thingIds) && Objects.equals(path, that.path)
+                && Objects.equals(value, that.value) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof ModifyThings;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", thingIds=" + thingIds + ", path=" + path
+                + ", value=" + value + "]";
+    }
+
+}
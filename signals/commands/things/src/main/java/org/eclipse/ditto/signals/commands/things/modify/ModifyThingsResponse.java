@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+
+/**
+ * Response to a {@link ModifyThings} command. It contains one result per modified Thing consisting of the Thing ID,
+ * the status code of the modification and, if the modification failed, the error.
+ *
+ * @since 1.1.0
+ */
+@Immutable
+@JsonParsableCommandResponse(type = ModifyThingsResponse.TYPE)
+public final class ModifyThingsResponse extends AbstractCommandResponse<ModifyThingsResponse>
+        implements ThingModifyCommandResponse<ModifyThingsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + ModifyThings.NAME;
+
+    /**
+     * Definition of the Thing ID of a result.
+     */
+    public static final JsonFieldDefinition<String> JSON_RESULT_THING_ID =
+            JsonFactory.newStringFieldDefinition("thingId", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    /**
+     * Definition of the status code of a result.
+     */
+    public static final JsonFieldDefinition<Integer> JSON_RESULT_STATUS =
+            JsonFactory.newIntFieldDefinition("status", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    /**
+     * Definition of the error of a failed result.
+     */
+    public static final JsonFieldDefinition<JsonObject> JSON_RESULT_ERROR =
+            JsonFactory.newJsonObjectFieldDefinition("error", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_RESULTS =
+            JsonFactory.newJsonArrayFieldDefinition("results", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonArray results;
+
+    private ModifyThingsResponse(final JsonArray results, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.results = checkNotNull(results, "results");
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command.
+     *
+     * @param results the results of the modifications of the single Things.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ModifyThingsResponse of(final JsonArray results, final DittoHeaders dittoHeaders) {
+        return new ModifyThingsResponse(results, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command from the responses to the modifications of the single
+     * Things.
+     *
+     * @param responses the responses, either {@link ThingModifyCommandResponse}s or {@link ThingErrorResponse}s.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ModifyThingsResponse of(final List<? extends ThingCommandResponse<?>> responses,
+            final DittoHeaders dittoHeaders) {
+
+        final JsonArray results = checkNotNull(responses, "responses").stream()
+                .map(ModifyThingsResponse::toResult)
+                .collect(JsonCollectors.valuesToArray());
+        return new ModifyThingsResponse(results, dittoHeaders);
+    }
+
+    /**
+     * Converts the response to the modification of a single Thing to its result within a
+     * {@code ModifyThingsResponse}.
+     *
+     * @param response the response, either a {@link ThingModifyCommandResponse} or a {@link ThingErrorResponse}.
+     * @return the result.
+     * @throws NullPointerException if {@code response} is {@code null}.
+     */
+    public static JsonObject toResult(final ThingCommandResponse<?> response) {
+        checkNotNull(response, "response");
+        final JsonObjectBuilder resultBuilder = JsonFactory.newObjectBuilder()
+                .set(JSON_RESULT_THING_ID, response.getThingEntityId().toString())
+                .set(JSON_RESULT_STATUS, response.getStatusCodeValue());
+        if (response instanceof ThingErrorResponse) {
+            resultBuilder.set(JSON_RESULT_ERROR, ((ThingErrorResponse) response).getDittoRuntimeException().toJson());
+        }
+        return resultBuilder.build();
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static ModifyThingsResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static ModifyThingsResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<ModifyThingsResponse>(TYPE, jsonObject).deserialize(
+                statusCode -> new ModifyThingsResponse(jsonObject.getValueOrThrow(JSON_RESULTS), dittoHeaders));
+    }
+
+    /**
+     * Returns the results of the modifications of the single Things.
+     *
+     * @return the results.
+     */
+    public JsonArray getResults() {
+        return results;
+    }
+
+    @Override
+    public ThingId getThingEntityId() {
+        return ThingId.dummy();
+    }
+
+    @Override
+    public Optional<JsonValue> getEntity(final JsonSchemaVersion schemaVersion) {
+        return Optional.of(results);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty(); // the results of the single Things are not related to one path
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_RESULTS, results, predicate);
+    }
+
+    @Override
+    public ModifyThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(results, dittoHeaders);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return (other instanceof ModifyThingsResponse);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ModifyThingsResponse that = (ModifyThingsResponse) o;
+        return that.canEqual(this) && Objects.equals(results, that.results) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), results);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", results=" + results + "]";
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.BiFunction;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonParsableIndex;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.Test;
+
+/**
+ * Tests that the thing commands are deserialized by the global registries through the generated
+ * {@link JsonParsableIndex} of this module.
+ */
+public final class ThingCommandJsonParsableIndexTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("index").build();
+
+    private static final ModifyAttribute MODIFY_ATTRIBUTE = ModifyAttribute.of(TestConstants.Thing.THING_ID,
+            JsonPointer.of("location"), JsonValue.of("here"), DITTO_HEADERS);
+
+    private static final ModifyAttributeResponse MODIFY_ATTRIBUTE_RESPONSE =
+            ModifyAttributeResponse.modified(TestConstants.Thing.THING_ID, JsonPointer.of("location"), DITTO_HEADERS);
+
+    @Test
+    public void generatedIndexContainsParseFunctionsOfThingCommands() {
+        final Map<Class<?>, BiFunction<JsonObject, DittoHeaders, Object>> commandParsers = new HashMap<>();
+        final Map<Class<?>, BiFunction<JsonObject, DittoHeaders, Object>> responseParsers = new HashMap<>();
+        for (final JsonParsableIndex index : ServiceLoader.load(JsonParsableIndex.class)) {
+            commandParsers.putAll(index.getParseFunctions(JsonParsableCommand.class));
+            responseParsers.putAll(index.getParseFunctions(JsonParsableCommandResponse.class));
+        }
+
+        assertThat(commandParsers).containsKey(ModifyAttribute.class);
+        assertThat(commandParsers.get(ModifyAttribute.class).apply(MODIFY_ATTRIBUTE.toJson(), DITTO_HEADERS))
+                .isEqualTo(MODIFY_ATTRIBUTE);
+        assertThat(responseParsers).containsKey(ModifyAttributeResponse.class);
+        assertThat(responseParsers.get(ModifyAttributeResponse.class)
+                .apply(MODIFY_ATTRIBUTE_RESPONSE.toJson(), DITTO_HEADERS))
+                .isEqualTo(MODIFY_ATTRIBUTE_RESPONSE);
+    }
+
+    @Test
+    public void globalRegistriesParseThingCommandAndResponse() {
+        assertThat(GlobalCommandRegistry.getInstance().parse(MODIFY_ATTRIBUTE.toJson(), DITTO_HEADERS))
+                .isEqualTo(MODIFY_ATTRIBUTE);
+        assertThat(GlobalCommandResponseRegistry.getInstance().parse(MODIFY_ATTRIBUTE_RESPONSE.toJson(), DITTO_HEADERS))
+                .isEqualTo(MODIFY_ATTRIBUTE_RESPONSE);
+    }
+
+}
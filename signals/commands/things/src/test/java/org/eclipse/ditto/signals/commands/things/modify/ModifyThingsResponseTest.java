@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.things.TestConstants;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.AttributeNotModifiableException;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ModifyThingsResponse}.
+ */
+public final class ModifyThingsResponseTest {
+
+    private static final ThingId MODIFIED_THING_ID = ThingId.of("org.eclipse.ditto", "modified");
+    private static final ThingId FAILED_THING_ID = ThingId.of("org.eclipse.ditto", "failed");
+
+    private static final AttributeNotModifiableException ERROR =
+            AttributeNotModifiableException.newBuilder(FAILED_THING_ID, JsonPointer.of("location")).build();
+
+    private static final JsonArray KNOWN_RESULTS = JsonArray.of(
+            JsonObject.newBuilder()
+                    .set(ModifyThingsResponse.JSON_RESULT_THING_ID, MODIFIED_THING_ID.toString())
+                    .set(ModifyThingsResponse.JSON_RESULT_STATUS, HttpStatusCode.NO_CONTENT.toInt())
+                    .build(),
+            JsonObject.newBuilder()
+                    .set(ModifyThingsResponse.JSON_RESULT_THING_ID, FAILED_THING_ID.toString())
+                    .set(ModifyThingsResponse.JSON_RESULT_STATUS, HttpStatusCode.FORBIDDEN.toInt())
+                    .set(ModifyThingsResponse.JSON_RESULT_ERROR, ERROR.toJson())
+                    .build());
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(CommandResponse.JsonFields.TYPE, ModifyThingsResponse.TYPE)
+            .set(CommandResponse.JsonFields.STATUS, HttpStatusCode.OK.toInt())
+            .set(ModifyThingsResponse.JSON_RESULTS, KNOWN_RESULTS)
+            .build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ModifyThingsResponse.class,
+                areImmutable(),
+                provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ModifyThingsResponse.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void createsResultsFromResponsesOfSingleThings() {
+        final ModifyThingsResponse underTest = ModifyThingsResponse.of(Arrays.asList(
+                ModifyAttributeResponse.modified(MODIFIED_THING_ID, JsonPointer.of("location"),
+                        TestConstants.EMPTY_DITTO_HEADERS),
+                ThingErrorResponse.of(FAILED_THING_ID, ERROR, TestConstants.EMPTY_DITTO_HEADERS)),
+                TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getResults()).isEqualTo(KNOWN_RESULTS);
+        assertThat(underTest.getEntity()).contains(KNOWN_RESULTS);
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final ModifyThingsResponse underTest =
+                ModifyThingsResponse.of(KNOWN_RESULTS, TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.toJson(FieldType.regularOrSpecial())).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final ModifyThingsResponse underTest =
+                ModifyThingsResponse.fromJson(KNOWN_JSON, TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getResults()).isEqualTo(KNOWN_RESULTS);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.TestConstants;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ModifyThingsPathInvalidException;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+
+/**
+ * Unit test for {@link ModifyThings}.
+ */
+public final class ModifyThingsTest {
+
+    private static final List<ThingId> THING_IDS =
+            Arrays.asList(ThingId.of("org.eclipse.ditto", "one"), ThingId.of("org.eclipse.ditto", "two"));
+
+    private static final JsonPointer KNOWN_PATH = JsonPointer.of("/attributes/location");
+
+    private static final JsonValue KNOWN_VALUE = JsonValue.of("kitchen");
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(ThingCommand.JsonFields.TYPE, ModifyThings.TYPE)
+            .set(ModifyThings.JSON_THING_IDS, JsonArray.of("[\"org.eclipse.ditto:one\",\"org.eclipse.ditto:two\"]"))
+            .set(ModifyThings.JSON_PATH, KNOWN_PATH.toString())
+            .set(ModifyThings.JSON_VALUE, KNOWN_VALUE)
+            .build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ModifyThings.class,
+                areImmutable(),
+                provided(JsonPointer.class, JsonValue.class, ThingId.class).areAlsoImmutable(),
+                provided("thingIds").isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ModifyThings.class)
+                .withRedefinedSuperclass()
+                .suppress(Warning.REFERENCE_EQUALITY)
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final ModifyThings underTest =
+                ModifyThings.of(THING_IDS, KNOWN_PATH, KNOWN_VALUE, TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.toJson(FieldType.regularOrSpecial())).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final ModifyThings underTest = ModifyThings.fromJson(KNOWN_JSON.toString(), TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getThingEntityIds()).isEqualTo(THING_IDS);
+        assertThat((Object) underTest.getResourcePath()).isEqualTo(KNOWN_PATH);
+        assertThat(underTest.getValue()).isEqualTo(KNOWN_VALUE);
+        assertThat(underTest.changesAuthorization()).isFalse();
+    }
+
+    @Test
+    public void tryToCreateInstanceWithoutThingIds() {
+        assertThatExceptionOfType(MissingThingIdsException.class)
+                .isThrownBy(() -> ModifyThings.of(Collections.emptyList(), KNOWN_PATH, KNOWN_VALUE,
+                        TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithUnsupportedPath() {
+        assertThatExceptionOfType(ModifyThingsPathInvalidException.class)
+                .isThrownBy(() -> ModifyThings.of(THING_IDS, JsonPointer.of("/thingId"), KNOWN_VALUE,
+                        TestConstants.EMPTY_DITTO_HEADERS));
+        assertThatExceptionOfType(ModifyThingsPathInvalidException.class)
+                .isThrownBy(() -> ModifyThings.of(THING_IDS, JsonPointer.of("/features/lamp/unknown"),
+                        KNOWN_VALUE, TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithValueNotMatchingPath() {
+        assertThatExceptionOfType(DittoJsonException.class)
+                .isThrownBy(() -> ModifyThings.of(THING_IDS, JsonPointer.of("/attributes"), KNOWN_VALUE,
+                        TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void createsModificationOfSingleThing() {
+        final ThingId thingId = THING_IDS.get(1);
+
+        assertThat(toThingModifyCommand("/attributes/location", KNOWN_VALUE, thingId))
+                .isEqualTo(ModifyAttribute.of(thingId, JsonPointer.of("location"), KNOWN_VALUE,
+                        TestConstants.EMPTY_DITTO_HEADERS));
+        assertThat(toThingModifyCommand("/attributes", JsonObject.of("{\"location\":\"kitchen\"}"), thingId))
+                .isInstanceOf(ModifyAttributes.class);
+        assertThat(toThingModifyCommand("/features", JsonObject.of("{\"lamp\":{}}"), thingId))
+                .isInstanceOf(ModifyFeatures.class);
+        assertThat(toThingModifyCommand("/features/lamp", JsonObject.empty(), thingId))
+                .isInstanceOf(ModifyFeature.class);
+        assertThat(toThingModifyCommand("/features/lamp/definition", JsonArray.of("[\"org.eclipse.ditto:lamp:1\"]"),
+                thingId))
+                .isInstanceOf(ModifyFeatureDefinition.class);
+        assertThat(toThingModifyCommand("/features/lamp/properties", JsonObject.empty(), thingId))
+                .isInstanceOf(ModifyFeatureProperties.class);
+        assertThat(toThingModifyCommand("/features/lamp/properties/on", JsonValue.of(true), thingId))
+                .isEqualTo(ModifyFeatureProperty.of(thingId, "lamp", JsonPointer.of("on"), JsonValue.of(true),
+                        TestConstants.EMPTY_DITTO_HEADERS));
+        assertThat(toThingModifyCommand("/definition", JsonValue.of("org.eclipse.ditto:thing:1"), thingId))
+                .isInstanceOf(ModifyThingDefinition.class);
+        assertThat(toThingModifyCommand("/policyId", JsonValue.of("org.eclipse.ditto:policy"), thingId))
+                .isInstanceOf(ModifyPolicyId.class);
+    }
+
+    private static ThingModifyCommand<?> toThingModifyCommand(final String path, final JsonValue value,
+            final ThingId thingId) {
+
+        final ThingModifyCommand<?> command =
+                ModifyThings.of(THING_IDS, JsonPointer.of(path), value, TestConstants.EMPTY_DITTO_HEADERS)
+                        .toThingModifyCommand(thingId);
+        assertThat((CharSequence) command.getEntityId()).isEqualTo(thingId);
+        assertThat((Object) command.getResourcePath()).isEqualTo(JsonPointer.of(path));
+        return command;
+    }
+
+}
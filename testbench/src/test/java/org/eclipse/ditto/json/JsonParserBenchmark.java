@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the parsing of UTF-8 encoded JSON via a decoded String with the parsing directly from
+ * the bytes, both for a small command and for a thing of about 1 MB. Further it compares eager with lazy parsing of a
+ * large thing which is only inspected and passed on, like a retrieved thing in the gateway.
+ */
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int LARGE_THING_SIZE = 1024 * 1024;
+
+    private static final JsonParseOptions LAZY_PARSING = JsonParseOptions.newBuilder().withLazyParsing().build();
+
+    final byte[] smallCommand = JsonObject.newBuilder()
+            .set("type", "things.commands:modifyAttribute")
+            .set("thingId", "org.eclipse.ditto:benchmark")
+            .set("attribute", "/location")
+            .set("value", JsonObject.newBuilder()
+                    .set("latitude", 47.682170)
+                    .set("longitude", 9.386372)
+                    .set("description", "Überlingen")
+                    .build())
+            .build()
+            .toString()
+            .getBytes(StandardCharsets.UTF_8);
+
+    final byte[] largeThing = createLargeThing().toString().getBytes(StandardCharsets.UTF_8);
+
+    final String largeThingString = new String(largeThing, StandardCharsets.UTF_8);
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseSmallCommandFromString() {
+        return JsonFactory.readFrom(new String(smallCommand, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseSmallCommandFromBytes() {
+        return JsonFactory.readFrom(smallCommand);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseLargeThingFromString() {
+        return JsonFactory.readFrom(new String(largeThing, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue parseLargeThingFromBytes() {
+        return JsonFactory.readFrom(largeThing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String passThroughLargeThingEagerly() {
+        return passThrough(JsonFactory.readFrom(largeThingString).asObject());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String passThroughLargeThingLazily() {
+        return passThrough(JsonFactory.readFrom(largeThingString, LAZY_PARSING).asObject());
+    }
+
+    private static String passThrough(final JsonObject thing) {
+        // read the fields a gateway looks at before it renders the entity of a response
+        return thing.getValue("thingId").map(JsonValue::asString).orElse("") + thing.getSize() + thing;
+    }
+
+    private static JsonObject createLargeThing() {
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        int size = 0;
+        for (int i = 0; size < LARGE_THING_SIZE; ++i) {
+            final JsonObject feature = JsonObject.newBuilder()
+                    .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("status", JsonObject.newBuilder()
+                                    .set("value", i * 0.5)
+                                    .set("unit", "°C")
+                                    .set("active", i % 2 == 0)
+                                    .set("lastUpdate", 1588000000000L + i)
+                                    .build())
+                            .set("configuration", JsonObject.newBuilder()
+                                    .set("threshold", i)
+                                    .set("label", "sensor number " + i)
+                                    .build())
+                            .build())
+                    .build();
+            features.set("sensor-" + i, feature);
+            size += feature.toString().length();
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:large")
+                .set("policyId", "org.eclipse.ditto:large")
+                .set("attributes", JsonObject.newBuilder().set("manufacturer", "Eclipse Ditto").build())
+                .set("features", features.build())
+                .build();
+    }
+
+}
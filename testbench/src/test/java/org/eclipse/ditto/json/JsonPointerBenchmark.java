@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the creation of JSON keys and pointers on the hot paths of parsing, field selection and
+ * enforcement. Run it with the GC profiler ({@code -prof gc}) to see the allocation rate per operation. The
+ * {@code Concurrently} variants look up the shared caches of keys and pointers from several threads at once.
+ */
+@State(Scope.Benchmark)
+public class JsonPointerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int CONCURRENT_THREADS = 8;
+
+    final String[] keyNames = {"thingId", "policyId", "attributes", "features", "properties", "_revision"};
+    final String pointerString = "/features/lamp/properties/on";
+    final String fieldSelectorString = "thingId,_revision,attributes/location,features/lamp/properties/on";
+    final JsonParseOptions parseOptions = JsonParseOptions.newBuilder().withoutUrlDecoding().build();
+    final JsonObject thing = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:benchmark")
+            .set("policyId", "org.eclipse.ditto:benchmark")
+            .set("_revision", 42)
+            .set(JsonPointer.of("attributes/location"), "kitchen")
+            .set(JsonPointer.of("attributes/manufacturer"), "Eclipse Ditto")
+            .set(JsonPointer.of("features/lamp/properties/on"), true)
+            .set(JsonPointer.of("features/lamp/properties/color"), "red")
+            .build();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object createKeys() {
+        final JsonKey[] keys = new JsonKey[keyNames.length];
+        for (int i = 0; i < keyNames.length; ++i) {
+            keys[i] = JsonKey.of(keyNames[i]);
+        }
+        return keys;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonPointer parsePointer() {
+        return JsonPointer.of(pointerString);
+    }
+
+    @Benchmark
+    @Threads(CONCURRENT_THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object createKeysConcurrently() {
+        return createKeys();
+    }
+
+    @Benchmark
+    @Threads(CONCURRENT_THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonPointer parsePointerConcurrently() {
+        return parsePointer();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject selectFields() {
+        return thing.get(JsonFactory.newFieldSelector(fieldSelectorString, parseOptions));
+    }
+
+}
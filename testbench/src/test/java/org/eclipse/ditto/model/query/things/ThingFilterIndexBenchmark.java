@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark matching a Thing against many subscription filters, once through a {@link ThingFilterIndex} and once
+ * by evaluating the predicate of each filter.
+ */
+@State(Scope.Benchmark)
+public class ThingFilterIndexBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+
+    @Param({"1000", "10000", "100000"})
+    int filterCount;
+
+    final Thing thing = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "benchmark"))
+            .setAttribute(JsonPointer.of("device"), JsonValue.of("device-7"))
+            .setAttribute(JsonPointer.of("location"), JsonValue.of("room-5"))
+            .setAttribute(JsonPointer.of("temperature"), JsonValue.of(30))
+            .setFeatureProperty("sensor-7", JsonPointer.of("active"), JsonValue.of(true))
+            .build();
+
+    final ThingFilterIndex<Integer> index = ThingFilterIndex.newInstance();
+    final Map<Integer, Predicate<Thing>> predicates = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < filterCount; ++i) {
+            final Criteria criteria = QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(getFilter(i), DittoHeaders.empty());
+            index.put(i, criteria);
+            predicates.put(i, ThingPredicateVisitor.apply(criteria));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Set<Integer> matchIndex() {
+        return index.match(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Set<Integer> evaluateEachFilter() {
+        final Set<Integer> result = new HashSet<>();
+        predicates.forEach((key, predicate) -> {
+            if (predicate.test(thing)) {
+                result.add(key);
+            }
+        });
+        return result;
+    }
+
+    /*
+     * Each filter requires distinct values, so the number of filters the Thing matches does not grow with the number
+     * of filters.
+     */
+    private static String getFilter(final int i) {
+        switch (i % 4) {
+            case 0:
+                return "eq(attributes/device,\"device-" + i + "\")";
+            case 1:
+                return "and(eq(attributes/location,\"room-" + i + "\"),gt(attributes/temperature," + i + "))";
+            case 2:
+                return "or(lt(attributes/temperature,-" + i + "),in(attributes/device,\"device-" + i +
+                        "\",\"device-" + (i + 1) + "\"))";
+            default:
+                return "exists(features/sensor-" + i + "/properties/active)";
+        }
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.function.IntFunction;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingLifecycle;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of the heap retained by {@value #ENTITIES} idle Things of typical shapes, either materialized like
+ * thing persistence actors used to keep them or compacted by {@link ThingCompactor}. The heap per entity is reported
+ * as secondary result {@code heapBytesPerEntity}; the measured time includes the garbage collections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ThingCompactionBenchmark {
+
+    static final int ENTITIES = 2_000;
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    /**
+     * Shape of the Things to retain.
+     */
+    @Param({"SMALL", "TYPICAL"})
+    public ThingShape shape = ThingShape.TYPICAL;
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public Object[] retainMaterializedThings(final HeapPerEntity heapPerEntity) {
+        return retain(shape::createThing, heapPerEntity);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public Object[] retainCompactedThings(final HeapPerEntity heapPerEntity) {
+        return retain(i -> compact(shape.createThing(i)), heapPerEntity);
+    }
+
+    private static Object[] retain(final IntFunction<Object> entityFactory, final HeapPerEntity heapPerEntity) {
+        final long usedHeapBefore = getUsedHeapAfterGc();
+        final Object[] entities = new Object[ENTITIES];
+        for (int i = 0; i < ENTITIES; ++i) {
+            entities[i] = entityFactory.apply(i);
+        }
+        final long usedHeapAfter = getUsedHeapAfterGc();
+        Reference.reachabilityFence(entities);
+        heapPerEntity.heapBytesPerEntity = (usedHeapAfter - usedHeapBefore) / ENTITIES;
+        return entities;
+    }
+
+    private static long getUsedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static byte[] compact(final Thing thing) {
+        try {
+            return ThingCompactor.getInstance().compact(thing);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Heap retained per entity in the last iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapPerEntity {
+
+        public long heapBytesPerEntity;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            heapBytesPerEntity = 0L;
+        }
+
+    }
+
+    /**
+     * Typical shapes of Things.
+     */
+    public enum ThingShape {
+
+        /**
+         * A Thing with a few attributes and no features.
+         */
+        SMALL {
+            @Override
+            Thing createThing(final int index) {
+                return createThingBuilder(index)
+                        .setAttributes(JsonObject.newBuilder()
+                                .set("manufacturer", "ACME")
+                                .set("model", "sensor-" + index % 10)
+                                .set("serial", "SN-" + index)
+                                .build())
+                        .build();
+            }
+        },
+
+        /**
+         * A device with location attributes and three features with some properties each.
+         */
+        TYPICAL {
+            @Override
+            Thing createThing(final int index) {
+                return createThingBuilder(index)
+                        .setAttributes(JsonObject.newBuilder()
+                                .set("manufacturer", "ACME")
+                                .set("model", "thermostat-" + index % 10)
+                                .set("serial", "SN-" + index)
+                                .set("location", JsonObject.newBuilder()
+                                        .set("building", "B" + index % 7)
+                                        .set("floor", index % 5)
+                                        .set("latitude", 47.68 + index * 1e-6)
+                                        .set("longitude", 9.38 - index * 1e-6)
+                                        .build())
+                                .build())
+                        .setFeature(Feature.newBuilder()
+                                .properties(JsonObject.newBuilder()
+                                        .set("value", 21.5 + index % 3)
+                                        .set("unit", "Celsius")
+                                        .set("lastMeasured", "2020-03-01T12:00:00Z")
+                                        .build())
+                                .withId("temperature")
+                                .build())
+                        .setFeature(Feature.newBuilder()
+                                .properties(JsonObject.newBuilder()
+                                        .set("value", 40 + index % 20)
+                                        .set("unit", "%")
+                                        .build())
+                                .withId("humidity")
+                                .build())
+                        .setFeature(Feature.newBuilder()
+                                .properties(JsonObject.newBuilder()
+                                        .set("firmware", "1.4." + index % 4)
+                                        .set("batteryLevel", index % 100)
+                                        .set("online", index % 2 == 0)
+                                        .build())
+                                .withId("status")
+                                .build())
+                        .build();
+            }
+        };
+
+        abstract Thing createThing(int index);
+
+        private static ThingBuilder.FromScratch createThingBuilder(final int index) {
+            return ThingsModelFactory.newThingBuilder()
+                    .setId(ThingId.of("org.eclipse.ditto", "thing-" + index))
+                    .setPolicyId(PolicyId.of("org.eclipse.ditto", "policy-" + index))
+                    .setLifecycle(ThingLifecycle.ACTIVE)
+                    .setRevision(index)
+                    .setModified(Instant.EPOCH.plusSeconds(index));
+        }
+
+    }
+
+}
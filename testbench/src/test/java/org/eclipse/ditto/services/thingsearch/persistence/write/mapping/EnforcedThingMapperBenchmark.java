@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
+
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.SearchableFields;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of mapping a Thing carrying large blobs into a search index entry, either with all fields or with
+ * only the few fields configured as {@link SearchableFields}. The throughput is the write throughput of the
+ * mapping; the BSON size of the search index entry is reported as secondary result {@code documentBytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class EnforcedThingMapperBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    static final SearchableFields SEARCHABLE_FIELDS = SearchableFields.byNamespace("{\"org.eclipse.ditto\":[" +
+            "\"attributes/manufacturer\",\"attributes/location\",\"features/*/properties/value\"]}");
+
+    final JsonObject thing = createThing();
+
+    final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("org.eclipse.ditto", "policy"))
+                    .forLabel("owner")
+                    .setSubject("ditto:owner", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .forLabel("observer")
+                    .setSubject("ditto:observer", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/temperature", Permission.READ)
+                    .build());
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public ThingWriteModel mapAllFields(final DocumentSize documentSize) {
+        return measure(EnforcedThingMapper.toWriteModel(thing, enforcer, 1L, -1), documentSize);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public ThingWriteModel mapSearchableFields(final DocumentSize documentSize) {
+        return measure(EnforcedThingMapper.toWriteModel(thing, enforcer, 1L, -1, SEARCHABLE_FIELDS), documentSize);
+    }
+
+    static long getDocumentBytes(final ThingWriteModel writeModel) {
+        final BsonDocument document = BsonUtil.toBsonDocument(writeModel.getThingDocument());
+        return new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private static ThingWriteModel measure(final ThingWriteModel writeModel, final DocumentSize documentSize) {
+        if (documentSize.documentBytes == 0L) {
+            documentSize.documentBytes = getDocumentBytes(writeModel);
+        }
+        return writeModel;
+    }
+
+    private static JsonObject createThing() {
+        final JsonObjectBuilder configuration = JsonObject.newBuilder();
+        for (int i = 0; i < 100; ++i) {
+            configuration.set("parameter" + i, "value of configuration parameter " + i);
+        }
+        final JsonArrayBuilder calibration = JsonArray.newBuilder();
+        for (int i = 0; i < 50; ++i) {
+            calibration.add(JsonObject.newBuilder().set("input", i).set("output", i * 1.02).build());
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thermostat")
+                .set("policyId", "org.eclipse.ditto:policy")
+                .set("_revision", 42)
+                .set("_modified", "2020-03-01T12:00:00Z")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder()
+                                .set("building", "B7")
+                                .set("floor", 3)
+                                .build())
+                        .set("configuration", configuration.build())
+                        .build())
+                .set("features", JsonObject.newBuilder()
+                        .set("temperature", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder()
+                                        .set("value", 21.5)
+                                        .set("calibration", calibration.build())
+                                        .build())
+                                .build())
+                        .set("firmware", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder()
+                                        .set("value", "1.4.2")
+                                        .set("changelog", "Lorem ipsum dolor sit amet. ".repeat(40))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * BSON size of the search index entry of the last iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DocumentSize {
+
+        public long documentBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            documentBytes = 0L;
+        }
+
+    }
+
+}
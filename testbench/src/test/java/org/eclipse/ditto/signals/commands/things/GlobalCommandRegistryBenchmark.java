@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the deserialization of commands and command responses by the global registries and for the
+ * initialization of the registries in a fresh JVM.
+ */
+@State(Scope.Benchmark)
+public class GlobalCommandRegistryBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int STARTUP_FORKS = 10;
+
+    final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("benchmark").build();
+    final JsonObject modifyAttribute = ModifyAttribute.of(ThingId.of("org.eclipse.ditto", "benchmark"),
+            JsonPointer.of("location"), JsonValue.of("here"), dittoHeaders).toJson();
+    final JsonObject modifyAttributeResponse =
+            ModifyAttributeResponse.modified(ThingId.of("org.eclipse.ditto", "benchmark"), JsonPointer.of("location"),
+                    dittoHeaders).toJson();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Command parseCommand() {
+        return GlobalCommandRegistry.getInstance().parse(modifyAttribute, dittoHeaders);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public CommandResponse parseCommandResponse() {
+        return GlobalCommandResponseRegistry.getInstance().parse(modifyAttributeResponse, dittoHeaders);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(STARTUP_FORKS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public Object initializeRegistries() {
+        return new Object[]{GlobalCommandRegistry.getInstance(), GlobalCommandResponseRegistry.getInstance()};
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.utils.jsonparsable.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor which generates an implementation of {@code org.eclipse.ditto.model.base.json.JsonParsableIndex}
+ * for the classes of a compilation which are annotated with {@code JsonParsableCommand},
+ * {@code JsonParsableCommandResponse}, {@code JsonParsableEvent} or {@code JsonParsableException}. The generated index
+ * maps each annotated class to a method reference of its parse method and is registered in
+ * {@code META-INF/services}, so the global registries neither scan the classpath nor invoke the parse methods
+ * reflectively.
+ * <p>
+ * Classes which are not accessible from the package of the generated index (i. e. classes which are not public) or
+ * which lack a public static parse method taking a {@code JsonObject} and {@code DittoHeaders} fail the compilation.
+ * </p>
+ */
+public final class JsonParsableIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_INTERFACE = "org.eclipse.ditto.model.base.json.JsonParsableIndex";
+    static final List<String> ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+            "org.eclipse.ditto.model.base.json.JsonParsableCommand",
+            "org.eclipse.ditto.model.base.json.JsonParsableCommandResponse",
+            "org.eclipse.ditto.model.base.json.JsonParsableEvent",
+            "org.eclipse.ditto.model.base.json.JsonParsableException"
+    ));
+
+    private static final String INDEX_CLASS_PREFIX = "JsonParsableIndex_";
+    private static final String METHOD_ATTRIBUTE = "method";
+
+    private final Set<String> generatedIndices = new LinkedHashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new LinkedHashSet<>(ANNOTATIONS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+        } else {
+            final SortedMap<String, SortedMap<String, String>> parseMethodsByAnnotation =
+                    collectParseMethods(annotations, roundEnv);
+            if (!parseMethodsByAnnotation.isEmpty()) {
+                writeIndex(parseMethodsByAnnotation);
+            }
+        }
+        // other processors, e. g. the class index, still need to see the annotations
+        return false;
+    }
+
+    private SortedMap<String, SortedMap<String, String>> collectParseMethods(
+            final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        final SortedMap<String, SortedMap<String, String>> result = new TreeMap<>();
+        for (final TypeElement annotation : annotations) {
+            final String annotationName = annotation.getQualifiedName().toString();
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!element.getKind().isClass() || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    continue;
+                }
+                final TypeElement annotatedClass = (TypeElement) element;
+                getParseMethodName(annotatedClass, annotationName).ifPresent(methodName ->
+                        result.computeIfAbsent(annotationName, name -> new TreeMap<>())
+                                .put(annotatedClass.getQualifiedName().toString(), methodName));
+            }
+        }
+        return result;
+    }
+
+    private Optional<String> getParseMethodName(final TypeElement annotatedClass, final String annotationName) {
+
+        for (final AnnotationMirror mirror : annotatedClass.getAnnotationMirrors()) {
+            final TypeElement mirrorType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (mirrorType.getQualifiedName().contentEquals(annotationName)) {
+                final Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+                for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                        values.entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals(METHOD_ATTRIBUTE)) {
+                        return Optional.of(String.valueOf(entry.getValue().getValue()));
+                    }
+                }
+            }
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not determine the parse method of <" + annotationName + ">.", annotatedClass);
+        return Optional.empty();
+    }
+
+    private void writeIndex(final SortedMap<String, SortedMap<String, String>> parseMethodsByAnnotation) {
+        final List<String> classNames = parseMethodsByAnnotation.values()
+                .stream()
+                .flatMap(parseMethods -> parseMethods.keySet().stream())
+                .sorted()
+                .collect(Collectors.toList());
+        final String packageName = getPackageName(classNames.get(0));
+        final String simpleName = INDEX_CLASS_PREFIX + Integer.toHexString(String.join(",", classNames).hashCode());
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName);
+            try (final Writer writer = sourceFile.openWriter()) {
+                writer.write(createIndexSource(packageName, simpleName, parseMethodsByAnnotation));
+            }
+            generatedIndices.add(qualifiedName);
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write JSON parsable index <" + qualifiedName + ">: " + e.getMessage());
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generatedIndices.isEmpty()) {
+            return;
+        }
+        final List<String> lines = new ArrayList<>(generatedIndices);
+        try {
+            final FileObject serviceFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + INDEX_INTERFACE);
+            try (final Writer writer = serviceFile.openWriter()) {
+                writer.write(String.join("\n", lines) + "\n");
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to register JSON parsable indices " + lines + ": " + e.getMessage());
+        }
+    }
+
+    private String getPackageName(final String className) {
+        final TypeElement typeElement = processingEnv.getElementUtils().getTypeElement(className);
+        return processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+    }
+
+    /**
+     * Creates the source code of an index class.
+     *
+     * @param packageName the package of the index class.
+     * @param simpleName the simple name of the index class.
+     * @param parseMethodsByAnnotation the names of the parse methods by canonical class name by annotation name.
+     * @return the source code.
+     */
+    static String createIndexSource(final String packageName, final String simpleName,
+            final SortedMap<String, SortedMap<String, String>> parseMethodsByAnnotation) {
+
+        final StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n")
+                .append(" * Generated by ").append(JsonParsableIndexProcessor.class.getName())
+                .append(", do not edit.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"deprecation\", \"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ")
+                .append(INDEX_INTERFACE).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Map<Class<?>, java.util.function.BiFunction<")
+                .append("org.eclipse.ditto.json.JsonObject, org.eclipse.ditto.model.base.headers.DittoHeaders, ")
+                .append("Object>> getParseFunctions(\n")
+                .append("            final Class<? extends java.lang.annotation.Annotation> annotationType) {\n\n")
+                .append("        final java.util.Map<Class<?>, java.util.function.BiFunction<")
+                .append("org.eclipse.ditto.json.JsonObject, org.eclipse.ditto.model.base.headers.DittoHeaders, ")
+                .append("Object>> parseFunctions = new java.util.LinkedHashMap<>();\n")
+                .append("        switch (annotationType.getName()) {\n");
+        parseMethodsByAnnotation.forEach((annotationName, parseMethods) -> {
+            sb.append("            case \"").append(annotationName).append("\":\n");
+            parseMethods.forEach((className, methodName) -> sb.append("                parseFunctions.put(")
+                    .append(className).append(".class, ")
+                    .append(className).append("::").append(methodName).append(");\n"));
+            sb.append("                break;\n");
+        });
+        sb.append("            default:\n")
+                .append("                break;\n")
+                .append("        }\n")
+                .append("        return parseFunctions;\n")
+                .append("    }\n\n")
+                .append("}\n");
+        return sb.toString();
+    }
+
+}
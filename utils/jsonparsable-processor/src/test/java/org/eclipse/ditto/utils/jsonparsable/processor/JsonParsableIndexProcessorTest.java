@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.utils.jsonparsable.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonParsableIndexProcessor}.
+ */
+public final class JsonParsableIndexProcessorTest {
+
+    private static final String COMMAND_ANNOTATION = "org.eclipse.ditto.model.base.json.JsonParsableCommand";
+    private static final String EXCEPTION_ANNOTATION = "org.eclipse.ditto.model.base.json.JsonParsableException";
+
+    @Test
+    public void supportsAllJsonParsableAnnotations() {
+        assertThat(new JsonParsableIndexProcessor().getSupportedAnnotationTypes())
+                .containsExactlyInAnyOrderElementsOf(JsonParsableIndexProcessor.ANNOTATIONS);
+    }
+
+    @Test
+    public void indexSourceContainsMethodReferencePerAnnotatedClass() {
+        final SortedMap<String, SortedMap<String, String>> parseMethodsByAnnotation = new TreeMap<>();
+        parseMethodsByAnnotation.computeIfAbsent(COMMAND_ANNOTATION, name -> new TreeMap<>())
+                .put("org.example.commands.DoSomething", "fromJson");
+        parseMethodsByAnnotation.computeIfAbsent(EXCEPTION_ANNOTATION, name -> new TreeMap<>())
+                .put("org.example.commands.Outer.SomethingFailedException", "parse");
+
+        final String source =
+                JsonParsableIndexProcessor.createIndexSource("org.example.commands", "JsonParsableIndex_1",
+                        parseMethodsByAnnotation);
+
+        assertThat(source)
+                .startsWith("package org.example.commands;")
+                .contains("public final class JsonParsableIndex_1 implements " +
+                        JsonParsableIndexProcessor.INDEX_INTERFACE)
+                .contains("case \"" + COMMAND_ANNOTATION + "\":\n" +
+                        "                parseFunctions.put(org.example.commands.DoSomething.class, " +
+                        "org.example.commands.DoSomething::fromJson);\n" +
+                        "                break;\n")
+                .contains("case \"" + EXCEPTION_ANNOTATION + "\":\n" +
+                        "                parseFunctions.put(org.example.commands.Outer.SomethingFailedException.class, " +
+                        "org.example.commands.Outer.SomethingFailedException::parse);\n");
+    }
+
+    @Test
+    public void indexSourceInDefaultPackageHasNoPackageDeclaration() {
+        final String source = JsonParsableIndexProcessor.createIndexSource("", "JsonParsableIndex_2", new TreeMap<>());
+
+        assertThat(source).doesNotContain("package ").contains("default:\n");
+    }
+
+}